@@ -0,0 +1,77 @@
+package com.roachstudios.critterparade;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Replaces files so that readers only ever see the old or the new contents.
+ */
+final class AtomicFiles {
+
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    /** Buffer size for {@link #write(Path, Content)}. */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Produces a file's contents as a stream, for files too large to build in memory.
+     */
+    @FunctionalInterface
+    interface Content {
+        /**
+         * Writes the contents.
+         *
+         * @param out buffered stream to write to; closed by the caller
+         * @throws IOException if writing fails
+         */
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    private AtomicFiles() {
+    }
+
+    /**
+     * Writes data to a temporary sibling of the target, flushes it to disk and
+     * renames it over the target. Falls back to a plain replace where the file
+     * system can't rename atomically. Creates the parent directory if needed.
+     *
+     * @param target the file to replace
+     * @param data the new contents
+     * @throws IOException if the data could not be written
+     */
+    static void write(Path target, byte[] data) throws IOException {
+        write(target, out -> out.write(data));
+    }
+
+    /**
+     * Like {@link #write(Path, byte[])}, with the contents streamed from a callback.
+     *
+     * @param target the file to replace
+     * @param content writes the new contents
+     * @throws IOException if the contents could not be written
+     */
+    static void write(Path target, Content content) throws IOException {
+        Files.createDirectories(target.getParent());
+        Path temp = target.resolveSibling(target.getFileName() + TEMP_SUFFIX);
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE);
+            content.writeTo(out);
+            out.flush();
+            channel.force(true);
+        }
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package com.roachstudios.critterparade;
+
+import com.badlogic.gdx.utils.ObjectIntMap;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Writes events in a compact binary form, for when even routine events such as
+ * inputs are logged. A typical event takes a few bytes instead of a line of
+ * JSON.
+ *
+ * <p>Each segment is self-describing and can be read without the others:</p>
+ * <pre>
+ * header   int magic "CPEV", short version,
+ *          long session epoch (epoch millis), long session epoch ({@link System#nanoTime()}),
+ *          varint {@link #MAX_STRINGS},
+ *          varint kind count, then per {@link LogEventType.Kind}: string name,
+ *          varint type count, then per type:
+ *              string id ("" for {@link LogEventType#CUSTOM}),
+ *              varint field count, then per field: byte {@link LogEventType.Kind} ordinal, string key ("" if none)
+ * event    byte type ordinal, zigzag varlong nanos since the previous event (the first: since the epoch),
+ *          then each field of the type in order:
+ *              TYPE, TEXT  string reference
+ *              NUMBER      zigzag varint
+ *              NAMES       varint length + 1 (0 for null), then a string reference per name
+ *              NUMBERS     varint length + 1 (0 for null), then a zigzag varint per number
+ *              DATA        varint byte length + 1 (0 for none), then the map as UTF-8 JSON
+ * </pre>
+ * <p>A string reference is a varint: 0 for null, 1 for a new string that follows
+ * as a varint byte length and UTF-8 bytes, or n &gt; 1 for the (n - 2)th new
+ * string of the segment. Only the first {@link #MAX_STRINGS} new strings are
+ * numbered, so the table stays bounded. Varints are unsigned LEB128; a zigzag
+ * varint first maps signed values to unsigned ones so small negatives stay
+ * small. Multi-byte fixed-width values are big-endian.</p>
+ *
+ * <p>Readers outside the game (the session log tools) take the string limit and
+ * the kinds' names from the header, so reordering {@link LogEventType.Kind} or
+ * changing {@link #MAX_STRINGS} needs no change there. Anything else in the
+ * layout above must bump {@link #VERSION}.</p>
+ */
+final class BinaryLogEncoder implements LogEncoder {
+
+    /** "CPEV" in ASCII. */
+    static final int MAGIC = 0x43504556;
+
+    /** Layout version; 2 added the string limit and kind names to the header. */
+    static final short VERSION = 2;
+
+    /** Most strings numbered per segment. */
+    static final int MAX_STRINGS = 4096;
+
+    /** Buffered bytes at which {@link #write(LogEvent)} passes them on. */
+    private static final int FLUSH_THRESHOLD = 16 * 1024;
+
+    private final long epochMillis;
+    private final long epochNanos;
+
+    /** Numbers of the strings written so far in this segment. */
+    private final ObjectIntMap<String> strings = new ObjectIntMap<>();
+
+    /** Builds the JSON of map data. */
+    private final StringBuilder text = new StringBuilder(256);
+
+    private byte[] buffer = new byte[FLUSH_THRESHOLD * 2];
+    private int length;
+    private OutputStream out;
+    private long previousNanos;
+
+    /**
+     * Creates an encoder.
+     *
+     * @param epochMillis wall-clock time at the start of the session, epoch millis
+     * @param epochNanos {@link System#nanoTime()} at the same moment
+     */
+    BinaryLogEncoder(long epochMillis, long epochNanos) {
+        this.epochMillis = epochMillis;
+        this.epochNanos = epochNanos;
+    }
+
+    @Override
+    public String extension() {
+        return LogManifest.BINARY_SEGMENT_EXTENSION;
+    }
+
+    @Override
+    public void begin(OutputStream out) throws IOException {
+        this.out = out;
+        strings.clear();
+        length = 0;
+        previousNanos = epochNanos;
+
+        writeInt(MAGIC);
+        writeByte(VERSION >>> 8);
+        writeByte(VERSION);
+        writeLong(epochMillis);
+        writeLong(epochNanos);
+        writeVarLong(MAX_STRINGS);
+        LogEventType.Kind[] kinds = LogEventType.Kind.values();
+        writeVarLong(kinds.length);
+        for (LogEventType.Kind kind : kinds) {
+            writeUtf8(kind.name());
+        }
+        LogEventType[] types = LogEventType.all();
+        writeVarLong(types.length);
+        for (LogEventType type : types) {
+            writeUtf8(type.id() != null ? type.id() : "");
+            writeVarLong(type.fields().length);
+            for (LogEventType.Field field : type.fields()) {
+                writeByte(field.kind().ordinal());
+                writeUtf8(field.key() != null ? field.key() : "");
+            }
+        }
+    }
+
+    @Override
+    public void write(LogEvent event) throws IOException {
+        LogEventType type = event.type;
+        writeByte(type.ordinal());
+        writeZigZag(event.nanos - previousNanos);
+        previousNanos = event.nanos;
+
+        int textIndex = 0;
+        int valueIndex = 0;
+        for (LogEventType.Field field : type.fields()) {
+            switch (field.kind()) {
+                case TYPE:
+                case TEXT:
+                    writeString(event.texts[textIndex++]);
+                    break;
+                case NUMBER:
+                    writeZigZag(event.values[valueIndex++]);
+                    break;
+                case NAMES:
+                    if (event.names == null) {
+                        writeVarLong(0);
+                    } else {
+                        writeVarLong(event.names.length + 1L);
+                        for (String name : event.names) {
+                            writeString(name);
+                        }
+                    }
+                    break;
+                case NUMBERS:
+                    if (event.numbers == null) {
+                        writeVarLong(0);
+                    } else {
+                        writeVarLong(event.numbers.length + 1L);
+                        for (int number : event.numbers) {
+                            writeZigZag(number);
+                        }
+                    }
+                    break;
+                case DATA:
+                    if (event.data == null || event.data.isEmpty()) {
+                        writeVarLong(0);
+                    } else {
+                        text.setLength(0);
+                        JsonLogEncoder.appendValue(text, event.data);
+                        byte[] bytes = text.toString().getBytes(StandardCharsets.UTF_8);
+                        writeVarLong(bytes.length + 1L);
+                        writeBytes(bytes);
+                    }
+                    break;
+            }
+        }
+        if (length >= FLUSH_THRESHOLD) {
+            flush();
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.write(buffer, 0, length);
+        length = 0;
+        out.flush();
+    }
+
+    private void writeString(String value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        int number = strings.get(value, -1);
+        if (number >= 0) {
+            writeVarLong(number + 2L);
+            return;
+        }
+        if (strings.size < MAX_STRINGS) {
+            strings.put(value, strings.size);
+        }
+        writeVarLong(1);
+        writeUtf8(value);
+    }
+
+    private void writeUtf8(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(bytes.length);
+        writeBytes(bytes);
+    }
+
+    private void writeZigZag(long value) {
+        writeVarLong((value << 1) ^ (value >> 63));
+    }
+
+    private void writeVarLong(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[length++] = (byte) value;
+    }
+
+    private void writeInt(int value) {
+        writeByte(value >>> 24);
+        writeByte(value >>> 16);
+        writeByte(value >>> 8);
+        writeByte(value);
+    }
+
+    private void writeLong(long value) {
+        writeInt((int) (value >>> 32));
+        writeInt((int) value);
+    }
+
+    private void writeByte(int value) {
+        ensureCapacity(1);
+        buffer[length++] = (byte) value;
+    }
+
+    private void writeBytes(byte[] bytes) {
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, length, bytes.length);
+        length += bytes.length;
+    }
+
+    private void ensureCapacity(int extra) {
+        if (length + extra > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + extra));
+        }
+    }
+}
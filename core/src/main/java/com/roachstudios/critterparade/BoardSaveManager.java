@@ -0,0 +1,142 @@
+package com.roachstudios.critterparade;
+
+import com.roachstudios.critterparade.gameboards.BoardSnapshot;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Persists the running board game to ~/.critterparade/board_save.bin so it can
+ * be resumed after a crash or restart.
+ *
+ * <p>Saves are encoded on the calling thread (a few dozen bytes) and written by a
+ * single background thread, so the render thread never waits on disk. Each write
+ * goes to a temporary file that is flushed to disk and then renamed over the save,
+ * so the save on disk is always either the previous turn or the new one. If
+ * several saves queue up while a write is in progress only the newest is
+ * written.</p>
+ */
+public class BoardSaveManager {
+
+    private static final String APP_FOLDER = ".critterparade";
+    private static final String SAVE_FILE = "board_save.bin";
+
+    /** How long {@link #dispose()} waits for the last save to reach disk. */
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 2;
+
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "board-save-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** Newest encoded save not yet written, or null. */
+    private final AtomicReference<byte[]> pending = new AtomicReference<>();
+
+    /**
+     * Queues a snapshot to be written in the background.
+     *
+     * @param snapshot the board state to save
+     */
+    public void save(BoardSnapshot snapshot) {
+        byte[] data = snapshot.toBytes();
+        if (pending.getAndSet(data) == null) {
+            writer.execute(this::writePending);
+        }
+    }
+
+    /**
+     * Deletes the save, e.g. when the game it belongs to has ended. Any queued
+     * write is dropped.
+     */
+    public void delete() {
+        pending.set(null);
+        writer.execute(() -> {
+            try {
+                Files.deleteIfExists(getSaveFile().toPath());
+            } catch (IOException e) {
+                System.err.println("[BoardSaveManager] Failed to delete save: " + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Checks if there is a saved game to resume.
+     *
+     * @return true if a save exists or is about to be written
+     */
+    public boolean hasSave() {
+        return pending.get() != null || getSaveFile().exists();
+    }
+
+    /**
+     * Loads the saved game, preferring a queued save that has not reached disk yet.
+     *
+     * @return the snapshot, or null if there is no save or it cannot be read
+     */
+    public BoardSnapshot load() {
+        byte[] queued = pending.get();
+        if (queued == null) {
+            File saveFile = getSaveFile();
+            if (!saveFile.exists()) {
+                return null;
+            }
+            try {
+                queued = Files.readAllBytes(saveFile.toPath());
+            } catch (IOException e) {
+                System.err.println("[BoardSaveManager] Failed to read save: " + e.getMessage());
+                return null;
+            }
+        }
+        try {
+            return BoardSnapshot.fromBytes(queued);
+        } catch (IOException e) {
+            System.err.println("[BoardSaveManager] Ignoring unreadable save: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Writes the newest queued save. Runs on the writer thread.
+     */
+    private void writePending() {
+        byte[] data = pending.getAndSet(null);
+        if (data == null) {
+            return;
+        }
+
+        try {
+            AtomicFiles.write(getSaveFile().toPath(), data);
+        } catch (IOException e) {
+            System.err.println("[BoardSaveManager] Failed to write save: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Finishes queued writes and stops the writer thread.
+     */
+    public void dispose() {
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                System.err.println("[BoardSaveManager] Timed out waiting for save to finish");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Gets the save file path.
+     */
+    private File getSaveFile() {
+        String homeDir = System.getProperty("user.home");
+        File appDir = new File(homeDir, APP_FOLDER);
+        return new File(appDir, SAVE_FILE);
+    }
+}
@@ -0,0 +1,254 @@
+package com.roachstudios.critterparade;
+
+import com.badlogic.gdx.controllers.Controller;
+import com.badlogic.gdx.controllers.ControllerAdapter;
+import com.badlogic.gdx.controllers.ControllerMapping;
+import com.badlogic.gdx.controllers.Controllers;
+import com.badlogic.gdx.utils.TimeUtils;
+
+import java.util.Arrays;
+
+/**
+ * Gamepad input for player seats, through gdx-controllers listener callbacks.
+ *
+ * <p>Each connected gamepad takes the lowest free seat, so the first pad plugged
+ * in plays as player 1. A pad that is unplugged and plugged back in returns to
+ * the seat it had, if that seat is still free. Buttons and the left stick are
+ * reported to {@link PlayerInput} as they arrive, so a seat's state comes from
+ * the same snapshot whether it is played on the keyboard or a gamepad.</p>
+ *
+ * <p>The d-pad and left stick move; A, B, X and Y are all the action button.
+ * The stick presses a direction past {@link #STICK_PRESS} and releases it below
+ * {@link #STICK_RELEASE}, so it doesn't chatter around the threshold.</p>
+ */
+final class ControllerInput extends ControllerAdapter {
+
+    /** Stick deflection that presses a direction. */
+    private static final float STICK_PRESS = 0.5f;
+
+    /** Stick deflection below which a pressed direction is released. */
+    private static final float STICK_RELEASE = 0.3f;
+
+    /** Bits of {@link #stickDown}: the stick's pressed directions, per seat. */
+    private static final int STICK_UP = 1;
+    private static final int STICK_DOWN = 2;
+    private static final int STICK_LEFT = 4;
+    private static final int STICK_RIGHT = 8;
+
+    private final PlayerInput input;
+
+    /** The gamepad in each seat, indexed by player ID - 1. */
+    private final Controller[] seats = new Controller[PlayerInput.MAX_PLAYERS];
+
+    /** Unique ID of the gamepad that last had each seat. */
+    private final String[] seatIds = new String[PlayerInput.MAX_PLAYERS];
+
+    /** Directions each seat's stick is pressing. */
+    private final int[] stickDown = new int[PlayerInput.MAX_PLAYERS];
+
+    /** Buttons of the pad each seat holds down, by action, so the d-pad and stick overlap cleanly. */
+    private final int[][] buttonsDown = new int[PlayerInput.MAX_PLAYERS][Player.InputAction.values().length];
+
+    ControllerInput(PlayerInput input) {
+        this.input = input;
+    }
+
+    /**
+     * Starts listening for gamepads and seats the ones already connected.
+     */
+    void install() {
+        try {
+            Controllers.addListener(this);
+            for (Controller controller : Controllers.getControllers()) {
+                connected(controller);
+            }
+        } catch (RuntimeException | LinkageError e) {
+            // Missing native support shouldn't keep the keyboard from working
+            System.err.println("[ControllerInput] Gamepads unavailable: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Stops listening and releases everything the gamepads hold.
+     */
+    void uninstall() {
+        Controllers.removeListener(this);
+        for (int i = 0; i < seats.length; i++) {
+            if (seats[i] != null) {
+                releaseSeat(i);
+                seats[i] = null;
+            }
+        }
+    }
+
+    /**
+     * Gets the player ID a gamepad plays as.
+     *
+     * @param controller a gamepad
+     * @return its player ID (1-6), or 0 if it has no seat
+     */
+    int getPlayerId(Controller controller) {
+        for (int i = 0; i < seats.length; i++) {
+            if (seats[i] == controller) {
+                return i + 1;
+            }
+        }
+        return 0;
+    }
+
+    @Override
+    public void connected(Controller controller) {
+        if (getPlayerId(controller) != 0) {
+            return;
+        }
+        String id = controller.getUniqueId();
+        int seat = -1;
+        for (int i = 0; i < seats.length; i++) {
+            if (seats[i] == null && id != null && id.equals(seatIds[i])) {
+                seat = i;
+                break;
+            }
+        }
+        for (int i = 0; i < seats.length && seat < 0; i++) {
+            if (seats[i] == null) {
+                seat = i;
+            }
+        }
+        if (seat < 0) {
+            System.err.println("[ControllerInput] No free seat for " + controller.getName());
+            return;
+        }
+        seats[seat] = controller;
+        seatIds[seat] = id;
+        if (controller.supportsPlayerIndex()) {
+            controller.setPlayerIndex(seat);
+        }
+        System.out.println("[ControllerInput] " + controller.getName() + " plays as player " + (seat + 1));
+    }
+
+    @Override
+    public void disconnected(Controller controller) {
+        int playerId = getPlayerId(controller);
+        if (playerId != 0) {
+            releaseSeat(playerId - 1);
+            seats[playerId - 1] = null;
+            System.out.println("[ControllerInput] Player " + playerId + "'s gamepad disconnected");
+        }
+    }
+
+    @Override
+    public boolean buttonDown(Controller controller, int buttonCode) {
+        Player.InputAction action = actionFor(controller.getMapping(), buttonCode);
+        int playerId = getPlayerId(controller);
+        if (action == null || playerId == 0) {
+            return false;
+        }
+        press(playerId, action, TimeUtils.nanoTime());
+        return true;
+    }
+
+    @Override
+    public boolean buttonUp(Controller controller, int buttonCode) {
+        Player.InputAction action = actionFor(controller.getMapping(), buttonCode);
+        int playerId = getPlayerId(controller);
+        if (action == null || playerId == 0) {
+            return false;
+        }
+        release(playerId, action, TimeUtils.nanoTime());
+        return true;
+    }
+
+    @Override
+    public boolean axisMoved(Controller controller, int axisCode, float value) {
+        ControllerMapping mapping = controller.getMapping();
+        int playerId = getPlayerId(controller);
+        if (playerId == 0) {
+            return false;
+        }
+        long time = TimeUtils.nanoTime();
+        if (axisCode == mapping.axisLeftX) {
+            moveStick(playerId, value, STICK_LEFT, Player.InputAction.LEFT, STICK_RIGHT, Player.InputAction.RIGHT, time);
+            return true;
+        }
+        if (axisCode == mapping.axisLeftY) {
+            // The stick's y axis points down
+            moveStick(playerId, value, STICK_UP, Player.InputAction.UP, STICK_DOWN, Player.InputAction.DOWN, time);
+            return true;
+        }
+        return false;
+    }
+
+    private void moveStick(int playerId, float value, int negativeBit, Player.InputAction negative,
+                           int positiveBit, Player.InputAction positive, long time) {
+        int seat = playerId - 1;
+        int state = stickDown[seat];
+        int next = state & ~(negativeBit | positiveBit);
+        float threshold = (state & negativeBit) != 0 ? STICK_RELEASE : STICK_PRESS;
+        if (value <= -threshold) {
+            next |= negativeBit;
+        }
+        threshold = (state & positiveBit) != 0 ? STICK_RELEASE : STICK_PRESS;
+        if (value >= threshold) {
+            next |= positiveBit;
+        }
+        stickDown[seat] = next;
+        updateStick(playerId, state, next, negativeBit, negative, time);
+        updateStick(playerId, state, next, positiveBit, positive, time);
+    }
+
+    private void updateStick(int playerId, int state, int next, int bit, Player.InputAction action, long time) {
+        if ((next & bit) != 0 && (state & bit) == 0) {
+            press(playerId, action, time);
+        } else if ((next & bit) == 0 && (state & bit) != 0) {
+            release(playerId, action, time);
+        }
+    }
+
+    /**
+     * Presses an action, reporting it only when nothing else on the pad holds it.
+     */
+    private void press(int playerId, Player.InputAction action, long time) {
+        if (buttonsDown[playerId - 1][action.ordinal()]++ == 0) {
+            input.padPressed(playerId, action, time);
+        }
+    }
+
+    /**
+     * Releases an action, reporting it once nothing on the pad holds it.
+     */
+    private void release(int playerId, Player.InputAction action, long time) {
+        int[] held = buttonsDown[playerId - 1];
+        if (held[action.ordinal()] > 0 && --held[action.ordinal()] == 0) {
+            input.padReleased(playerId, action, time);
+        }
+    }
+
+    private void releaseSeat(int seat) {
+        Arrays.fill(buttonsDown[seat], 0);
+        stickDown[seat] = 0;
+        input.releasePad(seat + 1);
+    }
+
+    private static Player.InputAction actionFor(ControllerMapping mapping, int buttonCode) {
+        if (buttonCode == ControllerMapping.UNDEFINED) {
+            return null;
+        }
+        if (buttonCode == mapping.buttonDpadUp) {
+            return Player.InputAction.UP;
+        }
+        if (buttonCode == mapping.buttonDpadDown) {
+            return Player.InputAction.DOWN;
+        }
+        if (buttonCode == mapping.buttonDpadLeft) {
+            return Player.InputAction.LEFT;
+        }
+        if (buttonCode == mapping.buttonDpadRight) {
+            return Player.InputAction.RIGHT;
+        }
+        if (buttonCode == mapping.buttonA || buttonCode == mapping.buttonB
+            || buttonCode == mapping.buttonX || buttonCode == mapping.buttonY) {
+            return Player.InputAction.ACTION;
+        }
+        return null;
+    }
+}
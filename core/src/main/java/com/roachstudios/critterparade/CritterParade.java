@@ -1,14 +1,31 @@
 package com.roachstudios.critterparade;
 
 import com.badlogic.gdx.Game;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.InputProcessor;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.graphics.glutils.HdpiMode;
+import com.badlogic.gdx.graphics.glutils.HdpiUtils;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.scenes.scene2d.Stage;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.ObjectSet;
 import com.badlogic.gdx.utils.viewport.FitViewport;
-import com.roachstudios.critterparade.gameboards.AntFarmageddonBoard;
+import com.badlogic.gdx.utils.viewport.Viewport;
+import com.roachstudios.critterparade.gameboards.BoardBot;
+import com.roachstudios.critterparade.gameboards.BoardFile;
+import com.roachstudios.critterparade.gameboards.BoardSnapshot;
 import com.roachstudios.critterparade.gameboards.GameBoard;
-import com.roachstudios.critterparade.gameboards.KitchenHavocBoard;
-import com.roachstudios.critterparade.gameboards.PicnicPondBoard;
 import com.roachstudios.critterparade.menus.MainMenu;
 import com.roachstudios.critterparade.minigames.MiniGame;
 import com.roachstudios.critterparade.minigames.MiniGameDescriptor;
@@ -23,6 +40,11 @@ import com.roachstudios.critterparade.minigames.DodgeBallMiniGame;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 /**
@@ -30,6 +52,21 @@ import java.util.function.Supplier;
  *
  * <p>Responsible for bootstrapping shared resources, registering available boards and
  * mini games, and managing high-level screen navigation.</p>
+ *
+ * <p>Menus reached from the main menu are built once and reused through
+ * {@link #showMenu(Class, Function)}. Every other screen is used once: when a
+ * transition leaves it, it is disposed at the end of that frame, so memory stays
+ * flat however many rounds are played.</p>
+ *
+ * <p>Menu screens share one scene2d {@link Stage}, drawn with the shared batch.
+ * A screen mounts its root table with {@link #mountUi(Actor)} when shown and
+ * removes it with {@link #unmountUi()} when hidden, so navigating swaps widgets
+ * rather than creating GL objects.</p>
+ *
+ * <p>{@link #transitionTo(Supplier, List)} switches to a screen that is costly to
+ * build, such as a minigame, without a hitch: the current screen keeps
+ * rendering while a {@link ScreenTransition} prepares the next one within
+ * {@link #TRANSITION_BUDGET_NANOS} of each frame.</p>
  */
 public class CritterParade extends Game {
     /** Shared sprite batch used for rendering across all screens. */
@@ -40,6 +77,10 @@ public class CritterParade extends Game {
     private CritterParadeSkin skin;
     /** Shared viewport used for consistent UI scaling across screen sizes. */
     private FitViewport viewport;
+    /** Stage menu screens mount their widgets on. */
+    private Stage uiStage;
+    /** Menu layout's fixed 640x360 virtual size, scaled to the window. */
+    private FitViewport uiViewport;
 
     private int numPlayers = 6;
     
@@ -100,6 +141,12 @@ public class CritterParade extends Game {
     private final ArrayList<MiniGameDescriptor> minigameRegistry = new ArrayList<>();
     private final ArrayList<NamedSupplier<GameBoard>> gameBoardRegistry = new ArrayList<>();
     
+    /**
+     * Board chosen for the current board-mode session. The board screen is rebuilt
+     * from this after every minigame.
+     */
+    private NamedSupplier<GameBoard> activeBoard;
+    
     /**
      * Current player's turn index (0-based). Persists across board recreations.
      */
@@ -109,12 +156,24 @@ public class CritterParade extends Game {
      * Flag to advance to next player's turn when returning from minigame.
      */
     private boolean advanceTurnOnBoardReturn = false;
+    
+    /**
+     * Latest turn-boundary snapshot of the running board game. The rebuilt board
+     * takes its shops from this after a minigame, and it is what gets saved to disk.
+     */
+    private BoardSnapshot boardSession;
+    
+    /**
+     * Flag to continue {@link #boardSession} instead of starting a new game when the board is shown.
+     */
+    private boolean restoreBoardOnShow = false;
 
     private final boolean debugMode;
     
     private SettingsManager settings;
     private SessionLogger sessionLogger;
     private LeaderboardManager leaderboardManager;
+    private BoardSaveManager boardSaveManager;
     
     /**
      * Controller for minigame rush mode, tracks the sequence of minigames.
@@ -124,6 +183,64 @@ public class CritterParade extends Game {
     /** Centralized music player for all game music. */
     private MusicPlayer musicPlayer;
     
+    /**
+     * Textures loaded through {@link #loadTexture(String)}, so a filtering change
+     * reaches them. Weak, as screens dispose their textures themselves.
+     */
+    private final Set<Texture> filteredTextures = Collections.newSetFromMap(new WeakHashMap<>());
+    
+    /**
+     * Smaller frame the active screen draws into when the render scale is below 1,
+     * then scaled up to fill the window. Null at full scale.
+     */
+    private FrameBuffer renderTarget;
+    private TextureRegion renderTargetRegion;
+    private SpriteBatch renderTargetBatch;
+    private final Matrix4 renderTargetProjection = new Matrix4().setToOrtho2D(0, 0, 1, 1);
+    
+    /** Maps pointer input into the render target while it is in use. */
+    private final RenderScaleInput renderScaleInput = new RenderScaleInput(this);
+    
+    /** Player input snapshots; always the installed input processor. */
+    private final PlayerInput playerInput = new PlayerInput();
+    
+    /** Seats gamepads and reports their buttons to {@link #playerInput}. */
+    private ControllerInput controllerInput;
+    
+    /** Times presses to the frame that shows them; debug mode only. */
+    private LatencyProbe latencyProbe;
+    
+    /** Menus built so far, reused on every visit and disposed with the game. */
+    private final ObjectMap<Class<? extends Screen>, Screen> menus = new ObjectMap<>();
+    
+    /** Screens built and not yet disposed, cached menus included. */
+    private final ObjectSet<Screen> liveScreens = new ObjectSet<>();
+    
+    /** Screens a transition left this frame, disposed once it ends. */
+    private final Array<Screen> retiredScreens = new Array<>(false, 4);
+    
+    /** Time each frame may spend preparing the next screen. */
+    private static final long TRANSITION_BUDGET_NANOS = 4_000_000L;
+    
+    /** Next screen being prepared, or null. */
+    private ScreenTransition transition;
+    
+    /** Whether {@link #transition}'s screen is being switched to, rather than the transition abandoned. */
+    private boolean finishingTransition;
+    
+    /** Decodes textures for {@link #transition} off the render thread. */
+    private final ExecutorService textureDecoder = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "texture-decoder");
+        thread.setDaemon(true);
+        return thread;
+    });
+    
+    /** Input processor the active screen set, which {@link #playerInput} passes events to. */
+    private InputProcessor screenInput;
+    
+    /** Whether the window has focus, which selects the foreground or background frame rate. */
+    private boolean windowFocused = true;
+    
     /**
      * Creates the game with debug mode disabled.
      */
@@ -137,7 +254,19 @@ public class CritterParade extends Game {
      * @param debugMode true to enable debug visuals
      */
     public CritterParade(boolean debugMode) {
+        this(debugMode, null);
+    }
+    
+    /**
+     * Creates the game with settings the launcher has already read, e.g. to
+     * configure the window.
+     *
+     * @param debugMode true to enable debug visuals
+     * @param settings the loaded settings, or null to load them in {@link #create()}
+     */
+    public CritterParade(boolean debugMode, SettingsManager settings) {
         this.debugMode = debugMode;
+        this.settings = settings;
     }
     
     /**
@@ -185,7 +314,10 @@ public class CritterParade extends Game {
     public void setLoggingConsent(boolean enabled) {
         settings.setLoggingEnabled(enabled);
         settings.save();
-        sessionLogger = new SessionLogger(enabled);
+        if (sessionLogger != null) {
+            sessionLogger.close();
+        }
+        sessionLogger = new SessionLogger(enabled, settings.isBinaryLogging());
     }
     
     // =========================================================================
@@ -376,48 +508,432 @@ public class CritterParade extends Game {
         // Use a small 16x9 virtual world for UI scaling; scene2d widgets are laid out
         // in this space and scaled to the actual window while preserving aspect ratio.
         viewport = new FitViewport(16,9);
+        
+        uiViewport = new FitViewport(640, 360);
+        uiStage = new Stage(uiViewport, batch) {
+            @Override
+            public void draw() {
+                super.draw();
+                // Widgets leave their tint on the batch, which screens drawing after them share
+                getBatch().setColor(Color.WHITE);
+            }
+        };
 
-        // register game boards
-        registerGameBoard(PicnicPondBoard.NAME, () -> new PicnicPondBoard(this));
-        registerGameBoard(KitchenHavocBoard.NAME, () -> new KitchenHavocBoard(this));
-        registerGameBoard(AntFarmageddonBoard.NAME, () -> new AntFarmageddonBoard(this));
+        // register game boards found under assets/board/; only their headers are read here,
+        // tiles are loaded the first time each board is played
+        for (BoardFile boardFile : BoardFile.discover()) {
+            registerGameBoard(boardFile.getName(), () -> new GameBoard(this, boardFile));
+        }
 
         // register mini games with their metadata
-        registerMiniGame(SimpleRacerMiniGame.NAME, SimpleRacerMiniGame.INSTRUCTIONS, 
+        registerMiniGame(SimpleRacerMiniGame.NAME, SimpleRacerMiniGame.INSTRUCTIONS, SimpleRacerMiniGame.TEXTURES,
             () -> new SimpleRacerMiniGame(this));
-        registerMiniGame(DodgeBallMiniGame.NAME, DodgeBallMiniGame.INSTRUCTIONS, 
+        registerMiniGame(DodgeBallMiniGame.NAME, DodgeBallMiniGame.INSTRUCTIONS, DodgeBallMiniGame.TEXTURES,
             () -> new DodgeBallMiniGame(this));
-        registerMiniGame(CatchObjectsMiniGame.NAME, CatchObjectsMiniGame.INSTRUCTIONS, 
+        registerMiniGame(CatchObjectsMiniGame.NAME, CatchObjectsMiniGame.INSTRUCTIONS, CatchObjectsMiniGame.TEXTURES,
             () -> new CatchObjectsMiniGame(this));
-        registerMiniGame(MemoryMatch.NAME, MemoryMatch.INSTRUCTIONS, 
+        registerMiniGame(MemoryMatch.NAME, MemoryMatch.INSTRUCTIONS, MemoryMatch.TEXTURES,
             () -> new MemoryMatch(this));
 
-        // Initialize music player
-        musicPlayer = new MusicPlayer(this);
-
         // Load settings and check for first run
-        settings = new SettingsManager();
+        if (settings == null) {
+            settings = new SettingsManager();
+        }
+        
+        // Initialize music player
+        musicPlayer = new MusicPlayer(this, settings.getMusicStreams());
+        
+        applyPerformanceSettings();
         
         // Initialize leaderboard manager
         leaderboardManager = new LeaderboardManager();
         
+        // Initialize board save manager (saves are written off the render thread)
+        boardSaveManager = new BoardSaveManager();
+        
+        // Gamepads play alongside the keyboard as soon as they are plugged in
+        controllerInput = new ControllerInput(playerInput);
+        controllerInput.install();
+        
+        if (debugMode) {
+            latencyProbe = new LatencyProbe();
+            playerInput.setLatencyProbe(latencyProbe);
+        }
+        
         if (settings.isFirstRun()) {
             // Show consent screen on first run
             log("First run detected, showing consent screen");
             this.setScreen(new ConsentScreen(this));
         } else {
             // Initialize session logger with saved preference
-            sessionLogger = new SessionLogger(settings.isLoggingEnabled());
+            sessionLogger = new SessionLogger(settings.isLoggingEnabled(), settings.isBinaryLogging());
             log("Session logging: " + (settings.isLoggingEnabled() ? "enabled" : "disabled"));
-            this.setScreen(new MainMenu(this));
+            this.showMenu(MainMenu.class, MainMenu::new);
         }
     }
 
     /**
-     * Delegates to the active screen.
+     * Takes this frame's player input snapshot and delegates to the active screen.
+     * Below full render scale the screen draws into {@link #renderTarget}, which
+     * is then stretched over the window.
      */
     public void render() {
+        finishTransition();
+        updateInputProcessor();
+        playerInput.beginFrame(players, sessionLogger);
+        if (!isRenderScaled()) {
+            super.render();
+            endFrame();
+            return;
+        }
+        
+        int width = getRenderWidth();
+        int height = getRenderHeight();
+        if (renderTarget == null || renderTarget.getWidth() != width || renderTarget.getHeight() != height) {
+            disposeRenderTarget();
+            renderTarget = new FrameBuffer(Pixmap.Format.RGB888, width, height, false);
+            renderTargetRegion = new TextureRegion(renderTarget.getColorBufferTexture());
+            // Frame buffers are stored bottom-up
+            renderTargetRegion.flip(false, true);
+            applyTextureFilter(renderTarget.getColorBufferTexture());
+            if (renderTargetBatch == null) {
+                renderTargetBatch = new SpriteBatch(1);
+            }
+        }
+        
+        renderTarget.begin();
         super.render();
+        renderTarget.end();
+        
+        renderTargetBatch.setProjectionMatrix(renderTargetProjection);
+        renderTargetBatch.begin();
+        renderTargetBatch.draw(renderTargetRegion, 0, 0, 1, 1);
+        renderTargetBatch.end();
+        endFrame();
+    }
+    
+    /**
+     * Finishes a frame before the backend swaps buffers.
+     */
+    private void endFrame() {
+        // Catch a processor set during the frame before the next frame's events
+        updateInputProcessor();
+        if (transition != null) {
+            transition.advance(TRANSITION_BUDGET_NANOS);
+        }
+        if (settings.getFrameLatency() == SettingsManager.FrameLatency.LOW) {
+            // Waiting for the GPU here keeps the driver from queuing frames ahead of the display
+            Gdx.gl.glFinish();
+        }
+        if (latencyProbe != null) {
+            latencyProbe.endFrame(screen != null ? screen.getClass().getSimpleName() : "none");
+        }
+        disposeRetiredScreens();
+    }
+    
+    /**
+     * Passes the window's new size to the active screen, or the render target's
+     * size below full render scale.
+     *
+     * @param width new window width
+     * @param height new window height
+     */
+    @Override
+    public void resize(int width, int height) {
+        if (isRenderScaled()) {
+            super.resize(getRenderWidth(), getRenderHeight());
+        } else {
+            super.resize(width, height);
+        }
+    }
+    
+    /**
+     * Shows a screen. Below full render scale it is then sized to the render
+     * target rather than the window.
+     *
+     * @param screen the screen to show, or null
+     */
+    @Override
+    public void setScreen(Screen screen) {
+        if (transition != null && !finishingTransition) {
+            // Switching directly abandons the screen being prepared
+            transition.dispose();
+            transition = null;
+        }
+        Screen previous = this.screen;
+        super.setScreen(screen);
+        if (screen != null) {
+            liveScreens.add(screen);
+            retiredScreens.removeValue(screen, true);
+            if (isRenderScaled()) {
+                screen.resize(getRenderWidth(), getRenderHeight());
+            }
+        }
+        // The old screen may still be mid-render, so it is disposed when the frame ends
+        if (previous != null && previous != screen && !menus.containsValue(previous, true)
+            && !retiredScreens.contains(previous, true)) {
+            retiredScreens.add(previous);
+        }
+    }
+    
+    /**
+     * Shows a menu, building it on the first visit and reusing it after that.
+     *
+     * @param type the menu's class, which identifies it in the cache
+     * @param factory builds the menu on the first visit
+     * @param <T> the menu type
+     */
+    public <T extends Screen> void showMenu(Class<T> type, Function<CritterParade, T> factory) {
+        setScreen(getMenu(type, factory));
+    }
+    
+    /**
+     * Gets a cached menu, building it if it hasn't been yet. Cached menus must
+     * rebuild their widgets and install their input processor in
+     * {@link Screen#show()}, as they are shown again on each visit.
+     *
+     * @param type the menu's class, which identifies it in the cache
+     * @param factory builds the menu on the first visit
+     * @param <T> the menu type
+     * @return the menu
+     */
+    public <T extends Screen> T getMenu(Class<T> type, Function<CritterParade, T> factory) {
+        Screen menu = menus.get(type);
+        if (menu == null) {
+            menu = factory.apply(this);
+            menus.put(type, menu);
+            liveScreens.add(menu);
+        }
+        return type.cast(menu);
+    }
+    
+    /**
+     * Switches to a screen once it is prepared, keeping the current screen until
+     * then. Its textures are decoded in the background and uploaded, and the
+     * screen built, in steps spread over frames. Switching again before it is
+     * ready abandons it.
+     *
+     * @param factory builds the screen
+     * @param texturePaths internal paths of the textures the screen loads with
+     *     {@link #loadTexture(String)}; others are loaded as usual
+     */
+    public void transitionTo(Supplier<? extends Screen> factory, List<String> texturePaths) {
+        if (transition != null) {
+            transition.dispose();
+        }
+        transition = new ScreenTransition(factory, texturePaths, textureDecoder);
+    }
+    
+    /**
+     * Shows the prepared screen at the start of a frame, so it renders straight away.
+     */
+    private void finishTransition() {
+        if (transition == null || transition.getScreen() == null) {
+            return;
+        }
+        // The transition stays set while the screen shows, so textures it loads there are handed over too
+        finishingTransition = true;
+        setScreen(transition.takeScreen());
+        finishingTransition = false;
+        if (debugMode) {
+            log(transition.describe());
+        }
+        transition.dispose();
+        transition = null;
+    }
+    
+    /**
+     * Disposes the screens transitions left this frame.
+     */
+    private void disposeRetiredScreens() {
+        if (retiredScreens.isEmpty()) {
+            return;
+        }
+        for (Screen retired : retiredScreens) {
+            retired.dispose();
+            liveScreens.remove(retired);
+        }
+        retiredScreens.clear();
+        if (debugMode) {
+            log(describeScreens());
+        }
+    }
+    
+    /**
+     * Gets the number of screens built and not yet disposed, cached menus
+     * included. It should stay at most one more than the number of cached menus.
+     *
+     * @return the live screen count
+     */
+    public int getLiveScreenCount() {
+        return liveScreens.size;
+    }
+    
+    /**
+     * Describes the live screens and the GPU resources libGDX tracks, to spot
+     * leaks across rounds.
+     */
+    private String describeScreens() {
+        return String.format("%d screens live (%d cached menus), %d textures, %d shader programs",
+            liveScreens.size, menus.size, Texture.getNumManagedTextures(),
+            ShaderProgram.getNumManagedShaderPrograms());
+    }
+    
+    /**
+     * Puts {@link #playerInput} in front of the active screen's input processor,
+     * with pointer input mapped into the render target while it is in use.
+     * Screens set their processor when built, so this is checked every frame.
+     */
+    private void updateInputProcessor() {
+        InputProcessor processor = Gdx.input.getInputProcessor();
+        if (processor != playerInput) {
+            screenInput = processor;
+            Gdx.input.setInputProcessor(playerInput);
+        }
+        renderScaleInput.setTarget(screenInput);
+        playerInput.setTarget(isRenderScaled() ? renderScaleInput : screenInput);
+    }
+    
+    /**
+     * Gets the player input layer, which holds this frame's input snapshot.
+     *
+     * @return the player input layer
+     */
+    public PlayerInput getPlayerInput() {
+        return playerInput;
+    }
+    
+    private boolean isRenderScaled() {
+        return settings != null && settings.getRenderScale() < 1f;
+    }
+    
+    /**
+     * Gets the width screens lay out for: the window's width, or the render
+     * target's width in pixels below full render scale.
+     *
+     * @return the width
+     */
+    public int getRenderWidth() {
+        if (!isRenderScaled()) {
+            return Gdx.graphics.getWidth();
+        }
+        return Math.max(1, Math.round(Gdx.graphics.getBackBufferWidth() * settings.getRenderScale()));
+    }
+    
+    /**
+     * Gets the height screens lay out for: the window's height, or the render
+     * target's height in pixels below full render scale.
+     *
+     * @return the height
+     */
+    public int getRenderHeight() {
+        if (!isRenderScaled()) {
+            return Gdx.graphics.getHeight();
+        }
+        return Math.max(1, Math.round(Gdx.graphics.getBackBufferHeight() * settings.getRenderScale()));
+    }
+    
+    private void disposeRenderTarget() {
+        if (renderTarget != null) {
+            renderTarget.dispose();
+            renderTarget = null;
+            renderTargetRegion = null;
+        }
+    }
+    
+    /**
+     * Applies the performance settings that can change while running: vsync,
+     * frame rate limits, render scale, texture filtering and the music stream
+     * budget. MSAA is only read by the launcher when the window is created.
+     */
+    public void applyPerformanceSettings() {
+        Gdx.graphics.setVSync(settings.isVsync());
+        applyFrameRate();
+        
+        // Render target viewports are laid out in pixels, not window coordinates
+        HdpiUtils.setMode(isRenderScaled() ? HdpiMode.Pixels : HdpiMode.Logical);
+        if (!isRenderScaled()) {
+            disposeRenderTarget();
+        }
+        resize(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+        
+        for (Texture texture : filteredTextures) {
+            if (texture.getTextureObjectHandle() != 0) {
+                applyTextureFilter(texture);
+            }
+        }
+        if (renderTarget != null) {
+            applyTextureFilter(renderTarget.getColorBufferTexture());
+        }
+        
+        if (musicPlayer != null) {
+            musicPlayer.setStreamBudget(settings.getMusicStreams());
+        }
+    }
+    
+    /**
+     * Limits the frame rate to the foreground or background setting, depending on
+     * window focus.
+     */
+    private void applyFrameRate() {
+        int fps = windowFocused ? settings.getFpsCap() : settings.getBackgroundFps();
+        if (fps == SettingsManager.FPS_CAP_DISPLAY) {
+            // Plus 1 to match fractional refresh rates; vsync keeps the actual rate to the display's
+            fps = Gdx.graphics.getDisplayMode().refreshRate + 1;
+        }
+        Gdx.graphics.setForegroundFPS(fps);
+    }
+    
+    /**
+     * Tells the game whether its window has focus, so it can drop to the
+     * background frame rate while unfocused. Called by the desktop launcher.
+     *
+     * @param focused true if the window has focus
+     */
+    public void setWindowFocused(boolean focused) {
+        if (windowFocused == focused) {
+            return;
+        }
+        windowFocused = focused;
+        if (!focused) {
+            // Keys released while unfocused never report it
+            playerInput.releaseAll();
+        }
+        if (settings != null) {
+            applyFrameRate();
+        }
+    }
+    
+    /**
+     * Loads a texture with the configured filtering. The filtering is updated if
+     * the setting changes while the texture is in use.
+     *
+     * @param path internal path of the image
+     * @return the texture; the caller disposes it
+     */
+    public Texture loadTexture(String path) {
+        Texture texture = transition != null ? transition.takeTexture(path) : null;
+        if (texture == null) {
+            texture = new Texture(path);
+        }
+        applyTextureFilter(texture);
+        filteredTextures.add(texture);
+        return texture;
+    }
+    
+    private void applyTextureFilter(Texture texture) {
+        Texture.TextureFilter filter = settings.getTextureFiltering() == SettingsManager.TextureFiltering.LINEAR
+            ? Texture.TextureFilter.Linear : Texture.TextureFilter.Nearest;
+        texture.setFilter(filter, filter);
+    }
+    
+    /**
+     * Gets the persistent settings.
+     *
+     * @return the settings
+     */
+    public SettingsManager getSettings() {
+        return settings;
     }
 
     /**
@@ -448,14 +964,55 @@ public class CritterParade extends Game {
      * Disposes shared resources created in {@link #create()}.
      */
     public void dispose() {
-        // Save session log before disposing
+        if (controllerInput != null) {
+            controllerInput.uninstall();
+        }
+        if (debugMode) {
+            log("Keyboard input latency: " + playerInput.getKeyboardLatency());
+            log("Gamepad input latency: " + playerInput.getControllerLatency());
+        }
+        if (latencyProbe != null) {
+            log(latencyProbe.report());
+        }
+        
+        if (transition != null) {
+            transition.dispose();
+            transition = null;
+        }
+        textureDecoder.shutdown();
+        if (screen != null) {
+            screen.hide();
+        }
+        for (Screen live : liveScreens) {
+            live.dispose();
+        }
+        liveScreens.clear();
+        menus.clear();
+        retiredScreens.clear();
+        
+        // Write the rest of the session log before disposing
         if (sessionLogger != null) {
-            sessionLogger.saveSession();
+            sessionLogger.close();
+        }
+        
+        // Let the last board save reach disk
+        if (boardSaveManager != null) {
+            boardSaveManager.dispose();
+        }
+        
+        // Write any leaderboard changes still queued
+        if (leaderboardManager != null) {
+            leaderboardManager.dispose();
         }
         
+        uiStage.dispose();
         batch.dispose();
         skin.dispose(); // Disposes font as well
         disposePlayerTextures();
+        disposeRenderTarget();
+        if (renderTargetBatch != null) {
+            renderTargetBatch.dispose();
+        }
         
         if (musicPlayer != null) {
             musicPlayer.dispose();
@@ -480,6 +1037,50 @@ public class CritterParade extends Game {
         return batch;
     }
 
+    /**
+     * Gets the stage menu screens share. Screens act and draw it while shown.
+     *
+     * @return the shared UI stage
+     */
+    public Stage getUiStage() {
+        return uiStage;
+    }
+
+    /**
+     * Shows a screen's widgets on the shared stage, in place of any still
+     * mounted, and routes input to them. Lays out in the fixed 640x360 menu size.
+     *
+     * @param root the screen's root actor
+     */
+    public void mountUi(Actor root) {
+        mountUi(root, uiViewport);
+    }
+
+    /**
+     * Shows a screen's widgets on the shared stage with a viewport of its own.
+     *
+     * @param root the screen's root actor
+     * @param viewport the viewport to lay out in
+     */
+    public void mountUi(Actor root, Viewport viewport) {
+        uiStage.clear();
+        uiStage.setViewport(viewport);
+        viewport.update(Gdx.graphics.getWidth(), Gdx.graphics.getHeight(), true);
+        uiStage.addActor(root);
+        Gdx.input.setInputProcessor(uiStage);
+    }
+
+    /**
+     * Removes the mounted widgets, so screens without a UI don't receive clicks
+     * meant for them.
+     */
+    public void unmountUi() {
+        uiStage.clear();
+        if (screenInput == uiStage || Gdx.input.getInputProcessor() == uiStage) {
+            Gdx.input.setInputProcessor(null);
+        }
+    }
+
     /**
      * Gets the shared bitmap font used for text rendering.
      *
@@ -536,7 +1137,21 @@ public class CritterParade extends Game {
      * @param miniGameSupplier supplier that creates a new mini game instance
      */
     public void registerMiniGame(String name, String instructions, Supplier<MiniGame> miniGameSupplier) {
-        minigameRegistry.add(new MiniGameDescriptor(name, instructions, miniGameSupplier));
+        registerMiniGame(name, instructions, List.of(), miniGameSupplier);
+    }
+    
+    /**
+     * Registers a mini game along with the textures it loads, which are then
+     * prepared over several frames before it starts.
+     *
+     * @param name the display name of the mini game
+     * @param instructions instructions shown before the mini game starts
+     * @param textures internal paths of the textures the mini game loads
+     * @param miniGameSupplier factory for new mini game instances
+     */
+    public void registerMiniGame(String name, String instructions, List<String> textures,
+                                 Supplier<MiniGame> miniGameSupplier) {
+        minigameRegistry.add(new MiniGameDescriptor(name, instructions, textures, miniGameSupplier));
     }
 
     /**
@@ -567,6 +1182,24 @@ public class CritterParade extends Game {
         return Collections.unmodifiableList(gameBoardRegistry);
     }
 
+    /**
+     * Gets the board chosen for the current board-mode session.
+     *
+     * @return the active board, or null if no board has been chosen
+     */
+    public NamedSupplier<GameBoard> getActiveBoard() {
+        return activeBoard;
+    }
+
+    /**
+     * Sets the board for the current board-mode session.
+     *
+     * @param board the chosen board
+     */
+    public void setActiveBoard(NamedSupplier<GameBoard> board) {
+        this.activeBoard = board;
+    }
+
     /**
      * Gets the currently configured number of players.
      *
@@ -592,9 +1225,22 @@ public class CritterParade extends Game {
      * @param count number of players to create (1-6)
      */
     public void initializePlayers(int count) {
+        initializePlayers(count, 0);
+    }
+    
+    /**
+     * Initializes shared player instances, filling the last seats with CPU players.
+     *
+     * @param count number of players to create (1-6)
+     * @param botCount how many of those players are CPU-controlled (0 to count)
+     */
+    public void initializePlayers(int count, int botCount) {
         if (count < 1 || count > 6) {
             throw new IllegalArgumentException("Player count must be between 1 and 6");
         }
+        if (botCount < 0 || botCount > count) {
+            throw new IllegalArgumentException("Bot count must be between 0 and " + count);
+        }
         
         // Dispose previous textures if they exist
         disposePlayerTextures();
@@ -604,8 +1250,11 @@ public class CritterParade extends Game {
         this.playerTextures = new Texture[count];
         
         for (int i = 0; i < count; i++) {
-            playerTextures[i] = new Texture(PLAYER_SPRITE_PATHS[i]);
+            playerTextures[i] = loadTexture(PLAYER_SPRITE_PATHS[i]);
             players[i] = new Player(i + 1, CRITTER_NAMES[i], playerTextures[i]);
+            if (i >= count - botCount) {
+                players[i].setBot(new BoardBot(players[i]));
+            }
         }
     }
     
@@ -704,6 +1353,8 @@ public class CritterParade extends Game {
     public void resetBoardGameState(int startTileIndex) {
         currentPlayerTurn = 0;
         advanceTurnOnBoardReturn = false;
+        restoreBoardOnShow = false;
+        boardSession = null;
         if (players != null) {
             for (Player p : players) {
                 p.resetBoardPosition(startTileIndex);
@@ -728,4 +1379,114 @@ public class CritterParade extends Game {
     public void setAdvanceTurnOnBoardReturn(boolean advance) {
         this.advanceTurnOnBoardReturn = advance;
     }
+    
+    /**
+     * Gets the board save manager.
+     *
+     * @return the board save manager
+     */
+    public BoardSaveManager getBoardSaveManager() {
+        return boardSaveManager;
+    }
+    
+    /**
+     * Gets the latest snapshot of the running board game.
+     *
+     * @return the snapshot, or null if no board game has reached a turn boundary
+     */
+    public BoardSnapshot getBoardSession() {
+        return boardSession;
+    }
+    
+    /**
+     * Records a turn-boundary snapshot of the running board game and saves it in the background.
+     *
+     * @param snapshot the board state
+     */
+    public void saveBoardSession(BoardSnapshot snapshot) {
+        this.boardSession = snapshot;
+        if (boardSaveManager != null) {
+            boardSaveManager.save(snapshot);
+        }
+    }
+    
+    /**
+     * Forgets the running board game and deletes its save, e.g. when someone has won.
+     */
+    public void endBoardSession() {
+        this.boardSession = null;
+        if (boardSaveManager != null) {
+            boardSaveManager.delete();
+        }
+    }
+    
+    /**
+     * Checks if the board should continue the current session when shown.
+     *
+     * @return true if the board should restore {@link #getBoardSession()}
+     */
+    public boolean shouldRestoreBoardOnShow() {
+        return restoreBoardOnShow;
+    }
+    
+    /**
+     * Sets the flag to restore the current session when the board is shown.
+     * @param restore true to restore on show
+     */
+    public void setRestoreBoardOnShow(boolean restore) {
+        this.restoreBoardOnShow = restore;
+    }
+    
+    /**
+     * Loads the saved board game, recreates its players and switches to its board.
+     *
+     * @return true if the game was resumed, false if there is no usable save
+     */
+    public boolean resumeSavedBoardGame() {
+        BoardSnapshot snapshot = boardSaveManager != null ? boardSaveManager.load() : null;
+        if (snapshot == null) {
+            return false;
+        }
+        
+        NamedSupplier<GameBoard> board = null;
+        for (NamedSupplier<GameBoard> candidate : gameBoardRegistry) {
+            if (candidate.name().equals(snapshot.boardName())) {
+                board = candidate;
+                break;
+            }
+        }
+        if (board == null) {
+            log("Saved board '%s' is no longer available", snapshot.boardName());
+            return false;
+        }
+        
+        initializePlayers(snapshot.playerCount());
+        for (int i = 0; i < players.length; i++) {
+            Player player = players[i];
+            if (snapshot.bots()[i]) {
+                player.setBot(new BoardBot(player));
+            }
+            player.setBoardTileIndex(snapshot.tiles()[i]);
+            player.setPreviousTileIndex(snapshot.previousTiles()[i]);
+            player.setScores(snapshot.fruit()[i], snapshot.crumbs()[i], snapshot.wins()[i]);
+        }
+        currentPlayerTurn = snapshot.currentTurn();
+        advanceTurnOnBoardReturn = false;
+        boardSession = snapshot;
+        restoreBoardOnShow = true;
+        
+        setMode(Mode.BOARD_MODE);
+        setActiveBoard(board);
+        log("Resuming saved game on %s", board.name());
+        logModeSelected(Mode.BOARD_MODE);
+        logBoardStart(board.name());
+        String[] names = new String[players.length];
+        for (int i = 0; i < players.length; i++) {
+            names[i] = players[i].getName();
+        }
+        logPlayersInitialized(players.length, names);
+        startBoardMusic();
+        setScreen(board.supplier().get());
+        return true;
+    }
 }
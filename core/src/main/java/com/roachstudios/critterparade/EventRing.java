@@ -0,0 +1,136 @@
+package com.roachstudios.critterparade;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * Bounded lock-free queue for handing items from any number of producer threads
+ * to one consumer thread, without allocating per item.
+ *
+ * <p>Every slot holds a mutable item created up front. Each slot also carries a
+ * sequence number saying whose turn it is: a producer claims a position with a
+ * compare-and-set on the head, fills in the slot's item and publishes it by
+ * advancing the sequence; the consumer reads the item in place and releases the
+ * slot back to producers one lap later. Neither side ever blocks. A producer can
+ * leave part of the queue free for more important items by passing a reserve to
+ * {@link #claim(int)}.</p>
+ *
+ * @param <T> the item type
+ */
+final class EventRing<T> {
+
+    private final int capacity;
+    private final int mask;
+    private final T[] slots;
+    private final AtomicLongArray sequences;
+
+    /** Next position to claim for writing. */
+    private final AtomicLong head = new AtomicLong();
+
+    /** Next position to read; only advanced by the consumer. */
+    private volatile long tail;
+
+    /**
+     * Creates an empty ring.
+     *
+     * @param capacity maximum number of queued items, rounded up to a power of two
+     * @param factory creates the item kept in each slot
+     */
+    @SuppressWarnings("unchecked")
+    EventRing(int capacity, Supplier<T> factory) {
+        this.capacity = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.mask = this.capacity - 1;
+        this.slots = (T[]) new Object[this.capacity];
+        this.sequences = new AtomicLongArray(this.capacity);
+        for (int i = 0; i < this.capacity; i++) {
+            slots[i] = factory.get();
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Claims a slot to fill unless fewer than {@code reserve} + 1 slots are free.
+     * The slot must then be filled through {@link #get(long)} and handed to the
+     * consumer with {@link #publish(long)}; until then the consumer waits at it.
+     *
+     * @param reserve slots to leave free for other callers
+     * @return the claimed position, or -1 if the queue is too full
+     */
+    long claim(int reserve) {
+        long position = head.get();
+        while (true) {
+            if (position - tail >= capacity - reserve) {
+                return -1;
+            }
+            int slot = (int) position & mask;
+            long difference = sequences.get(slot) - position;
+            if (difference == 0) {
+                if (head.compareAndSet(position, position + 1)) {
+                    return position;
+                }
+                position = head.get();
+            } else if (difference < 0) {
+                // The consumer hasn't released this slot yet: full
+                return -1;
+            } else {
+                // Another producer claimed this position first
+                position = head.get();
+            }
+        }
+    }
+
+    /**
+     * Gets the item at a claimed position.
+     *
+     * @param position a position from {@link #claim(int)}
+     * @return the slot's item
+     */
+    T get(long position) {
+        return slots[(int) position & mask];
+    }
+
+    /**
+     * Hands a filled slot to the consumer.
+     *
+     * @param position a position from {@link #claim(int)}
+     */
+    void publish(long position) {
+        sequences.set((int) position & mask, position + 1);
+    }
+
+    /**
+     * Gets the oldest published item without taking it. Must only be called from
+     * the consumer thread, which releases the item with {@link #release()} once
+     * done with it.
+     *
+     * @return the item, or null if none is ready
+     */
+    T peek() {
+        long position = tail;
+        int slot = (int) position & mask;
+        if (sequences.get(slot) != position + 1) {
+            return null;
+        }
+        return slots[slot];
+    }
+
+    /**
+     * Gives the item returned by {@link #peek()} back to producers. Must only be
+     * called from the consumer thread.
+     */
+    void release() {
+        long position = tail;
+        sequences.set((int) position & mask, position + capacity);
+        tail = position + 1;
+    }
+
+    /**
+     * Gets the number of slots.
+     *
+     * @return the capacity
+     */
+    int capacity() {
+        return capacity;
+    }
+}
@@ -0,0 +1,249 @@
+package com.roachstudios.critterparade;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes events as newline-delimited JSON, one object per line:
+ * {@code {"timestamp":"2025-01-31T09:00:00.000","type":"player_turn","data":{...}}}.
+ * Timestamps are local time, worked out from the event's monotonic time and the
+ * session epoch.
+ *
+ * <p>Each line is built in one reused buffer. Map data is written by hand as
+ * well, so values appear as plain JSON without type tags.</p>
+ */
+final class JsonLogEncoder implements LogEncoder {
+
+    private static final DateTimeFormatter EVENT_DATE_FORMAT =
+        DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS");
+
+    /** How long a looked-up UTC offset is reused; offsets change on quarter hours at most. */
+    private static final long OFFSET_PERIOD_MILLIS = TimeUnit.MINUTES.toMillis(15);
+
+    private final long epochMillis;
+    private final long epochNanos;
+    private final ZoneId zone = ZoneId.systemDefault();
+    private final StringBuilder line = new StringBuilder(256);
+    private Writer writer;
+
+    /** Offset from UTC for the period {@link #offsetPeriod}, in seconds. */
+    private int offsetSeconds;
+    private long offsetPeriod = Long.MIN_VALUE;
+
+    /**
+     * Creates an encoder.
+     *
+     * @param epochMillis wall-clock time at the start of the session, epoch millis
+     * @param epochNanos {@link System#nanoTime()} at the same moment
+     */
+    JsonLogEncoder(long epochMillis, long epochNanos) {
+        this.epochMillis = epochMillis;
+        this.epochNanos = epochNanos;
+    }
+
+    @Override
+    public String extension() {
+        return LogManifest.SEGMENT_EXTENSION;
+    }
+
+    @Override
+    public void begin(OutputStream out) {
+        writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void write(LogEvent event) throws IOException {
+        LogEventType type = event.type;
+        line.setLength(0);
+        line.append("{\"timestamp\":\"");
+        appendTimestamp(epochMillis + Math.floorDiv(event.nanos - epochNanos, 1_000_000L));
+        line.append("\",\"type\":");
+        appendString(line, type.id() != null ? type.id() : event.texts[0]);
+
+        int textIndex = 0;
+        int valueIndex = 0;
+        boolean first = true;
+        for (LogEventType.Field field : type.fields()) {
+            switch (field.kind()) {
+                case TYPE:
+                    textIndex++;
+                    break;
+                case TEXT:
+                    first = appendKey(field.key(), first);
+                    appendString(line, event.texts[textIndex++]);
+                    break;
+                case NUMBER:
+                    first = appendKey(field.key(), first);
+                    line.append(event.values[valueIndex++]);
+                    break;
+                case NAMES:
+                    first = appendKey(field.key(), first);
+                    appendValue(line, event.names);
+                    break;
+                case NUMBERS:
+                    first = appendKey(field.key(), first);
+                    appendValue(line, event.numbers);
+                    break;
+                case DATA:
+                    if (event.data != null) {
+                        for (Map.Entry<String, Object> entry : event.data.entrySet()) {
+                            first = appendKey(entry.getKey(), first);
+                            appendValue(line, entry.getValue());
+                        }
+                    }
+                    break;
+            }
+        }
+        if (!first) {
+            line.append('}');
+        }
+        line.append("}\n");
+        writer.append(line);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    /**
+     * Opens the data object before the first key.
+     *
+     * @return false, the new value of {@code first}
+     */
+    private boolean appendKey(String key, boolean first) {
+        line.append(first ? ",\"data\":{" : ",");
+        appendString(line, key);
+        line.append(':');
+        return false;
+    }
+
+    private void appendTimestamp(long millis) {
+        long period = Math.floorDiv(millis, OFFSET_PERIOD_MILLIS);
+        if (period != offsetPeriod) {
+            offsetSeconds = zone.getRules().getOffset(Instant.ofEpochMilli(millis)).getTotalSeconds();
+            offsetPeriod = period;
+        }
+        long localMillis = millis + offsetSeconds * 1000L;
+        LocalDateTime time = LocalDateTime.ofEpochSecond(Math.floorDiv(localMillis, 1000L),
+            (int) Math.floorMod(localMillis, 1000L) * 1_000_000, ZoneOffset.UTC);
+        EVENT_DATE_FORMAT.formatTo(time, line);
+    }
+
+    /**
+     * Appends a value as JSON: strings, numbers, booleans, maps, arrays and
+     * iterables are written as such, anything else as its string form.
+     *
+     * @param out the buffer
+     * @param value the value, or null
+     */
+    static void appendValue(StringBuilder out, Object value) {
+        if (value == null) {
+            out.append("null");
+        } else if (value instanceof String text) {
+            appendString(out, text);
+        } else if (value instanceof Double || value instanceof Float) {
+            double number = ((Number) value).doubleValue();
+            out.append(Double.isFinite(number) ? value.toString() : "null");
+        } else if (value instanceof Number || value instanceof Boolean) {
+            out.append(value);
+        } else if (value instanceof Map<?, ?> map) {
+            out.append('{');
+            boolean first = true;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                if (!first) {
+                    out.append(',');
+                }
+                first = false;
+                appendString(out, String.valueOf(entry.getKey()));
+                out.append(':');
+                appendValue(out, entry.getValue());
+            }
+            out.append('}');
+        } else if (value instanceof int[] numbers) {
+            out.append('[');
+            for (int i = 0; i < numbers.length; i++) {
+                if (i > 0) {
+                    out.append(',');
+                }
+                out.append(numbers[i]);
+            }
+            out.append(']');
+        } else if (value instanceof Object[] items) {
+            out.append('[');
+            for (int i = 0; i < items.length; i++) {
+                if (i > 0) {
+                    out.append(',');
+                }
+                appendValue(out, items[i]);
+            }
+            out.append(']');
+        } else if (value instanceof Iterable<?> items) {
+            out.append('[');
+            boolean first = true;
+            for (Object item : items) {
+                if (!first) {
+                    out.append(',');
+                }
+                first = false;
+                appendValue(out, item);
+            }
+            out.append(']');
+        } else {
+            appendString(out, value.toString());
+        }
+    }
+
+    /**
+     * Appends a quoted, escaped JSON string.
+     *
+     * @param out the buffer
+     * @param text the string, or null
+     */
+    static void appendString(StringBuilder out, String text) {
+        if (text == null) {
+            out.append("null");
+            return;
+        }
+        out.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '"':
+                    out.append("\\\"");
+                    break;
+                case '\\':
+                    out.append("\\\\");
+                    break;
+                case '\n':
+                    out.append("\\n");
+                    break;
+                case '\r':
+                    out.append("\\r");
+                    break;
+                case '\t':
+                    out.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        out.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.append(c);
+                    }
+                    break;
+            }
+        }
+        out.append('"');
+    }
+}
@@ -0,0 +1,159 @@
+package com.roachstudios.critterparade;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/**
+ * Debug-mode measurement of input-to-photon latency: how long passes between a
+ * key or button press being received and the frame that shows its result being
+ * swapped to the display.
+ *
+ * <p>{@link PlayerInput} reports each press the first time a screen reads it,
+ * with the time the press was received. At the end of that frame the game calls
+ * {@link #endFrame(String)}, which posts a runnable; the desktop backend runs
+ * posted runnables right after it swaps buffers and polls events, so the
+ * runnable's time stands in for the swap. Each press's latency goes into a
+ * histogram for the screen that read it, printed by {@link #report()}.</p>
+ *
+ * <p>The display may still take a scan-out to show the frame after the swap,
+ * which no timer here can see.</p>
+ *
+ * <p>Render thread only.</p>
+ */
+final class LatencyProbe {
+
+    /** Presses remembered per frame; more than this in one frame are not measured. */
+    private static final int CAPACITY = 64;
+
+    /** Histogram buckets, one per millisecond; the last also counts everything longer. */
+    private static final int BUCKETS = 100;
+
+    /**
+     * Latencies measured on one screen.
+     */
+    private static final class Histogram {
+        final long[] buckets = new long[BUCKETS];
+        long count;
+        long maxNanos;
+
+        void record(long nanos) {
+            buckets[(int) Math.min(BUCKETS - 1, Math.max(0, nanos / 1_000_000L))]++;
+            count++;
+            maxNanos = Math.max(maxNanos, nanos);
+        }
+
+        /**
+         * Gets the millisecond bucket holding a percentile, as its upper bound.
+         */
+        int percentile(float fraction) {
+            long target = (long) Math.ceil(count * fraction);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += buckets[i];
+                if (seen >= target) {
+                    return i + 1;
+                }
+            }
+            return BUCKETS;
+        }
+    }
+
+    private final ObjectMap<String, Histogram> histograms = new ObjectMap<>();
+
+    /** Receipt times of presses read this frame. */
+    private final long[] consumed = new long[CAPACITY];
+    private int consumedCount;
+
+    /** Receipt times of presses in the frame waiting to be swapped. */
+    private final long[] submitted = new long[CAPACITY];
+    private int submittedCount;
+    private String submittedScreen;
+    private boolean swapPending;
+
+    /** Presses that couldn't be measured, because of {@link #CAPACITY} or a missed swap. */
+    private long dropped;
+
+    private final Runnable onSwap = this::swapped;
+
+    /**
+     * Records that a screen read a press this frame.
+     *
+     * @param receivedNanos when the press was received, on the {@link TimeUtils#nanoTime()} clock
+     */
+    void consumed(long receivedNanos) {
+        if (consumedCount < CAPACITY) {
+            consumed[consumedCount++] = receivedNanos;
+        } else {
+            dropped++;
+        }
+    }
+
+    /**
+     * Ends the frame, timing this frame's presses to its buffer swap.
+     *
+     * @param screen name of the screen that drew the frame
+     */
+    void endFrame(String screen) {
+        if (consumedCount == 0) {
+            return;
+        }
+        if (swapPending) {
+            // The last frame's runnable hasn't run yet, so this frame's swap can't be told apart
+            dropped += consumedCount;
+            consumedCount = 0;
+            return;
+        }
+        System.arraycopy(consumed, 0, submitted, 0, consumedCount);
+        submittedCount = consumedCount;
+        submittedScreen = screen;
+        consumedCount = 0;
+        swapPending = true;
+        Gdx.app.postRunnable(onSwap);
+    }
+
+    private void swapped() {
+        long now = TimeUtils.nanoTime();
+        Histogram histogram = histograms.get(submittedScreen);
+        if (histogram == null) {
+            histogram = new Histogram();
+            histograms.put(submittedScreen, histogram);
+        }
+        for (int i = 0; i < submittedCount; i++) {
+            histogram.record(now - submitted[i]);
+        }
+        submittedCount = 0;
+        swapPending = false;
+    }
+
+    /**
+     * Describes the latencies measured so far, one line per screen: the number of
+     * presses, median, 95th percentile and maximum, then the count in each
+     * millisecond bucket that has any.
+     *
+     * @return the report, or a note that nothing was measured
+     */
+    String report() {
+        if (histograms.size == 0) {
+            return "No input latency measured";
+        }
+        StringBuilder report = new StringBuilder("Input-to-swap latency by screen:");
+        for (ObjectMap.Entry<String, Histogram> entry : histograms) {
+            Histogram histogram = entry.value;
+            report.append("\n  ").append(entry.key).append(": ").append(histogram.count)
+                .append(" presses, p50 <").append(histogram.percentile(0.5f))
+                .append(" ms, p95 <").append(histogram.percentile(0.95f))
+                .append(" ms, max ").append(String.format("%.1f", histogram.maxNanos / 1_000_000f)).append(" ms |");
+            for (int i = 0; i < BUCKETS; i++) {
+                if (histogram.buckets[i] > 0) {
+                    report.append(' ').append(i).append(i == BUCKETS - 1 ? "+" : "").append(':')
+                        .append(histogram.buckets[i]);
+                }
+            }
+        }
+        if (dropped > 0) {
+            report.append("\n  ").append(dropped).append(" presses not measured");
+        }
+        return report.toString();
+    }
+}
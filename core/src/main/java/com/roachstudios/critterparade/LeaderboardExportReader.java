@@ -0,0 +1,370 @@
+package com.roachstudios.critterparade;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Streams scores out of a leaderboard export written by
+ * {@link LeaderboardManager#exportJson()}, without reading the whole file.
+ *
+ * <p>The file is one object mapping each minigame to an array of scores.
+ * {@link #index(Path)} scans it once and notes where each array starts;
+ * {@link #openSection(Path, Section)} then reads one array from its offset, one
+ * score at a time. Fields other than playerName, scoreValue and timestamp (such
+ * as the "class" tag libGDX writes) are skipped.</p>
+ *
+ * <p>The parser works on bytes: JSON structure is ASCII, so only strings need
+ * decoding, and offsets are plain file positions.</p>
+ */
+final class LeaderboardExportReader implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Where one minigame's scores start in a file.
+     *
+     * @param minigame the minigame's name
+     * @param offset byte offset of its array's opening bracket
+     */
+    record Section(String minigame, long offset) {
+    }
+
+    private final Path path;
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE).limit(0);
+    private final StringBuilder literal = new StringBuilder(24);
+
+    /** UTF-8 bytes of the string being read. */
+    private byte[] text = new byte[64];
+    private int textLength;
+
+    /** File position of the next unread byte. */
+    private long position;
+    private boolean first = true;
+
+    private LeaderboardExportReader(Path path, long offset) throws IOException {
+        this.path = path;
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.position = offset;
+        channel.position(offset);
+    }
+
+    /**
+     * Lists a file's minigames and where their scores start.
+     *
+     * @param path the exported file
+     * @return its sections, in file order
+     * @throws IOException if the file can't be read or is malformed
+     */
+    static List<Section> index(Path path) throws IOException {
+        List<Section> sections = new ArrayList<>();
+        try (LeaderboardExportReader reader = new LeaderboardExportReader(path, 0)) {
+            reader.expect('{');
+            if (reader.peekToken() == '}') {
+                return sections;
+            }
+            do {
+                String minigame = reader.readKey();
+                if (reader.peekToken() == '[') {
+                    sections.add(new Section(minigame, reader.position));
+                }
+                reader.skipValue();
+            } while (reader.nextSeparator('}'));
+        }
+        return sections;
+    }
+
+    /**
+     * Opens one minigame's scores for reading.
+     *
+     * @param path the exported file
+     * @param section the section, from {@link #index(Path)}
+     * @return a reader positioned at the section
+     * @throws IOException if the file can't be read
+     */
+    static LeaderboardExportReader openSection(Path path, Section section) throws IOException {
+        LeaderboardExportReader reader = new LeaderboardExportReader(path, section.offset());
+        try {
+            reader.expect('[');
+        } catch (IOException e) {
+            reader.close();
+            throw e;
+        }
+        return reader;
+    }
+
+    /**
+     * Reads the section's next score.
+     *
+     * @return the score, or null after the last one
+     * @throws IOException if the file can't be read or is malformed
+     */
+    LeaderboardMerge.Score next() throws IOException {
+        if (first) {
+            first = false;
+            if (peekToken() == ']') {
+                read();
+                return null;
+            }
+        } else if (!nextSeparator(']')) {
+            return null;
+        }
+
+        String playerName = "";
+        float scoreValue = 0f;
+        long timestamp = 0L;
+        expect('{');
+        if (peekToken() != '}') {
+            do {
+                String key = readKey();
+                switch (key) {
+                    case "playerName":
+                        if (peekToken() == '"') {
+                            playerName = readString();
+                        } else {
+                            skipValue();
+                        }
+                        break;
+                    case "scoreValue":
+                        scoreValue = parseFloat(readLiteral());
+                        break;
+                    case "timestamp":
+                        timestamp = parseLong(readLiteral());
+                        break;
+                    default:
+                        skipValue();
+                        break;
+                }
+            } while (nextSeparator('}'));
+        } else {
+            read();
+        }
+        return new LeaderboardMerge.Score(playerName, scoreValue, timestamp);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Reads the comma between members, or the closing bracket.
+     *
+     * @return true if another member follows
+     */
+    private boolean nextSeparator(char close) throws IOException {
+        int c = readToken();
+        if (c == ',') {
+            return true;
+        }
+        if (c != close) {
+            throw malformed("expected ',' or '" + close + "'");
+        }
+        return false;
+    }
+
+    private String readKey() throws IOException {
+        if (peekToken() != '"') {
+            throw malformed("expected a key");
+        }
+        String key = readString();
+        expect(':');
+        return key;
+    }
+
+    private void skipValue() throws IOException {
+        int c = peekToken();
+        if (c == '"') {
+            // Skipped strings, such as each score's class tag, aren't decoded
+            read();
+            for (int b = read(); b != '"'; b = read()) {
+                if (b < 0 || (b == '\\' && read() < 0)) {
+                    throw malformed("unterminated string");
+                }
+            }
+        } else if (c == '{' || c == '[') {
+            int close = c == '{' ? '}' : ']';
+            read();
+            if (peekToken() == close) {
+                read();
+                return;
+            }
+            do {
+                if (close == '}') {
+                    readKey();
+                }
+                skipValue();
+            } while (nextSeparator((char) close));
+        } else {
+            readLiteral();
+        }
+    }
+
+    /**
+     * Reads a number, true, false or null as its text.
+     */
+    private String readLiteral() throws IOException {
+        peekToken();
+        literal.setLength(0);
+        while (true) {
+            int c = peek();
+            if (c < 0 || c == ',' || c == '}' || c == ']' || isWhitespace(c)) {
+                break;
+            }
+            literal.append((char) read());
+        }
+        if (literal.length() == 0) {
+            throw malformed("expected a value");
+        }
+        return literal.toString();
+    }
+
+    private String readString() throws IOException {
+        expect('"');
+        textLength = 0;
+        while (true) {
+            int c = read();
+            if (c < 0) {
+                throw malformed("unterminated string");
+            }
+            if (c == '"') {
+                return new String(text, 0, textLength, StandardCharsets.UTF_8);
+            }
+            if (c != '\\') {
+                appendText(c);
+                continue;
+            }
+            int escaped = read();
+            switch (escaped) {
+                case 'b': appendText('\b'); break;
+                case 'f': appendText('\f'); break;
+                case 'n': appendText('\n'); break;
+                case 'r': appendText('\r'); break;
+                case 't': appendText('\t'); break;
+                case 'u':
+                    char unit = readHexEscape();
+                    String decoded;
+                    if (Character.isHighSurrogate(unit)) {
+                        // Characters outside the BMP arrive as two escapes
+                        if (read() != '\\' || read() != 'u') {
+                            throw malformed("unpaired surrogate");
+                        }
+                        decoded = new String(new char[] {unit, readHexEscape()});
+                    } else {
+                        decoded = String.valueOf(unit);
+                    }
+                    byte[] bytes = decoded.getBytes(StandardCharsets.UTF_8);
+                    for (byte b : bytes) {
+                        appendText(b);
+                    }
+                    break;
+                default:
+                    if (escaped < 0) {
+                        throw malformed("unterminated string");
+                    }
+                    appendText(escaped);
+                    break;
+            }
+        }
+    }
+
+    private void appendText(int b) {
+        if (textLength == text.length) {
+            text = Arrays.copyOf(text, textLength * 2);
+        }
+        text[textLength++] = (byte) b;
+    }
+
+    private char readHexEscape() throws IOException {
+        int code = 0;
+        for (int i = 0; i < 4; i++) {
+            int digit = Character.digit(read(), 16);
+            if (digit < 0) {
+                throw malformed("invalid unicode escape");
+            }
+            code = code * 16 + digit;
+        }
+        return (char) code;
+    }
+
+    private float parseFloat(String literal) throws IOException {
+        try {
+            return Float.parseFloat(literal);
+        } catch (NumberFormatException e) {
+            throw malformed("invalid score " + literal);
+        }
+    }
+
+    private long parseLong(String literal) throws IOException {
+        try {
+            return Long.parseLong(literal);
+        } catch (NumberFormatException e) {
+            try {
+                return (long) Double.parseDouble(literal);
+            } catch (NumberFormatException e2) {
+                throw malformed("invalid timestamp " + literal);
+            }
+        }
+    }
+
+    private void expect(char expected) throws IOException {
+        if (readToken() != expected) {
+            throw malformed("expected '" + expected + "'");
+        }
+    }
+
+    /**
+     * Skips whitespace and reads the next byte.
+     */
+    private int readToken() throws IOException {
+        peekToken();
+        return read();
+    }
+
+    /**
+     * Skips whitespace and returns the next byte without consuming it.
+     */
+    private int peekToken() throws IOException {
+        while (isWhitespace(peek())) {
+            read();
+        }
+        return peek();
+    }
+
+    private int peek() throws IOException {
+        if (!buffer.hasRemaining()) {
+            buffer.clear();
+            int count = channel.read(buffer);
+            buffer.flip();
+            if (count <= 0) {
+                return -1;
+            }
+        }
+        return buffer.get(buffer.position()) & 0xFF;
+    }
+
+    private int read() throws IOException {
+        int c = peek();
+        if (c >= 0) {
+            buffer.position(buffer.position() + 1);
+            position++;
+        }
+        return c;
+    }
+
+    private static boolean isWhitespace(int c) {
+        return c == ' ' || c == '\n' || c == '\r' || c == '\t';
+    }
+
+    private IOException malformed(String problem) {
+        return new IOException(path.getFileName() + " is malformed at byte " + position + ": " + problem);
+    }
+}
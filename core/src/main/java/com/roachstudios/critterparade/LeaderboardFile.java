@@ -0,0 +1,261 @@
+package com.roachstudios.critterparade;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.ObjectMap;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Binary leaderboard snapshot, read through a memory mapping.
+ *
+ * <p>Layout (big-endian):
+ * <ul>
+ *   <li>Header, 32 bytes: magic, version, section count, snapshot ID, file length,
+ *       directory length, reserved</li>
+ *   <li>Directory: per minigame its name, score direction, score count, player
+ *       count and the offset of its section</li>
+ *   <li>Sections, one per minigame, of fixed-width columns indexed by submission
+ *       order: timestamp (long), value (float), player ID (int); then the ranking
+ *       (indices best first), each index's rank, each player's best index, and
+ *       finally the player names</li>
+ * </ul>
+ * Opening a file reads only the header and directory; everything else is read
+ * from the mapping as it is used (see {@link StoredScores}).</p>
+ *
+ * <p>Files are written once, in full, and never modified, so each snapshot gets a
+ * new name and a random ID that the journal refers to.</p>
+ */
+final class LeaderboardFile {
+
+    /** File signature ("CPLB"). */
+    private static final int MAGIC = 0x43504C42;
+
+    /** Current format version; bump when the layout changes. */
+    private static final int VERSION = 1;
+
+    private static final int HEADER_SIZE = 32;
+
+    private final long snapshotId;
+    private final ObjectMap<String, StoredScores> sections;
+
+    private LeaderboardFile(long snapshotId, ObjectMap<String, StoredScores> sections) {
+        this.snapshotId = snapshotId;
+        this.sections = sections;
+    }
+
+    /**
+     * Maps a snapshot file and reads its directory.
+     *
+     * @param path the snapshot file
+     * @return the opened file
+     * @throws IOException if the file can't be read or is not a valid snapshot
+     */
+    static LeaderboardFile open(Path path) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long length = channel.size();
+            if (length < HEADER_SIZE || length > Integer.MAX_VALUE) {
+                throw new IOException(path.getFileName() + " has an invalid length");
+            }
+            // The mapping stays valid after the channel is closed
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+        }
+
+        if (buffer.getInt(0) != MAGIC) {
+            throw new IOException(path.getFileName() + " is not a leaderboard snapshot");
+        }
+        int version = buffer.getShort(4) & 0xFFFF;
+        if (version != VERSION) {
+            throw new IOException(path.getFileName() + " has unsupported version " + version);
+        }
+        int sectionCount = buffer.getShort(6) & 0xFFFF;
+        long snapshotId = buffer.getLong(8);
+        if (buffer.getLong(16) != buffer.capacity()) {
+            throw new IOException(path.getFileName() + " is truncated");
+        }
+        int directoryEnd = HEADER_SIZE + buffer.getInt(24);
+
+        ObjectMap<String, StoredScores> sections = new ObjectMap<>(sectionCount);
+        int position = HEADER_SIZE;
+        try {
+            for (int s = 0; s < sectionCount; s++) {
+                int nameLength = buffer.getShort(position) & 0xFFFF;
+                byte[] nameBytes = new byte[nameLength];
+                buffer.get(position + 2, nameBytes);
+                position += 2 + nameLength;
+                boolean lowerIsBetter = buffer.get(position) != 0;
+                int count = buffer.getInt(position + 1);
+                int playerCount = buffer.getInt(position + 5);
+                long offset = buffer.getLong(position + 9);
+                position += 17;
+
+                if (position > directoryEnd || count < 0 || playerCount < 0 || offset < directoryEnd
+                        || offset + StoredScores.columnBytes(count, playerCount) > buffer.capacity()) {
+                    throw new IOException(path.getFileName() + " has an invalid directory");
+                }
+                sections.put(new String(nameBytes, StandardCharsets.UTF_8),
+                    new StoredScores(buffer, lowerIsBetter, count, playerCount, (int) offset));
+            }
+        } catch (IndexOutOfBoundsException e) {
+            throw new IOException(path.getFileName() + " has an invalid directory", e);
+        }
+        return new LeaderboardFile(snapshotId, sections);
+    }
+
+    /**
+     * Gets the ID the journal uses to refer to this snapshot.
+     *
+     * @return the snapshot ID
+     */
+    long getSnapshotId() {
+        return snapshotId;
+    }
+
+    /**
+     * Gets the stored minigames and their scores.
+     *
+     * @return map of minigame name to scores
+     */
+    ObjectMap<String, StoredScores> getSections() {
+        return sections;
+    }
+
+    /**
+     * Writes a snapshot of a set of leaderboards to a new file.
+     *
+     * @param path the file to create or replace
+     * @param snapshotId the ID to record in the header
+     * @param boards map of minigame name to its full history
+     * @throws IOException if the file could not be written
+     */
+    static void write(Path path, long snapshotId, ObjectMap<String, ScoreHistory> boards) throws IOException {
+        Array<String> names = new Array<>();
+        Array<Section> built = new Array<>();
+        for (ObjectMap.Entry<String, ScoreHistory> entry : boards.entries()) {
+            names.add(entry.key);
+            built.add(new Section(entry.value));
+        }
+
+        // The directory's size doesn't depend on the offsets it holds, so lay it out once
+        ByteArrayOutputStream directoryBytes = new ByteArrayOutputStream();
+        DataOutputStream directory = new DataOutputStream(directoryBytes);
+        long offset = HEADER_SIZE;
+        for (int s = 0; s < names.size; s++) {
+            offset += 2 + names.get(s).getBytes(StandardCharsets.UTF_8).length + 17;
+        }
+        for (int s = 0; s < names.size; s++) {
+            Section section = built.get(s);
+            writeString(directory, names.get(s));
+            directory.writeBoolean(section.history.isLowerBetter());
+            directory.writeInt(section.count);
+            directory.writeInt(section.playerNames.size);
+            directory.writeLong(offset);
+            offset += section.byteLength();
+        }
+        long fileLength = offset;
+
+        AtomicFiles.write(path, stream -> {
+            DataOutputStream out = new DataOutputStream(stream);
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeShort(names.size);
+            out.writeLong(snapshotId);
+            out.writeLong(fileLength);
+            out.writeInt(directoryBytes.size());
+            out.writeInt(0);
+            directoryBytes.writeTo(out);
+            for (Section section : built) {
+                section.writeTo(out);
+            }
+            out.flush();
+        });
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * One minigame's columns, computed from its history before writing.
+     */
+    private static final class Section {
+        final ScoreHistory history;
+        final int count;
+        final int[] playerIds;
+        final int[] rankOrder;
+        final Array<String> playerNames = new Array<>();
+        final IntArray personalBest = new IntArray();
+        final byte[] nameBytes;
+
+        Section(ScoreHistory history) throws IOException {
+            this.history = history;
+            this.count = history.size();
+
+            ObjectIntMap<String> ids = new ObjectIntMap<>();
+            playerIds = new int[count];
+            for (int i = 0; i < count; i++) {
+                String name = history.getPlayerName(i);
+                int id = ids.get(name, -1);
+                if (id < 0) {
+                    id = playerNames.size;
+                    ids.put(name, id);
+                    playerNames.add(name);
+                    personalBest.add(history.personalBest(name));
+                }
+                playerIds[i] = id;
+            }
+
+            IntArray order = new IntArray(count);
+            history.top(count, order);
+            rankOrder = order.toArray();
+
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            for (String name : playerNames) {
+                writeString(out, name);
+            }
+            nameBytes = bytes.toByteArray();
+        }
+
+        long byteLength() {
+            return StoredScores.columnBytes(count, playerNames.size) + nameBytes.length;
+        }
+
+        void writeTo(DataOutputStream out) throws IOException {
+            for (int i = 0; i < count; i++) {
+                out.writeLong(history.getTimestamp(i));
+            }
+            for (int i = 0; i < count; i++) {
+                out.writeFloat(history.getValue(i));
+            }
+            for (int i = 0; i < count; i++) {
+                out.writeInt(playerIds[i]);
+            }
+            for (int i = 0; i < count; i++) {
+                out.writeInt(rankOrder[i]);
+            }
+            int[] rankOfIndex = new int[count];
+            for (int r = 0; r < count; r++) {
+                rankOfIndex[rankOrder[r]] = r;
+            }
+            for (int i = 0; i < count; i++) {
+                out.writeInt(rankOfIndex[i]);
+            }
+            for (int p = 0; p < personalBest.size; p++) {
+                out.writeInt(personalBest.get(p));
+            }
+            out.write(nameBytes);
+        }
+    }
+}
@@ -0,0 +1,333 @@
+package com.roachstudios.critterparade;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only log of leaderboard changes made since the last snapshot.
+ *
+ * <p>The file starts with a header naming the snapshot it extends (the
+ * {@link LeaderboardFile} ID, or 0 if there is none), followed by one record per
+ * change: a length, the encoded {@link Entry} and a CRC-32 of it. Reading stops at
+ * the first record that is incomplete or fails its check, which is what a write
+ * cut short by a crash or power loss leaves behind.</p>
+ *
+ * <p>Version 1 journals extended a JSON snapshot and named it by length and CRC-32;
+ * {@link #readLegacy(Path, byte[])} reads them so old data can be imported.</p>
+ *
+ * <p>The static methods may be called from any thread. An instance owns the open
+ * file and must only be used from the leaderboard writer thread.</p>
+ */
+final class LeaderboardJournal {
+
+    /** File signature ("CPLJ"). */
+    private static final int MAGIC = 0x43504C4A;
+
+    /** Current format version; bump when the record layout changes. */
+    private static final int VERSION = 2;
+
+    /** Magic, version and snapshot ID. */
+    private static final int HEADER_SIZE = 4 + 2 + 8;
+
+    /** Version that named a JSON snapshot by length and CRC. */
+    private static final int LEGACY_VERSION = 1;
+
+    /** Magic, version, snapshot length and snapshot CRC. */
+    private static final int LEGACY_HEADER_SIZE = 4 + 2 + 8 + 4;
+
+    /** Records longer than this are treated as corruption. */
+    private static final int MAX_RECORD_SIZE = 4096;
+
+    /** Entry operation: add a score. */
+    static final byte SUBMIT = 1;
+
+    /** Entry operation: remove one minigame's scores, or all scores if the minigame is null. */
+    static final byte CLEAR = 2;
+
+    /**
+     * One leaderboard change.
+     *
+     * @param op {@link #SUBMIT} or {@link #CLEAR}
+     * @param minigame the minigame, or null to clear every minigame
+     * @param playerName name of the player who scored ({@link #SUBMIT} only)
+     * @param scoreValue the score ({@link #SUBMIT} only)
+     * @param timestamp when the score was achieved, epoch millis ({@link #SUBMIT} only)
+     */
+    record Entry(byte op, String minigame, String playerName, float scoreValue, long timestamp) {
+    }
+
+    /**
+     * The usable part of a journal file.
+     *
+     * @param entries changes to replay over the snapshot, oldest first
+     * @param validLength bytes of the file that hold a matching header and complete records,
+     *                    or 0 if the file is missing, unreadable or extends another snapshot
+     * @param droppedBytes bytes after the last complete record
+     */
+    record Replay(List<Entry> entries, long validLength, long droppedBytes) {
+    }
+
+    private final Path path;
+    private FileChannel channel;
+
+    /**
+     * Creates a journal for a file. Nothing is opened until {@link #open(long, long)}.
+     *
+     * @param path the journal file
+     */
+    LeaderboardJournal(Path path) {
+        this.path = path;
+    }
+
+    /**
+     * Encodes a change as a journal record.
+     *
+     * @param entry the change
+     * @return the record bytes, ready to append
+     */
+    static byte[] encode(Entry entry) {
+        ByteArrayOutputStream payload = new ByteArrayOutputStream(64);
+        try (DataOutputStream out = new DataOutputStream(payload)) {
+            out.writeByte(entry.op());
+            out.writeBoolean(entry.minigame() != null);
+            if (entry.minigame() != null) {
+                out.writeUTF(entry.minigame());
+            }
+            if (entry.op() == SUBMIT) {
+                out.writeUTF(entry.playerName());
+                out.writeFloat(entry.scoreValue());
+                out.writeLong(entry.timestamp());
+            }
+        } catch (IOException e) {
+            // In-memory streams do not throw
+            throw new IllegalStateException(e);
+        }
+
+        byte[] body = payload.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(body);
+        ByteBuffer record = ByteBuffer.allocate(4 + body.length + 4);
+        record.putInt(body.length).put(body).putInt((int) crc.getValue());
+        return record.array();
+    }
+
+    /**
+     * Gets the snapshot a journal file extends.
+     *
+     * @param path the journal file
+     * @return the snapshot ID (0 for none), or -1 if the file is missing, unreadable
+     *         or in the old format
+     */
+    static long readSnapshotId(Path path) {
+        if (!Files.exists(path)) {
+            return -1;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // Keep reading until the header is full or the file ends
+            }
+            if (header.hasRemaining() || header.getInt(0) != MAGIC || header.getShort(4) != VERSION) {
+                return -1;
+            }
+            long snapshotId = header.getLong(6);
+            return snapshotId >= 0 ? snapshotId : -1;
+        } catch (IOException e) {
+            System.err.println("[LeaderboardJournal] Failed to read journal: " + e.getMessage());
+            return -1;
+        }
+    }
+
+    /**
+     * Reads the complete records of a journal file written against a snapshot.
+     *
+     * @param path the journal file
+     * @param snapshotId the current snapshot's ID, or 0 if there is none
+     * @return the records to replay and how much of the file is usable
+     */
+    static Replay read(Path path, long snapshotId) {
+        return read(path, header(snapshotId));
+    }
+
+    /**
+     * Reads the complete records of a version 1 journal written against a JSON
+     * snapshot.
+     *
+     * @param path the journal file
+     * @param snapshot the JSON snapshot's bytes, or null if there is none
+     * @return the records to replay and how much of the file is usable
+     */
+    static Replay readLegacy(Path path, byte[] snapshot) {
+        return read(path, legacyHeader(snapshot));
+    }
+
+    private static Replay read(Path path, byte[] expectedHeader) {
+        List<Entry> entries = new ArrayList<>();
+        if (!Files.exists(path)) {
+            return new Replay(entries, 0, 0);
+        }
+
+        ByteBuffer data;
+        try {
+            data = ByteBuffer.wrap(Files.readAllBytes(path));
+        } catch (IOException e) {
+            System.err.println("[LeaderboardJournal] Failed to read journal: " + e.getMessage());
+            return new Replay(entries, 0, 0);
+        }
+        int headerSize = expectedHeader.length;
+        if (data.remaining() < headerSize || !ByteBuffer.wrap(expectedHeader).equals(data.slice(0, headerSize))) {
+            // Already folded into the snapshot, or from an unknown version
+            return new Replay(entries, 0, 0);
+        }
+
+        data.position(headerSize);
+        while (data.remaining() >= 4) {
+            int start = data.position();
+            int length = data.getInt();
+            if (length <= 0 || length > MAX_RECORD_SIZE || data.remaining() < length + 4) {
+                data.position(start);
+                break;
+            }
+            byte[] body = new byte[length];
+            data.get(body);
+            CRC32 crc = new CRC32();
+            crc.update(body);
+            Entry entry = (int) crc.getValue() == data.getInt() ? decode(body) : null;
+            if (entry == null) {
+                data.position(start);
+                break;
+            }
+            entries.add(entry);
+        }
+        return new Replay(entries, data.position(), data.limit() - data.position());
+    }
+
+    private static Entry decode(byte[] body) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(body))) {
+            byte op = in.readByte();
+            String minigame = in.readBoolean() ? in.readUTF() : null;
+            if (op == SUBMIT && minigame != null) {
+                return new Entry(op, minigame, in.readUTF(), in.readFloat(), in.readLong());
+            } else if (op == CLEAR) {
+                return new Entry(op, minigame, null, 0f, 0L);
+            }
+            return null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Builds the header for a journal extending a snapshot.
+     */
+    private static byte[] header(long snapshotId) {
+        return ByteBuffer.allocate(HEADER_SIZE)
+            .putInt(MAGIC)
+            .putShort((short) VERSION)
+            .putLong(snapshotId)
+            .array();
+    }
+
+    /**
+     * Builds the version 1 header for a journal extending a JSON snapshot.
+     */
+    private static byte[] legacyHeader(byte[] snapshot) {
+        CRC32 crc = new CRC32();
+        if (snapshot != null) {
+            crc.update(snapshot);
+        }
+        return ByteBuffer.allocate(LEGACY_HEADER_SIZE)
+            .putInt(MAGIC)
+            .putShort((short) LEGACY_VERSION)
+            .putLong(snapshot != null ? snapshot.length : 0)
+            .putInt((int) crc.getValue())
+            .array();
+    }
+
+    /**
+     * Opens the journal for appending. Anything past {@code validLength} (a torn
+     * record) is cut off; if nothing is valid the file is started afresh for the
+     * snapshot.
+     *
+     * @param validLength usable length found by {@link #read(Path, long)}
+     * @param snapshotId the current snapshot's ID, or 0 if there is none
+     * @throws IOException if the file can't be opened or written
+     */
+    void open(long validLength, long snapshotId) throws IOException {
+        if (validLength < HEADER_SIZE) {
+            reset(snapshotId);
+            return;
+        }
+        channel = FileChannel.open(path, StandardOpenOption.WRITE);
+        channel.truncate(validLength);
+        channel.position(validLength);
+    }
+
+    /**
+     * Appends records and flushes them to disk.
+     *
+     * @param records encoded records from {@link #encode(Entry)}
+     * @throws IOException if the records could not be written
+     */
+    void append(List<byte[]> records) throws IOException {
+        if (channel == null) {
+            throw new IOException("Journal is not open");
+        }
+        for (byte[] record : records) {
+            ByteBuffer buffer = ByteBuffer.wrap(record);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+        channel.force(false);
+    }
+
+    /**
+     * Gets the journal's length.
+     *
+     * @return the length in bytes
+     * @throws IOException if the file can't be queried
+     */
+    long size() throws IOException {
+        return channel != null ? channel.size() : 0;
+    }
+
+    /**
+     * Replaces the journal with an empty one extending a new snapshot.
+     *
+     * @param snapshotId the snapshot's ID, or 0 if there is none
+     * @throws IOException if the file can't be written
+     */
+    void reset(long snapshotId) throws IOException {
+        close();
+        AtomicFiles.write(path, header(snapshotId));
+        channel = FileChannel.open(path, StandardOpenOption.WRITE);
+        channel.position(HEADER_SIZE);
+    }
+
+    /**
+     * Closes the file if it is open.
+     */
+    void close() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            System.err.println("[LeaderboardJournal] Failed to close journal: " + e.getMessage());
+        }
+        channel = null;
+    }
+}
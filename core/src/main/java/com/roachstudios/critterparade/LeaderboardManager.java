@@ -1,111 +1,259 @@
 package com.roachstudios.critterparade;
 
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
 import com.badlogic.gdx.utils.Json;
 import com.badlogic.gdx.utils.JsonWriter;
 import com.badlogic.gdx.utils.ObjectMap;
 
 import java.io.File;
-import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
- * Manages persistent leaderboard data stored in ~/.critterparade/leaderboard.json.
+ * Manages persistent leaderboard data stored in ~/.critterparade.
  * 
  * <p>Supports different score types per minigame:
  * <ul>
  *   <li>Lower-is-better (e.g., race times)</li>
  *   <li>Higher-is-better (e.g., survival time, catch count)</li>
  * </ul>
+ *
+ * <p>Every score is kept. Each minigame's history is a {@link ScoreHistory}, so
+ * top lists, pages of ranks and personal bests stay cheap however many scores
+ * build up, and the leaderboard screen pages through all of them with
+ * {@link #getScorePage(String, int, int)}.</p>
+ *
+ * <p>Scores are kept in a binary snapshot, leaderboard-&lt;id&gt;.bin (see
+ * {@link LeaderboardFile}), which is memory-mapped rather than parsed: loading
+ * reads its directory and nothing else, and top lists are read straight from the
+ * mapping. Changes since the snapshot was written are appended to
+ * leaderboard.journal (see {@link LeaderboardJournal}), whose header names the
+ * snapshot, and replayed over it on load. Appends are small and written behind by
+ * a background thread, batching changes made in the same moment into one flush,
+ * so the render thread never waits on disk and a new score costs the same however
+ * large the leaderboard is. Once the journal grows past
+ * {@link #COMPACT_THRESHOLD_BYTES} the writer folds it into a new snapshot.
+ * {@link #dispose()} flushes anything still queued.</p>
+ *
+ * <p>Each snapshot gets a new file name, because a file that is mapped can't be
+ * replaced on every platform; files no longer named by the journal are deleted
+ * once that succeeds. leaderboard.json, the format older versions kept scores
+ * in, is imported (with an old-format journal) only when no binary data exists
+ * yet. {@link #exportJson()} writes the same format to leaderboard-export.json,
+ * so an export is never taken for the scores themselves. Exports from several
+ * cabinets can be combined with {@link #mergeExports(List, Path, int)}.</p>
  */
 public class LeaderboardManager {
     
     private static final String APP_FOLDER = ".critterparade";
     private static final String LEADERBOARD_FILE = "leaderboard.json";
+    private static final String EXPORT_FILE = "leaderboard-export.json";
+    private static final String JOURNAL_FILE = "leaderboard.journal";
+    private static final String SNAPSHOT_PREFIX = "leaderboard-";
+    private static final String SNAPSHOT_SUFFIX = ".bin";
     
-    /** Maximum number of scores to keep per minigame. */
-    private static final int MAX_SCORES_PER_GAME = 10;
+    /** Number of best scores that count as high scores on submission. */
+    public static final int TOP_SCORES = 10;
     
-    /** Map of minigame name to list of scores. */
-    private ObjectMap<String, Array<MiniGameScore>> leaderboards;
+    /** Delay before writing, so changes made in the same moment share one write. */
+    private static final long WRITE_DELAY_MILLIS = 250;
     
-    /** Map of minigame name to whether lower score is better. */
-    private ObjectMap<String, Boolean> lowerIsBetter;
+    /** Journal size at which it is folded into a new snapshot. */
+    private static final long COMPACT_THRESHOLD_BYTES = 64 * 1024;
+    
+    /** How long {@link #dispose()} waits for the last write to finish. */
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 2;
+    
+    private final ScheduledExecutorService writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "leaderboard-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    
+    /** Encoded journal records not yet written, oldest first. */
+    private final ConcurrentLinkedQueue<byte[]> pending = new ConcurrentLinkedQueue<>();
+    
+    /** Whether a write of {@link #pending} is scheduled. */
+    private final AtomicBoolean writeScheduled = new AtomicBoolean();
+    
+    /** Journal file; only used on the writer thread. */
+    private final LeaderboardJournal journal = new LeaderboardJournal(getJournalFile().toPath());
+    
+    /** False if existing data couldn't be read, so nothing is written over it this session. */
+    private boolean persistent = true;
+    
+    /** ID of the snapshot the journal extends, or 0 if none; writer thread only after loading. */
+    private long snapshotId;
+    
+    /** Whether the data on disk is still leaderboard.json with an old-format journal. */
+    private boolean legacy;
+    
+    /** Map of minigame name to its score history. */
+    private ObjectMap<String, ScoreHistory> leaderboards;
+    
+    /** Scratch list for top-score queries. */
+    private final IntArray topIndices = new IntArray();
+    
+    /** Map of minigame name to whether lower score is better; never changed after class load. */
+    private static final ObjectMap<String, Boolean> LOWER_IS_BETTER = new ObjectMap<>();
+    
+    static {
+        // Configure score direction for each minigame
+        LOWER_IS_BETTER.put("Simple Racer", true);      // Faster time is better
+        LOWER_IS_BETTER.put("Dodgeball", false);        // Longer survival is better
+        LOWER_IS_BETTER.put("Catching Stars", false);   // More stars is better
+    }
+    
+    /**
+     * Summary of a {@link #mergeExports(List, Path, int)}.
+     *
+     * @param inputs number of files merged
+     * @param minigames number of minigames written
+     * @param read scores read from the inputs
+     * @param duplicates scores skipped because an equal one was already kept
+     * @param written scores written
+     */
+    public record MergeResult(int inputs, int minigames, long read, long duplicates, long written) {
+    }
     
     /**
      * Creates the leaderboard manager and loads existing data if present.
      */
     public LeaderboardManager() {
         leaderboards = new ObjectMap<>();
-        lowerIsBetter = new ObjectMap<>();
-        
-        // Configure score direction for each minigame
-        lowerIsBetter.put("Simple Racer", true);      // Faster time is better
-        lowerIsBetter.put("Dodgeball", false);        // Longer survival is better
-        lowerIsBetter.put("Catching Stars", false);   // More stars is better
-        
         load();
     }
     
     /**
-     * Submits a new score for a minigame.
-     * The score will be added and sorted, keeping only the top entries.
+     * Submits a new score for a minigame. Every score is kept in the minigame's history.
      *
      * @param minigameName the name of the minigame
      * @param playerName the name of the player
      * @param scoreValue the score value
-     * @return true if the score made it onto the leaderboard
+     * @return true if the score made it into the top {@link #TOP_SCORES}
      */
     public boolean submitScore(String minigameName, String playerName, float scoreValue) {
-        Array<MiniGameScore> scores = leaderboards.get(minigameName);
-        if (scores == null) {
-            scores = new Array<>();
-            leaderboards.put(minigameName, scores);
-        }
+        long timestamp = System.currentTimeMillis();
+        int index = addScore(leaderboards, minigameName, playerName, scoreValue, timestamp);
         
-        MiniGameScore newScore = new MiniGameScore(playerName, scoreValue);
-        scores.add(newScore);
+        // Journal the submission; it is written in the background
+        append(new LeaderboardJournal.Entry(LeaderboardJournal.SUBMIT, minigameName, playerName, scoreValue,
+            timestamp));
         
-        // Sort based on whether lower or higher is better
-        Boolean lower = lowerIsBetter.get(minigameName);
-        boolean isLowerBetter = lower != null ? lower : false;
-        sortScores(scores, isLowerBetter);
-        
-        // Trim to max size
-        while (scores.size > MAX_SCORES_PER_GAME) {
-            scores.removeIndex(scores.size - 1);
+        return leaderboards.get(minigameName).rankOf(index) <= TOP_SCORES;
+    }
+    
+    /**
+     * Adds a score to a set of leaderboards.
+     *
+     * @return the score's index in its history
+     */
+    private int addScore(ObjectMap<String, ScoreHistory> boards, String minigameName,
+                         String playerName, float scoreValue, long timestamp) {
+        ScoreHistory history = boards.get(minigameName);
+        if (history == null) {
+            history = new ScoreHistory(isLowerBetter(minigameName));
+            boards.put(minigameName, history);
+        }
+        return history.add(playerName, scoreValue, timestamp);
+    }
+    
+    /**
+     * Applies a journaled change to a set of leaderboards.
+     */
+    private void apply(ObjectMap<String, ScoreHistory> boards, LeaderboardJournal.Entry entry) {
+        if (entry.op() == LeaderboardJournal.SUBMIT) {
+            addScore(boards, entry.minigame(), entry.playerName(), entry.scoreValue(), entry.timestamp());
+        } else if (entry.minigame() == null) {
+            boards.clear();
+        } else {
+            boards.remove(entry.minigame());
         }
-        
-        // Save after each submission
-        save();
-        
-        // Check if the new score is still in the list
-        return scores.contains(newScore, false);
     }
     
     /**
-     * Gets the leaderboard for a specific minigame.
+     * Gets the best scores for a minigame.
      *
      * @param minigameName the name of the minigame
+     * @param count how many scores to return at most
      * @return list of scores, sorted best to worst
      */
-    public List<MiniGameScore> getScores(String minigameName) {
-        Array<MiniGameScore> scores = leaderboards.get(minigameName);
-        if (scores == null) {
+    public List<MiniGameScore> getTopScores(String minigameName, int count) {
+        return getScorePage(minigameName, 0, count);
+    }
+    
+    /**
+     * Gets a run of scores for a minigame by rank, e.g. one page of a scrolling
+     * list, without listing the ranks before it.
+     *
+     * @param minigameName the name of the minigame
+     * @param fromRank 0-based rank of the first score
+     * @param count how many scores to return at most
+     * @return list of scores, sorted best to worst
+     */
+    public List<MiniGameScore> getScorePage(String minigameName, int fromRank, int count) {
+        ScoreHistory history = leaderboards.get(minigameName);
+        if (history == null) {
             return Collections.emptyList();
         }
-        // Convert to Java List for compatibility
-        List<MiniGameScore> result = new ArrayList<>();
-        for (MiniGameScore score : scores) {
-            result.add(score);
+        history.page(fromRank, count, topIndices);
+        List<MiniGameScore> result = new ArrayList<>(topIndices.size);
+        for (int i = 0; i < topIndices.size; i++) {
+            result.add(history.toScore(topIndices.get(i)));
         }
         return result;
     }
     
+    /**
+     * Gets the number of scores recorded for a minigame.
+     *
+     * @param minigameName the name of the minigame
+     * @return the score count
+     */
+    public int getScoreCount(String minigameName) {
+        ScoreHistory history = leaderboards.get(minigameName);
+        return history != null ? history.size() : 0;
+    }
+    
+    /**
+     * Gets the rank a score would have among all scores for a minigame. Earlier
+     * equal scores rank ahead.
+     *
+     * @param minigameName the name of the minigame
+     * @param scoreValue the score value
+     * @return 1-based rank
+     */
+    public int getRank(String minigameName, float scoreValue) {
+        ScoreHistory history = leaderboards.get(minigameName);
+        return history != null ? history.rankOfValue(scoreValue) : 1;
+    }
+    
+    /**
+     * Gets a player's best score for a minigame.
+     *
+     * @param minigameName the name of the minigame
+     * @param playerName the player's name
+     * @return the best score, or null if the player has none
+     */
+    public MiniGameScore getPersonalBest(String minigameName, String playerName) {
+        ScoreHistory history = leaderboards.get(minigameName);
+        int index = history != null ? history.personalBest(playerName) : -1;
+        return index >= 0 ? history.toScore(index) : null;
+    }
+    
     /**
      * Gets all minigame names that have leaderboard entries.
      *
@@ -126,7 +274,11 @@ public class LeaderboardManager {
      * @return true if lower is better (like race times)
      */
     public boolean isLowerBetter(String minigameName) {
-        Boolean lower = lowerIsBetter.get(minigameName);
+        return isLowerBetterFor(minigameName);
+    }
+    
+    private static boolean isLowerBetterFor(String minigameName) {
+        Boolean lower = LOWER_IS_BETTER.get(minigameName);
         return lower != null ? lower : false;
     }
     
@@ -154,7 +306,7 @@ public class LeaderboardManager {
      */
     public void clearAll() {
         leaderboards.clear();
-        save();
+        append(new LeaderboardJournal.Entry(LeaderboardJournal.CLEAR, null, null, 0f, 0L));
     }
     
     /**
@@ -164,18 +316,7 @@ public class LeaderboardManager {
      */
     public void clearMinigame(String minigameName) {
         leaderboards.remove(minigameName);
-        save();
-    }
-    
-    /**
-     * Sorts scores by value, best first.
-     */
-    private void sortScores(Array<MiniGameScore> scores, boolean lowerIsBetter) {
-        if (lowerIsBetter) {
-            scores.sort((a, b) -> Float.compare(a.getScoreValue(), b.getScoreValue()));
-        } else {
-            scores.sort((a, b) -> Float.compare(b.getScoreValue(), a.getScoreValue()));
-        }
+        append(new LeaderboardJournal.Entry(LeaderboardJournal.CLEAR, minigameName, null, 0f, 0L));
     }
     
     /**
@@ -188,90 +329,367 @@ public class LeaderboardManager {
     }
     
     /**
-     * Loads leaderboard data from the JSON file.
-     * If the file is malformed, it will be deleted and a fresh start begins.
+     * Maps the snapshot named by the journal and replays the journal over it, then
+     * opens the journal for appending on the writer thread. Without a readable
+     * journal the newest snapshot is used; only if there is none is
+     * leaderboard.json imported and converted in the background. A malformed JSON
+     * file is deleted and a fresh start begins; an incomplete last journal record
+     * is dropped.
      */
-    @SuppressWarnings("unchecked")
     private void load() {
-        File leaderboardFile = getLeaderboardFile();
-        
-        if (!leaderboardFile.exists()) {
-            return;
+        long journalSnapshotId = LeaderboardJournal.readSnapshotId(getJournalFile().toPath());
+        if (journalSnapshotId >= 0) {
+            snapshotId = journalSnapshotId;
+        } else {
+            snapshotId = findNewestSnapshot();
+            legacy = snapshotId == 0 && getLeaderboardFile().exists();
         }
         
-        try (FileReader reader = new FileReader(leaderboardFile)) {
-            Json json = createJson();
-            
-            // Read as ObjectMap and manually convert entries
-            ObjectMap<String, Array<Object>> rawData = json.fromJson(ObjectMap.class, reader);
-            
-            if (rawData != null) {
-                for (ObjectMap.Entry<String, Array<Object>> entry : rawData.entries()) {
-                    Array<MiniGameScore> scores = new Array<>();
-                    
-                    for (Object obj : entry.value) {
-                        if (obj instanceof MiniGameScore) {
-                            scores.add((MiniGameScore) obj);
-                        } else if (obj instanceof ObjectMap) {
-                            // Manually convert ObjectMap to MiniGameScore
-                            ObjectMap<String, Object> map = (ObjectMap<String, Object>) obj;
-                            MiniGameScore score = new MiniGameScore();
-                            
-                            Object name = map.get("playerName");
-                            if (name != null) score.setPlayerName(name.toString());
-                            
-                            Object value = map.get("scoreValue");
-                            if (value instanceof Number) score.setScoreValue(((Number) value).floatValue());
-                            
-                            Object time = map.get("timestamp");
-                            if (time instanceof Number) score.setTimestamp(((Number) time).longValue());
-                            
-                            scores.add(score);
-                        }
-                    }
-                    
-                    leaderboards.put(entry.key, scores);
-                }
+        LeaderboardJournal.Replay replay;
+        try {
+            replay = readFromDisk(leaderboards);
+        } catch (IOException | RuntimeException e) {
+            if (!legacy || e instanceof IOException) {
+                System.err.println("[LeaderboardManager] Failed to load leaderboard: " + e.getMessage());
+                leaderboards.clear();
+                persistent = false;
+                return;
             }
-        } catch (IOException e) {
-            System.err.println("[LeaderboardManager] Failed to load leaderboard: " + e.getMessage());
-        } catch (Exception e) {
-            // Malformed file - delete it and start fresh
+            // Malformed JSON - delete it and start fresh
             System.err.println("[LeaderboardManager] Malformed leaderboard file, deleting: " + e.getMessage());
-            if (leaderboardFile.delete()) {
+            leaderboards.clear();
+            legacy = false;
+            replay = new LeaderboardJournal.Replay(Collections.emptyList(), 0, 0);
+            if (getLeaderboardFile().delete()) {
                 System.out.println("[LeaderboardManager] Deleted malformed leaderboard file");
             }
         }
+        if (replay.droppedBytes() > 0) {
+            System.err.println("[LeaderboardManager] Dropped incomplete journal record ("
+                + replay.droppedBytes() + " bytes)");
+        }
+        
+        long validLength = replay.validLength();
+        writer.execute(() -> {
+            try {
+                if (legacy) {
+                    compact();
+                    System.out.println("[LeaderboardManager] Converted leaderboard.json to binary format");
+                } else {
+                    journal.open(validLength, snapshotId);
+                    deleteOldSnapshots();
+                }
+            } catch (IOException | RuntimeException e) {
+                System.err.println("[LeaderboardManager] Failed to open leaderboard journal: " + e.getMessage());
+            }
+        });
+    }
+    
+    /**
+     * Reads the current snapshot and replays the journal over it.
+     *
+     * @param boards filled with the leaderboards
+     * @return the journal's usable records
+     * @throws IOException if the snapshot can't be read
+     * @throws RuntimeException if leaderboard.json is malformed
+     */
+    private LeaderboardJournal.Replay readFromDisk(ObjectMap<String, ScoreHistory> boards) throws IOException {
+        Path journalPath = getJournalFile().toPath();
+        LeaderboardJournal.Replay replay;
+        if (legacy) {
+            byte[] json = Files.readAllBytes(getLeaderboardFile().toPath());
+            parseJson(json, boards);
+            replay = LeaderboardJournal.readLegacy(journalPath, json);
+        } else {
+            if (snapshotId != 0) {
+                LeaderboardFile snapshot = LeaderboardFile.open(getSnapshotFile(snapshotId));
+                for (ObjectMap.Entry<String, StoredScores> entry : snapshot.getSections().entries()) {
+                    boards.put(entry.key, new ScoreHistory(entry.value));
+                }
+            }
+            replay = LeaderboardJournal.read(journalPath, snapshotId);
+        }
+        for (LeaderboardJournal.Entry entry : replay.entries()) {
+            apply(boards, entry);
+        }
+        return replay;
     }
     
     /**
-     * Saves leaderboard data to the JSON file using libGDX types.
+     * Parses leaderboard JSON into a set of leaderboards. Scores are listed in the
+     * order they were submitted.
      */
-    private void save() {
-        File leaderboardFile = getLeaderboardFile();
+    @SuppressWarnings("unchecked")
+    private void parseJson(byte[] data, ObjectMap<String, ScoreHistory> boards) {
+        Json json = createJson();
         
-        // Ensure parent directory exists
-        File parentDir = leaderboardFile.getParentFile();
-        if (!parentDir.exists() && !parentDir.mkdirs()) {
-            System.err.println("[LeaderboardManager] Failed to create leaderboard directory");
+        // Read as ObjectMap and manually convert entries
+        ObjectMap<String, Array<Object>> rawData =
+            json.fromJson(ObjectMap.class, new String(data, StandardCharsets.UTF_8));
+        
+        if (rawData != null) {
+            for (ObjectMap.Entry<String, Array<Object>> entry : rawData.entries()) {
+                ScoreHistory history = new ScoreHistory(isLowerBetter(entry.key));
+                
+                for (Object obj : entry.value) {
+                    if (obj instanceof MiniGameScore) {
+                        MiniGameScore score = (MiniGameScore) obj;
+                        history.add(score.getPlayerName(), score.getScoreValue(), score.getTimestamp());
+                    } else if (obj instanceof ObjectMap) {
+                        // Manually convert ObjectMap to MiniGameScore
+                        ObjectMap<String, Object> map = (ObjectMap<String, Object>) obj;
+                        MiniGameScore score = new MiniGameScore();
+                        
+                        Object name = map.get("playerName");
+                        if (name != null) score.setPlayerName(name.toString());
+                        
+                        Object value = map.get("scoreValue");
+                        if (value instanceof Number) score.setScoreValue(((Number) value).floatValue());
+                        
+                        Object time = map.get("timestamp");
+                        if (time instanceof Number) score.setTimestamp(((Number) time).longValue());
+                        
+                        history.add(score.getPlayerName(), score.getScoreValue(), score.getTimestamp());
+                    }
+                }
+                
+                boards.put(entry.key, history);
+            }
+        }
+    }
+    
+    /**
+     * Queues a change to be journaled in the background.
+     */
+    private void append(LeaderboardJournal.Entry entry) {
+        if (!persistent) {
+            return;
+        }
+        pending.add(LeaderboardJournal.encode(entry));
+        if (writeScheduled.compareAndSet(false, true)) {
+            writer.schedule(this::writePending, WRITE_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+    
+    /**
+     * Appends queued records to the journal in one flush, compacting it once it is
+     * large. Runs on the writer thread.
+     */
+    private void writePending() {
+        writeScheduled.set(false);
+        List<byte[]> batch = new ArrayList<>();
+        for (byte[] record = pending.poll(); record != null; record = pending.poll()) {
+            batch.add(record);
+        }
+        if (batch.isEmpty()) {
             return;
         }
         
-        try (FileWriter writer = new FileWriter(leaderboardFile)) {
-            Json json = createJson();
-            writer.write(json.prettyPrint(leaderboards));
+        try {
+            journal.append(batch);
+            if (journal.size() > COMPACT_THRESHOLD_BYTES) {
+                compact();
+            }
         } catch (IOException e) {
             System.err.println("[LeaderboardManager] Failed to save leaderboard: " + e.getMessage());
         }
     }
     
     /**
-     * Gets the leaderboard file path.
+     * Folds the journal into a new snapshot and starts an empty journal. Rebuilds
+     * the leaderboards from disk so the render thread's copy is never read here.
+     * Runs on the writer thread.
+     */
+    private void compact() throws IOException {
+        ObjectMap<String, ScoreHistory> boards = new ObjectMap<>();
+        try {
+            readFromDisk(boards);
+        } catch (RuntimeException e) {
+            throw new IOException("Snapshot became unreadable: " + e.getMessage(), e);
+        }
+        
+        long id;
+        do {
+            id = ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE;
+        } while (id == 0 || id == snapshotId);
+        LeaderboardFile.write(getSnapshotFile(id), id, boards);
+        // A crash here leaves the journal naming the previous snapshot, which is untouched
+        journal.reset(id);
+        snapshotId = id;
+        legacy = false;
+        deleteOldSnapshots();
+    }
+    
+    /**
+     * Deletes snapshot files the journal no longer names. A file that is still
+     * mapped may refuse to go; it is retried after the next compaction or launch.
+     * Runs on the writer thread.
+     */
+    private void deleteOldSnapshots() {
+        Path current = getSnapshotFile(snapshotId);
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(current.getParent(),
+                SNAPSHOT_PREFIX + "*" + SNAPSHOT_SUFFIX)) {
+            for (Path file : files) {
+                if (!file.equals(current)) {
+                    try {
+                        Files.deleteIfExists(file);
+                    } catch (IOException e) {
+                        // Still in use; try again later
+                    }
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("[LeaderboardManager] Failed to list old leaderboard snapshots: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Finds the most recently written snapshot, for when the journal is missing.
+     *
+     * @return its ID, or 0 if there is none
+     */
+    private long findNewestSnapshot() {
+        Path appDir = getJournalFile().toPath().getParent();
+        if (!Files.isDirectory(appDir)) {
+            return 0;
+        }
+        long newestId = 0;
+        long newestTime = Long.MIN_VALUE;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(appDir, SNAPSHOT_PREFIX + "*" + SNAPSHOT_SUFFIX)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                String hex = name.substring(SNAPSHOT_PREFIX.length(), name.length() - SNAPSHOT_SUFFIX.length());
+                try {
+                    long id = Long.parseUnsignedLong(hex, 16);
+                    long time = Files.getLastModifiedTime(file).toMillis();
+                    if (id != 0 && time > newestTime) {
+                        newestId = id;
+                        newestTime = time;
+                    }
+                } catch (NumberFormatException | IOException e) {
+                    // Not one of ours
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("[LeaderboardManager] Failed to list leaderboard snapshots: " + e.getMessage());
+        }
+        return newestId;
+    }
+    
+    /**
+     * Writes every score to ~/.critterparade/leaderboard-export.json in the
+     * background, in the format older versions used. The file can be read back by
+     * renaming it to leaderboard.json and deleting the binary data, or used by
+     * other tools.
+     */
+    public void exportJson() {
+        if (!persistent) {
+            System.err.println("[LeaderboardManager] Leaderboard was not loaded, nothing to export");
+            return;
+        }
+        writer.execute(() -> {
+            // Journal anything queued so the export includes it
+            writePending();
+            try {
+                ObjectMap<String, ScoreHistory> boards = new ObjectMap<>();
+                readFromDisk(boards);
+                String json = createJson().prettyPrint(toJsonData(boards));
+                AtomicFiles.write(getExportFile().toPath(), json.getBytes(StandardCharsets.UTF_8));
+                System.out.println("[LeaderboardManager] Exported leaderboard to " + getExportFile());
+            } catch (IOException | RuntimeException e) {
+                System.err.println("[LeaderboardManager] Failed to export leaderboard: " + e.getMessage());
+            }
+        });
+    }
+    
+    /**
+     * Merges leaderboard exports from several cabinets into one, in the
+     * same format. Scores with the same player, value and timestamp, such as those
+     * in an export merged twice, are kept once. Inputs are streamed rather than
+     * loaded (see {@link LeaderboardMerge}), so this doesn't need a running game
+     * or much memory however large they are.
+     *
+     * <p>The result can be installed on a cabinet like any export, by saving it
+     * as its leaderboard.json and deleting its binary data.</p>
+     *
+     * @param inputs the exported files
+     * @param output the file to write; it is replaced only once the merge succeeds
+     * @param top how many of the best scores to keep per minigame, ranked best
+     *            first, or 0 to keep the full history in submission order
+     * @return what was merged
+     * @throws IOException if an input can't be read or is malformed, or the output can't be written
+     */
+    public static MergeResult mergeExports(List<Path> inputs, Path output, int top) throws IOException {
+        return LeaderboardMerge.merge(inputs, output, Math.max(0, top), LeaderboardManager::isLowerBetterFor);
+    }
+    
+    /**
+     * Lists each minigame's scores in submission order, for writing as JSON.
+     */
+    private ObjectMap<String, Array<MiniGameScore>> toJsonData(ObjectMap<String, ScoreHistory> boards) {
+        ObjectMap<String, Array<MiniGameScore>> data = new ObjectMap<>();
+        for (ObjectMap.Entry<String, ScoreHistory> entry : boards.entries()) {
+            Array<MiniGameScore> scores = new Array<>(entry.value.size());
+            for (int i = 0; i < entry.value.size(); i++) {
+                scores.add(entry.value.toScore(i));
+            }
+            data.put(entry.key, scores);
+        }
+        return data;
+    }
+    
+    /**
+     * Writes any queued changes and stops the writer thread.
+     */
+    public void dispose() {
+        // Delayed writes would otherwise be dropped on shutdown; run the last one now
+        writer.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        writer.execute(this::writePending);
+        writer.execute(journal::close);
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                System.err.println("[LeaderboardManager] Timed out waiting for leaderboard to save");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    /**
+     * Gets the journal file path.
+     */
+    private File getJournalFile() {
+        String homeDir = System.getProperty("user.home");
+        File appDir = new File(homeDir, APP_FOLDER);
+        return new File(appDir, JOURNAL_FILE);
+    }
+    
+    /**
+     * Gets the path of a binary snapshot.
+     */
+    private Path getSnapshotFile(long id) {
+        String homeDir = System.getProperty("user.home");
+        File appDir = new File(homeDir, APP_FOLDER);
+        return new File(appDir, String.format("%s%016x%s", SNAPSHOT_PREFIX, id, SNAPSHOT_SUFFIX)).toPath();
+    }
+    
+    /**
+     * Gets the path of the old-format leaderboard, imported when no binary data exists.
      */
     private File getLeaderboardFile() {
         String homeDir = System.getProperty("user.home");
         File appDir = new File(homeDir, APP_FOLDER);
         return new File(appDir, LEADERBOARD_FILE);
     }
+    
+    /**
+     * Gets the JSON export path.
+     */
+    private File getExportFile() {
+        String homeDir = System.getProperty("user.home");
+        File appDir = new File(homeDir, APP_FOLDER);
+        return new File(appDir, EXPORT_FILE);
+    }
 }
 
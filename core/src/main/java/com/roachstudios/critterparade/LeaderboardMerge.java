@@ -0,0 +1,298 @@
+package com.roachstudios.critterparade;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Merges leaderboard exports from several cabinets into one file in the
+ * same format, streaming so memory use doesn't grow with the inputs.
+ *
+ * <p>Each input is indexed once to find its minigames. Then, minigame by
+ * minigame, one cursor per input is merged through a priority queue (a k-way
+ * merge), and scores with the same player, value and timestamp are written
+ * once. Equal scores sort into the same run of scores the merge order can't
+ * tell apart (same timestamp, or same rank), so only the scores written in the
+ * current run are remembered to find duplicates.</p>
+ *
+ * <ul>
+ *   <li>Full history keeps the export order, oldest first. Each export already
+ *       lists its scores in submission order, so only the current score of each
+ *       input is held. Scores from the same millisecond keep their input's
+ *       order.</li>
+ *   <li>Top N ranks by score, per the minigame's direction. Each input is reduced
+ *       to its best N distinct scores with a bounded heap while it streams past,
+ *       and those short runs are merged until N distinct scores are written.</li>
+ * </ul>
+ */
+final class LeaderboardMerge {
+
+    /** Written with each score so libGDX reads it back as a {@link MiniGameScore}. */
+    private static final String SCORE_CLASS = MiniGameScore.class.getName();
+
+    /**
+     * One score as exported.
+     *
+     * @param playerName name of the player who scored
+     * @param scoreValue the score
+     * @param timestamp when it was achieved, epoch millis
+     */
+    record Score(String playerName, float scoreValue, long timestamp) {
+    }
+
+    /** Oldest first. */
+    private static final Comparator<Score> BY_TIME = Comparator.comparingLong(Score::timestamp);
+
+    /**
+     * Where a minigame's scores are in one input.
+     */
+    private record Source(Path path, LeaderboardExportReader.Section section) {
+    }
+
+    /**
+     * The next unmerged score of one input.
+     */
+    private static final class Cursor {
+        final int input;
+        final LeaderboardExportReader reader;
+        final Score[] run;
+        int runIndex;
+        Score current;
+        boolean warnedOrder;
+
+        /** Streams a whole section. */
+        Cursor(int input, LeaderboardExportReader reader) {
+            this.input = input;
+            this.reader = reader;
+            this.run = null;
+        }
+
+        /** Walks an already ranked run. */
+        Cursor(int input, Score[] run) {
+            this.input = input;
+            this.reader = null;
+            this.run = run;
+        }
+
+        boolean advance() throws IOException {
+            if (run != null) {
+                current = runIndex < run.length ? run[runIndex++] : null;
+            } else {
+                current = reader.next();
+            }
+            return current != null;
+        }
+    }
+
+    private final List<Path> inputs;
+    private final int top;
+    private final Predicate<String> lowerIsBetter;
+
+    /** Builds each line of output. */
+    private final StringBuilder line = new StringBuilder(128);
+
+    private long read;
+    private long duplicates;
+    private long written;
+    private int minigames;
+
+    private LeaderboardMerge(List<Path> inputs, int top, Predicate<String> lowerIsBetter) {
+        this.inputs = inputs;
+        this.top = top;
+        this.lowerIsBetter = lowerIsBetter;
+    }
+
+    /**
+     * Merges exported leaderboards into a new file.
+     *
+     * @param inputs the exported files
+     * @param output the file to write; it is replaced only once the merge succeeds
+     * @param top how many scores to keep per minigame, or 0 for the full history
+     * @param lowerIsBetter whether lower scores are better, by minigame name
+     * @return what was merged
+     * @throws IOException if an input can't be read or is malformed, or the output can't be written
+     */
+    static LeaderboardManager.MergeResult merge(List<Path> inputs, Path output, int top,
+                                                Predicate<String> lowerIsBetter) throws IOException {
+        LeaderboardMerge merge = new LeaderboardMerge(inputs, top, lowerIsBetter);
+        Map<String, List<Source>> sources = merge.indexInputs();
+        AtomicFiles.write(output, stream -> {
+            Writer out = new BufferedWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8));
+            out.write('{');
+            for (Map.Entry<String, List<Source>> entry : sources.entrySet()) {
+                merge.mergeMinigame(entry.getKey(), entry.getValue(), out);
+            }
+            out.write(merge.minigames > 0 ? "\n}\n" : "}\n");
+            out.flush();
+        });
+        return new LeaderboardManager.MergeResult(inputs.size(), merge.minigames, merge.read,
+            merge.duplicates, merge.written);
+    }
+
+    /**
+     * Finds every input's minigames, keeping the order they are first seen in.
+     */
+    private Map<String, List<Source>> indexInputs() throws IOException {
+        Map<String, List<Source>> sources = new LinkedHashMap<>();
+        for (Path path : inputs) {
+            for (LeaderboardExportReader.Section section : LeaderboardExportReader.index(path)) {
+                sources.computeIfAbsent(section.minigame(), name -> new ArrayList<>())
+                    .add(new Source(path, section));
+            }
+        }
+        return sources;
+    }
+
+    private void mergeMinigame(String minigame, List<Source> sources, Writer out) throws IOException {
+        Comparator<Score> order = top > 0 ? byRank(lowerIsBetter.test(minigame)) : BY_TIME;
+        List<Cursor> cursors = new ArrayList<>(sources.size());
+        try {
+            for (int i = 0; i < sources.size(); i++) {
+                Source source = sources.get(i);
+                if (top > 0) {
+                    cursors.add(new Cursor(i, best(source, order)));
+                } else {
+                    cursors.add(new Cursor(i, LeaderboardExportReader.openSection(source.path(), source.section())));
+                }
+            }
+
+            // Ties go to the earlier input, so the merge is deterministic
+            PriorityQueue<Cursor> queue = new PriorityQueue<>(Math.max(1, cursors.size()),
+                Comparator.<Cursor, Score>comparing(cursor -> cursor.current, order)
+                    .thenComparingInt(cursor -> cursor.input));
+            for (Cursor cursor : cursors) {
+                if (advance(cursor, order, minigame, sources)) {
+                    queue.add(cursor);
+                }
+            }
+
+            // Scores written that the order ranks equal to the last one
+            Set<Score> run = new HashSet<>();
+            Score runStart = null;
+            long count = 0;
+            while (!queue.isEmpty() && (top <= 0 || count < top)) {
+                Cursor cursor = queue.poll();
+                Score score = cursor.current;
+                if (runStart == null || order.compare(score, runStart) != 0) {
+                    run.clear();
+                    runStart = score;
+                }
+                if (!run.add(score)) {
+                    duplicates++;
+                } else {
+                    writeScore(minigame, count == 0, score, out);
+                    count++;
+                    written++;
+                }
+                if (advance(cursor, order, minigame, sources)) {
+                    queue.add(cursor);
+                }
+            }
+            if (count > 0) {
+                out.write("\n]");
+                minigames++;
+            }
+        } finally {
+            for (Cursor cursor : cursors) {
+                if (cursor.reader != null) {
+                    cursor.reader.close();
+                }
+            }
+        }
+    }
+
+    /**
+     * Moves a cursor to its next score, warning once if a streamed input isn't in
+     * the merge order (the output then keeps that input's order around it, and a
+     * duplicate there may be written twice).
+     *
+     * @return true if the cursor has a score
+     */
+    private boolean advance(Cursor cursor, Comparator<Score> order, String minigame,
+                            List<Source> sources) throws IOException {
+        Score previous = cursor.current;
+        if (!cursor.advance()) {
+            return false;
+        }
+        if (cursor.reader != null) {
+            read++;
+            if (previous != null && !cursor.warnedOrder && order.compare(cursor.current, previous) < 0) {
+                cursor.warnedOrder = true;
+                System.err.println("[LeaderboardMerge] " + sources.get(cursor.input).path().getFileName()
+                    + " lists " + minigame + " scores out of submission order");
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Streams one input's section, keeping its best {@link #top} distinct scores.
+     *
+     * @return them, best first
+     */
+    private Score[] best(Source source, Comparator<Score> order) throws IOException {
+        // Worst kept score on top, so it's the one replaced
+        PriorityQueue<Score> kept = new PriorityQueue<>(Math.min(top, 1024) + 1, order.reversed());
+        Set<Score> keptScores = new HashSet<>();
+        try (LeaderboardExportReader reader = LeaderboardExportReader.openSection(source.path(), source.section())) {
+            for (Score score = reader.next(); score != null; score = reader.next()) {
+                read++;
+                if (keptScores.contains(score)) {
+                    duplicates++;
+                    continue;
+                }
+                if (kept.size() < top) {
+                    kept.add(score);
+                    keptScores.add(score);
+                } else if (order.compare(score, kept.peek()) < 0) {
+                    keptScores.remove(kept.poll());
+                    kept.add(score);
+                    keptScores.add(score);
+                }
+            }
+        }
+        Score[] run = kept.toArray(new Score[0]);
+        Arrays.sort(run, order);
+        return run;
+    }
+
+    /**
+     * Best first; equal values earliest first, as the leaderboard ranks them.
+     */
+    private static Comparator<Score> byRank(boolean lowerIsBetter) {
+        Comparator<Score> byValue = (a, b) -> lowerIsBetter
+            ? Float.compare(a.scoreValue(), b.scoreValue())
+            : Float.compare(b.scoreValue(), a.scoreValue());
+        return byValue.thenComparingLong(Score::timestamp).thenComparing(Score::playerName);
+    }
+
+    private void writeScore(String minigame, boolean first, Score score, Writer out) throws IOException {
+        line.setLength(0);
+        if (first) {
+            line.append(minigames > 0 ? ",\n" : "\n");
+            JsonLogEncoder.appendString(line, minigame);
+            line.append(": [\n\t{\"class\":");
+        } else {
+            line.append(",\n\t{\"class\":");
+        }
+        JsonLogEncoder.appendString(line, SCORE_CLASS);
+        line.append(",\"playerName\":");
+        JsonLogEncoder.appendString(line, score.playerName());
+        line.append(",\"scoreValue\":").append(score.scoreValue());
+        line.append(",\"timestamp\":").append(score.timestamp()).append('}');
+        out.append(line);
+    }
+}
@@ -0,0 +1,42 @@
+package com.roachstudios.critterparade;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Turns queued {@link LogEvent}s into the bytes of a session log segment. Used
+ * only by the session log writer thread, one segment at a time.
+ */
+interface LogEncoder {
+
+    /**
+     * Gets the file name suffix of segments in this encoding.
+     *
+     * @return the suffix, starting with a dot
+     */
+    String extension();
+
+    /**
+     * Starts a segment, writing any header it needs.
+     *
+     * @param out the new, empty segment file
+     * @throws IOException if writing fails
+     */
+    void begin(OutputStream out) throws IOException;
+
+    /**
+     * Encodes an event into the current segment. It may stay buffered until
+     * {@link #flush()}.
+     *
+     * @param event the event
+     * @throws IOException if writing fails
+     */
+    void write(LogEvent event) throws IOException;
+
+    /**
+     * Writes out everything buffered.
+     *
+     * @throws IOException if writing fails
+     */
+    void flush() throws IOException;
+}
@@ -0,0 +1,43 @@
+package com.roachstudios.critterparade;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * One slot of the {@link SessionLogger} queue. Slots are created once and
+ * refilled for every event, so logging allocates nothing: the caller stores its
+ * strings and arrays by reference along with primitive fields, and the writer
+ * thread turns them into text or bytes later.
+ *
+ * <p>Which slots are used, and under what keys they are written, is given by
+ * {@link LogEventType#fields()}.</p>
+ */
+final class LogEvent {
+
+    LogEventType type;
+
+    /** When the event happened, from {@link System#nanoTime()}. */
+    long nanos;
+
+    final String[] texts = new String[LogEventType.MAX_TEXTS];
+    final int[] values = new int[LogEventType.MAX_NUMBERS];
+    String[] names;
+    int[] numbers;
+    Map<String, Object> data;
+
+    /** Queue position while the slot is being filled; see {@link EventRing#claim(int)}. */
+    long position;
+
+    /**
+     * Drops references held by the slot so it doesn't keep the caller's data
+     * alive until it is reused.
+     */
+    void clear() {
+        type = null;
+        Arrays.fill(texts, null);
+        Arrays.fill(values, 0);
+        names = null;
+        numbers = null;
+        data = null;
+    }
+}
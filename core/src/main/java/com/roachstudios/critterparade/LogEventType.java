@@ -0,0 +1,130 @@
+package com.roachstudios.critterparade;
+
+/**
+ * The kinds of event a {@link SessionLogger} records, and the fields each one
+ * carries.
+ *
+ * <p>A type lists its fields in the order they are written. Each field names
+ * the {@link LogEvent} slot its value is kept in and the key it is written
+ * under, so both encoders, and anything reading the logs, share one
+ * description of every event.</p>
+ */
+enum LogEventType {
+    SESSION_START("session_start", true, Field.DATA),
+    SESSION_END("session_end", true),
+    MODE_SELECTED("mode_selected", true, Field.text("mode")),
+    PLAYERS_INITIALIZED("players_initialized", true, Field.number("count"), Field.names("players")),
+    MINIGAME_START("minigame_start", true, Field.text("name")),
+    MINIGAME_END("minigame_end", true,
+        Field.text("name"), Field.names("placements"), Field.numbers("crumbs_awarded")),
+    BOARD_START("board_start", true, Field.text("name")),
+    PLAYER_TURN("player_turn", false, Field.text("player"), Field.number("dice_roll")),
+    SCREEN_CHANGE("screen_change", false, Field.text("screen")),
+    MUSIC_CHANGE("music_change", false, Field.text("theme"), Field.text("action")),
+    INPUT("input", false, Field.number("player"), Field.number("buttons")),
+    EVENTS_DROPPED("events_dropped", true, Field.number("count")),
+    /** An event logged by name with a map of data; its name is kept in the first text slot. */
+    CUSTOM(null, false, Field.TYPE, Field.DATA);
+
+    /** Most text fields a type may have. */
+    static final int MAX_TEXTS = 2;
+
+    /** Most number fields a type may have. */
+    static final int MAX_NUMBERS = 2;
+
+    /**
+     * Where a field's value is kept in a {@link LogEvent}.
+     */
+    enum Kind {
+        /** The event's own name, in the first text slot. */
+        TYPE,
+        /** A string, in the next text slot. */
+        TEXT,
+        /** An int, in the next number slot. */
+        NUMBER,
+        /** A string array, in {@link LogEvent#names}. */
+        NAMES,
+        /** An int array, in {@link LogEvent#numbers}. */
+        NUMBERS,
+        /** A map whose entries are written as the event's data, in {@link LogEvent#data}. */
+        DATA
+    }
+
+    /**
+     * One field of an event.
+     *
+     * @param kind where the value is kept
+     * @param key the name it is written under, or null for {@link Kind#TYPE} and {@link Kind#DATA}
+     */
+    record Field(Kind kind, String key) {
+        static final Field TYPE = new Field(Kind.TYPE, null);
+        static final Field DATA = new Field(Kind.DATA, null);
+
+        static Field text(String key) {
+            return new Field(Kind.TEXT, key);
+        }
+
+        static Field number(String key) {
+            return new Field(Kind.NUMBER, key);
+        }
+
+        static Field names(String key) {
+            return new Field(Kind.NAMES, key);
+        }
+
+        static Field numbers(String key) {
+            return new Field(Kind.NUMBERS, key);
+        }
+    }
+
+    /** Cached {@link #values()}, which copies the array on every call. */
+    private static final LogEventType[] VALUES = values();
+
+    private final String id;
+    private final boolean important;
+    private final Field[] fields;
+
+    LogEventType(String id, boolean important, Field... fields) {
+        this.id = id;
+        this.important = important;
+        this.fields = fields;
+    }
+
+    /**
+     * Gets the name the event is written under.
+     *
+     * @return the name, or null for {@link #CUSTOM}, whose events carry their own
+     */
+    String id() {
+        return id;
+    }
+
+    /**
+     * Checks whether the event may use the part of the queue kept free for
+     * session and minigame milestones.
+     *
+     * @return true for milestones, false for routine events
+     */
+    boolean isImportant() {
+        return important;
+    }
+
+    /**
+     * Gets the event's fields in the order they are written. Callers must not
+     * modify the array.
+     *
+     * @return the fields
+     */
+    Field[] fields() {
+        return fields;
+    }
+
+    /**
+     * Gets every type without copying.
+     *
+     * @return the types in ordinal order; callers must not modify the array
+     */
+    static LogEventType[] all() {
+        return VALUES;
+    }
+}
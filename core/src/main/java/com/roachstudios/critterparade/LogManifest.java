@@ -0,0 +1,289 @@
+package com.roachstudios.critterparade;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonWriter;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Index of the session log segments in ~/.critterparade/logs, kept in
+ * manifest.json next to them so readers can find segments by session and time
+ * without listing the directory or opening every file.
+ *
+ * <p>Each {@link Segment} names one file: a plain NDJSON or binary segment
+ * while it is written, gzip-compressed once closed, or a whole-session JSON
+ * file from older versions. The manifest is rewritten atomically on every
+ * change; changes happen only when a segment is opened, closed, compressed or
+ * deleted, so this is rare.
+ * If the manifest is missing or unreadable it is rebuilt from the files
+ * present.</p>
+ *
+ * <p>Thread-safe: the session log writer and the compression thread both update
+ * it.</p>
+ */
+final class LogManifest {
+
+    /** Manifest file name within the logs directory. */
+    static final String FILE_NAME = "manifest.json";
+
+    /** Suffix of a JSON segment still being written, or left uncompressed by a crash. */
+    static final String SEGMENT_EXTENSION = ".ndjson";
+
+    /** Suffix of a binary segment still being written, or left uncompressed by a crash. */
+    static final String BINARY_SEGMENT_EXTENSION = ".events";
+
+    /** Suffix added to a segment once compressed. */
+    static final String COMPRESSED_EXTENSION = ".gz";
+
+    /** Suffix of whole-session logs written by older versions. */
+    private static final String LEGACY_EXTENSION = ".json";
+
+    /**
+     * Checks whether a file is a segment that hasn't been compressed yet.
+     *
+     * @param file the file name
+     * @return true for an uncompressed JSON or binary segment
+     */
+    static boolean isUncompressedSegment(String file) {
+        return file.endsWith(SEGMENT_EXTENSION) || file.endsWith(BINARY_SEGMENT_EXTENSION);
+    }
+
+    /**
+     * One log file.
+     */
+    public static class Segment {
+        /** File name within the logs directory. */
+        public String file;
+
+        /** Session the segment belongs to (its start time, as used in file names). */
+        public String session;
+
+        /** Position of the segment within its session, from 0. */
+        public int index;
+
+        /** Time of the segment's first event, epoch millis. */
+        public long start;
+
+        /** Time the segment was closed, epoch millis, or 0 while it is open. */
+        public long end;
+
+        /** File size in bytes; 0 while the segment is open. */
+        public long bytes;
+
+        /** True once the file is gzip-compressed. */
+        public boolean compressed;
+
+        /**
+         * Default constructor for JSON deserialization.
+         */
+        public Segment() {
+        }
+    }
+
+    private final File logsDir;
+    private final Json json;
+    private Array<Segment> segments;
+
+    /**
+     * Creates a manifest for a logs directory. Nothing is read until first use.
+     *
+     * @param logsDir the logs directory
+     */
+    LogManifest(File logsDir) {
+        this.logsDir = logsDir;
+        this.json = new Json();
+        json.setOutputType(JsonWriter.OutputType.json);
+    }
+
+    /**
+     * Records a newly opened segment.
+     *
+     * @param file the segment's file name
+     * @param session the session it belongs to
+     * @param index its position in the session
+     * @param start time of its first event, epoch millis
+     */
+    synchronized void opened(String file, String session, int index, long start) {
+        load();
+        Segment segment = new Segment();
+        segment.file = file;
+        segment.session = session;
+        segment.index = index;
+        segment.start = start;
+        segments.add(segment);
+        save();
+    }
+
+    /**
+     * Records that a segment is complete.
+     *
+     * @param file the segment's file name
+     * @param end time it was closed, epoch millis
+     * @param bytes its size
+     */
+    synchronized void closed(String file, long end, long bytes) {
+        Segment segment = find(file);
+        if (segment != null) {
+            segment.end = end;
+            segment.bytes = bytes;
+            save();
+        }
+    }
+
+    /**
+     * Records that a segment has been replaced by its compressed copy.
+     *
+     * @param file the segment's original file name
+     * @param compressedFile the compressed file's name
+     * @param bytes the compressed file's size
+     */
+    synchronized void compressed(String file, String compressedFile, long bytes) {
+        Segment segment = find(file);
+        if (segment != null) {
+            segment.file = compressedFile;
+            segment.bytes = bytes;
+            segment.compressed = true;
+            save();
+        }
+    }
+
+    /**
+     * Forgets segments whose files have been deleted.
+     *
+     * @param files the deleted files' names
+     */
+    synchronized void removed(List<String> files) {
+        load();
+        boolean changed = false;
+        for (int i = segments.size - 1; i >= 0; i--) {
+            if (files.contains(segments.get(i).file)) {
+                segments.removeIndex(i);
+                changed = true;
+            }
+        }
+        if (changed) {
+            save();
+        }
+    }
+
+    /**
+     * Lists the segments, oldest first.
+     *
+     * @return a copy of every segment
+     */
+    synchronized List<Segment> list() {
+        load();
+        List<Segment> copy = new ArrayList<>(segments.size);
+        for (Segment segment : segments) {
+            Segment clone = new Segment();
+            clone.file = segment.file;
+            clone.session = segment.session;
+            clone.index = segment.index;
+            clone.start = segment.start;
+            clone.end = segment.end;
+            clone.bytes = segment.bytes;
+            clone.compressed = segment.compressed;
+            copy.add(clone);
+        }
+        return copy;
+    }
+
+    private Segment find(String file) {
+        load();
+        for (Segment segment : segments) {
+            if (segment.file.equals(file)) {
+                return segment;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Reads the manifest on first use, or rebuilds it from the directory.
+     */
+    @SuppressWarnings("unchecked")
+    private void load() {
+        if (segments != null) {
+            return;
+        }
+        File manifestFile = new File(logsDir, FILE_NAME);
+        if (manifestFile.exists()) {
+            try {
+                String text = new String(Files.readAllBytes(manifestFile.toPath()), StandardCharsets.UTF_8);
+                segments = json.fromJson(Array.class, Segment.class, text);
+            } catch (IOException | RuntimeException e) {
+                System.err.println("[LogManifest] Unreadable log manifest, rebuilding: " + e.getMessage());
+                segments = null;
+            }
+        }
+        if (segments == null) {
+            segments = scan();
+            save();
+        }
+    }
+
+    /**
+     * Builds entries for the log files present, using their modification times.
+     */
+    private Array<Segment> scan() {
+        Array<Segment> found = new Array<>();
+        File[] files = logsDir.listFiles();
+        if (files == null) {
+            return found;
+        }
+        for (File file : files) {
+            String name = file.getName();
+            boolean compressed = name.endsWith(COMPRESSED_EXTENSION);
+            String unpacked = compressed ? name.substring(0, name.length() - COMPRESSED_EXTENSION.length()) : name;
+            String base;
+            if (unpacked.endsWith(SEGMENT_EXTENSION)) {
+                base = unpacked.substring(0, unpacked.length() - SEGMENT_EXTENSION.length());
+            } else if (unpacked.endsWith(BINARY_SEGMENT_EXTENSION)) {
+                base = unpacked.substring(0, unpacked.length() - BINARY_SEGMENT_EXTENSION.length());
+            } else if (compressed) {
+                continue;
+            } else if (name.endsWith(LEGACY_EXTENSION) && !name.equals(FILE_NAME)) {
+                base = name.substring(0, name.length() - LEGACY_EXTENSION.length());
+            } else {
+                continue;
+            }
+
+            Segment segment = new Segment();
+            segment.file = name;
+            segment.session = base;
+            int dash = base.lastIndexOf('-');
+            if (!name.endsWith(LEGACY_EXTENSION) && dash > 0) {
+                try {
+                    segment.index = Integer.parseInt(base.substring(dash + 1));
+                    segment.session = base.substring(0, dash);
+                } catch (NumberFormatException e) {
+                    // Not a numbered segment; keep the whole name as the session
+                }
+            }
+            segment.start = file.lastModified();
+            segment.end = file.lastModified();
+            segment.bytes = file.length();
+            segment.compressed = compressed;
+            found.add(segment);
+        }
+        found.sort((a, b) -> Long.compare(a.start, b.start));
+        return found;
+    }
+
+    private void save() {
+        try {
+            Path path = new File(logsDir, FILE_NAME).toPath();
+            String text = json.prettyPrint(json.toJson(segments, Array.class, Segment.class));
+            AtomicFiles.write(path, text.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            System.err.println("[LogManifest] Failed to save log manifest: " + e.getMessage());
+        }
+    }
+}
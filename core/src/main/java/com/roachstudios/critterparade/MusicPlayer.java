@@ -16,6 +16,10 @@ import java.util.Random;
  *   <li>BOARD - Game board music</li>
  *   <li>MINIGAME - Randomly selected minigame music (3 variants)</li>
  * </ul>
+ *
+ * <p>Each loaded track holds an open decoder and audio buffers, so at most a
+ * budget of tracks is kept loaded; the least recently played is unloaded to make
+ * room for another. The budget is a performance setting.</p>
  */
 public class MusicPlayer implements Disposable {
     
@@ -33,13 +37,33 @@ public class MusicPlayer implements Disposable {
     
     private static final float DEFAULT_VOLUME = 0.5f;
     
+    /** Track played for {@link Theme#INTRO}, and for {@link Theme#BOARD} until board music exists. */
+    private static final int INTRO_TRACK = 0;
+    
+    /** First of the {@link Theme#MINIGAME} tracks, which run to the end of {@link #TRACK_PATHS}. */
+    private static final int FIRST_MINIGAME_TRACK = 1;
+    
+    // Board music (Music/board.mp3) is left out until the file exists
+    private static final String[] TRACK_PATHS = {
+        "Music/intro.mp3",
+        "Music/MiniGame1FINAL.mp3",
+        "Music/MiniGame2FINAL.mp3",
+        "Music/MiniGame3FINAL.mp3"
+    };
+    
     // Reference to game instance for logging
     private final CritterParade game;
     
-    // Music tracks
-    private Music introMusic;
-    private Music boardMusic;
-    private Music[] minigameMusic;
+    // Music tracks, null while not loaded
+    private final Music[] tracks = new Music[TRACK_PATHS.length];
+    
+    /** Play order stamp of each track, for unloading the least recently played. */
+    private final long[] lastPlayed = new long[TRACK_PATHS.length];
+    private long playCount;
+    
+    /** Most tracks kept loaded at once. */
+    private int streamBudget;
+    private float volume = DEFAULT_VOLUME;
     
     // Currently playing track
     private Music currentTrack;
@@ -49,42 +73,71 @@ public class MusicPlayer implements Disposable {
     private final Random random = new Random();
     
     /**
-     * Creates a new MusicPlayer and loads all music tracks.
+     * Creates a new MusicPlayer and loads as many tracks as the budget allows.
      * 
      * @param game the game instance for logging
+     * @param streamBudget most tracks kept loaded at once; the rest are loaded when played
      */
-    public MusicPlayer(CritterParade game) {
+    public MusicPlayer(CritterParade game, int streamBudget) {
         this.game = game;
-        loadTracks();
+        this.streamBudget = Math.max(1, streamBudget);
+        for (int i = 0; i < Math.min(this.streamBudget, tracks.length); i++) {
+            loadTrack(i);
+        }
     }
     
     /**
-     * Loads all music tracks from assets.
+     * Loads a track unless it is loaded, first unloading the least recently played
+     * tracks beyond the budget.
+     * 
+     * @param index the track
+     * @return the track
      */
-    private void loadTracks() {
-        // Load intro/title music
-        introMusic = Gdx.audio.newMusic(Gdx.files.internal("Music/intro.mp3"));
-        introMusic.setLooping(true);
-        introMusic.setVolume(DEFAULT_VOLUME);
-        
-        // Load board music (commented out until file exists)
-        // boardMusic = Gdx.audio.newMusic(Gdx.files.internal("Music/board.mp3"));
-        // boardMusic.setLooping(true);
-        // boardMusic.setVolume(DEFAULT_VOLUME);
-        
-        // Load minigame music tracks (commented out until files exist)
-        minigameMusic = new Music[3];
-        minigameMusic[0] = Gdx.audio.newMusic(Gdx.files.internal("Music/MiniGame1FINAL.mp3"));
-        minigameMusic[0].setLooping(true);
-        minigameMusic[0].setVolume(DEFAULT_VOLUME);
-        
-        minigameMusic[1] = Gdx.audio.newMusic(Gdx.files.internal("Music/MiniGame2FINAL.mp3"));
-        minigameMusic[1].setLooping(true);
-        minigameMusic[1].setVolume(DEFAULT_VOLUME);
-        
-        minigameMusic[2] = Gdx.audio.newMusic(Gdx.files.internal("Music/MiniGame3FINAL.mp3"));
-        minigameMusic[2].setLooping(true);
-        minigameMusic[2].setVolume(DEFAULT_VOLUME);
+    private Music loadTrack(int index) {
+        if (tracks[index] != null) {
+            return tracks[index];
+        }
+        unloadTracks(streamBudget - 1);
+        Music music = Gdx.audio.newMusic(Gdx.files.internal(TRACK_PATHS[index]));
+        music.setLooping(true);
+        music.setVolume(volume);
+        tracks[index] = music;
+        return music;
+    }
+    
+    /**
+     * Unloads the least recently played tracks, never the current one, until at
+     * most {@code keep} are loaded.
+     */
+    private void unloadTracks(int keep) {
+        while (true) {
+            int loaded = 0;
+            int oldest = -1;
+            for (int i = 0; i < tracks.length; i++) {
+                if (tracks[i] == null) {
+                    continue;
+                }
+                loaded++;
+                if (tracks[i] != currentTrack && (oldest < 0 || lastPlayed[i] < lastPlayed[oldest])) {
+                    oldest = i;
+                }
+            }
+            if (loaded <= keep || oldest < 0) {
+                return;
+            }
+            tracks[oldest].dispose();
+            tracks[oldest] = null;
+        }
+    }
+    
+    /**
+     * Sets the most tracks kept loaded at once, unloading extra tracks now.
+     * 
+     * @param streamBudget the number of tracks, at least 1
+     */
+    public void setStreamBudget(int streamBudget) {
+        this.streamBudget = Math.max(1, streamBudget);
+        unloadTracks(this.streamBudget);
     }
     
     /**
@@ -111,7 +164,8 @@ public class MusicPlayer implements Disposable {
             return;
         }
         
-        Music newTrack = getTrackForTheme(theme);
+        int index = getTrackForTheme(theme);
+        Music newTrack = index >= 0 ? tracks[index] : null;
         
         // Don't restart if the same underlying track is already playing
         // (e.g., board falls back to intro music)
@@ -123,69 +177,35 @@ public class MusicPlayer implements Disposable {
         stop();
         
         currentTheme = theme;
-        currentTrack = newTrack;
+        currentTrack = index >= 0 ? loadTrack(index) : null;
         
         if (currentTrack != null) {
+            lastPlayed[index] = ++playCount;
             currentTrack.play();
             logChange(theme.name(), "play");
         }
     }
     
     /**
-     * Gets the appropriate Music track for the given theme.
+     * Gets the appropriate track for the given theme.
      * For MINIGAME theme, randomly selects one of the available tracks.
-     * For BOARD theme, falls back to intro music if board music isn't available.
+     * For BOARD theme, falls back to intro music until board music is available.
      * 
      * @param theme the theme to get a track for
-     * @return the Music track, or null if not available
+     * @return the track's index, which may not be loaded yet, or -1 if not available
      */
-    private Music getTrackForTheme(Theme theme) {
+    private int getTrackForTheme(Theme theme) {
         switch (theme) {
             case INTRO:
-                return introMusic;
             case BOARD:
-                // Fall back to intro music if board music isn't available yet
-                return boardMusic != null ? boardMusic : introMusic;
+                return INTRO_TRACK;
             case MINIGAME:
-                return getRandomMinigameTrack();
+                return FIRST_MINIGAME_TRACK + random.nextInt(TRACK_PATHS.length - FIRST_MINIGAME_TRACK);
             default:
-                return null;
+                return -1;
         }
     }
     
-    /**
-     * Randomly selects one of the available minigame music tracks.
-     * 
-     * @return a randomly selected minigame track, or null if none available
-     */
-    private Music getRandomMinigameTrack() {
-        // Count available (non-null) tracks
-        int availableCount = 0;
-        for (Music track : minigameMusic) {
-            if (track != null) {
-                availableCount++;
-            }
-        }
-        
-        if (availableCount == 0) {
-            return null;
-        }
-        
-        // Pick a random available track
-        int targetIndex = random.nextInt(availableCount);
-        int currentIndex = 0;
-        for (Music track : minigameMusic) {
-            if (track != null) {
-                if (currentIndex == targetIndex) {
-                    return track;
-                }
-                currentIndex++;
-            }
-        }
-        
-        return null;
-    }
-    
     /**
      * Stops the currently playing music.
      */
@@ -230,17 +250,11 @@ public class MusicPlayer implements Disposable {
      * @param volume the volume level (0.0 to 1.0)
      */
     public void setVolume(float volume) {
-        float clampedVolume = Math.max(0f, Math.min(1f, volume));
+        this.volume = Math.max(0f, Math.min(1f, volume));
         
-        if (introMusic != null) {
-            introMusic.setVolume(clampedVolume);
-        }
-        if (boardMusic != null) {
-            boardMusic.setVolume(clampedVolume);
-        }
-        for (Music track : minigameMusic) {
+        for (Music track : tracks) {
             if (track != null) {
-                track.setVolume(clampedVolume);
+                track.setVolume(this.volume);
             }
         }
     }
@@ -292,18 +306,10 @@ public class MusicPlayer implements Disposable {
     public void dispose() {
         stop();
         
-        if (introMusic != null) {
-            introMusic.dispose();
-            introMusic = null;
-        }
-        if (boardMusic != null) {
-            boardMusic.dispose();
-            boardMusic = null;
-        }
-        for (int i = 0; i < minigameMusic.length; i++) {
-            if (minigameMusic[i] != null) {
-                minigameMusic[i].dispose();
-                minigameMusic[i] = null;
+        for (int i = 0; i < tracks.length; i++) {
+            if (tracks[i] != null) {
+                tracks[i].dispose();
+                tracks[i] = null;
             }
         }
     }
@@ -1,10 +1,10 @@
 package com.roachstudios.critterparade;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.math.Rectangle;
+import com.roachstudios.critterparade.gameboards.BoardBot;
 
 /**
  * Represents a player profile and input source. Tracks basic board resources
@@ -13,13 +13,16 @@ import com.badlogic.gdx.math.Rectangle;
  * <p>Key mappings are intentionally hardcoded per ID to support same-keyboard
  * local play without a configuration UI. The layout spaces players across
  * the keyboard (WASD, TFGH, IJKL, bracket cluster, arrows, and numpad).</p>
+ *
+ * <p>Input methods read this frame's snapshot from {@link PlayerInput}, which
+ * is taken once per frame from key events or, for a CPU player, the bot.</p>
  */
 public class Player {
     
     /**
      * Input action types for player controls.
      */
-    private enum InputAction {
+    public enum InputAction {
         UP, DOWN, LEFT, RIGHT, ACTION
     }
     
@@ -52,8 +55,14 @@ public class Player {
     private final Sprite playerSprite;
     private final Rectangle bounds;
     
-    /** Key codes for this player's controls, indexed by InputAction ordinal. */
-    private final int[] keyBindings;
+    /** This frame's input bits, as laid out for a seat in a {@link PlayerInput} snapshot. */
+    private int inputState;
+    
+    /** Snapshot owner {@link #inputState} came from, or null before the first frame. */
+    private PlayerInput inputSource;
+    
+    /** CPU controller supplying this player's input, or null for a human. */
+    private BoardBot bot;
     
     // Board game state
     private int boardTileIndex = 0;
@@ -77,9 +86,6 @@ public class Player {
         this.playerID = id;
         this.name = name;
         this.numMGWins = 0;
-        
-        // Copy key bindings for this player
-        this.keyBindings = KEY_MAPPINGS[id - 1].clone();
 
         this.playerTex = tex;
         this.playerSprite = new Sprite(playerTex);
@@ -163,6 +169,19 @@ public class Player {
         return this.numMGWins;
     }
     
+    /**
+     * Sets all score-related fields at once, e.g. when resuming a saved game.
+     *
+     * @param fruit fruit count
+     * @param crumbs crumb total
+     * @param wins mini-game wins
+     */
+    public void setScores(int fruit, int crumbs, int wins) {
+        this.fruit = fruit;
+        this.crumbs = crumbs;
+        this.numMGWins = wins;
+    }
+    
     /**
      * Resets all score-related fields (fruit, crumbs, wins) to zero.
      * Useful when starting a new game session.
@@ -276,6 +295,56 @@ public class Player {
     // Input Handling
     // =========================================================================
     
+    /**
+     * Checks if this player is CPU-controlled.
+     *
+     * @return true if a bot supplies this player's input
+     */
+    public boolean isBot() {
+        return bot != null;
+    }
+    
+    /**
+     * Gets the CPU controller for this player.
+     *
+     * @return the bot, or null for a human player
+     */
+    public BoardBot getBot() {
+        return bot;
+    }
+    
+    /**
+     * Hands this player's input to a CPU controller, or back to the keyboard.
+     *
+     * @param bot the bot to use, or null for keyboard input
+     */
+    public void setBot(BoardBot bot) {
+        this.bot = bot;
+    }
+    
+    /**
+     * Gets the key a seat uses for an input.
+     *
+     * @param id player ID (1-6)
+     * @param action the input action
+     * @return the key code
+     */
+    static int getKeyBinding(int id, InputAction action) {
+        return KEY_MAPPINGS[id - 1][action.ordinal()];
+    }
+    
+    /**
+     * Sets this frame's input. Called by {@link PlayerInput} at the start of
+     * each frame.
+     *
+     * @param state the seat's bits from the snapshot
+     * @param source the snapshot's owner, told when a press is read
+     */
+    void setInputState(int state, PlayerInput source) {
+        this.inputState = state;
+        this.inputSource = source;
+    }
+    
     /**
      * Checks if a specific key for this player is currently pressed.
      *
@@ -283,7 +352,7 @@ public class Player {
      * @return true if the mapped key is held
      */
     private boolean isKeyPressed(InputAction action) {
-        return Gdx.input.isKeyPressed(keyBindings[action.ordinal()]);
+        return (inputState & (1 << action.ordinal())) != 0;
     }
     
     /**
@@ -293,7 +362,13 @@ public class Player {
      * @return true if the mapped key was just pressed
      */
     private boolean isKeyJustPressed(InputAction action) {
-        return Gdx.input.isKeyJustPressed(keyBindings[action.ordinal()]);
+        if ((inputState & (1 << (PlayerInput.ACTIONS + action.ordinal()))) == 0) {
+            return false;
+        }
+        if (inputSource != null) {
+            inputSource.pressRead(playerID, action);
+        }
+        return true;
     }
     
     /**
@@ -0,0 +1,578 @@
+package com.roachstudios.critterparade;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.InputProcessor;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.roachstudios.critterparade.gameboards.BoardBot;
+
+/**
+ * Per-frame input state of every player seat, fed by key and gamepad events.
+ *
+ * <p>Installed by {@link CritterParade} as the input processor in front of the
+ * active screen's own, it watches key events for player bindings as they arrive
+ * and passes every event on unchanged. {@link ControllerInput} reports gamepad
+ * buttons the same way; a seat's input is held while either its key or its
+ * gamepad holds it. At the start of each frame
+ * {@link #beginFrame(Player[], SessionLogger)} folds them into one snapshot: a
+ * {@code long} holding, for each seat, which inputs are held and which were
+ * pressed since the previous frame. {@link Player}'s input methods and the
+ * minigame helpers are then single bit tests, and the snapshot is a plain value
+ * that can be recorded or sent as is.</p>
+ *
+ * <p>Snapshot layout: seat {@code i} (from 0) owns {@link #STRIDE} bits starting
+ * at bit {@code i * STRIDE}. Within them bit {@code a} is set while
+ * {@link Player.InputAction} {@code a} is held, and bit {@code ACTIONS + a} on a
+ * frame where it was pressed. A press and release within one frame counts as
+ * held for that frame, so quick taps are never lost. CPU seats are filled in from
+ * their {@link BoardBot}.</p>
+ *
+ * <p>The snapshot says whether an input was pressed, not how often or when. For
+ * that, each seat also has a queue of the presses and releases received since
+ * the previous frame, in order, each stamped with the time the backend received
+ * it. Games that reward tapping speed drain it with {@link #pollEvent(int)}, so
+ * several taps during one slow frame all count. Events are packed into a
+ * {@code long} like the snapshot; see {@link #eventAction(long)},
+ * {@link #isPress(long)} and {@link #eventTime(long)}. Undrained events are
+ * dropped when the next frame starts.</p>
+ *
+ * <p>Each event's wait from being received to the start of the frame that
+ * reports it is recorded per source in {@link Latency}, to check that neither
+ * keyboard nor gamepads take more than a frame to act. In debug mode a
+ * {@link LatencyProbe} is also told when a screen first reads each press, to
+ * time it to the frame's buffer swap.</p>
+ *
+ * <p>Render thread only.</p>
+ */
+public final class PlayerInput implements InputProcessor {
+
+    /** Number of player seats. */
+    public static final int MAX_PLAYERS = 6;
+
+    /** Every input, by ordinal; {@code values()} would copy the array on each call. */
+    private static final Player.InputAction[] INPUT_ACTIONS = Player.InputAction.values();
+
+    /** Number of inputs per seat. */
+    public static final int ACTIONS = INPUT_ACTIONS.length;
+
+    /** Bits per seat in a snapshot: held bits, then pressed bits. */
+    public static final int STRIDE = ACTIONS * 2;
+
+    private static final long SEAT_MASK = (1L << STRIDE) - 1;
+    private static final long HELD_MASK = (1L << ACTIONS) - 1;
+
+    /** Most events queued per seat per frame; later ones are dropped. */
+    private static final int EVENT_CAPACITY = 32;
+
+    /** Low bits of an event holding the action ordinal. */
+    private static final int EVENT_ACTION_MASK = 0x7;
+
+    /** Event bit set for a press. */
+    private static final int EVENT_PRESS = 0x8;
+
+    /** Event bit set for a gamepad event. */
+    private static final int EVENT_CONTROLLER = 0x10;
+
+    /** Event bits below the time. */
+    private static final int EVENT_TIME_SHIFT = 5;
+
+    /** Event times count from here, so they stay positive. */
+    private static final long EVENT_EPOCH = TimeUtils.nanoTime();
+
+    static {
+        if (MAX_PLAYERS * STRIDE > Long.SIZE || ACTIONS > EVENT_ACTION_MASK + 1) {
+            throw new IllegalStateException("Player inputs don't fit in a snapshot");
+        }
+    }
+
+    /** Snapshot bit held by each key code, plus 1; 0 for keys no player uses. */
+    private final byte[] bitForKey = new byte[Input.Keys.MAX_KEYCODE + 1];
+
+    /** Processor events are passed to, usually the screen's. */
+    private InputProcessor target;
+
+    /** Held bits of keys currently down. */
+    private long keysDown;
+
+    /** Held bits of gamepad buttons currently down. */
+    private long padsDown;
+
+    /** Pressed bits of keys and buttons pressed since the last snapshot. */
+    private long pressed;
+
+    /** The current frame's snapshot. */
+    private long frame;
+
+    /** Events received since the last snapshot, per seat. */
+    private long[][] incoming = new long[MAX_PLAYERS][EVENT_CAPACITY];
+    private final int[] incomingCounts = new int[MAX_PLAYERS];
+
+    /** The current frame's events, per seat, and how many have been drained. */
+    private long[][] events = new long[MAX_PLAYERS][EVENT_CAPACITY];
+    private final int[] eventCounts = new int[MAX_PLAYERS];
+    private final int[] eventsRead = new int[MAX_PLAYERS];
+
+    private final Latency keyboardLatency = new Latency();
+    private final Latency controllerLatency = new Latency();
+
+    /** When the current frame started, or 0 before the first. */
+    private long frameStart;
+
+    /** Times presses to the swap of the frame that reads them, or null. */
+    private LatencyProbe probe;
+
+    /** Pressed bits of the current frame not to report to {@link #probe}: already reported, or a bot's. */
+    private long probed;
+
+    /**
+     * How long input events wait for a frame to report them: from when the
+     * backend received the event to the start of the next frame.
+     */
+    public static final class Latency {
+        private long count;
+        private long totalNanos;
+        private long maxNanos;
+        private long overFrame;
+
+        private void record(long nanos, long frameNanos) {
+            count++;
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+            if (frameNanos > 0 && nanos > frameNanos) {
+                overFrame++;
+            }
+        }
+
+        /**
+         * Gets the number of events measured.
+         *
+         * @return the event count
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * Gets the mean wait.
+         *
+         * @return the mean in milliseconds, or 0 if nothing was measured
+         */
+        public float getMeanMillis() {
+            return count > 0 ? totalNanos / (count * 1_000_000f) : 0f;
+        }
+
+        /**
+         * Gets the longest wait.
+         *
+         * @return the maximum in milliseconds
+         */
+        public float getMaxMillis() {
+            return maxNanos / 1_000_000f;
+        }
+
+        /**
+         * Gets the number of events that waited longer than the frame before
+         * the one reporting them took.
+         *
+         * @return the count
+         */
+        public long getOverFrameCount() {
+            return overFrame;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d events, mean %.2f ms, max %.2f ms, %d over a frame",
+                count, getMeanMillis(), getMaxMillis(), overFrame);
+        }
+    }
+
+    /**
+     * Creates the input layer with every seat's key bindings.
+     */
+    PlayerInput() {
+        for (int seat = 0; seat < MAX_PLAYERS; seat++) {
+            for (Player.InputAction action : INPUT_ACTIONS) {
+                int key = Player.getKeyBinding(seat + 1, action);
+                bitForKey[key] = (byte) (seat * STRIDE + action.ordinal() + 1);
+            }
+        }
+    }
+
+    /**
+     * Sets the processor events are passed to.
+     *
+     * @param target the processor, or null
+     */
+    void setTarget(InputProcessor target) {
+        this.target = target;
+    }
+
+    /**
+     * Takes the snapshot for a new frame. Called once per frame before the screen
+     * renders.
+     *
+     * @param players the active players, or null if none
+     * @param logger receives each seat's held inputs when they change, or null
+     */
+    void beginFrame(Player[] players, SessionLogger logger) {
+        long previous = frame;
+        // A press also counts as held, in case the key was released within the frame
+        long next = keysDown | padsDown | pressed | (pressed >>> ACTIONS);
+        pressed = 0;
+
+        int seats = players != null ? Math.min(players.length, MAX_PLAYERS) : 0;
+        next &= seats == MAX_PLAYERS ? -1L : (1L << (seats * STRIDE)) - 1;
+        for (int seat = 0; seat < seats; seat++) {
+            BoardBot bot = players[seat].getBot();
+            if (bot != null) {
+                next = (next & ~(SEAT_MASK << (seat * STRIDE))) | ((long) botState(bot) << (seat * STRIDE));
+            }
+        }
+        frame = next;
+        probed = 0;
+        for (int seat = 0; seat < seats; seat++) {
+            players[seat].setInputState((int) ((next >>> (seat * STRIDE)) & SEAT_MASK), this);
+            if (players[seat].getBot() != null) {
+                probed |= SEAT_MASK << (seat * STRIDE);
+            }
+        }
+
+        long[][] received = incoming;
+        incoming = events;
+        events = received;
+        long now = TimeUtils.nanoTime();
+        long frameNanos = frameStart != 0 ? now - frameStart : 0;
+        frameStart = now;
+        for (int seat = 0; seat < MAX_PLAYERS; seat++) {
+            for (int i = 0; i < incomingCounts[seat]; i++) {
+                long event = events[seat][i];
+                Latency latency = isController(event) ? controllerLatency : keyboardLatency;
+                latency.record(now - eventTime(event), frameNanos);
+            }
+            eventCounts[seat] = seat < seats ? incomingCounts[seat] : 0;
+            eventsRead[seat] = 0;
+            incomingCounts[seat] = 0;
+            if (seat < seats && players[seat].getBot() != null) {
+                // A bot's presses happen as the frame starts
+                eventCounts[seat] = 0;
+                int state = (int) ((next >>> (seat * STRIDE)) & SEAT_MASK);
+                for (int action = 0; action < ACTIONS; action++) {
+                    if ((state & (1 << (ACTIONS + action))) != 0) {
+                        events[seat][eventCounts[seat]++] = encodeEvent(now, action, true, false);
+                    }
+                }
+            }
+        }
+
+        if (logger != null && previous != next) {
+            for (int seat = 0; seat < seats; seat++) {
+                int held = (int) ((next >>> (seat * STRIDE)) & HELD_MASK);
+                if (held != (int) ((previous >>> (seat * STRIDE)) & HELD_MASK)) {
+                    logger.logInput(seat, held);
+                }
+            }
+        }
+    }
+
+    private static int botState(BoardBot bot) {
+        int state = 0;
+        for (Player.InputAction action : INPUT_ACTIONS) {
+            if (bot.isPressing(action)) {
+                state |= 1 << action.ordinal();
+            }
+            if (bot.justPressed(action)) {
+                state |= 1 << (ACTIONS + action.ordinal());
+            }
+        }
+        return state;
+    }
+
+    /**
+     * Forgets keys held down, e.g. when the window loses focus and their release
+     * would never arrive.
+     */
+    void releaseAll() {
+        keysDown = 0;
+        pressed = 0;
+        for (int seat = 0; seat < MAX_PLAYERS; seat++) {
+            incomingCounts[seat] = 0;
+        }
+    }
+
+    /**
+     * Records a gamepad button press for a seat. Called by {@link ControllerInput}.
+     *
+     * @param playerId player ID (1-6)
+     * @param action the input
+     * @param time when it was received, on the {@link TimeUtils#nanoTime()} clock
+     */
+    void padPressed(int playerId, Player.InputAction action, long time) {
+        int bit = (playerId - 1) * STRIDE + action.ordinal();
+        padsDown |= 1L << bit;
+        pressed |= 1L << (bit + ACTIONS);
+        queueEvent(bit, true, time, true);
+    }
+
+    /**
+     * Records a gamepad button release for a seat. Called by {@link ControllerInput}.
+     *
+     * @param playerId player ID (1-6)
+     * @param action the input
+     * @param time when it was received, on the {@link TimeUtils#nanoTime()} clock
+     */
+    void padReleased(int playerId, Player.InputAction action, long time) {
+        int bit = (playerId - 1) * STRIDE + action.ordinal();
+        padsDown &= ~(1L << bit);
+        queueEvent(bit, false, time, true);
+    }
+
+    /**
+     * Releases everything a seat's gamepad holds, e.g. when it is unplugged.
+     *
+     * @param playerId player ID (1-6)
+     */
+    void releasePad(int playerId) {
+        padsDown &= ~(SEAT_MASK << ((playerId - 1) * STRIDE));
+    }
+
+    /**
+     * Sets the probe told when a screen reads a press.
+     *
+     * @param probe the probe, or null to stop measuring
+     */
+    void setLatencyProbe(LatencyProbe probe) {
+        this.probe = probe;
+    }
+
+    /**
+     * Tells the {@link LatencyProbe} that a screen read a press this frame, the
+     * first time it is read.
+     *
+     * @param playerId player ID (1-6)
+     * @param action the input pressed
+     */
+    void pressRead(int playerId, Player.InputAction action) {
+        long bit = 1L << ((playerId - 1) * STRIDE + ACTIONS + action.ordinal());
+        if (probe == null || (probed & bit) != 0) {
+            return;
+        }
+        probed |= bit;
+        int seat = playerId - 1;
+        for (int i = 0; i < eventCounts[seat]; i++) {
+            long event = events[seat][i];
+            if (isPress(event) && (event & EVENT_ACTION_MASK) == action.ordinal()) {
+                probe.consumed(eventTime(event));
+                return;
+            }
+        }
+    }
+
+    /**
+     * Gets how long keyboard events wait to be reported.
+     *
+     * @return the keyboard measurements so far
+     */
+    public Latency getKeyboardLatency() {
+        return keyboardLatency;
+    }
+
+    /**
+     * Gets how long gamepad events wait to be reported.
+     *
+     * @return the gamepad measurements so far
+     */
+    public Latency getControllerLatency() {
+        return controllerLatency;
+    }
+
+    /**
+     * Gets the current frame's snapshot.
+     *
+     * @return every seat's input bits
+     */
+    public long getSnapshot() {
+        return frame;
+    }
+
+    /**
+     * Gets one seat's input bits for the current frame.
+     *
+     * @param playerId player ID (1-6)
+     * @return the seat's {@link #STRIDE} bits, or 0 for a seat not in play
+     */
+    public int getState(int playerId) {
+        if (playerId < 1 || playerId > MAX_PLAYERS) {
+            return 0;
+        }
+        return (int) ((frame >>> ((playerId - 1) * STRIDE)) & SEAT_MASK);
+    }
+
+    /**
+     * Checks if a player is holding an input this frame.
+     *
+     * @param playerId player ID (1-6)
+     * @param action the input
+     * @return true if held, false otherwise or for a seat not in play
+     */
+    public boolean isHeld(int playerId, Player.InputAction action) {
+        return (getState(playerId) & (1 << action.ordinal())) != 0;
+    }
+
+    /**
+     * Checks if a player pressed an input this frame.
+     *
+     * @param playerId player ID (1-6)
+     * @param action the input
+     * @return true on the frame it is pressed, false otherwise or for a seat not in play
+     */
+    public boolean isPressed(int playerId, Player.InputAction action) {
+        if ((getState(playerId) & (1 << (ACTIONS + action.ordinal()))) == 0) {
+            return false;
+        }
+        pressRead(playerId, action);
+        return true;
+    }
+
+    /**
+     * Takes a player's oldest undrained event of this frame.
+     *
+     * @param playerId player ID (1-6)
+     * @return the event, or -1 if there are no more (or the seat is not in play)
+     */
+    public long pollEvent(int playerId) {
+        if (playerId < 1 || playerId > MAX_PLAYERS) {
+            return -1;
+        }
+        int seat = playerId - 1;
+        if (eventsRead[seat] >= eventCounts[seat]) {
+            return -1;
+        }
+        long event = events[seat][eventsRead[seat]++];
+        if (isPress(event)) {
+            pressRead(playerId, eventAction(event));
+        }
+        return event;
+    }
+
+    /**
+     * Gets an event's input.
+     *
+     * @param event an event from {@link #pollEvent(int)}
+     * @return the input pressed or released
+     */
+    public static Player.InputAction eventAction(long event) {
+        return INPUT_ACTIONS[(int) (event & EVENT_ACTION_MASK)];
+    }
+
+    /**
+     * Checks whether an event is a press or a release.
+     *
+     * @param event an event from {@link #pollEvent(int)}
+     * @return true for a press
+     */
+    public static boolean isPress(long event) {
+        return (event & EVENT_PRESS) != 0;
+    }
+
+    /**
+     * Checks whether an event came from a gamepad or the keyboard.
+     *
+     * @param event an event from {@link #pollEvent(int)}
+     * @return true for a gamepad
+     */
+    public static boolean isController(long event) {
+        return (event & EVENT_CONTROLLER) != 0;
+    }
+
+    /**
+     * Gets when an event was received.
+     *
+     * @param event an event from {@link #pollEvent(int)}
+     * @return the time, on the {@link TimeUtils#nanoTime()} clock
+     */
+    public static long eventTime(long event) {
+        return EVENT_EPOCH + (event >>> EVENT_TIME_SHIFT);
+    }
+
+    private static long encodeEvent(long time, int action, boolean press, boolean controller) {
+        return (Math.max(0, time - EVENT_EPOCH) << EVENT_TIME_SHIFT)
+            | (press ? EVENT_PRESS : 0) | (controller ? EVENT_CONTROLLER : 0) | action;
+    }
+
+    private void queueEvent(int bit, boolean press, long time, boolean controller) {
+        int seat = bit / STRIDE;
+        if (incomingCounts[seat] < EVENT_CAPACITY) {
+            incoming[seat][incomingCounts[seat]++] = encodeEvent(time, bit % STRIDE, press, controller);
+        }
+    }
+
+    /**
+     * Gets the time the backend received the key event being reported, or now
+     * if it doesn't stamp events.
+     */
+    private static long keyEventTime() {
+        long time = Gdx.input.getCurrentEventTime();
+        return time != 0 ? time : TimeUtils.nanoTime();
+    }
+
+    @Override
+    public boolean keyDown(int keycode) {
+        int bit = bitFor(keycode);
+        if (bit >= 0) {
+            keysDown |= 1L << bit;
+            pressed |= 1L << (bit + ACTIONS);
+            queueEvent(bit, true, keyEventTime(), false);
+        }
+        return target != null && target.keyDown(keycode);
+    }
+
+    @Override
+    public boolean keyUp(int keycode) {
+        int bit = bitFor(keycode);
+        if (bit >= 0) {
+            keysDown &= ~(1L << bit);
+            queueEvent(bit, false, keyEventTime(), false);
+        }
+        return target != null && target.keyUp(keycode);
+    }
+
+    private int bitFor(int keycode) {
+        return keycode >= 0 && keycode < bitForKey.length ? bitForKey[keycode] - 1 : -1;
+    }
+
+    @Override
+    public boolean keyTyped(char character) {
+        return target != null && target.keyTyped(character);
+    }
+
+    @Override
+    public boolean touchDown(int screenX, int screenY, int pointer, int button) {
+        return target != null && target.touchDown(screenX, screenY, pointer, button);
+    }
+
+    @Override
+    public boolean touchUp(int screenX, int screenY, int pointer, int button) {
+        return target != null && target.touchUp(screenX, screenY, pointer, button);
+    }
+
+    @Override
+    public boolean touchCancelled(int screenX, int screenY, int pointer, int button) {
+        return target != null && target.touchCancelled(screenX, screenY, pointer, button);
+    }
+
+    @Override
+    public boolean touchDragged(int screenX, int screenY, int pointer) {
+        return target != null && target.touchDragged(screenX, screenY, pointer);
+    }
+
+    @Override
+    public boolean mouseMoved(int screenX, int screenY) {
+        return target != null && target.mouseMoved(screenX, screenY);
+    }
+
+    @Override
+    public boolean scrolled(float amountX, float amountY) {
+        return target != null && target.scrolled(amountX, amountY);
+    }
+}
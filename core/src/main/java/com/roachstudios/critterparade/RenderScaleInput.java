@@ -0,0 +1,87 @@
+package com.roachstudios.critterparade;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.InputProcessor;
+
+/**
+ * Passes input to a screen's processor with pointer positions mapped into the
+ * reduced render target used when the render scale is below 1.
+ *
+ * <p>Screens lay out their viewports in render target pixels, but pointer
+ * events arrive in window coordinates, and viewports unproject them against the
+ * window's height. The mapping here makes a point on the window land on the
+ * same spot of the scaled-up frame.</p>
+ */
+final class RenderScaleInput implements InputProcessor {
+
+    private final CritterParade game;
+    private InputProcessor target;
+
+    RenderScaleInput(CritterParade game) {
+        this.game = game;
+    }
+
+    /**
+     * Sets the processor events are passed to.
+     *
+     * @param target the screen's processor
+     */
+    void setTarget(InputProcessor target) {
+        this.target = target;
+    }
+
+    private int mapX(int screenX) {
+        return Math.round(screenX * (float) game.getRenderWidth() / Gdx.graphics.getWidth());
+    }
+
+    private int mapY(int screenY) {
+        // Viewports flip y with the window height, so keep the distance from the bottom scaled
+        int height = Gdx.graphics.getHeight();
+        return height - Math.round((height - screenY) * (float) game.getRenderHeight() / height);
+    }
+
+    @Override
+    public boolean keyDown(int keycode) {
+        return target != null && target.keyDown(keycode);
+    }
+
+    @Override
+    public boolean keyUp(int keycode) {
+        return target != null && target.keyUp(keycode);
+    }
+
+    @Override
+    public boolean keyTyped(char character) {
+        return target != null && target.keyTyped(character);
+    }
+
+    @Override
+    public boolean touchDown(int screenX, int screenY, int pointer, int button) {
+        return target != null && target.touchDown(mapX(screenX), mapY(screenY), pointer, button);
+    }
+
+    @Override
+    public boolean touchUp(int screenX, int screenY, int pointer, int button) {
+        return target != null && target.touchUp(mapX(screenX), mapY(screenY), pointer, button);
+    }
+
+    @Override
+    public boolean touchCancelled(int screenX, int screenY, int pointer, int button) {
+        return target != null && target.touchCancelled(mapX(screenX), mapY(screenY), pointer, button);
+    }
+
+    @Override
+    public boolean touchDragged(int screenX, int screenY, int pointer) {
+        return target != null && target.touchDragged(mapX(screenX), mapY(screenY), pointer);
+    }
+
+    @Override
+    public boolean mouseMoved(int screenX, int screenY) {
+        return target != null && target.mouseMoved(mapX(screenX), mapY(screenY));
+    }
+
+    @Override
+    public boolean scrolled(float amountX, float amountY) {
+        return target != null && target.scrolled(amountX, amountY);
+    }
+}
@@ -0,0 +1,453 @@
+package com.roachstudios.critterparade;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.ObjectIntMap;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Every score ever submitted for one minigame, ranked.
+ *
+ * <p>Scores are stored column by column (value, timestamp, player ID) in
+ * insertion order, so a score is just an index and no object is kept per entry.
+ * Ranking uses an order-statistics treap over the same indices: each node is a
+ * score, ordered best first and, for equal values, earliest first. Subtree sizes
+ * make these O(log n):
+ * <ul>
+ *   <li>{@link #add(String, float, long)}</li>
+ *   <li>{@link #rankOf(int)} and {@link #rankOfValue(float)}</li>
+ * </ul>
+ * {@link #top(int, IntArray)} lists the best k in O(k + log n), and
+ * {@link #page(int, int, IntArray)} any run of ranks; each player's personal
+ * best is kept up to date on insert.</p>
+ *
+ * <p>A history loaded from a {@link LeaderboardFile} starts from the file's
+ * {@link StoredScores}, which already holds a ranking; those scores take the
+ * first indices and are read from the mapping, and only scores added since go
+ * into the treap. Queries merge the two, so loading costs nothing per stored
+ * score.</p>
+ *
+ * <p>Not thread-safe.</p>
+ */
+public final class ScoreHistory {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final boolean lowerIsBetter;
+
+    /** Scores loaded from disk, or null; they come before every added score. */
+    private final StoredScores base;
+    private final int baseCount;
+
+    /** Added scores, by index minus {@link #baseCount}. */
+    private float[] values = new float[INITIAL_CAPACITY];
+    private long[] timestamps = new long[INITIAL_CAPACITY];
+    private int[] playerIds = new int[INITIAL_CAPACITY];
+    private int count;
+
+    private final ObjectIntMap<String> playerIdsByName = new ObjectIntMap<>();
+    private final Array<String> playerNames = new Array<>();
+
+    /** Index of each player's best added score (minus {@link #baseCount}), by player ID. */
+    private int[] personalBest = new int[INITIAL_CAPACITY];
+
+    /** Treap links, subtree sizes and heap priorities, by score index; -1 is no child. */
+    private int[] left = new int[INITIAL_CAPACITY];
+    private int[] right = new int[INITIAL_CAPACITY];
+    private int[] size = new int[INITIAL_CAPACITY];
+    private int[] priority = new int[INITIAL_CAPACITY];
+    private int root = -1;
+
+    /** Fixed seed so the tree shape, and so performance, is reproducible. */
+    private final SplittableRandom random = new SplittableRandom(0x5C0);
+
+    private final IntArray stack = new IntArray();
+
+    /**
+     * Creates an empty history.
+     *
+     * @param lowerIsBetter true if lower scores rank higher (like race times)
+     */
+    public ScoreHistory(boolean lowerIsBetter) {
+        this.lowerIsBetter = lowerIsBetter;
+        this.base = null;
+        this.baseCount = 0;
+    }
+
+    /**
+     * Creates a history that continues from stored scores.
+     *
+     * @param base the scores loaded from disk
+     */
+    ScoreHistory(StoredScores base) {
+        this.lowerIsBetter = base.isLowerBetter();
+        this.base = base;
+        this.baseCount = base.size();
+    }
+
+    /**
+     * Records a score.
+     *
+     * @param playerName name of the player who scored
+     * @param value the score value
+     * @param timestamp when the score was achieved, epoch millis
+     * @return the new score's index
+     */
+    public int add(String playerName, float value, long timestamp) {
+        if (count == values.length) {
+            grow();
+        }
+        int playerId = playerIdsByName.get(playerName, -1);
+        if (playerId < 0) {
+            playerId = playerNames.size;
+            playerNames.add(playerName);
+            playerIdsByName.put(playerName, playerId);
+            if (playerId == personalBest.length) {
+                personalBest = Arrays.copyOf(personalBest, playerId * 2);
+            }
+            personalBest[playerId] = -1;
+        }
+
+        int index = count++;
+        values[index] = value;
+        timestamps[index] = timestamp;
+        playerIds[index] = playerId;
+        left[index] = -1;
+        right[index] = -1;
+        size[index] = 1;
+        priority[index] = random.nextInt();
+        root = insert(root, index);
+
+        int best = personalBest[playerId];
+        if (best < 0 || isBetter(value, values[best])) {
+            personalBest[playerId] = index;
+        }
+        return baseCount + index;
+    }
+
+    /**
+     * Gets the number of scores recorded.
+     *
+     * @return the score count
+     */
+    public int size() {
+        return baseCount + count;
+    }
+
+    /**
+     * Checks if lower scores rank higher.
+     *
+     * @return true if lower is better
+     */
+    public boolean isLowerBetter() {
+        return lowerIsBetter;
+    }
+
+    /**
+     * Lists the best scores, best first.
+     *
+     * @param k how many to list at most
+     * @param out cleared, then filled with score indices
+     */
+    public void top(int k, IntArray out) {
+        page(0, k, out);
+    }
+
+    /**
+     * Lists a run of scores by rank, best first, e.g. one page of a scrolling
+     * list. Finds where the run starts in O(log^2 n), then lists it like
+     * {@link #top(int, IntArray)}.
+     *
+     * @param from 0-based rank of the first score to list
+     * @param k how many to list at most
+     * @param out cleared, then filled with score indices
+     */
+    public void page(int from, int k, IntArray out) {
+        out.clear();
+        stack.clear();
+        from = Math.max(0, from);
+        if (from >= size()) {
+            return;
+        }
+        // Find how many of the first `from` ranks are stored scores: taking b is too
+        // few while stored score b still ranks ahead of the last added score taken
+        int low = Math.max(0, from - count);
+        int high = Math.min(from, baseCount);
+        while (low < high) {
+            int b = (low + high) >>> 1;
+            if (!isBetter(values[select(from - b - 1)], base.getValue(base.getRanked(b)))) {
+                low = b + 1;
+            } else {
+                high = b;
+            }
+        }
+        int baseRank = low;
+        pushPathTo(from - baseRank);
+        while (out.size < k) {
+            boolean hasBase = baseRank < baseCount;
+            if (!hasBase && stack.size == 0) {
+                break;
+            }
+            // Stored scores are older, so they win ties
+            if (hasBase && (stack.size == 0
+                    || !isBetter(values[stack.peek()], base.getValue(base.getRanked(baseRank))))) {
+                out.add(base.getRanked(baseRank++));
+            } else {
+                int node = stack.pop();
+                out.add(baseCount + node);
+                pushLeftPath(right[node]);
+            }
+        }
+    }
+
+    /**
+     * Gets the rank of a recorded score.
+     *
+     * @param index the score's index
+     * @return 1-based rank
+     */
+    public int rankOf(int index) {
+        if (index < baseCount) {
+            return base.rankOf(index) + 1 + countAddedBetter(base.getValue(index));
+        }
+        int local = index - baseCount;
+        int rank = 1;
+        int node = root;
+        while (node != local) {
+            if (precedes(local, node)) {
+                node = left[node];
+            } else {
+                rank += sizeOf(left[node]) + 1;
+                node = right[node];
+            }
+        }
+        rank += sizeOf(left[node]);
+        return base != null ? rank + base.countAtLeast(values[local]) : rank;
+    }
+
+    /**
+     * Gets the rank a new score with a value would get. Earlier equal scores rank
+     * ahead of it.
+     *
+     * @param value the score value
+     * @return 1-based rank
+     */
+    public int rankOfValue(float value) {
+        int rank = 1;
+        int node = root;
+        while (node >= 0) {
+            if (isBetter(value, values[node])) {
+                node = left[node];
+            } else {
+                rank += sizeOf(left[node]) + 1;
+                node = right[node];
+            }
+        }
+        return base != null ? rank + base.countAtLeast(value) : rank;
+    }
+
+    /**
+     * Gets a player's best score.
+     *
+     * @param playerName the player's name
+     * @return the score's index, or -1 if the player has no scores
+     */
+    public int personalBest(String playerName) {
+        int stored = base != null ? base.personalBest(playerName) : -1;
+        int playerId = playerIdsByName.get(playerName, -1);
+        if (playerId < 0) {
+            return stored;
+        }
+        int added = personalBest[playerId];
+        if (stored >= 0 && !isBetter(values[added], base.getValue(stored))) {
+            return stored;
+        }
+        return baseCount + added;
+    }
+
+    /**
+     * Gets a score's value.
+     *
+     * @param index the score's index
+     * @return the value
+     */
+    public float getValue(int index) {
+        return index < baseCount ? base.getValue(index) : values[index - baseCount];
+    }
+
+    /**
+     * Gets when a score was achieved.
+     *
+     * @param index the score's index
+     * @return epoch millis
+     */
+    public long getTimestamp(int index) {
+        return index < baseCount ? base.getTimestamp(index) : timestamps[index - baseCount];
+    }
+
+    /**
+     * Gets the name of the player who achieved a score.
+     *
+     * @param index the score's index
+     * @return the player's name
+     */
+    public String getPlayerName(int index) {
+        return index < baseCount ? base.getPlayerName(index) : playerNames.get(playerIds[index - baseCount]);
+    }
+
+    /**
+     * Creates a standalone copy of a score, e.g. for display.
+     *
+     * @param index the score's index
+     * @return a new score object
+     */
+    public MiniGameScore toScore(int index) {
+        MiniGameScore score = new MiniGameScore(getPlayerName(index), getValue(index));
+        score.setTimestamp(getTimestamp(index));
+        return score;
+    }
+
+    private boolean isBetter(float a, float b) {
+        return lowerIsBetter ? a < b : a > b;
+    }
+
+    /**
+     * Counts added scores strictly better than a value.
+     */
+    private int countAddedBetter(float value) {
+        int better = 0;
+        int node = root;
+        while (node >= 0) {
+            if (isBetter(values[node], value)) {
+                better += sizeOf(left[node]) + 1;
+                node = right[node];
+            } else {
+                node = left[node];
+            }
+        }
+        return better;
+    }
+
+    /**
+     * Pushes a node and its chain of left children for an in-order walk.
+     */
+    private void pushLeftPath(int node) {
+        while (node >= 0) {
+            stack.add(node);
+            node = left[node];
+        }
+    }
+
+    /**
+     * Gets the added score at a rank among added scores.
+     *
+     * @param rank 0-based rank, less than {@link #count}
+     */
+    private int select(int rank) {
+        int node = root;
+        while (true) {
+            int leftSize = sizeOf(left[node]);
+            if (rank < leftSize) {
+                node = left[node];
+            } else if (rank == leftSize) {
+                return node;
+            } else {
+                rank -= leftSize + 1;
+                node = right[node];
+            }
+        }
+    }
+
+    /**
+     * Pushes the path to the added score at a rank, so an in-order walk resumes
+     * there; pushes nothing if the rank is past the last added score.
+     */
+    private void pushPathTo(int rank) {
+        int node = root;
+        while (node >= 0) {
+            int leftSize = sizeOf(left[node]);
+            if (rank <= leftSize) {
+                // This node comes after the target in order, or is it
+                stack.add(node);
+                if (rank == leftSize) {
+                    return;
+                }
+                node = left[node];
+            } else {
+                rank -= leftSize + 1;
+                node = right[node];
+            }
+        }
+    }
+
+    /**
+     * Checks if added score {@code a} ranks ahead of added score {@code b}.
+     */
+    private boolean precedes(int a, int b) {
+        float va = values[a];
+        float vb = values[b];
+        if (va != vb) {
+            return isBetter(va, vb);
+        }
+        return a < b;
+    }
+
+    private int sizeOf(int node) {
+        return node >= 0 ? size[node] : 0;
+    }
+
+    /**
+     * Inserts a node below a subtree root, rotating it up while its priority is higher.
+     *
+     * @return the subtree's new root
+     */
+    private int insert(int node, int index) {
+        if (node < 0) {
+            return index;
+        }
+        size[node]++;
+        if (precedes(index, node)) {
+            left[node] = insert(left[node], index);
+            if (priority[left[node]] > priority[node]) {
+                node = rotateRight(node);
+            }
+        } else {
+            right[node] = insert(right[node], index);
+            if (priority[right[node]] > priority[node]) {
+                node = rotateLeft(node);
+            }
+        }
+        return node;
+    }
+
+    private int rotateRight(int node) {
+        int child = left[node];
+        left[node] = right[child];
+        right[child] = node;
+        size[child] = size[node];
+        size[node] = sizeOf(left[node]) + sizeOf(right[node]) + 1;
+        return child;
+    }
+
+    private int rotateLeft(int node) {
+        int child = right[node];
+        right[node] = left[child];
+        left[child] = node;
+        size[child] = size[node];
+        size[node] = sizeOf(left[node]) + sizeOf(right[node]) + 1;
+        return child;
+    }
+
+    private void grow() {
+        int capacity = values.length * 2;
+        values = Arrays.copyOf(values, capacity);
+        timestamps = Arrays.copyOf(timestamps, capacity);
+        playerIds = Arrays.copyOf(playerIds, capacity);
+        left = Arrays.copyOf(left, capacity);
+        right = Arrays.copyOf(right, capacity);
+        size = Arrays.copyOf(size, capacity);
+        priority = Arrays.copyOf(priority, capacity);
+    }
+}
@@ -0,0 +1,189 @@
+package com.roachstudios.critterparade;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.glutils.FileTextureData;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.TimeUtils;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * Prepares the next screen over several frames while the current one keeps
+ * rendering, so a switch doesn't stall a frame.
+ *
+ * <p>The screen's textures are decoded on a background thread as soon as the
+ * transition starts. Each frame, {@link #advance(long)} then runs steps until
+ * the frame's budget is spent: one step uploads one decoded texture, and the
+ * last builds the screen. The screen's {@link CritterParade#loadTexture(String)}
+ * calls are then handed the uploaded textures instead of loading them again.
+ * A step isn't split, so one large texture or a slow constructor can still
+ * take longer than the budget.</p>
+ *
+ * <p>Render thread only, apart from the decoding.</p>
+ */
+final class ScreenTransition {
+
+    private final Supplier<? extends Screen> factory;
+    private final Array<String> paths = new Array<>();
+    private final Array<Future<Pixmap>> decodes = new Array<>();
+
+    /** Uploaded textures not yet taken by the screen, by path. */
+    private final ObjectMap<String, Texture> textures = new ObjectMap<>();
+
+    /** Tells decodes still queued not to bother. */
+    private volatile boolean cancelled;
+
+    private int uploaded;
+    private Screen screen;
+
+    /** Whether {@link #screen} was taken to be shown; until then the transition owns it. */
+    private boolean screenTaken;
+
+    private int frames;
+    private long longestStepNanos;
+
+    /**
+     * Starts decoding the next screen's textures.
+     *
+     * @param factory builds the screen once its textures are uploaded
+     * @param texturePaths internal paths of textures the screen loads
+     * @param decoder runs the decodes
+     */
+    ScreenTransition(Supplier<? extends Screen> factory, List<String> texturePaths, ExecutorService decoder) {
+        this.factory = factory;
+        for (String path : texturePaths) {
+            if (!paths.contains(path, false)) {
+                paths.add(path);
+                FileHandle file = Gdx.files.internal(path);
+                decodes.add(decoder.submit(() -> cancelled ? null : new Pixmap(file)));
+            }
+        }
+    }
+
+    /**
+     * Runs preparation steps until the screen is built or the budget is spent.
+     *
+     * @param budgetNanos how long this frame's steps may take
+     * @return true once the screen is built
+     */
+    boolean advance(long budgetNanos) {
+        if (screen != null) {
+            return true;
+        }
+        frames++;
+        long start = TimeUtils.nanoTime();
+        long stepStart = start;
+        while (true) {
+            if (uploaded < paths.size) {
+                Future<Pixmap> decode = decodes.get(uploaded);
+                if (!decode.isDone()) {
+                    // Wait for the decoder rather than block the frame
+                    return false;
+                }
+                Pixmap pixmap = await(decode);
+                if (pixmap != null) {
+                    String path = paths.get(uploaded);
+                    textures.put(path, new Texture(new FileTextureData(Gdx.files.internal(path), pixmap, null, false)));
+                }
+                uploaded++;
+            } else {
+                screen = factory.get();
+            }
+            long now = TimeUtils.nanoTime();
+            longestStepNanos = Math.max(longestStepNanos, now - stepStart);
+            stepStart = now;
+            if (screen != null) {
+                return true;
+            }
+            if (now - start >= budgetNanos) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Gets the screen once built.
+     *
+     * @return the screen, or null until {@link #advance(long)} returns true
+     */
+    Screen getScreen() {
+        return screen;
+    }
+
+    /**
+     * Hands over the built screen to be shown; from then on the caller disposes it.
+     *
+     * @return the screen, or null until {@link #advance(long)} returns true
+     */
+    Screen takeScreen() {
+        screenTaken = screen != null;
+        return screen;
+    }
+
+    /**
+     * Hands over an uploaded texture, so the screen doesn't load it again.
+     *
+     * @param path the texture's internal path
+     * @return the texture, now owned by the caller, or null if it wasn't prepared
+     */
+    Texture takeTexture(String path) {
+        return textures.remove(path);
+    }
+
+    /**
+     * Describes how the preparation went, for the debug log.
+     */
+    String describe() {
+        return String.format("%s prepared over %d frames, longest step %.1f ms",
+            screen != null ? screen.getClass().getSimpleName() : "Screen", frames, longestStepNanos / 1_000_000f);
+    }
+
+    /**
+     * Frees what the screen didn't take: textures it didn't load, or everything,
+     * including the screen if it was built but never taken, if the transition was
+     * abandoned.
+     */
+    void dispose() {
+        cancelled = true;
+        for (int i = uploaded; i < decodes.size; i++) {
+            Pixmap pixmap = await(decodes.get(i));
+            if (pixmap != null) {
+                pixmap.dispose();
+            }
+        }
+        uploaded = paths.size;
+        for (Texture texture : textures.values()) {
+            texture.dispose();
+        }
+        textures.clear();
+        if (screen != null && !screenTaken) {
+            screen.dispose();
+            screenTaken = true;
+        }
+    }
+
+    /**
+     * Gets a decode's pixmap, or null if it failed or was skipped. A failed
+     * texture is left for the screen to load itself, which reports the error.
+     */
+    private static Pixmap await(Future<Pixmap> decode) {
+        try {
+            return decode.get();
+        } catch (ExecutionException e) {
+            System.err.println("[ScreenTransition] Failed to decode texture: " + e.getCause().getMessage());
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+}
@@ -1,22 +1,56 @@
 package com.roachstudios.critterparade;
 
-import com.badlogic.gdx.utils.Json;
-import com.badlogic.gdx.utils.JsonWriter;
-
 import java.io.File;
-import java.io.FileWriter;
+import java.io.FileOutputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
 
 /**
- * Tracks game events during a session and saves them as JSON on game close.
- * Events are stored in memory and written to ~/.critterparade/logs/ with a
- * timestamp-based filename.
+ * Tracks game events during a session and streams them to
+ * ~/.critterparade/logs/ as newline-delimited JSON, one event per line, in a file
+ * named after the session's start time. Sessions can instead be logged in the
+ * compact binary form of {@link BinaryLogEncoder}, with the extension
+ * {@code .events}, which keeps even per-input logging cheap.
+ *
+ * <p>A session is written as numbered segments, e.g.
+ * {@code 2025-01-31_09-00-00-000.ndjson}. A segment is closed once it passes
+ * {@link #MAX_SEGMENT_BYTES} or has been open for {@link #MAX_SEGMENT_MILLIS},
+ * and closed segments are gzip-compressed on a separate low-priority thread.
+ * At startup that thread also compresses segments a crash left behind and deletes
+ * the oldest logs until none is older than {@link #MAX_LOG_AGE_MILLIS} and all
+ * together fit in {@link #MAX_LOG_BYTES}. Every segment is listed in a
+ * {@link LogManifest}.</p>
+ *
+ * <p>Logging allocates nothing on the calling thread. Each kind of event is a
+ * {@link LogEventType} with primitive and reference fields, which the caller
+ * fills into a preallocated {@link LogEvent} slot of a bounded
+ * {@link EventRing}, stamped with {@link System#nanoTime()}. A background thread
+ * works out wall-clock times from that and the session epoch, encodes events
+ * and appends them. The writer flushes every {@link #FLUSH_INTERVAL_MILLIS} and
+ * at minigame boundaries, where it also forces the file to disk, so a crash
+ * loses at most the last moments of a session and leaves at worst a partial last
+ * event. Memory stays bounded however long the session runs: when the queue is
+ * nearly full, routine events (screen changes, turns, music, inputs) are dropped
+ * rather than making the render thread wait, keeping
+ * the rest of the queue for session and minigame milestones. The number dropped
+ * is written as an {@code events_dropped} event.</p>
  */
 public class SessionLogger {
     
@@ -24,24 +58,123 @@ public class SessionLogger {
     private static final String LOGS_FOLDER = "logs";
     private static final DateTimeFormatter FILE_DATE_FORMAT = 
         DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss");
-    private static final DateTimeFormatter EVENT_DATE_FORMAT = 
-        DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS");
     
-    private final List<Map<String, Object>> events = new ArrayList<>();
-    private final LocalDateTime sessionStart;
+    /** Events that can be queued before any are dropped. */
+    private static final int QUEUE_CAPACITY = 4096;
+    
+    /** Part of the queue only important events may use. */
+    private static final int IMPORTANT_RESERVE = QUEUE_CAPACITY / 4;
+    
+    /** How often queued events are written out. */
+    private static final long FLUSH_INTERVAL_MILLIS = 1000;
+    
+    /** Segment size at which a new segment is started. */
+    private static final long MAX_SEGMENT_BYTES = 4L * 1024 * 1024;
+    
+    /** Segment age at which a new segment is started. */
+    private static final long MAX_SEGMENT_MILLIS = TimeUnit.HOURS.toMillis(1);
+    
+    /** Logs older than this are deleted at startup. */
+    private static final long MAX_LOG_AGE_MILLIS = TimeUnit.DAYS.toMillis(30);
+    
+    /** Oldest logs are deleted at startup until all logs fit in this. */
+    private static final long MAX_LOG_BYTES = 256L * 1024 * 1024;
+    
+    /** Buffer size for compressing segments. */
+    private static final int COMPRESS_BUFFER_SIZE = 64 * 1024;
+    
+    /** How long {@link #close()} waits for the last events to be written. */
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 2;
+    
     private final boolean enabled;
     
+    /** Wall-clock time at the start of the session, epoch millis. */
+    private final long epochMillis;
+    
+    /** {@link System#nanoTime()} at the same moment; event times are measured from it. */
+    private final long epochNanos;
+    
+    /** Session name used in segment file names. */
+    private final String sessionName;
+    private final File logsDir;
+    
+    private final EventRing<LogEvent> queue;
+    private final ScheduledExecutorService writer;
+    
+    /** Writes queued events and forces them to disk; kept so requesting it allocates nothing. */
+    private final Runnable flushTask = () -> drain(true);
+    
+    /** Compresses closed segments and enforces retention. */
+    private final ExecutorService compressor;
+    private final LogManifest manifest;
+    
+    /** Events dropped because the queue was full, not yet reported. */
+    private final AtomicInteger dropped = new AtomicInteger();
+    
+    /** Encodes events into segments; writer thread only. */
+    private final LogEncoder encoder;
+    
+    /** Slot for the {@code events_dropped} event; writer thread only. */
+    private final LogEvent droppedEvent = new LogEvent();
+    
+    /** Open log segment; writer thread only. */
+    private FileOutputStream logStream;
+    private String segmentFile;
+    private int segmentIndex;
+    private long segmentStartMillis;
+    
+    /** Set once the log file can't be written, so events are discarded; writer thread only. */
+    private boolean failed;
+    
+    /** Whether the log location has been printed; writer thread only. */
+    private boolean announced;
+    
+    /** Whether {@link #close()} has run. */
+    private volatile boolean closed;
+    
     /**
      * Creates a new session logger.
      *
      * @param enabled true if logging should be active
+     * @param binary true to write the compact binary encoding instead of JSON
      */
-    public SessionLogger(boolean enabled) {
+    public SessionLogger(boolean enabled, boolean binary) {
         this.enabled = enabled;
-        this.sessionStart = LocalDateTime.now();
+        this.epochMillis = System.currentTimeMillis();
+        this.epochNanos = System.nanoTime();
+        this.sessionName = LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault())
+            .format(FILE_DATE_FORMAT);
+        this.logsDir = new File(new File(System.getProperty("user.home"), APP_FOLDER), LOGS_FOLDER);
         
         if (enabled) {
-            logEvent("session_start", getSystemInfo());
+            manifest = new LogManifest(logsDir);
+            compressor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "session-log-compressor");
+                thread.setDaemon(true);
+                thread.setPriority(Thread.MIN_PRIORITY);
+                return thread;
+            });
+            compressor.execute(this::cleanUp);
+            encoder = binary ? new BinaryLogEncoder(epochMillis, epochNanos) : new JsonLogEncoder(epochMillis, epochNanos);
+            queue = new EventRing<>(QUEUE_CAPACITY, LogEvent::new);
+            writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "session-log-writer");
+                thread.setDaemon(true);
+                return thread;
+            });
+            writer.scheduleWithFixedDelay(() -> drain(false),
+                FLUSH_INTERVAL_MILLIS, FLUSH_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+            LogEvent event = claim(LogEventType.SESSION_START);
+            if (event != null) {
+                event.data = getSystemInfo();
+                publish(event);
+            }
+        } else {
+            manifest = null;
+            compressor = null;
+            encoder = null;
+            queue = null;
+            writer = null;
         }
     }
     
@@ -87,21 +220,59 @@ public class SessionLogger {
     }
     
     /**
-     * Logs an event with the given type and optional data.
+     * Logs an event with the given type and optional data. The map is kept until
+     * the event is written, so it must not be changed afterwards. Prefer the typed
+     * methods below, which allocate nothing.
      *
      * @param eventType the type of event (e.g., "minigame_start")
      * @param data additional event data, or null
      */
     public void logEvent(String eventType, Map<String, Object> data) {
-        if (!enabled) return;
+        LogEvent event = claim(LogEventType.CUSTOM);
+        if (event != null) {
+            event.texts[0] = eventType;
+            event.data = data;
+            publish(event);
+        }
+    }
+    
+    /**
+     * Claims a queue slot for an event and stamps it with the current time. The
+     * caller fills in the event's fields and then calls {@link #publish(LogEvent)}.
+     *
+     * @param type the type of event
+     * @return the slot, or null if logging is off or the queue is too full for the event
+     */
+    private LogEvent claim(LogEventType type) {
+        if (!enabled || closed) return null;
         
-        Map<String, Object> event = new LinkedHashMap<>();
-        event.put("timestamp", LocalDateTime.now().format(EVENT_DATE_FORMAT));
-        event.put("type", eventType);
-        if (data != null && !data.isEmpty()) {
-            event.put("data", data);
+        long position = queue.claim(type.isImportant() ? 0 : IMPORTANT_RESERVE);
+        if (position < 0) {
+            dropped.incrementAndGet();
+            return null;
         }
-        events.add(event);
+        LogEvent event = queue.get(position);
+        event.position = position;
+        event.type = type;
+        event.nanos = System.nanoTime();
+        return event;
+    }
+    
+    /**
+     * Hands a filled slot to the writer.
+     *
+     * @param event a slot from {@link #claim(LogEventType)}
+     */
+    private void publish(LogEvent event) {
+        queue.publish(event.position);
+    }
+    
+    /**
+     * Asks the writer to write everything queued now and force it to disk.
+     */
+    private void requestFlush() {
+        if (!enabled || closed) return;
+        writer.execute(flushTask);
     }
     
     /**
@@ -132,20 +303,26 @@ public class SessionLogger {
      * @param mode the game mode that was selected
      */
     public void logModeSelected(CritterParade.Mode mode) {
-        logEvent("mode_selected", "mode", mode.name());
+        LogEvent event = claim(LogEventType.MODE_SELECTED);
+        if (event != null) {
+            event.texts[0] = mode.name();
+            publish(event);
+        }
     }
     
     /**
      * Logs player initialization.
      *
      * @param count the number of players initialized
-     * @param names the names of the players
+     * @param names the names of the players; kept until written, so not changed afterwards
      */
     public void logPlayersInitialized(int count, String[] names) {
-        Map<String, Object> data = new LinkedHashMap<>();
-        data.put("count", count);
-        data.put("players", names);
-        logEvent("players_initialized", data);
+        LogEvent event = claim(LogEventType.PLAYERS_INITIALIZED);
+        if (event != null) {
+            event.values[0] = count;
+            event.names = names;
+            publish(event);
+        }
     }
     
     /**
@@ -154,22 +331,31 @@ public class SessionLogger {
      * @param minigameName the name of the minigame being started
      */
     public void logMinigameStart(String minigameName) {
-        logEvent("minigame_start", "name", minigameName);
+        LogEvent event = claim(LogEventType.MINIGAME_START);
+        if (event != null) {
+            event.texts[0] = minigameName;
+            publish(event);
+        }
+        requestFlush();
     }
     
     /**
-     * Logs minigame results.
+     * Logs minigame results. The arrays are kept until written, so they must not
+     * be changed afterwards.
      *
      * @param minigameName the name of the minigame that ended
      * @param placements the player names in placement order (1st to last)
      * @param crumbsAwarded the crumbs awarded to each player
      */
     public void logMinigameEnd(String minigameName, String[] placements, int[] crumbsAwarded) {
-        Map<String, Object> data = new LinkedHashMap<>();
-        data.put("name", minigameName);
-        data.put("placements", placements);
-        data.put("crumbs_awarded", crumbsAwarded);
-        logEvent("minigame_end", data);
+        LogEvent event = claim(LogEventType.MINIGAME_END);
+        if (event != null) {
+            event.texts[0] = minigameName;
+            event.names = placements;
+            event.numbers = crumbsAwarded;
+            publish(event);
+        }
+        requestFlush();
     }
     
     /**
@@ -178,7 +364,11 @@ public class SessionLogger {
      * @param boardName the name of the board being started
      */
     public void logBoardStart(String boardName) {
-        logEvent("board_start", "name", boardName);
+        LogEvent event = claim(LogEventType.BOARD_START);
+        if (event != null) {
+            event.texts[0] = boardName;
+            publish(event);
+        }
     }
     
     /**
@@ -188,10 +378,12 @@ public class SessionLogger {
      * @param diceRoll the result of the dice roll
      */
     public void logPlayerTurn(String playerName, int diceRoll) {
-        Map<String, Object> data = new LinkedHashMap<>();
-        data.put("player", playerName);
-        data.put("dice_roll", diceRoll);
-        logEvent("player_turn", data);
+        LogEvent event = claim(LogEventType.PLAYER_TURN);
+        if (event != null) {
+            event.texts[0] = playerName;
+            event.values[0] = diceRoll;
+            publish(event);
+        }
     }
     
     /**
@@ -200,7 +392,11 @@ public class SessionLogger {
      * @param screenName the name of the screen being navigated to
      */
     public void logScreenChange(String screenName) {
-        logEvent("screen_change", "screen", screenName);
+        LogEvent event = claim(LogEventType.SCREEN_CHANGE);
+        if (event != null) {
+            event.texts[0] = screenName;
+            publish(event);
+        }
     }
     
     /**
@@ -210,50 +406,284 @@ public class SessionLogger {
      * @param action the action taken (play, stop, pause, resume)
      */
     public void logMusicChange(String theme, String action) {
-        Map<String, Object> data = new LinkedHashMap<>();
-        data.put("theme", theme);
-        data.put("action", action);
-        logEvent("music_change", data);
+        LogEvent event = claim(LogEventType.MUSIC_CHANGE);
+        if (event != null) {
+            event.texts[0] = theme;
+            event.texts[1] = action;
+            publish(event);
+        }
+    }
+    
+    /**
+     * Logs a player's input state. Cheap enough to call for every change,
+     * particularly with the binary encoding; dropped first when the queue is busy.
+     *
+     * @param playerIndex the player, from 0
+     * @param buttons bit mask of the buttons held
+     */
+    public void logInput(int playerIndex, int buttons) {
+        LogEvent event = claim(LogEventType.INPUT);
+        if (event != null) {
+            event.values[0] = playerIndex;
+            event.values[1] = buttons;
+            publish(event);
+        }
+    }
+    
+    /**
+     * Ends the session: logs {@code session_end}, writes everything queued and
+     * stops the writer thread. Called on game dispose, or when logging is turned
+     * off or on again.
+     */
+    public void close() {
+        if (!enabled || closed) return;
+        
+        LogEvent event = claim(LogEventType.SESSION_END);
+        if (event != null) {
+            publish(event);
+        }
+        closed = true;
+        
+        // The periodic flush would otherwise keep the executor alive
+        writer.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        writer.execute(() -> {
+            drain(true);
+            finishSegment();
+        });
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                System.err.println("[SessionLogger] Timed out waiting for session log to save");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // The last segment is compressed at the next startup rather than delaying exit
+        compressor.shutdown();
     }
     
     /**
-     * Saves the session log to a JSON file.
-     * Called on game dispose.
+     * Encodes every queued event into the current segment, then flushes. Runs on
+     * the writer thread.
+     *
+     * @param force true to also force the file to disk
      */
-    public void saveSession() {
-        if (!enabled || events.isEmpty()) return;
+    private void drain(boolean force) {
+        LogEvent event = queue.peek();
+        int droppedCount = dropped.getAndSet(0);
+        if (event == null && droppedCount == 0) {
+            return;
+        }
+        if (!openFile()) {
+            // Nothing can be written; keep the queue from filling up
+            for (; event != null; event = queue.peek()) {
+                event.clear();
+                queue.release();
+            }
+            return;
+        }
         
-        logEvent("session_end", null);
+        try {
+            if (droppedCount > 0) {
+                droppedEvent.type = LogEventType.EVENTS_DROPPED;
+                droppedEvent.nanos = System.nanoTime();
+                droppedEvent.values[0] = droppedCount;
+                encoder.write(droppedEvent);
+            }
+            for (; event != null; event = queue.peek()) {
+                encoder.write(event);
+                event.clear();
+                queue.release();
+            }
+            encoder.flush();
+            if (force) {
+                logStream.getChannel().force(false);
+            }
+            if (logStream.getChannel().position() >= MAX_SEGMENT_BYTES
+                    || System.currentTimeMillis() - segmentStartMillis >= MAX_SEGMENT_MILLIS) {
+                // The next event starts a new segment
+                String closedSegment = segmentFile;
+                finishSegment();
+                segmentIndex++;
+                compressor.execute(() -> compress(closedSegment));
+            }
+        } catch (IOException e) {
+            System.err.println("[SessionLogger] Failed to write session log: " + e.getMessage());
+            failed = true;
+            closeFile();
+        }
+    }
+    
+    /**
+     * Opens the session's current segment on first use. Runs on the writer thread.
+     *
+     * @return true if the file is open
+     */
+    private boolean openFile() {
+        if (logStream != null) {
+            return true;
+        }
+        if (failed) {
+            return false;
+        }
         
+        if (getLogsDirectory() == null) {
+            System.err.println("[SessionLogger] Failed to create logs directory");
+            failed = true;
+            return false;
+        }
+        segmentFile = getSegmentFileName(segmentIndex);
+        while (new File(logsDir, segmentFile).exists()
+                || new File(logsDir, segmentFile + LogManifest.COMPRESSED_EXTENSION).exists()) {
+            // Left by a session that started in the same second; segments start with a header, so never append
+            segmentIndex++;
+            segmentFile = getSegmentFileName(segmentIndex);
+        }
+        File logFile = new File(logsDir, segmentFile);
         try {
-            File logsDir = getLogsDirectory();
-            if (logsDir == null) {
-                System.err.println("[SessionLogger] Failed to create logs directory");
-                return;
+            logStream = new FileOutputStream(logFile);
+            encoder.begin(logStream);
+        } catch (IOException e) {
+            System.err.println("[SessionLogger] Failed to open session log: " + e.getMessage());
+            failed = true;
+            closeFile();
+            return false;
+        }
+        segmentStartMillis = System.currentTimeMillis();
+        manifest.opened(segmentFile, sessionName, segmentIndex, segmentStartMillis);
+        if (!announced) {
+            announced = true;
+            System.out.println("[SessionLogger] Logging session to: " + logFile.getAbsolutePath());
+        }
+        return true;
+    }
+    
+    /**
+     * Gets the file name of one of the session's segments.
+     *
+     * @param index the segment's position in the session
+     * @return the file name
+     */
+    private String getSegmentFileName(int index) {
+        return String.format("%s-%03d%s", sessionName, index, encoder.extension());
+    }
+    
+    /**
+     * Closes the current segment and records it in the manifest. Runs on the
+     * writer thread.
+     */
+    private void finishSegment() {
+        if (logStream == null) {
+            return;
+        }
+        long bytes = 0;
+        try {
+            bytes = logStream.getChannel().size();
+        } catch (IOException e) {
+            // Size is informational only
+        }
+        closeFile();
+        manifest.closed(segmentFile, System.currentTimeMillis(), bytes);
+    }
+    
+    /**
+     * Replaces a closed segment with a gzip-compressed copy. Runs on the
+     * compressor thread.
+     *
+     * @param file the segment's file name
+     */
+    private void compress(String file) {
+        Path source = new File(logsDir, file).toPath();
+        String compressedFile = file + LogManifest.COMPRESSED_EXTENSION;
+        Path target = new File(logsDir, compressedFile).toPath();
+        try {
+            AtomicFiles.write(target, out -> {
+                // Closing the gzip stream must not close the file, which AtomicFiles still syncs
+                OutputStream unclosable = new FilterOutputStream(out) {
+                    @Override
+                    public void write(byte[] bytes, int offset, int length) throws IOException {
+                        out.write(bytes, offset, length);
+                    }
+                    
+                    @Override
+                    public void close() throws IOException {
+                        flush();
+                    }
+                };
+                try (GZIPOutputStream gzip = new GZIPOutputStream(unclosable, COMPRESS_BUFFER_SIZE)) {
+                    Files.copy(source, gzip);
+                }
+            });
+            manifest.compressed(file, compressedFile, Files.size(target));
+            Files.delete(source);
+        } catch (IOException e) {
+            System.err.println("[SessionLogger] Failed to compress " + file + ": " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Compresses segments left uncompressed by earlier sessions, then deletes the
+     * oldest logs beyond the retention limits. Runs on the compressor thread at
+     * startup; the current session's segments are never touched.
+     */
+    private void cleanUp() {
+        List<String> missing = new ArrayList<>();
+        for (LogManifest.Segment segment : manifest.list()) {
+            File file = new File(logsDir, segment.file);
+            if (!file.exists()) {
+                missing.add(segment.file);
+            } else if (!segment.compressed && !segment.session.equals(sessionName)
+                    && LogManifest.isUncompressedSegment(segment.file)) {
+                if (segment.end == 0) {
+                    // Cut off by a crash
+                    manifest.closed(segment.file, file.lastModified(), file.length());
+                }
+                compress(segment.file);
+            }
+        }
+        manifest.removed(missing);
+        
+        List<LogManifest.Segment> segments = manifest.list();
+        segments.sort((a, b) -> Long.compare(a.start, b.start));
+        long totalBytes = 0;
+        for (LogManifest.Segment segment : segments) {
+            totalBytes += segment.bytes;
+        }
+        long oldestAllowed = System.currentTimeMillis() - MAX_LOG_AGE_MILLIS;
+        List<String> deleted = new ArrayList<>();
+        for (LogManifest.Segment segment : segments) {
+            long lastWritten = segment.end != 0 ? segment.end : segment.start;
+            if (lastWritten >= oldestAllowed && totalBytes <= MAX_LOG_BYTES) {
+                break;
             }
-            
-            String filename = sessionStart.format(FILE_DATE_FORMAT) + ".json";
-            File logFile = new File(logsDir, filename);
-            
-            Map<String, Object> session = new LinkedHashMap<>();
-            session.put("session_start", sessionStart.format(EVENT_DATE_FORMAT));
-            session.put("session_end", LocalDateTime.now().format(EVENT_DATE_FORMAT));
-            session.put("system", getSystemInfo());
-            session.put("events", events);
-            
-            Json json = new Json();
-            json.setOutputType(JsonWriter.OutputType.json);
-            String jsonString = json.prettyPrint(session);
-            
-            try (FileWriter writer = new FileWriter(logFile)) {
-                writer.write(jsonString);
+            if (segment.session.equals(sessionName)) {
+                continue;
             }
-            
-            System.out.println("[SessionLogger] Session saved to: " + logFile.getAbsolutePath());
-            
+            File file = new File(logsDir, segment.file);
+            if (file.delete() || !file.exists()) {
+                deleted.add(segment.file);
+                totalBytes -= segment.bytes;
+            }
+        }
+        manifest.removed(deleted);
+        if (!deleted.isEmpty()) {
+            System.out.println("[SessionLogger] Deleted " + deleted.size() + " old session log(s)");
+        }
+    }
+    
+    /**
+     * Closes the log file if it is open. Runs on the writer thread.
+     */
+    private void closeFile() {
+        if (logStream == null) {
+            return;
+        }
+        try {
+            logStream.close();
         } catch (IOException e) {
-            System.err.println("[SessionLogger] Failed to save session: " + e.getMessage());
+            System.err.println("[SessionLogger] Failed to close session log: " + e.getMessage());
         }
+        logStream = null;
     }
     
     /**
@@ -262,10 +692,6 @@ public class SessionLogger {
      * @return the logs directory, or null if creation failed
      */
     private File getLogsDirectory() {
-        String homeDir = System.getProperty("user.home");
-        File appDir = new File(homeDir, APP_FOLDER);
-        File logsDir = new File(appDir, LOGS_FOLDER);
-        
         if (!logsDir.exists() && !logsDir.mkdirs()) {
             return null;
         }
@@ -12,16 +12,62 @@ import java.util.Map;
 
 /**
  * Manages persistent game settings stored in ~/.critterparade/settings.json.
- * Handles first-run detection and logging consent preferences.
+ * Handles first-run detection, logging consent preferences and the performance
+ * settings a technician can tune per cabinet from the options screen.
+ *
+ * <p>Values read from the file are clamped to their valid ranges, so a
+ * hand-edited file can't leave the game unusable.</p>
  */
 public class SettingsManager {
     
     private static final String APP_FOLDER = ".critterparade";
     private static final String SETTINGS_FILE = "settings.json";
     
+    /** {@link #getFpsCap()} value that limits the frame rate to the display's refresh rate. */
+    public static final int FPS_CAP_DISPLAY = -1;
+    
+    /** {@link #getFpsCap()} value that leaves the frame rate unlimited. */
+    public static final int FPS_CAP_NONE = 0;
+    
+    /** Smallest allowed render scale. */
+    public static final float MIN_RENDER_SCALE = 0.5f;
+    
+    /** Most music tracks that can be kept loaded. */
+    public static final int MAX_MUSIC_STREAMS = 4;
+    
+    /**
+     * How textures are sampled when drawn larger or smaller than their size.
+     */
+    public enum TextureFiltering {
+        /** Nearest pixel: sharp pixel art, cheapest. */
+        NEAREST,
+        /** Blends neighboring pixels: smoother when scaled. */
+        LINEAR
+    }
+    
+    /**
+     * How far ahead of the display the graphics driver may queue frames.
+     */
+    public enum FrameLatency {
+        /** The driver's own queue: smoothest, but input can take a few frames to show. */
+        DEFAULT,
+        /** Each frame finishes on the GPU before the next starts: less input lag, lower frame rate. */
+        LOW
+    }
+    
     private boolean loggingEnabled = false;
+    private boolean binaryLogging = false;
     private boolean firstRun = true;
     
+    private int fpsCap = FPS_CAP_DISPLAY;
+    private boolean vsync = true;
+    private float renderScale = 1f;
+    private boolean msaa = false;
+    private TextureFiltering textureFiltering = TextureFiltering.NEAREST;
+    private int musicStreams = MAX_MUSIC_STREAMS;
+    private int backgroundFps = 30;
+    private FrameLatency frameLatency = FrameLatency.DEFAULT;
+    
     /**
      * Creates the settings manager and loads existing settings if present.
      */
@@ -51,6 +97,34 @@ public class SettingsManager {
                 if (settings.containsKey("logging_enabled")) {
                     loggingEnabled = Boolean.TRUE.equals(settings.get("logging_enabled"));
                 }
+                if (settings.containsKey("binary_session_logs")) {
+                    binaryLogging = Boolean.TRUE.equals(settings.get("binary_session_logs"));
+                }
+                
+                setFpsCap(getInt(settings, "fps_cap", fpsCap));
+                if (settings.containsKey("vsync")) {
+                    vsync = Boolean.TRUE.equals(settings.get("vsync"));
+                }
+                setRenderScale(getFloat(settings, "render_scale", renderScale));
+                if (settings.containsKey("msaa")) {
+                    msaa = Boolean.TRUE.equals(settings.get("msaa"));
+                }
+                if (settings.get("texture_filtering") instanceof String filtering) {
+                    try {
+                        textureFiltering = TextureFiltering.valueOf(filtering);
+                    } catch (IllegalArgumentException e) {
+                        System.err.println("[SettingsManager] Unknown texture filtering: " + filtering);
+                    }
+                }
+                setMusicStreams(getInt(settings, "music_streams", musicStreams));
+                setBackgroundFps(getInt(settings, "background_fps", backgroundFps));
+                if (settings.get("frame_latency") instanceof String latency) {
+                    try {
+                        frameLatency = FrameLatency.valueOf(latency);
+                    } catch (IllegalArgumentException e) {
+                        System.err.println("[SettingsManager] Unknown frame latency: " + latency);
+                    }
+                }
             }
         } catch (IOException e) {
             System.err.println("[SettingsManager] Failed to load settings: " + e.getMessage());
@@ -58,6 +132,20 @@ public class SettingsManager {
         }
     }
     
+    /**
+     * Reads a number setting. JSON numbers are read back as floats, so any
+     * {@link Number} is accepted.
+     */
+    private static int getInt(Map<String, Object> settings, String key, int defaultValue) {
+        Object value = settings.get(key);
+        return value instanceof Number number ? Math.round(number.floatValue()) : defaultValue;
+    }
+    
+    private static float getFloat(Map<String, Object> settings, String key, float defaultValue) {
+        Object value = settings.get(key);
+        return value instanceof Number number ? number.floatValue() : defaultValue;
+    }
+    
     /**
      * Saves current settings to the settings file.
      */
@@ -73,6 +161,15 @@ public class SettingsManager {
         
         Map<String, Object> settings = new LinkedHashMap<>();
         settings.put("logging_enabled", loggingEnabled);
+        settings.put("binary_session_logs", binaryLogging);
+        settings.put("fps_cap", fpsCap);
+        settings.put("vsync", vsync);
+        settings.put("render_scale", renderScale);
+        settings.put("msaa", msaa);
+        settings.put("texture_filtering", textureFiltering.name());
+        settings.put("music_streams", musicStreams);
+        settings.put("background_fps", backgroundFps);
+        settings.put("frame_latency", frameLatency.name());
         
         try (FileWriter writer = new FileWriter(settingsFile)) {
             Json json = new Json();
@@ -110,6 +207,17 @@ public class SettingsManager {
         return loggingEnabled;
     }
     
+    /**
+     * Checks if session logs are written in the compact binary encoding rather
+     * than JSON. There is no menu option for this; it is set by editing
+     * settings.json.
+     *
+     * @return true for binary session logs
+     */
+    public boolean isBinaryLogging() {
+        return binaryLogging;
+    }
+    
     /**
      * Sets whether session logging is enabled.
      *
@@ -119,5 +227,151 @@ public class SettingsManager {
         this.loggingEnabled = enabled;
         this.firstRun = false;
     }
+    
+    /**
+     * Gets the frame rate limit while the window has focus.
+     *
+     * @return frames per second, {@link #FPS_CAP_DISPLAY} or {@link #FPS_CAP_NONE}
+     */
+    public int getFpsCap() {
+        return fpsCap;
+    }
+    
+    /**
+     * Sets the frame rate limit while the window has focus.
+     *
+     * @param fpsCap frames per second, {@link #FPS_CAP_DISPLAY} or {@link #FPS_CAP_NONE}
+     */
+    public void setFpsCap(int fpsCap) {
+        this.fpsCap = Math.max(FPS_CAP_DISPLAY, fpsCap);
+    }
+    
+    /**
+     * Checks if vertical sync is on.
+     *
+     * @return true if frames wait for the display's refresh
+     */
+    public boolean isVsync() {
+        return vsync;
+    }
+    
+    /**
+     * Sets whether frames wait for the display's refresh.
+     *
+     * @param vsync true to turn vertical sync on
+     */
+    public void setVsync(boolean vsync) {
+        this.vsync = vsync;
+    }
+    
+    /**
+     * Gets the fraction of the window's resolution the game is drawn at before
+     * being scaled up to fill it.
+     *
+     * @return the scale, from {@link #MIN_RENDER_SCALE} to 1
+     */
+    public float getRenderScale() {
+        return renderScale;
+    }
+    
+    /**
+     * Sets the fraction of the window's resolution the game is drawn at.
+     *
+     * @param renderScale the scale; clamped to {@link #MIN_RENDER_SCALE} to 1
+     */
+    public void setRenderScale(float renderScale) {
+        this.renderScale = Float.isNaN(renderScale) ? 1f : Math.max(MIN_RENDER_SCALE, Math.min(1f, renderScale));
+    }
+    
+    /**
+     * Checks if multisample anti-aliasing is requested. Only read when the
+     * window is created, so a change takes effect on the next start.
+     *
+     * @return true for 4x MSAA
+     */
+    public boolean isMsaa() {
+        return msaa;
+    }
+    
+    /**
+     * Sets whether multisample anti-aliasing is used from the next start.
+     *
+     * @param msaa true for 4x MSAA
+     */
+    public void setMsaa(boolean msaa) {
+        this.msaa = msaa;
+    }
+    
+    /**
+     * Gets how textures are filtered.
+     *
+     * @return the filtering
+     */
+    public TextureFiltering getTextureFiltering() {
+        return textureFiltering;
+    }
+    
+    /**
+     * Sets how textures are filtered.
+     *
+     * @param textureFiltering the filtering
+     */
+    public void setTextureFiltering(TextureFiltering textureFiltering) {
+        this.textureFiltering = textureFiltering;
+    }
+    
+    /**
+     * Gets the most music tracks kept loaded at once. Each loaded track holds a
+     * decoder and audio buffers; tracks beyond the budget are loaded when played.
+     *
+     * @return the number of tracks, from 1 to {@link #MAX_MUSIC_STREAMS}
+     */
+    public int getMusicStreams() {
+        return musicStreams;
+    }
+    
+    /**
+     * Sets the most music tracks kept loaded at once.
+     *
+     * @param musicStreams the number of tracks; clamped to 1 to {@link #MAX_MUSIC_STREAMS}
+     */
+    public void setMusicStreams(int musicStreams) {
+        this.musicStreams = Math.max(1, Math.min(MAX_MUSIC_STREAMS, musicStreams));
+    }
+    
+    /**
+     * Gets the frame rate limit while the window doesn't have focus.
+     *
+     * @return frames per second, at least 1
+     */
+    public int getBackgroundFps() {
+        return backgroundFps;
+    }
+    
+    /**
+     * Sets the frame rate limit while the window doesn't have focus.
+     *
+     * @param backgroundFps frames per second; at least 1
+     */
+    public void setBackgroundFps(int backgroundFps) {
+        this.backgroundFps = Math.max(1, backgroundFps);
+    }
+    
+    /**
+     * Gets how far ahead of the display frames may be queued.
+     *
+     * @return the frame latency mode
+     */
+    public FrameLatency getFrameLatency() {
+        return frameLatency;
+    }
+    
+    /**
+     * Sets how far ahead of the display frames may be queued.
+     *
+     * @param frameLatency the frame latency mode
+     */
+    public void setFrameLatency(FrameLatency frameLatency) {
+        this.frameLatency = frameLatency;
+    }
 }
-
@@ -0,0 +1,171 @@
+package com.roachstudios.critterparade;
+
+import com.badlogic.gdx.utils.ObjectIntMap;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * One minigame's scores as stored in a {@link LeaderboardFile}, read in place
+ * from the mapped file.
+ *
+ * <p>Columns are indexed by submission order. The file also stores the ranking
+ * (indices best first, and each index's rank) and every player's best score, so
+ * top lists, ranks and personal bests are answered straight from the mapping
+ * without sorting or creating objects. Player names are decoded on first use.</p>
+ *
+ * <p>Reads only use absolute buffer positions, so instances may be shared between
+ * threads once created.</p>
+ */
+final class StoredScores {
+
+    private final ByteBuffer buffer;
+    private final boolean lowerIsBetter;
+    private final int count;
+    private final int playerCount;
+
+    private final int timestampsAt;
+    private final int valuesAt;
+    private final int playerIdsAt;
+    private final int rankOrderAt;
+    private final int rankOfIndexAt;
+    private final int personalBestAt;
+    private final int namesAt;
+
+    /** Decoded player names; null until first needed. */
+    private volatile String[] names;
+    private ObjectIntMap<String> playerIdsByName;
+
+    /**
+     * Creates a view of one section of a mapped leaderboard file.
+     *
+     * @param buffer the whole mapped file
+     * @param lowerIsBetter true if lower scores rank higher
+     * @param count number of scores
+     * @param playerCount number of distinct players
+     * @param offset byte offset of the section's columns
+     */
+    StoredScores(ByteBuffer buffer, boolean lowerIsBetter, int count, int playerCount, int offset) {
+        this.buffer = buffer;
+        this.lowerIsBetter = lowerIsBetter;
+        this.count = count;
+        this.playerCount = playerCount;
+        this.timestampsAt = offset;
+        this.valuesAt = timestampsAt + 8 * count;
+        this.playerIdsAt = valuesAt + 4 * count;
+        this.rankOrderAt = playerIdsAt + 4 * count;
+        this.rankOfIndexAt = rankOrderAt + 4 * count;
+        this.personalBestAt = rankOfIndexAt + 4 * count;
+        this.namesAt = personalBestAt + 4 * playerCount;
+    }
+
+    /**
+     * Gets the size of a section's fixed-width columns, before the name table.
+     *
+     * @param count number of scores
+     * @param playerCount number of distinct players
+     * @return the size in bytes
+     */
+    static long columnBytes(int count, int playerCount) {
+        return 24L * count + 4L * playerCount;
+    }
+
+    int size() {
+        return count;
+    }
+
+    boolean isLowerBetter() {
+        return lowerIsBetter;
+    }
+
+    float getValue(int index) {
+        return buffer.getFloat(valuesAt + 4 * index);
+    }
+
+    long getTimestamp(int index) {
+        return buffer.getLong(timestampsAt + 8 * index);
+    }
+
+    String getPlayerName(int index) {
+        return names()[buffer.getInt(playerIdsAt + 4 * index)];
+    }
+
+    /**
+     * Gets the score at a rank.
+     *
+     * @param rank 0-based rank
+     * @return the score's index
+     */
+    int getRanked(int rank) {
+        return buffer.getInt(rankOrderAt + 4 * rank);
+    }
+
+    /**
+     * Gets a score's rank among the stored scores.
+     *
+     * @param index the score's index
+     * @return 0-based rank
+     */
+    int rankOf(int index) {
+        return buffer.getInt(rankOfIndexAt + 4 * index);
+    }
+
+    /**
+     * Counts stored scores that are better than or equal to a value, by binary
+     * search over the ranking.
+     *
+     * @param value the score value
+     * @return the count
+     */
+    int countAtLeast(float value) {
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            float stored = getValue(getRanked(mid));
+            if (lowerIsBetter ? stored <= value : stored >= value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Gets a player's best stored score.
+     *
+     * @param playerName the player's name
+     * @return the score's index, or -1 if the player has no stored scores
+     */
+    int personalBest(String playerName) {
+        names();
+        int playerId = playerIdsByName.get(playerName, -1);
+        return playerId >= 0 ? buffer.getInt(personalBestAt + 4 * playerId) : -1;
+    }
+
+    private String[] names() {
+        String[] decoded = names;
+        if (decoded != null) {
+            return decoded;
+        }
+        synchronized (this) {
+            if (names == null) {
+                String[] result = new String[playerCount];
+                ObjectIntMap<String> ids = new ObjectIntMap<>(playerCount);
+                int position = namesAt;
+                for (int i = 0; i < playerCount; i++) {
+                    int length = buffer.getShort(position) & 0xFFFF;
+                    byte[] bytes = new byte[length];
+                    buffer.get(position + 2, bytes);
+                    position += 2 + length;
+                    result[i] = new String(bytes, StandardCharsets.UTF_8);
+                    ids.put(result[i], i);
+                }
+                playerIdsByName = ids;
+                names = result;
+            }
+            return names;
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package com.roachstudios.critterparade.gameboards;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.ai.fsm.DefaultStateMachine;
+import com.badlogic.gdx.ai.fsm.State;
+import com.badlogic.gdx.ai.fsm.StateMachine;
+import com.badlogic.gdx.ai.msg.Telegram;
+import com.badlogic.gdx.math.MathUtils;
+import com.roachstudios.critterparade.Player;
+
+/**
+ * CPU controller for a {@link Player} seat.
+ *
+ * <p>A bot does not call into the board directly: it produces the same presses
+ * a person would, which {@link Player}'s input methods return instead of
+ * keyboard state. Screens therefore need no bot-specific code; the board reads
+ * "Action" to roll and "Left"/"Right"/"Action" to pick a junction exactly as it
+ * does for humans.</p>
+ *
+ * <p>Behaviour is a gdx-ai {@link StateMachine}. The bot advances once per frame,
+ * the first time any of its inputs is queried. While a {@link GameBoard} is shown
+ * it waits for its turn, rolls after a short pause and steers junctions using a
+ * {@link BoardPlanner}; elsewhere (minigames, ready-up screens) it taps random
+ * directions and Action so every screen can progress.</p>
+ */
+public class BoardBot {
+
+    /** Pause before each board action, so people can follow what the bot does. */
+    private static final float THINK_DELAY = 0.6f;
+
+    /** Pause between selection presses while steering a junction. */
+    private static final float STEER_DELAY = 0.25f;
+
+    /** Shortest and longest gap between taps outside the board. */
+    private static final float MIN_TAP_DELAY = 0.08f;
+    private static final float MAX_TAP_DELAY = 0.3f;
+
+    /** Chance that a tap outside the board is Right, which most minigames reward. */
+    private static final float RIGHT_TAP_CHANCE = 0.5f;
+
+    private final Player player;
+    private final StateMachine<BoardBot, BotState> stateMachine;
+
+    private GameBoard board;
+    private BoardPlanner planner;
+
+    /** Presses emitted this frame, indexed by {@link Player.InputAction} ordinal. */
+    private final boolean[] justPressed = new boolean[Player.InputAction.values().length];
+
+    /** Direction currently held outside the board, or null. */
+    private Player.InputAction held;
+
+    private long lastFrameId = -1;
+    private float delta;
+    private float timer;
+    private int targetOption;
+
+    /**
+     * Creates a bot controlling a player.
+     *
+     * @param player the seat this bot plays
+     */
+    public BoardBot(Player player) {
+        this.player = player;
+        this.stateMachine = new DefaultStateMachine<>(this, BotState.FREE_PLAY);
+    }
+
+    /**
+     * Behaviour states for a bot.
+     */
+    private enum BotState implements State<BoardBot> {
+        /** Not on a board: tap random inputs so minigames and ready screens progress. */
+        FREE_PLAY {
+            @Override
+            public void enter(BoardBot bot) {
+                bot.timer = MathUtils.random(MIN_TAP_DELAY, MAX_TAP_DELAY);
+            }
+
+            @Override
+            public void update(BoardBot bot) {
+                if (bot.board != null) {
+                    bot.stateMachine.changeState(WAITING);
+                    return;
+                }
+                bot.timer -= bot.delta;
+                if (bot.timer <= 0) {
+                    bot.held = bot.randomTap();
+                    bot.press(bot.held);
+                    bot.timer = MathUtils.random(MIN_TAP_DELAY, MAX_TAP_DELAY);
+                }
+            }
+        },
+
+        /** On a board, waiting for a decision to make. */
+        WAITING {
+            @Override
+            public void enter(BoardBot bot) {
+                bot.held = null;
+            }
+
+            @Override
+            public void update(BoardBot bot) {
+                if (bot.board == null) {
+                    bot.stateMachine.changeState(FREE_PLAY);
+                } else if (bot.isMyTurn()) {
+                    if (bot.board.state == GameBoard.GameState.WAITING_FOR_ROLL) {
+                        bot.stateMachine.changeState(ROLLING);
+                    } else if (bot.board.state == GameBoard.GameState.CHOOSING_DIRECTION) {
+                        bot.stateMachine.changeState(STEERING);
+                    }
+                }
+            }
+        },
+
+        /** Pausing, then pressing Action to roll. */
+        ROLLING {
+            @Override
+            public void enter(BoardBot bot) {
+                bot.timer = THINK_DELAY;
+            }
+
+            @Override
+            public void update(BoardBot bot) {
+                bot.timer -= bot.delta;
+                if (bot.timer <= 0) {
+                    bot.press(Player.InputAction.ACTION);
+                    bot.stateMachine.changeState(WAITING);
+                }
+            }
+        },
+
+        /** Moving the junction selection to the planned option, then confirming. */
+        STEERING {
+            @Override
+            public void enter(BoardBot bot) {
+                bot.timer = THINK_DELAY;
+                bot.targetOption = bot.planJunction();
+            }
+
+            @Override
+            public void update(BoardBot bot) {
+                if (bot.board == null || bot.board.state != GameBoard.GameState.CHOOSING_DIRECTION) {
+                    bot.stateMachine.changeState(WAITING);
+                    return;
+                }
+                bot.timer -= bot.delta;
+                if (bot.timer > 0) {
+                    return;
+                }
+                if (bot.board.selectedJunctionIndex != bot.targetOption) {
+                    bot.press(Player.InputAction.RIGHT);
+                    bot.timer = STEER_DELAY;
+                } else {
+                    bot.press(Player.InputAction.ACTION);
+                    bot.stateMachine.changeState(WAITING);
+                }
+            }
+        };
+
+        @Override
+        public void exit(BoardBot bot) {
+        }
+
+        @Override
+        public boolean onMessage(BoardBot bot, Telegram telegram) {
+            return false;
+        }
+    }
+
+    /**
+     * Starts playing a board. Called by the board when it is shown.
+     *
+     * @param board the board being played
+     */
+    void attach(GameBoard board) {
+        this.board = board;
+        this.planner = new BoardPlanner(board.graph, BoardRules.DEFAULT,
+            board.gameInstance.getNumPlayers(), BoardPlanner.GAME_DEPTH, BoardPlanner.GAME_BUDGET_NANOS);
+    }
+
+    /**
+     * Stops playing a board. Called by the board when it is hidden.
+     */
+    void detach() {
+        this.board = null;
+        this.planner = null;
+    }
+
+    /**
+     * Checks if the bot is holding an input this frame.
+     *
+     * @param action the input action
+     * @return true if held
+     */
+    public boolean isPressing(Player.InputAction action) {
+        advanceFrame();
+        return held == action || justPressed[action.ordinal()];
+    }
+
+    /**
+     * Checks if the bot pressed an input this frame.
+     *
+     * @param action the input action
+     * @return true on the frame the bot presses it
+     */
+    public boolean justPressed(Player.InputAction action) {
+        advanceFrame();
+        return justPressed[action.ordinal()];
+    }
+
+    /**
+     * Runs the state machine once per rendered frame, on the first input query.
+     */
+    private void advanceFrame() {
+        long frameId = Gdx.graphics.getFrameId();
+        if (frameId == lastFrameId) {
+            return;
+        }
+        lastFrameId = frameId;
+        delta = Gdx.graphics.getDeltaTime();
+        for (int i = 0; i < justPressed.length; i++) {
+            justPressed[i] = false;
+        }
+        stateMachine.update();
+    }
+
+    private void press(Player.InputAction action) {
+        justPressed[action.ordinal()] = true;
+    }
+
+    private Player.InputAction randomTap() {
+        if (MathUtils.random() < RIGHT_TAP_CHANCE) {
+            return Player.InputAction.RIGHT;
+        }
+        Player.InputAction[] actions = Player.InputAction.values();
+        return actions[MathUtils.random(actions.length - 1)];
+    }
+
+    private boolean isMyTurn() {
+        return board.gameInstance.getPlayers()[board.gameInstance.getCurrentPlayerTurn()] == player;
+    }
+
+    private int planJunction() {
+        long start = System.nanoTime();
+        int option = planner.chooseOption(board.shops, board.junctionArrival,
+            board.movesRemaining, player.getCrumbs(), player.getFruit());
+        if (board.gameInstance.isDebugMode()) {
+            board.gameInstance.log("%s chose option %d in %.3f ms", player.getName(), option,
+                (System.nanoTime() - start) / 1_000_000.0);
+        }
+        return option;
+    }
+}
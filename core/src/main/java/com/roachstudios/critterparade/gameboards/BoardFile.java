@@ -0,0 +1,440 @@
+package com.roachstudios.critterparade.gameboards;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A board definition loaded from {@code assets/board/<Name>/board.txt}.
+ *
+ * <p>Board files are plain text with {@code #} comments and three parts:
+ * <ul>
+ *   <li>A header of {@code key: value} lines (name, order, background, theme colors and
+ *       an optional {@code size}: the board's width and height in screens, default {@code 1 1})</li>
+ *   <li>A {@code tiles:} section with one {@code id x y TYPE} line per tile, positioned as
+ *       fractions (0-1) of the board</li>
+ *   <li>An {@code edges:} section with one {@code a b} line per bidirectional connection</li>
+ * </ul>
+ *
+ * <p>Only the header is read when boards are discovered at startup. The tile and
+ * edge sections are parsed, validated and compiled into a {@link BoardGraph} the
+ * first time the board is played; the compiled graph is cached here and shared by
+ * every {@link GameBoard} created for this file afterwards (the board screen is
+ * rebuilt after each minigame).</p>
+ */
+public final class BoardFile {
+
+    /** Asset directory containing one subdirectory per board. */
+    public static final String BOARD_DIRECTORY = "board";
+
+    /** Name of the definition file inside each board directory. */
+    public static final String FILE_NAME = "board.txt";
+
+    /** Asset list generated by the build; used because internal directories can't be listed inside a jar. */
+    private static final String ASSET_LIST = "assets.txt";
+
+    private static final String TILES_SECTION = "tiles:";
+    private static final String EDGES_SECTION = "edges:";
+
+    private final FileHandle file;
+    private final String name;
+    private final int order;
+    private final String backgroundPath;
+    private final GameBoard.BoardTheme theme;
+    private final float widthInScreens;
+    private final float heightInScreens;
+
+    /** Compiled graph, built on first use. Guarded by {@code this}. */
+    private BoardGraph graph;
+
+    private BoardFile(FileHandle file, String name, int order, String backgroundPath, GameBoard.BoardTheme theme,
+                      float widthInScreens, float heightInScreens) {
+        this.file = file;
+        this.name = name;
+        this.order = order;
+        this.backgroundPath = backgroundPath;
+        this.theme = theme;
+        this.widthInScreens = widthInScreens;
+        this.heightInScreens = heightInScreens;
+    }
+
+    /**
+     * Finds all board files in the internal assets and reads their headers.
+     * Boards whose header is malformed are reported and skipped.
+     *
+     * @return the discovered boards, sorted by their {@code order} key then name
+     */
+    public static List<BoardFile> discover() {
+        List<FileHandle> files = new ArrayList<>();
+        FileHandle assetList = Gdx.files.internal(ASSET_LIST);
+
+        if (assetList.exists()) {
+            String prefix = BOARD_DIRECTORY + "/";
+            String suffix = "/" + FILE_NAME;
+            for (String entry : assetList.readString("UTF-8").split("\\R")) {
+                String path = entry.trim().replace('\\', '/');
+                if (path.startsWith(prefix) && path.endsWith(suffix)) {
+                    files.add(Gdx.files.internal(path));
+                }
+            }
+        } else {
+            collectBoardFiles(Gdx.files.internal(BOARD_DIRECTORY), files);
+        }
+
+        return readHeaders(files);
+    }
+
+    /**
+     * Finds all board files below a board directory and reads their headers.
+     * Useful outside a running application, where {@code Gdx.files} is unavailable.
+     *
+     * @param boardDirectory directory containing one subdirectory per board
+     * @return the discovered boards, sorted by their {@code order} key then name
+     */
+    public static List<BoardFile> discover(FileHandle boardDirectory) {
+        List<FileHandle> files = new ArrayList<>();
+        collectBoardFiles(boardDirectory, files);
+        return readHeaders(files);
+    }
+
+    private static void collectBoardFiles(FileHandle boardDirectory, List<FileHandle> files) {
+        for (FileHandle dir : boardDirectory.list()) {
+            FileHandle boardFile = dir.child(FILE_NAME);
+            if (dir.isDirectory() && boardFile.exists()) {
+                files.add(boardFile);
+            }
+        }
+    }
+
+    private static List<BoardFile> readHeaders(List<FileHandle> files) {
+        List<BoardFile> boards = new ArrayList<>();
+        for (FileHandle file : files) {
+            try {
+                boards.add(readHeader(file));
+            } catch (GdxRuntimeException e) {
+                System.err.println("[BoardFile] Skipping board: " + e.getMessage());
+            }
+        }
+        boards.sort(Comparator.comparingInt(BoardFile::getOrder).thenComparing(BoardFile::getName));
+        return boards;
+    }
+
+    /**
+     * Reads only the header of a board file.
+     *
+     * @param file the board file
+     * @return a board file whose graph will be loaded on first use
+     * @throws GdxRuntimeException if the file can't be read or the header is invalid
+     */
+    public static BoardFile readHeader(FileHandle file) {
+        Map<String, String> header = new HashMap<>();
+
+        try (BufferedReader reader = file.reader(8192, "UTF-8")) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                String text = stripComment(line);
+                if (text.isEmpty()) {
+                    continue;
+                }
+                if (text.equals(TILES_SECTION)) {
+                    break;
+                }
+                int colon = text.indexOf(':');
+                if (colon <= 0) {
+                    throw error(file, lineNumber, "expected 'key: value'");
+                }
+                header.put(text.substring(0, colon).trim(), text.substring(colon + 1).trim());
+            }
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Failed to read " + file.path(), e);
+        }
+
+        String name = requireKey(file, header, "name");
+        String background = requireKey(file, header, "background");
+        int order = Integer.MAX_VALUE;
+        if (header.containsKey("order")) {
+            try {
+                order = Integer.parseInt(header.get("order"));
+            } catch (NumberFormatException e) {
+                throw new GdxRuntimeException(file.path() + ": 'order' must be an integer");
+            }
+        }
+
+        float widthInScreens = 1f;
+        float heightInScreens = 1f;
+        if (header.containsKey("size")) {
+            String[] parts = header.get("size").split("\\s+");
+            try {
+                if (parts.length != 2) {
+                    throw new NumberFormatException();
+                }
+                widthInScreens = Float.parseFloat(parts[0]);
+                heightInScreens = Float.parseFloat(parts[1]);
+            } catch (NumberFormatException e) {
+                throw new GdxRuntimeException(file.path() + ": 'size' must be 'width height'");
+            }
+            if (!(widthInScreens >= 1f && heightInScreens >= 1f)) {
+                throw new GdxRuntimeException(file.path() + ": 'size' must be at least 1 screen each way");
+            }
+        }
+
+        GameBoard.BoardTheme theme = new GameBoard.BoardTheme(
+            parseColor(file, header, "color.path"),
+            parseColor(file, header, "color.pathOutline"),
+            parseColor(file, header, "color.shop"),
+            parseColor(file, header, "color.selectionGlow"),
+            parseColor(file, header, "color.uiBackground"),
+            parseColor(file, header, "color.clear")
+        );
+
+        return new BoardFile(file, name, order, file.sibling(background).path(), theme,
+            widthInScreens, heightInScreens);
+    }
+
+    /**
+     * Gets the compiled tile graph, parsing and validating the tile and edge
+     * sections on the first call.
+     *
+     * @return the compiled graph
+     * @throws GdxRuntimeException if the file can't be read or the board is invalid
+     */
+    public synchronized BoardGraph getGraph() {
+        if (graph == null) {
+            graph = loadGraph();
+        }
+        return graph;
+    }
+
+    private BoardGraph loadGraph() {
+        List<BoardTile> tiles = new ArrayList<>();
+        String section = null;
+
+        try (BufferedReader reader = file.reader(8192, "UTF-8")) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                String text = stripComment(line);
+                if (text.isEmpty()) {
+                    continue;
+                }
+                if (text.equals(TILES_SECTION) || text.equals(EDGES_SECTION)) {
+                    section = text;
+                    continue;
+                }
+                if (section == null) {
+                    continue; // header, already read
+                }
+
+                String[] tokens = text.split("\\s+");
+                if (section.equals(TILES_SECTION)) {
+                    tiles.add(parseTile(tokens, tiles.size(), lineNumber));
+                } else {
+                    parseEdge(tokens, tiles, lineNumber);
+                }
+            }
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Failed to read " + file.path(), e);
+        }
+
+        if (tiles.size() < 2) {
+            throw new GdxRuntimeException(file.path() + ": a board needs at least 2 tiles");
+        }
+        checkConnected(tiles);
+
+        return BoardGraph.compile(tiles);
+    }
+
+    private BoardTile parseTile(String[] tokens, int expectedId, int lineNumber) {
+        if (tokens.length != 4) {
+            throw error(file, lineNumber, "expected 'id x y TYPE'");
+        }
+        int id = parseInt(tokens[0], lineNumber);
+        if (id != expectedId) {
+            throw error(file, lineNumber, "tile IDs must be sequential; expected " + expectedId);
+        }
+        float x = parseFloat(tokens[1], lineNumber);
+        float y = parseFloat(tokens[2], lineNumber);
+        if (!(x >= 0f && x <= 1f && y >= 0f && y <= 1f)) {
+            throw error(file, lineNumber, "tile position must be within 0-1");
+        }
+        BoardTile.Type type;
+        try {
+            type = BoardTile.Type.valueOf(tokens[3]);
+        } catch (IllegalArgumentException e) {
+            throw error(file, lineNumber, "unknown tile type '" + tokens[3] + "'");
+        }
+        return new BoardTile(id, x, y, type);
+    }
+
+    private void parseEdge(String[] tokens, List<BoardTile> tiles, int lineNumber) {
+        if (tokens.length != 2) {
+            throw error(file, lineNumber, "expected 'a b'");
+        }
+        int a = parseInt(tokens[0], lineNumber);
+        int b = parseInt(tokens[1], lineNumber);
+        if (a < 0 || a >= tiles.size() || b < 0 || b >= tiles.size()) {
+            throw error(file, lineNumber, "edge references an unknown tile");
+        }
+        if (a == b) {
+            throw error(file, lineNumber, "a tile can't connect to itself");
+        }
+        BoardTile tileA = tiles.get(a);
+        BoardTile tileB = tiles.get(b);
+        if (tileA.getNeighbors().contains(tileB)) {
+            throw error(file, lineNumber, "duplicate edge " + a + "-" + b);
+        }
+        tileA.addNeighbor(tileB);
+        tileB.addNeighbor(tileA);
+    }
+
+    /**
+     * Ensures every tile can be reached from the start tile, so shops never spawn
+     * somewhere players can't get to.
+     */
+    private void checkConnected(List<BoardTile> tiles) {
+        BitSet visited = new BitSet(tiles.size());
+        int[] stack = new int[tiles.size()];
+        int top = 0;
+        stack[top++] = GameBoard.START_TILE_INDEX;
+        visited.set(GameBoard.START_TILE_INDEX);
+        while (top > 0) {
+            BoardTile tile = tiles.get(stack[--top]);
+            for (BoardTile neighbor : tile.getNeighbors()) {
+                if (!visited.get(neighbor.getId())) {
+                    visited.set(neighbor.getId());
+                    stack[top++] = neighbor.getId();
+                }
+            }
+        }
+        int unreachable = visited.nextClearBit(0);
+        if (unreachable < tiles.size()) {
+            throw new GdxRuntimeException(file.path() + ": tile " + unreachable
+                + " can't be reached from the start tile");
+        }
+    }
+
+    private int parseInt(String token, int lineNumber) {
+        try {
+            return Integer.parseInt(token);
+        } catch (NumberFormatException e) {
+            throw error(file, lineNumber, "'" + token + "' is not an integer");
+        }
+    }
+
+    private float parseFloat(String token, int lineNumber) {
+        try {
+            return Float.parseFloat(token);
+        } catch (NumberFormatException e) {
+            throw error(file, lineNumber, "'" + token + "' is not a number");
+        }
+    }
+
+    private static String requireKey(FileHandle file, Map<String, String> header, String key) {
+        String value = header.get(key);
+        if (value == null || value.isEmpty()) {
+            throw new GdxRuntimeException(file.path() + ": missing '" + key + "'");
+        }
+        return value;
+    }
+
+    private static Color parseColor(FileHandle file, Map<String, String> header, String key) {
+        String[] parts = requireKey(file, header, key).split("\\s+");
+        if (parts.length != 4) {
+            throw new GdxRuntimeException(file.path() + ": '" + key + "' must be 'r g b a'");
+        }
+        try {
+            return new Color(
+                Float.parseFloat(parts[0]),
+                Float.parseFloat(parts[1]),
+                Float.parseFloat(parts[2]),
+                Float.parseFloat(parts[3]));
+        } catch (NumberFormatException e) {
+            throw new GdxRuntimeException(file.path() + ": '" + key + "' must be 'r g b a'");
+        }
+    }
+
+    private static String stripComment(String line) {
+        int hash = line.indexOf('#');
+        return (hash >= 0 ? line.substring(0, hash) : line).trim();
+    }
+
+    private static GdxRuntimeException error(FileHandle file, int lineNumber, String message) {
+        return new GdxRuntimeException(file.path() + ":" + lineNumber + ": " + message);
+    }
+
+    /**
+     * Gets the board's display name.
+     *
+     * @return the display name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the board's position in selection menus (lower first).
+     *
+     * @return the sort order
+     */
+    public int getOrder() {
+        return order;
+    }
+
+    /**
+     * Gets the internal asset path of the board's background texture.
+     *
+     * @return the background texture path
+     */
+    public String getBackgroundPath() {
+        return backgroundPath;
+    }
+
+    /**
+     * Gets the board's width, in multiples of the screen width.
+     *
+     * @return the width in screens (at least 1)
+     */
+    public float getWidthInScreens() {
+        return widthInScreens;
+    }
+
+    /**
+     * Gets the board's height, in multiples of the screen height.
+     *
+     * @return the height in screens (at least 1)
+     */
+    public float getHeightInScreens() {
+        return heightInScreens;
+    }
+
+    /**
+     * Gets the board's color theme.
+     *
+     * @return the theme read from the header
+     */
+    GameBoard.BoardTheme getTheme() {
+        return theme;
+    }
+
+    /**
+     * Gets the underlying file.
+     *
+     * @return the board file handle
+     */
+    public FileHandle getFile() {
+        return file;
+    }
+}
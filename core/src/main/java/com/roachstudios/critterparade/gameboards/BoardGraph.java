@@ -0,0 +1,395 @@
+package com.roachstudios.critterparade.gameboards;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Immutable, array-backed form of a board's tile graph.
+ *
+ * <p>{@link BoardTile} objects are convenient for authoring boards, but every
+ * lookup through them chases object references and
+ * {@link BoardTile#getNextTiles(BoardTile)} allocates a list per step. A
+ * {@code BoardGraph} flattens the same data into primitive arrays once per board:
+ * <ul>
+ *   <li>Neighbours are stored in compressed-sparse-row form
+ *       ({@code neighborStart[t]..neighborStart[t + 1]} indexes {@code neighbors})</li>
+ *   <li>The tiles reachable from a tile, given the tile the player arrived from,
+ *       are precomputed for every arrival direction</li>
+ * </ul>
+ *
+ * <p>Movement is expressed in terms of an <em>arrival</em> index: one per directed
+ * edge (arriving at a tile from one of its neighbours) plus one per tile for
+ * "no previous tile". Resolve it once with {@link #getArrival(int, int)} and then
+ * query {@link #getNextCount(int)} / {@link #getNext(int, int)} without allocating.</p>
+ *
+ * <p>Compiling also indexes tiles and edges by position
+ * ({@link #getSpatialIndex()}) so large boards only draw what is on screen.
+ * Nothing is precomputed per pair of positions, so memory and compile time stay
+ * linear in the board's size; distances to shops are kept by
+ * {@link BoardShops} instead.</p>
+ *
+ * <p>Instances never change after {@link #compile(List)} and are safe to share
+ * between threads and board instances.</p>
+ */
+public final class BoardGraph {
+
+    /** Distance reported for shops that cannot be reached from an arrival. */
+    public static final int UNREACHABLE = Short.MAX_VALUE;
+
+    private final int tileCount;
+    private final float[] posX;
+    private final float[] posY;
+    private final BoardTile.Type[] types;
+
+    /** CSR row offsets into {@link #neighbors}, length {@code tileCount + 1}. */
+    private final int[] neighborStart;
+
+    /** Flattened neighbour tile IDs, grouped by tile. */
+    private final int[] neighbors;
+
+    /** CSR row offsets into {@link #next}, one row per arrival index plus a terminator. */
+    private final int[] nextStart;
+
+    /** Flattened next-tile options, grouped by arrival index. */
+    private final int[] next;
+
+    /** Arrival index reached by taking each option in {@link #next}. */
+    private final int[] nextArrival;
+
+    /** Tile a player stands on for each arrival index. */
+    private final int[] arrivalTile;
+
+    /** CSR row offsets into {@link #previousArrival}, one row per arrival plus a terminator. */
+    private final int[] previousStart;
+
+    /** Arrivals that can step to each arrival (the reverse of {@link #nextArrival}). */
+    private final int[] previousArrival;
+
+    /** Grid of tiles and edges by position, for culling. */
+    private final BoardSpatialIndex spatialIndex;
+
+    private BoardGraph(int tileCount, float[] posX, float[] posY, BoardTile.Type[] types,
+                       int[] neighborStart, int[] neighbors, int[] nextStart, int[] next,
+                       int[] nextArrival, int[] arrivalTile) {
+        this.tileCount = tileCount;
+        this.posX = posX;
+        this.posY = posY;
+        this.types = types;
+        this.neighborStart = neighborStart;
+        this.neighbors = neighbors;
+        this.nextStart = nextStart;
+        this.next = next;
+        this.nextArrival = nextArrival;
+        this.arrivalTile = arrivalTile;
+
+        int arrivalCount = arrivalTile.length;
+        this.previousStart = new int[arrivalCount + 1];
+        for (int b : nextArrival) {
+            previousStart[b + 1]++;
+        }
+        for (int a = 0; a < arrivalCount; a++) {
+            previousStart[a + 1] += previousStart[a];
+        }
+        this.previousArrival = new int[nextArrival.length];
+        int[] fill = Arrays.copyOf(previousStart, arrivalCount);
+        for (int a = 0; a < arrivalCount; a++) {
+            for (int i = nextStart[a]; i < nextStart[a + 1]; i++) {
+                previousArrival[fill[nextArrival[i]]++] = a;
+            }
+        }
+
+        this.spatialIndex = new BoardSpatialIndex(this);
+    }
+
+    /**
+     * Compiles a list of connected tiles into a graph.
+     *
+     * @param tiles the board tiles; each tile's ID must equal its list index
+     * @return the compiled graph
+     * @throws IllegalArgumentException if the tile list is empty or IDs do not match indices
+     */
+    public static BoardGraph compile(List<BoardTile> tiles) {
+        int n = tiles.size();
+        if (n == 0) {
+            throw new IllegalArgumentException("Board must have at least one tile");
+        }
+
+        float[] posX = new float[n];
+        float[] posY = new float[n];
+        BoardTile.Type[] types = new BoardTile.Type[n];
+        int[] neighborStart = new int[n + 1];
+
+        for (int t = 0; t < n; t++) {
+            BoardTile tile = tiles.get(t);
+            if (tile.getId() != t) {
+                throw new IllegalArgumentException(
+                    "Tile at index " + t + " has mismatched ID " + tile.getId());
+            }
+            posX[t] = tile.getPosX();
+            posY[t] = tile.getPosY();
+            types[t] = tile.getType();
+            neighborStart[t + 1] = neighborStart[t] + tile.getNeighbors().size();
+        }
+
+        int edgeCount = neighborStart[n];
+        int[] neighbors = new int[edgeCount];
+        for (int t = 0; t < n; t++) {
+            int e = neighborStart[t];
+            for (BoardTile neighbor : tiles.get(t).getNeighbors()) {
+                neighbors[e++] = neighbor.getId();
+            }
+        }
+
+        // Arrival rows: [0, edgeCount) arrive via a neighbour slot,
+        // [edgeCount, edgeCount + n) arrive with no previous tile.
+        int arrivalCount = edgeCount + n;
+        int[] nextStart = new int[arrivalCount + 1];
+        for (int t = 0; t < n; t++) {
+            int degree = neighborStart[t + 1] - neighborStart[t];
+            // Dead ends let the player turn around; elsewhere backtracking is not allowed
+            int withCameFrom = degree <= 1 ? degree : degree - 1;
+            for (int e = neighborStart[t]; e < neighborStart[t + 1]; e++) {
+                nextStart[e + 1] = withCameFrom;
+            }
+            nextStart[edgeCount + t + 1] = degree;
+        }
+        for (int a = 0; a < arrivalCount; a++) {
+            nextStart[a + 1] += nextStart[a];
+        }
+
+        // reverse[e] is the slot of tile t in the row of neighbour neighbors[e],
+        // i.e. the arrival index for stepping along e
+        int[] reverse = new int[edgeCount];
+        int[] arrivalTile = new int[arrivalCount];
+        for (int t = 0; t < n; t++) {
+            for (int e = neighborStart[t]; e < neighborStart[t + 1]; e++) {
+                int neighbor = neighbors[e];
+                for (int k = neighborStart[neighbor]; k < neighborStart[neighbor + 1]; k++) {
+                    if (neighbors[k] == t) {
+                        reverse[e] = k;
+                        break;
+                    }
+                }
+                arrivalTile[e] = t;
+            }
+            arrivalTile[edgeCount + t] = t;
+        }
+
+        int[] next = new int[nextStart[arrivalCount]];
+        int[] nextArrival = new int[next.length];
+        for (int t = 0; t < n; t++) {
+            int from = neighborStart[t];
+            int to = neighborStart[t + 1];
+            int degree = to - from;
+            for (int e = from; e < to; e++) {
+                int out = nextStart[e];
+                for (int k = from; k < to; k++) {
+                    if (k != e || degree <= 1) {
+                        nextArrival[out] = reverse[k];
+                        next[out++] = neighbors[k];
+                    }
+                }
+            }
+            int out = nextStart[edgeCount + t];
+            for (int k = from; k < to; k++) {
+                nextArrival[out] = reverse[k];
+                next[out++] = neighbors[k];
+            }
+        }
+
+        return new BoardGraph(n, posX, posY, types, neighborStart, neighbors, nextStart, next,
+            nextArrival, arrivalTile);
+    }
+
+    /**
+     * Gets the spatial index of the board's tiles and edges.
+     *
+     * @return the index
+     */
+    public BoardSpatialIndex getSpatialIndex() {
+        return spatialIndex;
+    }
+
+    /**
+     * Gets the number of tiles on the board.
+     *
+     * @return the tile count
+     */
+    public int getTileCount() {
+        return tileCount;
+    }
+
+    /**
+     * Gets the X position of a tile as a fraction of the board width.
+     *
+     * @param tile the tile ID
+     * @return X position (0-1)
+     */
+    public float getPosX(int tile) {
+        return posX[tile];
+    }
+
+    /**
+     * Gets the Y position of a tile as a fraction of the board height.
+     *
+     * @param tile the tile ID
+     * @return Y position (0-1)
+     */
+    public float getPosY(int tile) {
+        return posY[tile];
+    }
+
+    /**
+     * Gets the type of a tile.
+     *
+     * @param tile the tile ID
+     * @return the tile type
+     */
+    public BoardTile.Type getType(int tile) {
+        return types[tile];
+    }
+
+    /**
+     * Gets the number of tiles connected to a tile.
+     *
+     * @param tile the tile ID
+     * @return the neighbour count
+     */
+    public int getNeighborCount(int tile) {
+        return neighborStart[tile + 1] - neighborStart[tile];
+    }
+
+    /**
+     * Gets one of a tile's neighbours.
+     *
+     * @param tile the tile ID
+     * @param i neighbour slot in {@code [0, getNeighborCount(tile))}
+     * @return the neighbouring tile ID
+     */
+    public int getNeighbor(int tile, int i) {
+        return neighbors[neighborStart[tile] + i];
+    }
+
+    /**
+     * Resolves the arrival index for a player standing on {@code tile} who moved
+     * there from {@code previousTile}. Cost is bounded by the tile's degree.
+     *
+     * @param tile the tile the player is on
+     * @param previousTile the tile the player came from, or -1 if none
+     * @return the arrival index to pass to {@link #getNextCount(int)} and {@link #getNext(int, int)}
+     */
+    public int getArrival(int tile, int previousTile) {
+        if (previousTile >= 0) {
+            for (int e = neighborStart[tile]; e < neighborStart[tile + 1]; e++) {
+                if (neighbors[e] == previousTile) {
+                    return e;
+                }
+            }
+        }
+        return neighbors.length + tile;
+    }
+
+    /**
+     * Gets the number of tiles a player may move to next.
+     *
+     * @param arrival arrival index from {@link #getArrival(int, int)}
+     * @return the number of next-tile options
+     */
+    public int getNextCount(int arrival) {
+        return nextStart[arrival + 1] - nextStart[arrival];
+    }
+
+    /**
+     * Gets one of the tiles a player may move to next.
+     *
+     * @param arrival arrival index from {@link #getArrival(int, int)}
+     * @param i option index in {@code [0, getNextCount(arrival))}
+     * @return the tile ID of the option
+     */
+    public int getNext(int arrival, int i) {
+        return next[nextStart[arrival] + i];
+    }
+
+    /**
+     * Gets the arrival index reached by taking one of the next-tile options, so
+     * searches can walk the board without calling {@link #getArrival(int, int)}.
+     *
+     * @param arrival arrival index from {@link #getArrival(int, int)}
+     * @param i option index in {@code [0, getNextCount(arrival))}
+     * @return the arrival index at the option's tile
+     */
+    public int getNextArrival(int arrival, int i) {
+        return nextArrival[nextStart[arrival] + i];
+    }
+
+    /**
+     * Gets the number of arrivals that can step to an arrival in one move.
+     *
+     * @param arrival the arrival index
+     * @return the predecessor count
+     */
+    public int getPreviousCount(int arrival) {
+        return previousStart[arrival + 1] - previousStart[arrival];
+    }
+
+    /**
+     * Gets one of the arrivals that can step to an arrival in one move.
+     *
+     * @param arrival the arrival index
+     * @param i predecessor index in {@code [0, getPreviousCount(arrival))}
+     * @return the predecessor arrival index
+     */
+    public int getPreviousArrival(int arrival, int i) {
+        return previousArrival[previousStart[arrival] + i];
+    }
+
+    /**
+     * Gets the number of arrivals at a tile: one per neighbour plus "no previous tile".
+     *
+     * @param tile the tile ID
+     * @return the arrival count for the tile
+     */
+    public int getTileArrivalCount(int tile) {
+        return getNeighborCount(tile) + 1;
+    }
+
+    /**
+     * Gets one of the arrivals at a tile.
+     *
+     * @param tile the tile ID
+     * @param i arrival slot in {@code [0, getTileArrivalCount(tile))}; the last slot is "no previous tile"
+     * @return the arrival index
+     */
+    public int getTileArrival(int tile, int i) {
+        return i < getNeighborCount(tile) ? neighborStart[tile] + i : neighbors.length + tile;
+    }
+
+    /**
+     * Gets the number of distinct arrival indices.
+     *
+     * @return the arrival count
+     */
+    public int getArrivalCount() {
+        return arrivalTile.length;
+    }
+
+    /**
+     * Gets the tile a player is standing on for an arrival index.
+     *
+     * @param arrival arrival index from {@link #getArrival(int, int)}
+     * @return the tile ID
+     */
+    public int getArrivalTile(int arrival) {
+        return arrivalTile[arrival];
+    }
+
+    /**
+     * Checks if a tile is a junction (more than two connections).
+     *
+     * @param tile the tile ID
+     * @return true if the tile has more than 2 neighbours
+     */
+    public boolean isJunction(int tile) {
+        return getNeighborCount(tile) > 2;
+    }
+}
@@ -0,0 +1,212 @@
+package com.roachstudios.critterparade.gameboards;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Chooses junction directions for CPU players with a time-bounded expectimax
+ * search.
+ *
+ * <p>Max nodes are the player's own junction choices; chance nodes are future
+ * die rolls, averaged over every face. Search deepens one future turn at a time
+ * until {@code maxDepth} or the time budget runs out, keeping the answer from the
+ * deepest completed pass. Leaves are scored from crumbs, fruit and the distance
+ * to the nearest shop, read from the live shop distance field
+ * ({@link BoardShops#getShopDistance(int)}) or, once a shop has been bought from
+ * in the line of play, the other shops' distance rows
+ * ({@link BoardShops#getShopDistanceExcluding(int, int)}), so no pathfinding
+ * happens during a decision.</p>
+ *
+ * <p>The search ignores opponents and assumes shops stay put, except that a shop
+ * the player has just bought from is not counted again. Instances keep mutable
+ * search state and must not be shared between threads.</p>
+ */
+public final class BoardPlanner implements BoardSimulator.JunctionPolicy {
+
+    /** Future turns searched by in-game bots when time allows. */
+    public static final int GAME_DEPTH = 3;
+
+    /** Future turns searched by the simulator, which runs without a time budget. */
+    public static final int SIMULATION_DEPTH = 1;
+
+    /** Time budget for one in-game decision, in nanoseconds. */
+    public static final long GAME_BUDGET_NANOS = 500_000L;
+
+    /** Score for reaching the fruit target; dominates every other term. */
+    private static final double WIN_VALUE = 1_000_000;
+
+    /** Crumb-equivalent penalty per step to the nearest shop when a fruit is affordable. */
+    private static final double SHOP_PULL = 0.5;
+
+    /** Penalty per step to the nearest shop while still saving up. */
+    private static final double SHOP_PULL_SAVING = 0.1;
+
+    /** Nodes visited between clock reads. */
+    private static final int CLOCK_CHECK_INTERVAL = 256;
+
+    private final BoardGraph graph;
+    private final BoardRules rules;
+    private final int maxDepth;
+    private final long budgetNanos;
+    private final double fruitValue;
+    private final double minigameValue;
+    private final double dieFaces;
+
+    private BoardShops shops;
+    private int consumedShop;
+    private long deadline;
+    private int nodes;
+    private boolean interruptible;
+    private boolean aborted;
+
+    /**
+     * Creates a planner for a board.
+     *
+     * @param graph the board graph
+     * @param rules the board rules
+     * @param players number of players, used to value minigame tiles
+     * @param maxDepth future turns to search at most
+     * @param budgetNanos time budget per decision in nanoseconds, or {@link Long#MAX_VALUE} for none
+     */
+    public BoardPlanner(BoardGraph graph, BoardRules rules, int players, int maxDepth, long budgetNanos) {
+        this.graph = graph;
+        this.rules = rules;
+        this.maxDepth = maxDepth;
+        this.budgetNanos = budgetNanos;
+        // A fruit is worth more than the crumbs spent on it, so buying always beats saving
+        this.fruitValue = 2.0 * rules.fruitCost();
+        this.minigameValue = players >= 2 ? BoardRules.expectedMinigameCrumbs(players) : 0;
+        this.dieFaces = rules.dieMax() - rules.dieMin() + 1;
+    }
+
+    @Override
+    public int choose(BoardGraph graph, BoardShops shops, int arrival, int stepsRemaining,
+                      int crumbs, int fruit, RandomGenerator random) {
+        return chooseOption(shops, arrival, stepsRemaining, crumbs, fruit);
+    }
+
+    /**
+     * Chooses which next-tile option to take at a junction.
+     *
+     * @param shops the current shop tiles
+     * @param arrival arrival index of the junction
+     * @param stepsRemaining steps left in this roll, including the one being chosen
+     * @param crumbs crumbs held by the player
+     * @param fruit fruit held by the player
+     * @return option index in {@code [0, graph.getNextCount(arrival))}
+     */
+    public int chooseOption(BoardShops shops, int arrival, int stepsRemaining, int crumbs, int fruit) {
+        int optionCount = graph.getNextCount(arrival);
+        if (optionCount <= 1) {
+            return 0;
+        }
+
+        this.shops = shops;
+        this.consumedShop = -1;
+        this.nodes = 0;
+        this.aborted = false;
+        long start = System.nanoTime();
+        this.deadline = budgetNanos == Long.MAX_VALUE ? Long.MAX_VALUE : start + budgetNanos;
+
+        int best = 0;
+        for (int depth = 0; depth <= maxDepth; depth++) {
+            // Depth 0 is never interrupted, so there is always a complete answer
+            interruptible = depth > 0;
+            int depthBest = 0;
+            double depthValue = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < optionCount && !aborted; i++) {
+                double value = move(graph.getNextArrival(arrival, i), stepsRemaining - 1, crumbs, fruit, depth);
+                if (value > depthValue) {
+                    depthValue = value;
+                    depthBest = i;
+                }
+            }
+            if (aborted) {
+                break;
+            }
+            best = depthBest;
+        }
+        this.shops = null;
+        return best;
+    }
+
+    /**
+     * Value of standing at an arrival with steps still to walk this turn.
+     */
+    private double move(int arrival, int steps, int crumbs, int fruit, int depth) {
+        if (interruptible && ++nodes % CLOCK_CHECK_INTERVAL == 0 && System.nanoTime() > deadline) {
+            aborted = true;
+        }
+        if (aborted) {
+            return 0;
+        }
+
+        int optionCount = steps > 0 ? graph.getNextCount(arrival) : 0;
+        if (optionCount == 0) {
+            return land(arrival, crumbs, fruit, depth);
+        }
+        double best = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < optionCount; i++) {
+            best = Math.max(best, move(graph.getNextArrival(arrival, i), steps - 1, crumbs, fruit, depth));
+        }
+        return best;
+    }
+
+    /**
+     * Value of ending a turn at an arrival, applying the tile effect the same way
+     * {@link GameBoard#applyTileEffect()} does, then averaging over future rolls.
+     */
+    private double land(int arrival, int crumbs, int fruit, int depth) {
+        int tile = graph.getArrivalTile(arrival);
+        int previousConsumed = consumedShop;
+        double bonus = 0;
+
+        if (tile != consumedShop && shops.isShop(tile)) {
+            if (crumbs >= rules.fruitCost()) {
+                crumbs -= rules.fruitCost();
+                fruit++;
+                if (fruit >= rules.fruitsToWin()) {
+                    // Sooner wins score higher
+                    return WIN_VALUE * (1 + depth);
+                }
+                consumedShop = tile;
+            }
+        } else {
+            switch (graph.getType(tile)) {
+                case GREEN:
+                    crumbs += rules.crumbsReward();
+                    break;
+                case RED:
+                    bonus = minigameValue;
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        double value;
+        if (depth == 0) {
+            value = evaluate(arrival, crumbs, fruit) + bonus;
+        } else {
+            double total = 0;
+            for (int roll = rules.dieMin(); roll <= rules.dieMax(); roll++) {
+                total += move(arrival, roll, crumbs, fruit, depth - 1);
+            }
+            value = total / dieFaces + bonus;
+        }
+        consumedShop = previousConsumed;
+        return value;
+    }
+
+    /**
+     * Static score of a position: banked resources minus distance to the nearest shop.
+     */
+    private double evaluate(int arrival, int crumbs, int fruit) {
+        // The live field still counts the shop bought from in this line of play
+        int nearest = shops.getShopDistanceExcluding(arrival, consumedShop);
+        double value = fruit * fruitValue + crumbs;
+        if (nearest != BoardGraph.UNREACHABLE) {
+            value -= nearest * (crumbs >= rules.fruitCost() ? SHOP_PULL : SHOP_PULL_SAVING);
+        }
+        return value;
+    }
+}
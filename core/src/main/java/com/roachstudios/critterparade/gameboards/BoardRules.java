@@ -0,0 +1,36 @@
+package com.roachstudios.critterparade.gameboards;
+
+import com.roachstudios.critterparade.minigames.MiniGame;
+
+/**
+ * Scoring and dice rules for board play; {@link #DEFAULT} matches {@link GameBoard}.
+ *
+ * @param crumbsReward crumbs awarded on green tiles
+ * @param fruitCost crumbs needed to buy one fruit
+ * @param fruitsToWin fruits needed to win
+ * @param shopCount shops on the board at any time
+ * @param dieMin minimum die roll
+ * @param dieMax maximum die roll
+ */
+public record BoardRules(int crumbsReward, int fruitCost, int fruitsToWin, int shopCount,
+                         int dieMin, int dieMax) {
+
+    /** The rules used by the game. */
+    public static final BoardRules DEFAULT = new BoardRules(
+        GameBoard.CRUMBS_REWARD, GameBoard.FRUIT_COST, GameBoard.FRUITS_TO_WIN,
+        GameBoard.SHOP_COUNT, GameBoard.DIE_MIN, GameBoard.DIE_MAX);
+
+    /**
+     * Gets the average crumbs a player earns from a minigame when every placement is equally likely.
+     *
+     * @param players number of players in the minigame (at least 2)
+     * @return the expected crumbs per minigame
+     */
+    public static double expectedMinigameCrumbs(int players) {
+        int total = 0;
+        for (int placement = 1; placement <= players; placement++) {
+            total += MiniGame.placementCrumbs(placement, players);
+        }
+        return (double) total / players;
+    }
+}
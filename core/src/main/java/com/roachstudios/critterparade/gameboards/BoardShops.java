@@ -0,0 +1,204 @@
+package com.roachstudios.critterparade.gameboards;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntMap;
+
+import java.util.BitSet;
+import java.util.random.RandomGenerator;
+
+/**
+ * Tracks which tiles on a board currently host a shop.
+ *
+ * <p>Membership is a {@link BitSet}, so {@link #isShop(int)} is a single bit test
+ * with no boxing. Tiles that could still become a shop are kept in a dense pool
+ * (with a reverse index for swap-removal), so placing a shop at a uniformly random
+ * free tile is O(1) instead of rejection-sampling against the existing shops.</p>
+ *
+ * <p>Every change also updates a {@link ShopDistanceField}, so the distance from
+ * any position to the nearest shop is an O(1) lookup ({@link #getShopDistance(int)}).
+ * Each shop also keeps its own row of distances, so the nearest shop other than
+ * one ({@link #getShopDistanceExcluding(int, int)}) costs one lookup per shop;
+ * memory stays proportional to shops times positions.</p>
+ */
+public final class BoardShops {
+
+    private final BitSet shops;
+
+    /** Tiles eligible to become a shop occupy {@code pool[0..poolSize)}. */
+    private final int[] pool;
+
+    /** Position of each tile in {@link #pool}, or -1 if the tile is not in the pool. */
+    private final int[] poolIndex;
+
+    private final int excludedTile;
+    private final ShopDistanceField distances;
+
+    /** Steps from every arrival to each shop, by shop tile. */
+    private final IntMap<int[]> shopRows = new IntMap<>();
+
+    /** Rows of removed shops, reused for the next ones placed. */
+    private final Array<int[]> spareRows = new Array<>();
+
+    private final int arrivalCount;
+    private int poolSize;
+    private int shopCount;
+
+    /**
+     * Creates an empty shop set for a board.
+     *
+     * @param graph the board graph
+     * @param excludedTile a tile that may never become a shop (e.g. the start tile), or -1
+     */
+    public BoardShops(BoardGraph graph, int excludedTile) {
+        int tileCount = graph.getTileCount();
+        this.shops = new BitSet(tileCount);
+        this.pool = new int[tileCount];
+        this.poolIndex = new int[tileCount];
+        this.excludedTile = excludedTile;
+        this.distances = new ShopDistanceField(graph);
+        this.arrivalCount = graph.getArrivalCount();
+        clear();
+    }
+
+    /**
+     * Removes all shops.
+     */
+    public void clear() {
+        shops.clear();
+        distances.clear();
+        for (int[] row : shopRows.values()) {
+            spareRows.add(row);
+        }
+        shopRows.clear();
+        shopCount = 0;
+        poolSize = 0;
+        for (int t = 0; t < poolIndex.length; t++) {
+            if (t == excludedTile) {
+                poolIndex[t] = -1;
+            } else {
+                poolIndex[t] = poolSize;
+                pool[poolSize++] = t;
+            }
+        }
+    }
+
+    /**
+     * Checks if a tile is currently a shop.
+     *
+     * @param tile the tile ID
+     * @return true if the tile is a shop
+     */
+    public boolean isShop(int tile) {
+        return shops.get(tile);
+    }
+
+    /**
+     * Gets the number of active shops.
+     *
+     * @return the shop count
+     */
+    public int size() {
+        return shopCount;
+    }
+
+    /**
+     * Finds the next shop tile at or after a tile ID, for iterating shops in order.
+     *
+     * @param fromTile the tile ID to start searching from
+     * @return the next shop tile ID, or -1 if there are none
+     */
+    public int nextShop(int fromTile) {
+        return shops.nextSetBit(fromTile);
+    }
+
+    /**
+     * Gets the fewest steps from a position to any shop, without backtracking.
+     *
+     * @param arrival arrival index from {@link BoardGraph#getArrival(int, int)}
+     * @return the step count, or {@link BoardGraph#UNREACHABLE} if there are no reachable shops
+     */
+    public int getShopDistance(int arrival) {
+        return distances.get(arrival);
+    }
+
+    /**
+     * Gets the fewest steps from a position to any shop but one, e.g. one a
+     * player is about to use up. Costs one lookup per shop.
+     *
+     * @param arrival arrival index from {@link BoardGraph#getArrival(int, int)}
+     * @param excludedShop the shop tile to leave out, or -1 for none
+     * @return the step count, or {@link BoardGraph#UNREACHABLE} if no other shop is reachable
+     */
+    public int getShopDistanceExcluding(int arrival, int excludedShop) {
+        if (excludedShop < 0 || !shops.get(excludedShop)) {
+            return distances.get(arrival);
+        }
+        int nearest = BoardGraph.UNREACHABLE;
+        for (int shop = shops.nextSetBit(0); shop >= 0; shop = shops.nextSetBit(shop + 1)) {
+            if (shop != excludedShop) {
+                nearest = Math.min(nearest, shopRows.get(shop)[arrival]);
+            }
+        }
+        return nearest;
+    }
+
+    /**
+     * Places a shop on a uniformly random tile that is not already a shop.
+     *
+     * @param random the random source
+     * @return the tile ID of the new shop, or -1 if no tile is available
+     */
+    public int addRandom(RandomGenerator random) {
+        if (poolSize == 0) {
+            return -1;
+        }
+        int tile = pool[random.nextInt(poolSize)];
+        add(tile);
+        return tile;
+    }
+
+    /**
+     * Places a shop on a specific tile.
+     *
+     * @param tile the tile ID
+     * @return true if the shop was added, false if the tile is already a shop or excluded
+     */
+    public boolean add(int tile) {
+        int index = poolIndex[tile];
+        if (index < 0) {
+            return false;
+        }
+        int last = pool[--poolSize];
+        pool[index] = last;
+        poolIndex[last] = index;
+        poolIndex[tile] = -1;
+
+        shops.set(tile);
+        shopCount++;
+        distances.shopAdded(tile);
+        int[] row = spareRows.size > 0 ? spareRows.pop() : new int[arrivalCount];
+        distances.distancesTo(tile, row);
+        shopRows.put(tile, row);
+        return true;
+    }
+
+    /**
+     * Removes the shop from a tile.
+     *
+     * @param tile the tile ID
+     * @return true if the tile was a shop
+     */
+    public boolean remove(int tile) {
+        if (!shops.get(tile)) {
+            return false;
+        }
+        shops.clear(tile);
+        shopCount--;
+        distances.shopRemoved(tile);
+        spareRows.add(shopRows.remove(tile));
+
+        poolIndex[tile] = poolSize;
+        pool[poolSize++] = tile;
+        return true;
+    }
+}
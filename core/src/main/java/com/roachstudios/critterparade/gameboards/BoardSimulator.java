@@ -0,0 +1,583 @@
+package com.roachstudios.critterparade.gameboards;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.roachstudios.critterparade.minigames.MiniGame;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+import java.util.random.RandomGenerator;
+
+/**
+ * Headless Monte Carlo simulator for balancing boards.
+ *
+ * <p>Plays complete board games on every board under {@code assets/board} using
+ * the same {@link BoardGraph}, {@link BoardShops} and tile rules as
+ * {@link GameBoard}, without creating any screens or GL resources. Games are
+ * split across a {@link ForkJoinPool}; each leaf task plays a contiguous block of
+ * games with its own random stream and statistics, which are merged on join, so
+ * results for a given seed do not depend on the number of threads.</p>
+ *
+ * <p>Run with {@code ./gradlew core:simulateBoards -PsimArgs="--games 1000000"}.
+ * See {@link #main(String[])} for the available options.</p>
+ */
+public final class BoardSimulator {
+
+    /** Games played by a single leaf task before it stops splitting. */
+    private static final int LEAF_GAMES = 2048;
+
+    /** Highest session length tracked by the duration histogram, in minutes. */
+    private static final int MAX_DURATION_MINUTES = 600;
+
+    /**
+     * Chooses which way a player goes at a junction.
+     */
+    @FunctionalInterface
+    public interface JunctionPolicy {
+
+        /** Picks uniformly among the available directions. */
+        JunctionPolicy RANDOM = (graph, shops, arrival, stepsRemaining, crumbs, fruit, random) ->
+            random.nextInt(graph.getNextCount(arrival));
+
+        /**
+         * Chooses a direction.
+         *
+         * @param graph the board graph
+         * @param shops the current shop tiles
+         * @param arrival arrival index of the junction (see {@link BoardGraph#getArrival(int, int)})
+         * @param stepsRemaining steps left in this roll, including the one being chosen
+         * @param crumbs crumbs held by the moving player
+         * @param fruit fruit held by the moving player
+         * @param random the random source for this game
+         * @return option index in {@code [0, graph.getNextCount(arrival))}
+         */
+        int choose(BoardGraph graph, BoardShops shops, int arrival, int stepsRemaining,
+                   int crumbs, int fruit, RandomGenerator random);
+    }
+
+    /**
+     * Settings for one simulation run.
+     *
+     * @param games number of games to play per board
+     * @param players number of players (2-6)
+     * @param maxTurns turns after which a game is abandoned as unfinished
+     * @param seed base random seed
+     * @param rules board rules
+     * @param policy creates the junction policy used by every player; called once per
+     *               worker block, so policies may keep per-thread search state
+     * @param skill relative minigame strength per seat; placements are drawn
+     *              with probability proportional to skill (all equal = uniform)
+     * @param secondsPerTurn estimated wall-clock seconds for one board turn
+     * @param secondsPerMinigame estimated wall-clock seconds for one minigame,
+     *                           including instructions and results
+     */
+    public record Options(long games, int players, int maxTurns, long seed, BoardRules rules,
+                          Function<BoardGraph, JunctionPolicy> policy, double[] skill,
+                          double secondsPerTurn, double secondsPerMinigame) {
+    }
+
+    /**
+     * Aggregated results for one board. Each leaf task fills its own instance;
+     * instances are merged pairwise as the fork/join tree unwinds.
+     */
+    public static final class Stats {
+        private long games;
+        private long unfinished;
+        private long minigames;
+        private final long[] turnHistogram;
+        private final long[] durationHistogram;
+        private final long[] landings;
+        private final long[] wins;
+
+        Stats(int tileCount, int players, int maxTurns) {
+            this.turnHistogram = new long[maxTurns + 1];
+            this.durationHistogram = new long[MAX_DURATION_MINUTES + 1];
+            this.landings = new long[tileCount];
+            this.wins = new long[players];
+        }
+
+        void merge(Stats other) {
+            games += other.games;
+            unfinished += other.unfinished;
+            minigames += other.minigames;
+            add(turnHistogram, other.turnHistogram);
+            add(durationHistogram, other.durationHistogram);
+            add(landings, other.landings);
+            add(wins, other.wins);
+        }
+
+        private static void add(long[] into, long[] from) {
+            for (int i = 0; i < into.length; i++) {
+                into[i] += from[i];
+            }
+        }
+
+        public long getGames() {
+            return games;
+        }
+
+        public long getUnfinished() {
+            return unfinished;
+        }
+
+        public long getMinigames() {
+            return minigames;
+        }
+
+        public long getWins(int seat) {
+            return wins[seat];
+        }
+
+        public long getLandings(int tile) {
+            return landings[tile];
+        }
+
+        /**
+         * Gets a percentile of the number of turns per finished game.
+         *
+         * @param fraction the percentile as a fraction (0-1)
+         * @return the turn count, or 0 if no game finished
+         */
+        public int turnPercentile(double fraction) {
+            return percentile(turnHistogram, fraction);
+        }
+
+        /**
+         * Gets a percentile of the estimated session length of finished games.
+         *
+         * @param fraction the percentile as a fraction (0-1)
+         * @return the length in whole minutes, or 0 if no game finished
+         */
+        public int durationPercentile(double fraction) {
+            return percentile(durationHistogram, fraction);
+        }
+
+        private static int percentile(long[] histogram, double fraction) {
+            long total = 0;
+            for (long count : histogram) {
+                total += count;
+            }
+            if (total == 0) {
+                return 0;
+            }
+            long target = (long) Math.ceil(fraction * total);
+            long seen = 0;
+            for (int i = 0; i < histogram.length; i++) {
+                seen += histogram[i];
+                if (seen >= Math.max(1, target)) {
+                    return i;
+                }
+            }
+            return histogram.length - 1;
+        }
+
+        /**
+         * Gets the mean number of turns per finished game.
+         *
+         * @return the mean, or 0 if no game finished
+         */
+        public double meanTurns() {
+            long count = 0;
+            long sum = 0;
+            for (int i = 0; i < turnHistogram.length; i++) {
+                count += turnHistogram[i];
+                sum += turnHistogram[i] * i;
+            }
+            return count == 0 ? 0 : (double) sum / count;
+        }
+    }
+
+    private BoardSimulator() {
+    }
+
+    /**
+     * Simulates games on a board using the common fork/join pool.
+     *
+     * @param graph the board graph
+     * @param options simulation settings
+     * @return the merged statistics
+     */
+    public static Stats simulate(BoardGraph graph, Options options) {
+        return ForkJoinPool.commonPool().invoke(new SimulationTask(graph, options, 0, options.games()));
+    }
+
+    /**
+     * Plays the block of games {@code [from, to)}, splitting in half until a block
+     * is small enough to play sequentially.
+     */
+    @SuppressWarnings("serial")
+    private static final class SimulationTask extends RecursiveTask<Stats> {
+        private final BoardGraph graph;
+        private final Options options;
+        private final long from;
+        private final long to;
+
+        SimulationTask(BoardGraph graph, Options options, long from, long to) {
+            this.graph = graph;
+            this.options = options;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Stats compute() {
+            if (to - from <= LEAF_GAMES) {
+                return new GameRunner(graph, options, from).play(to - from);
+            }
+            long mid = (from + to) >>> 1;
+            SimulationTask left = new SimulationTask(graph, options, from, mid);
+            left.fork();
+            Stats stats = new SimulationTask(graph, options, mid, to).compute();
+            stats.merge(left.join());
+            return stats;
+        }
+    }
+
+    /**
+     * Plays games sequentially, reusing its player arrays and shop set between games.
+     */
+    private static final class GameRunner {
+        private final BoardGraph graph;
+        private final Options options;
+        private final BoardRules rules;
+        private final JunctionPolicy policy;
+        private final SplittableRandom random;
+        private final BoardShops shops;
+        private final Stats stats;
+
+        private final int[] tile;
+        private final int[] previousTile;
+        private final int[] crumbs;
+        private final int[] fruit;
+        private final double[] placementWeights;
+
+        GameRunner(BoardGraph graph, Options options, long firstGame) {
+            this.graph = graph;
+            this.options = options;
+            this.rules = options.rules();
+            this.policy = options.policy().apply(graph);
+            // Seeded by block position so results do not depend on scheduling
+            this.random = new SplittableRandom(options.seed() ^ (firstGame * 0x9E3779B97F4A7C15L));
+            this.shops = new BoardShops(graph, GameBoard.START_TILE_INDEX);
+            this.stats = new Stats(graph.getTileCount(), options.players(), options.maxTurns());
+
+            int players = options.players();
+            this.tile = new int[players];
+            this.previousTile = new int[players];
+            this.crumbs = new int[players];
+            this.fruit = new int[players];
+            this.placementWeights = new double[players];
+        }
+
+        Stats play(long games) {
+            for (long g = 0; g < games; g++) {
+                playGame();
+            }
+            return stats;
+        }
+
+        private void playGame() {
+            int players = options.players();
+            for (int p = 0; p < players; p++) {
+                tile[p] = GameBoard.START_TILE_INDEX;
+                previousTile[p] = -1;
+                crumbs[p] = 0;
+                fruit[p] = 0;
+            }
+            resetShops();
+
+            int current = 0;
+            int minigames = 0;
+            for (int turn = 1; turn <= options.maxTurns(); turn++) {
+                int landed = move(current, rules.dieMin() + random.nextInt(rules.dieMax() - rules.dieMin() + 1));
+                stats.landings[landed]++;
+
+                if (shops.isShop(landed)) {
+                    if (crumbs[current] >= rules.fruitCost()) {
+                        crumbs[current] -= rules.fruitCost();
+                        fruit[current]++;
+                        shops.remove(landed);
+                        shops.addRandom(random);
+                        if (fruit[current] >= rules.fruitsToWin()) {
+                            finishGame(current, turn, minigames);
+                            return;
+                        }
+                    }
+                } else if (graph.getType(landed) == BoardTile.Type.GREEN) {
+                    crumbs[current] += rules.crumbsReward();
+                } else if (graph.getType(landed) == BoardTile.Type.RED) {
+                    playMinigame();
+                    minigames++;
+                }
+
+                current = (current + 1) % players;
+            }
+
+            stats.games++;
+            stats.unfinished++;
+            stats.minigames += minigames;
+        }
+
+        private void resetShops() {
+            shops.clear();
+            for (int i = 0; i < rules.shopCount(); i++) {
+                shops.addRandom(random);
+            }
+        }
+
+        /**
+         * Moves a player the rolled number of steps, following GameBoard's movement rules.
+         *
+         * @return the tile the player ends on
+         */
+        private int move(int player, int steps) {
+            for (int s = 0; s < steps; s++) {
+                int arrival = graph.getArrival(tile[player], previousTile[player]);
+                int optionCount = graph.getNextCount(arrival);
+                if (optionCount == 0) {
+                    break;
+                }
+                int option = optionCount == 1
+                    ? 0
+                    : policy.choose(graph, shops, arrival, steps - s, crumbs[player], fruit[player], random);
+                previousTile[player] = tile[player];
+                tile[player] = graph.getNext(arrival, option);
+            }
+            return tile[player];
+        }
+
+        /**
+         * Draws minigame placements proportional to seat skill and awards crumbs
+         * the same way {@link MiniGame} does.
+         */
+        private void playMinigame() {
+            int players = options.players();
+            double remaining = 0;
+            for (int p = 0; p < players; p++) {
+                placementWeights[p] = options.skill()[p];
+                remaining += placementWeights[p];
+            }
+            for (int placement = 1; placement <= players; placement++) {
+                double pick = random.nextDouble() * remaining;
+                int chosen = -1;
+                for (int p = 0; p < players; p++) {
+                    if (placementWeights[p] > 0) {
+                        chosen = p;
+                        pick -= placementWeights[p];
+                        if (pick < 0) {
+                            break;
+                        }
+                    }
+                }
+                remaining -= placementWeights[chosen];
+                placementWeights[chosen] = 0;
+                crumbs[chosen] += MiniGame.placementCrumbs(placement, players);
+            }
+        }
+
+        private void finishGame(int winner, int turns, int minigames) {
+            stats.games++;
+            stats.minigames += minigames;
+            stats.wins[winner]++;
+            stats.turnHistogram[turns]++;
+            double seconds = turns * options.secondsPerTurn() + minigames * options.secondsPerMinigame();
+            stats.durationHistogram[(int) Math.min(MAX_DURATION_MINUTES, seconds / 60.0)]++;
+        }
+    }
+
+    /**
+     * Command-line entry point. Options:
+     * <ul>
+     *   <li>{@code --boards <dir>} board directory (default {@code board}, relative to the assets working directory)</li>
+     *   <li>{@code --board <name>} only simulate the named board</li>
+     *   <li>{@code --games <n>} games per board (default 100000)</li>
+     *   <li>{@code --players <n>} players per game (default 4)</li>
+     *   <li>{@code --seed <n>} base random seed</li>
+     *   <li>{@code --max-turns <n>} turns before a game is abandoned (default 2000)</li>
+     *   <li>{@code --skill <w1,w2,...>} minigame strength per seat (default all equal)</li>
+     *   <li>{@code --policy <random|bot>} junction choices: uniform random, or the
+     *       {@link BoardPlanner} used by CPU players (default random)</li>
+     *   <li>{@code --crumbs-reward}, {@code --fruit-cost}, {@code --fruits-to-win},
+     *       {@code --shop-count} override the board rules</li>
+     *   <li>{@code --turn-seconds}, {@code --minigame-seconds} timing used to estimate session length</li>
+     * </ul>
+     *
+     * @param args command-line arguments
+     */
+    public static void main(String[] args) {
+        String boardDirectory = BoardFile.BOARD_DIRECTORY;
+        String boardName = null;
+        long games = 100_000;
+        int players = 4;
+        long seed = System.nanoTime();
+        int maxTurns = 2000;
+        double[] skill = null;
+        boolean bots = false;
+        BoardRules defaults = BoardRules.DEFAULT;
+        int crumbsReward = defaults.crumbsReward();
+        int fruitCost = defaults.fruitCost();
+        int fruitsToWin = defaults.fruitsToWin();
+        int shopCount = defaults.shopCount();
+        double turnSeconds = 6.0;
+        double minigameSeconds = 60.0;
+
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if (i + 1 >= args.length) {
+                usage("Missing value for " + arg);
+                return;
+            }
+            String value = args[++i];
+            try {
+                switch (arg) {
+                    case "--boards": boardDirectory = value; break;
+                    case "--board": boardName = value; break;
+                    case "--games": games = Long.parseLong(value); break;
+                    case "--players": players = Integer.parseInt(value); break;
+                    case "--seed": seed = Long.parseLong(value); break;
+                    case "--max-turns": maxTurns = Integer.parseInt(value); break;
+                    case "--skill": skill = parseSkill(value); break;
+                    case "--policy":
+                        if (!value.equals("random") && !value.equals("bot")) {
+                            usage("--policy must be random or bot");
+                            return;
+                        }
+                        bots = value.equals("bot");
+                        break;
+                    case "--crumbs-reward": crumbsReward = Integer.parseInt(value); break;
+                    case "--fruit-cost": fruitCost = Integer.parseInt(value); break;
+                    case "--fruits-to-win": fruitsToWin = Integer.parseInt(value); break;
+                    case "--shop-count": shopCount = Integer.parseInt(value); break;
+                    case "--turn-seconds": turnSeconds = Double.parseDouble(value); break;
+                    case "--minigame-seconds": minigameSeconds = Double.parseDouble(value); break;
+                    default:
+                        usage("Unknown option " + arg);
+                        return;
+                }
+            } catch (NumberFormatException e) {
+                usage("Invalid value for " + arg + ": " + value);
+                return;
+            }
+        }
+
+        if (players < 2 || players > 6) {
+            usage("--players must be between 2 and 6");
+            return;
+        }
+        if (skill == null) {
+            skill = new double[players];
+            Arrays.fill(skill, 1.0);
+        } else if (skill.length != players) {
+            usage("--skill needs one weight per player");
+            return;
+        }
+
+        BoardRules rules = new BoardRules(crumbsReward, fruitCost, fruitsToWin, shopCount,
+            defaults.dieMin(), defaults.dieMax());
+        int playerCount = players;
+        // Fixed depth and no time budget so results only depend on the seed
+        Function<BoardGraph, JunctionPolicy> policy = bots
+            ? graph -> new BoardPlanner(graph, rules, playerCount, BoardPlanner.SIMULATION_DEPTH, Long.MAX_VALUE)
+            : graph -> JunctionPolicy.RANDOM;
+        Options options = new Options(games, players, maxTurns, seed, rules,
+            policy, skill, turnSeconds, minigameSeconds);
+
+        List<BoardFile> boards = BoardFile.discover(new FileHandle(new File(boardDirectory)));
+        if (boards.isEmpty()) {
+            usage("No boards found in " + new File(boardDirectory).getAbsolutePath());
+            return;
+        }
+
+        System.out.printf(Locale.ROOT, "Simulating %,d games per board, %d players, %s junctions, seed %d, %d threads%n",
+            games, players, bots ? "bot" : "random", seed, ForkJoinPool.commonPool().getParallelism());
+        System.out.println(rules);
+
+        for (BoardFile board : boards) {
+            if (boardName != null && !boardName.equalsIgnoreCase(board.getName())) {
+                continue;
+            }
+            BoardGraph graph = board.getGraph();
+            long start = System.nanoTime();
+            Stats stats = simulate(graph, options);
+            double elapsed = (System.nanoTime() - start) / 1e9;
+            printReport(board.getName(), graph, options, stats, elapsed);
+        }
+    }
+
+    private static double[] parseSkill(String value) {
+        String[] parts = value.split(",");
+        double[] skill = new double[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            skill[i] = Double.parseDouble(parts[i].trim());
+            if (!(skill[i] > 0)) {
+                throw new NumberFormatException("skill weights must be positive");
+            }
+        }
+        return skill;
+    }
+
+    private static void usage(String message) {
+        System.err.println("[BoardSimulator] " + message);
+        System.err.println("Usage: BoardSimulator [--boards dir] [--board name] [--games n] [--players n]"
+            + " [--seed n] [--max-turns n] [--skill w1,w2,...] [--policy random|bot] [--crumbs-reward n] [--fruit-cost n]"
+            + " [--fruits-to-win n] [--shop-count n] [--turn-seconds s] [--minigame-seconds s]");
+    }
+
+    private static void printReport(String name, BoardGraph graph, Options options, Stats stats, double elapsed) {
+        long finished = stats.getGames() - stats.getUnfinished();
+        System.out.println();
+        System.out.printf(Locale.ROOT, "== %s (%d tiles) ==%n", name, graph.getTileCount());
+        System.out.printf(Locale.ROOT, "Games: %,d in %.2fs (%,.0f games/s), unfinished: %,d%n",
+            stats.getGames(), elapsed, stats.getGames() / Math.max(elapsed, 1e-9), stats.getUnfinished());
+        if (finished == 0) {
+            return;
+        }
+
+        int players = options.players();
+        System.out.printf(Locale.ROOT, "Turns:  mean %.1f (%.1f rounds)  p5 %d  p25 %d  p50 %d  p75 %d  p95 %d  p99 %d%n",
+            stats.meanTurns(), stats.meanTurns() / players,
+            stats.turnPercentile(0.05), stats.turnPercentile(0.25), stats.turnPercentile(0.50),
+            stats.turnPercentile(0.75), stats.turnPercentile(0.95), stats.turnPercentile(0.99));
+        System.out.printf(Locale.ROOT, "Minigames per game: %.1f%n", (double) stats.getMinigames() / stats.getGames());
+        System.out.printf(Locale.ROOT, "Session minutes (%.0fs/turn, %.0fs/minigame):  p5 %d  p50 %d  p95 %d%n",
+            options.secondsPerTurn(), options.secondsPerMinigame(),
+            stats.durationPercentile(0.05), stats.durationPercentile(0.50), stats.durationPercentile(0.95));
+
+        // 95% confidence half-width of a single seat's win rate around the fair share
+        double fair = 1.0 / players;
+        double margin = 1.96 * Math.sqrt(fair * (1 - fair) / finished);
+        double min = 1;
+        double max = 0;
+        StringBuilder seats = new StringBuilder("Win rate by seat:");
+        for (int p = 0; p < players; p++) {
+            double rate = (double) stats.getWins(p) / finished;
+            min = Math.min(min, rate);
+            max = Math.max(max, rate);
+            seats.append(String.format(Locale.ROOT, "  P%d %.2f%%", p + 1, rate * 100));
+        }
+        System.out.println(seats);
+        System.out.printf(Locale.ROOT, "Seat spread: %.2f pp (noise ~ +/-%.2f pp per seat)%n",
+            (max - min) * 100, margin * 100);
+
+        long totalLandings = 0;
+        for (int t = 0; t < graph.getTileCount(); t++) {
+            totalLandings += stats.getLandings(t);
+        }
+        System.out.println("Landing frequency by tile:");
+        StringBuilder row = new StringBuilder();
+        for (int t = 0; t < graph.getTileCount(); t++) {
+            double share = totalLandings == 0 ? 0 : (double) stats.getLandings(t) / totalLandings;
+            row.append(String.format(Locale.ROOT, "  %3d %c %5.2f%%", t,
+                graph.getType(t).name().charAt(0), share * 100));
+            if (t % 6 == 5 || t == graph.getTileCount() - 1) {
+                System.out.println(row);
+                row.setLength(0);
+            }
+        }
+    }
+}
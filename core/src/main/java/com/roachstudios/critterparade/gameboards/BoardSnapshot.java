@@ -0,0 +1,176 @@
+package com.roachstudios.critterparade.gameboards;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.zip.CRC32;
+
+/**
+ * Everything needed to continue a board game from the start of a turn.
+ *
+ * <p>Snapshots are taken at turn boundaries, so mid-turn state (die result,
+ * movement, junction selection) is never part of one. Per-player arrays are
+ * indexed by seat.</p>
+ *
+ * <p>The binary form is a fixed header ({@link #MAGIC}, {@link #VERSION}),
+ * the fields below in order, and a CRC-32 of everything before it, so a torn or
+ * corrupted file is rejected instead of resuming a broken game.</p>
+ *
+ * @param boardName display name of the board
+ * @param tileCount tile count of the board when saved, to detect edited boards
+ * @param currentTurn seat whose turn is next
+ * @param bots whether each seat is CPU-controlled
+ * @param tiles tile each player stands on
+ * @param previousTiles tile each player came from, or -1
+ * @param fruit fruit held by each player
+ * @param crumbs crumbs held by each player
+ * @param wins minigame wins of each player
+ * @param shops tiles currently hosting a shop
+ */
+public record BoardSnapshot(
+    String boardName,
+    int tileCount,
+    int currentTurn,
+    boolean[] bots,
+    int[] tiles,
+    int[] previousTiles,
+    int[] fruit,
+    int[] crumbs,
+    int[] wins,
+    int[] shops
+) {
+
+    /** File signature ("CPBS"). */
+    public static final int MAGIC = 0x43504253;
+
+    /**
+     * Current format version; bump when the field layout changes. Version 2 widened
+     * tile indices from shorts to ints, so boards of any size can be saved;
+     * version 1 saves are still read.
+     */
+    public static final int VERSION = 2;
+
+    /**
+     * Gets the number of players in the saved game.
+     *
+     * @return the player count
+     */
+    public int playerCount() {
+        return tiles.length;
+    }
+
+    /**
+     * Encodes this snapshot in the binary save format.
+     *
+     * @return the encoded bytes
+     */
+    public byte[] toBytes() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + 24 * tiles.length + 4 * shops.length);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeUTF(boardName);
+            out.writeInt(tileCount);
+            out.writeByte(currentTurn);
+            out.writeByte(tiles.length);
+            for (int i = 0; i < tiles.length; i++) {
+                out.writeBoolean(bots[i]);
+                out.writeInt(tiles[i]);
+                out.writeInt(previousTiles[i]);
+                out.writeInt(fruit[i]);
+                out.writeInt(crumbs[i]);
+                out.writeInt(wins[i]);
+            }
+            out.writeByte(shops.length);
+            for (int shop : shops) {
+                out.writeInt(shop);
+            }
+            out.flush();
+
+            CRC32 crc = new CRC32();
+            crc.update(bytes.toByteArray());
+            out.writeInt((int) crc.getValue());
+        } catch (IOException e) {
+            // In-memory streams do not throw
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decodes a snapshot from the binary save format.
+     *
+     * @param data the encoded bytes
+     * @return the snapshot
+     * @throws IOException if the data is truncated, corrupt, from a newer version or inconsistent
+     */
+    public static BoardSnapshot fromBytes(byte[] data) throws IOException {
+        if (data.length < 4) {
+            throw new IOException("Save is truncated");
+        }
+        CRC32 crc = new CRC32();
+        crc.update(data, 0, data.length - 4);
+        int stored = ((data[data.length - 4] & 0xFF) << 24) | ((data[data.length - 3] & 0xFF) << 16)
+            | ((data[data.length - 2] & 0xFF) << 8) | (data[data.length - 1] & 0xFF);
+        if ((int) crc.getValue() != stored) {
+            throw new IOException("Save checksum mismatch");
+        }
+
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data, 0, data.length - 4))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a board save");
+            }
+            int version = in.readUnsignedShort();
+            if (version > VERSION) {
+                throw new IOException("Save version " + version + " is newer than supported version " + VERSION);
+            }
+
+            // Version 1 stored tile indices as shorts
+            boolean shortTiles = version < 2;
+            String boardName = in.readUTF();
+            int tileCount = shortTiles ? in.readUnsignedShort() : in.readInt();
+            int currentTurn = in.readUnsignedByte();
+            int players = in.readUnsignedByte();
+            if (players < 1 || players > 6 || currentTurn >= players) {
+                throw new IOException("Invalid player count or turn");
+            }
+
+            boolean[] bots = new boolean[players];
+            int[] tiles = new int[players];
+            int[] previousTiles = new int[players];
+            int[] fruit = new int[players];
+            int[] crumbs = new int[players];
+            int[] wins = new int[players];
+            for (int i = 0; i < players; i++) {
+                bots[i] = in.readBoolean();
+                tiles[i] = shortTiles ? in.readUnsignedShort() : in.readInt();
+                previousTiles[i] = shortTiles ? in.readShort() : in.readInt();
+                fruit[i] = in.readInt();
+                crumbs[i] = in.readInt();
+                wins[i] = in.readInt();
+                if (tiles[i] < 0 || tiles[i] >= tileCount || previousTiles[i] < -1 || previousTiles[i] >= tileCount) {
+                    throw new IOException("Player " + (i + 1) + " is off the board");
+                }
+            }
+
+            int[] shops = new int[in.readUnsignedByte()];
+            for (int i = 0; i < shops.length; i++) {
+                shops[i] = shortTiles ? in.readUnsignedShort() : in.readInt();
+                if (shops[i] < 0 || shops[i] >= tileCount) {
+                    throw new IOException("Shop is off the board");
+                }
+            }
+            if (in.available() != 0) {
+                throw new IOException("Unexpected data after save record");
+            }
+
+            return new BoardSnapshot(boardName, tileCount, currentTurn, bots, tiles, previousTiles,
+                fruit, crumbs, wins, shops);
+        } catch (EOFException e) {
+            throw new IOException("Save is truncated", e);
+        }
+    }
+}
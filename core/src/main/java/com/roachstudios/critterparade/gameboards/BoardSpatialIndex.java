@@ -0,0 +1,216 @@
+package com.roachstudios.critterparade.gameboards;
+
+import com.badlogic.gdx.utils.IntArray;
+
+import java.util.Arrays;
+
+/**
+ * Uniform grid over a board's tiles and edges, used to draw only what the camera
+ * can see.
+ *
+ * <p>The grid covers board space (positions 0-1 on both axes), so it does not
+ * depend on window size and is built once per {@link BoardGraph}. Cells are
+ * stored in compressed-sparse-row form like the graph itself. A tile lives in the
+ * cell holding its centre; an edge is listed in every cell its bounding box
+ * overlaps, and a query reports it only from the first of those cells inside the
+ * queried range, so no per-query bookkeeping is needed.</p>
+ *
+ * <p>Instances never change after construction and are safe to share between
+ * threads.</p>
+ */
+public final class BoardSpatialIndex {
+
+    /** Average tiles per cell the grid is sized for. */
+    private static final int TILES_PER_CELL = 4;
+
+    private final int columns;
+    private final int rows;
+
+    /** CSR row offsets into {@link #cellTiles}, one row per cell plus a terminator. */
+    private final int[] tileStart;
+    private final int[] cellTiles;
+
+    /** CSR row offsets into {@link #cellEdges}, one row per cell plus a terminator. */
+    private final int[] edgeStart;
+    private final int[] cellEdges;
+
+    /** Endpoints of each edge, with {@code edgeA[e] < edgeB[e]}. */
+    private final int[] edgeA;
+    private final int[] edgeB;
+
+    /** Lowest column and row of each edge's bounding box, for de-duplicating query results. */
+    private final int[] edgeMinColumn;
+    private final int[] edgeMinRow;
+
+    /**
+     * Builds the index for a compiled graph.
+     *
+     * @param graph the board graph
+     */
+    BoardSpatialIndex(BoardGraph graph) {
+        int tileCount = graph.getTileCount();
+        int size = Math.max(1, (int) Math.ceil(Math.sqrt((double) tileCount / TILES_PER_CELL)));
+        this.columns = size;
+        this.rows = size;
+        int cellCount = columns * rows;
+
+        int edgeCount = 0;
+        for (int t = 0; t < tileCount; t++) {
+            for (int i = 0; i < graph.getNeighborCount(t); i++) {
+                if (t < graph.getNeighbor(t, i)) {
+                    edgeCount++;
+                }
+            }
+        }
+        this.edgeA = new int[edgeCount];
+        this.edgeB = new int[edgeCount];
+        int e = 0;
+        for (int t = 0; t < tileCount; t++) {
+            for (int i = 0; i < graph.getNeighborCount(t); i++) {
+                int neighbor = graph.getNeighbor(t, i);
+                if (t < neighbor) {
+                    edgeA[e] = t;
+                    edgeB[e] = neighbor;
+                    e++;
+                }
+            }
+        }
+
+        // Tiles: count per cell, prefix sum, fill
+        int[] tileCell = new int[tileCount];
+        this.tileStart = new int[cellCount + 1];
+        for (int t = 0; t < tileCount; t++) {
+            tileCell[t] = row(graph.getPosY(t)) * columns + column(graph.getPosX(t));
+            tileStart[tileCell[t] + 1]++;
+        }
+        for (int c = 0; c < cellCount; c++) {
+            tileStart[c + 1] += tileStart[c];
+        }
+        this.cellTiles = new int[tileCount];
+        int[] fill = new int[cellCount];
+        for (int t = 0; t < tileCount; t++) {
+            int c = tileCell[t];
+            cellTiles[tileStart[c] + fill[c]++] = t;
+        }
+
+        // Edges: same, over every cell of each edge's bounding box
+        this.edgeMinColumn = new int[edgeCount];
+        this.edgeMinRow = new int[edgeCount];
+        int[] edgeMaxColumn = new int[edgeCount];
+        int[] edgeMaxRow = new int[edgeCount];
+        this.edgeStart = new int[cellCount + 1];
+        for (int i = 0; i < edgeCount; i++) {
+            float ax = graph.getPosX(edgeA[i]);
+            float bx = graph.getPosX(edgeB[i]);
+            float ay = graph.getPosY(edgeA[i]);
+            float by = graph.getPosY(edgeB[i]);
+            edgeMinColumn[i] = column(Math.min(ax, bx));
+            edgeMaxColumn[i] = column(Math.max(ax, bx));
+            edgeMinRow[i] = row(Math.min(ay, by));
+            edgeMaxRow[i] = row(Math.max(ay, by));
+            for (int r = edgeMinRow[i]; r <= edgeMaxRow[i]; r++) {
+                for (int c = edgeMinColumn[i]; c <= edgeMaxColumn[i]; c++) {
+                    edgeStart[r * columns + c + 1]++;
+                }
+            }
+        }
+        for (int c = 0; c < cellCount; c++) {
+            edgeStart[c + 1] += edgeStart[c];
+        }
+        this.cellEdges = new int[edgeStart[cellCount]];
+        Arrays.fill(fill, 0);
+        for (int i = 0; i < edgeCount; i++) {
+            for (int r = edgeMinRow[i]; r <= edgeMaxRow[i]; r++) {
+                for (int c = edgeMinColumn[i]; c <= edgeMaxColumn[i]; c++) {
+                    int cell = r * columns + c;
+                    cellEdges[edgeStart[cell] + fill[cell]++] = i;
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds the tiles and edges that may be visible in a rectangle of board space.
+     * Results are conservative: everything inside the rectangle is reported, along
+     * with some geometry from the cells it overlaps.
+     *
+     * @param minX left edge (board fraction)
+     * @param minY bottom edge (board fraction)
+     * @param maxX right edge (board fraction)
+     * @param maxY top edge (board fraction)
+     * @param tilesOut cleared, then filled with tile IDs
+     * @param edgesOut cleared, then filled with edge indices (see {@link #getEdgeA(int)})
+     */
+    public void query(float minX, float minY, float maxX, float maxY, IntArray tilesOut, IntArray edgesOut) {
+        tilesOut.clear();
+        edgesOut.clear();
+        if (maxX < 0f || maxY < 0f || minX > 1f || minY > 1f) {
+            return;
+        }
+        int minColumn = column(minX);
+        int maxColumn = column(maxX);
+        int minRow = row(minY);
+        int maxRow = row(maxY);
+
+        for (int r = minRow; r <= maxRow; r++) {
+            for (int c = minColumn; c <= maxColumn; c++) {
+                int cell = r * columns + c;
+                for (int i = tileStart[cell]; i < tileStart[cell + 1]; i++) {
+                    tilesOut.add(cellTiles[i]);
+                }
+                for (int i = edgeStart[cell]; i < edgeStart[cell + 1]; i++) {
+                    int edge = cellEdges[i];
+                    if (isFirstCell(edge, c, r, minColumn, minRow)) {
+                        edgesOut.add(edge);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks if a cell is the first cell, in query order, shared by an edge's
+     * bounding box and the queried range.
+     */
+    private boolean isFirstCell(int edge, int column, int row, int queryMinColumn, int queryMinRow) {
+        return row == Math.max(edgeMinRow[edge], queryMinRow)
+            && column == Math.max(edgeMinColumn[edge], queryMinColumn);
+    }
+
+    /**
+     * Gets the lower-numbered tile of an edge.
+     *
+     * @param edge the edge index
+     * @return the tile ID
+     */
+    public int getEdgeA(int edge) {
+        return edgeA[edge];
+    }
+
+    /**
+     * Gets the higher-numbered tile of an edge.
+     *
+     * @param edge the edge index
+     * @return the tile ID
+     */
+    public int getEdgeB(int edge) {
+        return edgeB[edge];
+    }
+
+    /**
+     * Gets the number of edges on the board.
+     *
+     * @return the edge count
+     */
+    public int getEdgeCount() {
+        return edgeA.length;
+    }
+
+    private int column(float x) {
+        return Math.min(columns - 1, Math.max(0, (int) (x * columns)));
+    }
+
+    private int row(float y) {
+        return Math.min(rows - 1, Math.max(0, (int) (y * rows)));
+    }
+}
@@ -31,8 +31,8 @@ public class BoardTile {
      * Constructs a new board tile with the specified properties.
      *
      * @param id unique tile identifier
-     * @param posX screen X-position (percentage of screen width, 0-1)
-     * @param posY screen Y-position (percentage of screen height, 0-1)
+     * @param posX X-position as a fraction of the board width (0-1)
+     * @param posY Y-position as a fraction of the board height (0-1)
      * @param type determines gameplay behavior when landed on
      */
     public BoardTile(int id, float posX, float posY, Type type) {
@@ -53,18 +53,18 @@ public class BoardTile {
     }
 
     /**
-     * Gets the X position as percentage of screen width.
+     * Gets the X position as a fraction of the board width.
      *
-     * @return X position as percentage of screen width (0-1)
+     * @return X position as a fraction of the board width (0-1)
      */
     public float getPosX() {
         return posX;
     }
 
     /**
-     * Gets the Y position as percentage of screen height.
+     * Gets the Y position as a fraction of the board height.
      *
-     * @return Y position as percentage of screen height (0-1)
+     * @return Y position as a fraction of the board height (0-1)
      */
     public float getPosY() {
         return posY;
@@ -9,18 +9,18 @@ import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.IntArray;
 import com.roachstudios.critterparade.CritterParade;
 import com.roachstudios.critterparade.Player;
 import com.roachstudios.critterparade.menus.MiniGameInstructionScreen;
 import com.roachstudios.critterparade.menus.VictoryScreen;
 import com.roachstudios.critterparade.minigames.MiniGameDescriptor;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Random;
 
 /**
- * Abstract base class for board-mode screens using a Mario Party-like gameplay style.
+ * Board-mode screen using a Mario Party-like gameplay style.
  * 
  * <p>Players roll dice, move around the board, and trigger tile effects:
  * <ul>
@@ -30,14 +30,15 @@ import java.util.Random;
  *   <li>Shop tiles allow purchasing fruit with crumbs</li>
  * </ul>
  * 
- * <p>Subclasses must provide the board name and background path to the constructor,
- * and implement:
- * <ul>
- *   <li>{@link #createBoardTiles()} - defines tile positions and connections</li>
- *   <li>{@link #getThemeColors()} - returns board-specific color theme</li>
- * </ul>
+ * <p>Tile layout, theme colors and background come from a {@link BoardFile}, so
+ * adding a board only needs a new {@code assets/board/<Name>/board.txt}.</p>
+ *
+ * <p>Boards may be several screens wide and high. The world camera follows the
+ * active player and zooms out to frame junction choices, and only tiles and edges
+ * the {@link BoardSpatialIndex} reports near the view are drawn, so frame cost
+ * depends on what is on screen rather than on board size.</p>
  */
-public abstract class GameBoard implements Screen {
+public class GameBoard implements Screen {
     
     /** Crumbs awarded when landing on a green tile. */
     protected static final int CRUMBS_REWARD = 3;
@@ -63,12 +64,27 @@ public abstract class GameBoard implements Screen {
     /** Delay between movement steps in seconds. */
     protected static final float MOVE_DELAY = 0.3f;
     
+    /** Fraction of the remaining camera pan and zoom covered per second. */
+    protected static final float CAMERA_FOLLOW_RATE = 4f;
+    
+    /** Space kept around junction options when framing them, as a fraction of the screen's short side. */
+    protected static final float JUNCTION_FRAME_MARGIN = 0.15f;
+    
     /** The display name for this board. */
     private final String name;
     
     /** Path to the background texture asset. */
     private final String backgroundPath;
     
+    /** Color theme for this board. */
+    private final BoardTheme theme;
+    
+    /** Board width in multiples of the screen width. */
+    protected final float boardWidth;
+    
+    /** Board height in multiples of the screen height. */
+    protected final float boardHeight;
+    
     /**
      * Gets the display name for this game board.
      *
@@ -87,18 +103,14 @@ public abstract class GameBoard implements Screen {
         return backgroundPath;
     }
     
-    /**
-     * Creates and connects all board tiles. Subclasses should populate the
-     * tiles list and establish connections using {@link #connect(int, int)}.
-     */
-    protected abstract void createBoardTiles();
-    
     /**
      * Gets the color theme for this board's visual elements.
      *
      * @return the BoardTheme containing colors for various UI elements
      */
-    protected abstract BoardTheme getThemeColors();
+    protected BoardTheme getThemeColors() {
+        return theme;
+    }
     
     /**
      * Color theme for board rendering.
@@ -137,14 +149,23 @@ public abstract class GameBoard implements Screen {
     /** Random number generator for dice rolls and shop placement. */
     protected Random random;
     
-    /** Camera for screen-coordinate rendering. */
+    /** World camera; follows the active player across boards larger than the screen. */
     protected OrthographicCamera camera;
     
-    /** List of all board tiles. */
-    protected ArrayList<BoardTile> tiles;
+    /** Camera for screen-coordinate HUD rendering. */
+    protected OrthographicCamera hudCamera;
+    
+    /** Tiles near the view this frame, reused between frames. */
+    protected final IntArray visibleTiles = new IntArray();
     
-    /** Indices of tiles currently serving as shops. */
-    protected ArrayList<Integer> shopTileIndices;
+    /** Edges near the view this frame (see {@link BoardSpatialIndex#getEdgeA(int)}), reused between frames. */
+    protected final IntArray visibleEdges = new IntArray();
+    
+    /** Compiled tile graph used for movement and drawing, shared with other boards from the same file. */
+    protected final BoardGraph graph;
+    
+    /** Tiles currently serving as shops. */
+    protected BoardShops shops;
     
     /** Current game state. */
     protected GameState state = GameState.WAITING_FOR_ROLL;
@@ -155,8 +176,11 @@ public abstract class GameBoard implements Screen {
     /** Remaining moves for the current player. */
     protected int movesRemaining = 0;
     
-    /** Available tiles at the current junction. */
-    protected List<BoardTile> junctionOptions;
+    /**
+     * Arrival index (see {@link BoardGraph#getArrival(int, int)}) of the current player
+     * at the junction being chosen; the options are the graph's next tiles for it.
+     */
+    protected int junctionArrival = -1;
     
     /** Selected junction option index. */
     protected int selectedJunctionIndex = 0;
@@ -191,22 +215,22 @@ public abstract class GameBoard implements Screen {
     }
     
     /**
-     * Constructs a new game board.
+     * Constructs a new game board from a board definition file. The file's tile
+     * graph is loaded on first use and reused by later boards from the same file.
      *
      * @param gameInstance the main game instance providing shared resources
-     * @param name the display name for this board
-     * @param backgroundPath the path to the background texture asset
+     * @param boardFile the board definition
      */
-    protected GameBoard(CritterParade gameInstance, String name, String backgroundPath) {
+    public GameBoard(CritterParade gameInstance, BoardFile boardFile) {
         this.gameInstance = gameInstance;
-        this.name = name;
-        this.backgroundPath = backgroundPath;
+        this.name = boardFile.getName();
+        this.backgroundPath = boardFile.getBackgroundPath();
+        this.theme = boardFile.getTheme();
+        this.boardWidth = boardFile.getWidthInScreens();
+        this.boardHeight = boardFile.getHeightInScreens();
         this.random = new Random();
-        this.tiles = new ArrayList<>();
-        this.junctionOptions = new ArrayList<>();
-        this.shopTileIndices = new ArrayList<>();
-        
-        createBoardTiles();
+        this.graph = boardFile.getGraph();
+        this.shops = new BoardShops(graph, START_TILE_INDEX);
         initializeShops();
     }
     
@@ -214,7 +238,7 @@ public abstract class GameBoard implements Screen {
      * Initializes all shop tiles at random positions.
      */
     protected void initializeShops() {
-        shopTileIndices.clear();
+        shops.clear();
         for (int i = 0; i < SHOP_COUNT; i++) {
             addNewShop();
         }
@@ -224,11 +248,7 @@ public abstract class GameBoard implements Screen {
      * Adds a new shop at a random tile, avoiding the start tile and existing shops.
      */
     protected void addNewShop() {
-        int newShopIndex;
-        do {
-            newShopIndex = random.nextInt(tiles.size());
-        } while (newShopIndex == START_TILE_INDEX || shopTileIndices.contains(newShopIndex));
-        shopTileIndices.add(newShopIndex);
+        shops.addRandom(random);
     }
     
     /**
@@ -238,33 +258,32 @@ public abstract class GameBoard implements Screen {
      * @return true if the tile is a shop
      */
     protected boolean isShopTile(int tileId) {
-        return shopTileIndices.contains(tileId);
+        return shops.isShop(tileId);
     }
     
     /**
-     * Removes a shop from the given tile and adds a new shop elsewhere.
+     * Gets how many steps a player is from the nearest shop, given the way they are facing.
      *
-     * @param tileId the tile ID of the shop that was used
+     * @param player the player
+     * @return the step count, or {@link BoardGraph#UNREACHABLE} if no shop can be reached
      */
-    protected void replaceShop(int tileId) {
-        shopTileIndices.remove(Integer.valueOf(tileId));
-        addNewShop();
+    protected int getShopDistance(Player player) {
+        return shops.getShopDistance(graph.getArrival(player.getBoardTileIndex(), player.getPreviousTileIndex()));
     }
     
     /**
-     * Creates a bidirectional connection between two tiles.
+     * Removes a shop from the given tile and adds a new shop elsewhere.
      *
-     * @param tileA index of the first tile
-     * @param tileB index of the second tile
+     * @param tileId the tile ID of the shop that was used
      */
-    protected void connect(int tileA, int tileB) {
-        tiles.get(tileA).addNeighbor(tiles.get(tileB));
-        tiles.get(tileB).addNeighbor(tiles.get(tileA));
+    protected void replaceShop(int tileId) {
+        shops.remove(tileId);
+        addNewShop();
     }
-
+    
     @Override
     public void show() {
-        backgroundTex = new Texture(getBackgroundPath());
+        backgroundTex = gameInstance.loadTexture(getBackgroundPath());
         shapeRenderer = new ShapeRenderer();
         font = gameInstance.getFont();
         font.setUseIntegerPositions(false);
@@ -275,16 +294,36 @@ public abstract class GameBoard implements Screen {
         float w = Gdx.graphics.getWidth();
         float h = Gdx.graphics.getHeight();
         camera = new OrthographicCamera(w, h);
-        camera.position.set(w / 2, h / 2, 0);
-        camera.update();
+        hudCamera = new OrthographicCamera(w, h);
         
+        BoardSnapshot session = gameInstance.getBoardSession();
         if (gameInstance.shouldAdvanceTurnOnBoardReturn()) {
             gameInstance.setAdvanceTurnOnBoardReturn(false);
             gameInstance.advancePlayerTurn();
+            // This screen was rebuilt for the return from a minigame; keep the shops from before it
+            if (session != null) {
+                restoreShops(session);
+            }
+            saveSession(gameInstance.getCurrentPlayerTurn());
+        } else if (gameInstance.shouldRestoreBoardOnShow()) {
+            gameInstance.setRestoreBoardOnShow(false);
+            if (session == null || session.tileCount() != graph.getTileCount()) {
+                System.err.println("[GameBoard] Saved game does not match this board, starting a new game");
+                gameInstance.resetBoardGameState(START_TILE_INDEX);
+            } else {
+                restoreShops(session);
+            }
         } else {
             gameInstance.resetBoardGameState(START_TILE_INDEX);
         }
         
+        for (Player player : gameInstance.getPlayers()) {
+            if (player.isBot()) {
+                player.getBot().attach(this);
+            }
+        }
+        
+        updateCamera(0, true);
         updateStatusMessage();
     }
 
@@ -292,9 +331,84 @@ public abstract class GameBoard implements Screen {
     public void render(float delta) {
         handleInput();
         update(delta);
+        updateCamera(delta, false);
         draw();
     }
     
+    /**
+     * Moves the world camera toward the active player, or toward the options while
+     * a junction is being chosen, zooming out just enough to frame them. The view is
+     * kept inside the board.
+     *
+     * @param delta seconds since the last frame
+     * @param snap true to jump straight to the target instead of easing toward it
+     */
+    protected void updateCamera(float delta, boolean snap) {
+        float screenWidth = Gdx.graphics.getWidth();
+        float screenHeight = Gdx.graphics.getHeight();
+        camera.viewportWidth = screenWidth;
+        camera.viewportHeight = screenHeight;
+        
+        int tile = gameInstance.getPlayers()[gameInstance.getCurrentPlayerTurn()].getBoardTileIndex();
+        float minX = worldX(tile, screenWidth);
+        float maxX = minX;
+        float minY = worldY(tile, screenHeight);
+        float maxY = minY;
+        float targetZoom = 1f;
+        
+        if (state == GameState.CHOOSING_DIRECTION) {
+            int optionCount = graph.getNextCount(junctionArrival);
+            for (int i = 0; i < optionCount; i++) {
+                int option = graph.getNext(junctionArrival, i);
+                minX = Math.min(minX, worldX(option, screenWidth));
+                maxX = Math.max(maxX, worldX(option, screenWidth));
+                minY = Math.min(minY, worldY(option, screenHeight));
+                maxY = Math.max(maxY, worldY(option, screenHeight));
+            }
+            float margin = 2 * Math.min(screenWidth, screenHeight) * JUNCTION_FRAME_MARGIN;
+            targetZoom = Math.max(1f, Math.max((maxX - minX + margin) / screenWidth, (maxY - minY + margin) / screenHeight));
+        }
+        // Zooming out past the whole board only shows empty space
+        targetZoom = Math.min(targetZoom, Math.max(boardWidth, boardHeight));
+        
+        float t = snap ? 1f : Math.min(1f, delta * CAMERA_FOLLOW_RATE);
+        camera.zoom += (targetZoom - camera.zoom) * t;
+        camera.position.x += ((minX + maxX) / 2 - camera.position.x) * t;
+        camera.position.y += ((minY + maxY) / 2 - camera.position.y) * t;
+        
+        float worldWidth = boardWidth * screenWidth;
+        float worldHeight = boardHeight * screenHeight;
+        float halfViewWidth = screenWidth * camera.zoom / 2;
+        float halfViewHeight = screenHeight * camera.zoom / 2;
+        camera.position.x = halfViewWidth * 2 >= worldWidth
+            ? worldWidth / 2 : MathUtils.clamp(camera.position.x, halfViewWidth, worldWidth - halfViewWidth);
+        camera.position.y = halfViewHeight * 2 >= worldHeight
+            ? worldHeight / 2 : MathUtils.clamp(camera.position.y, halfViewHeight, worldHeight - halfViewHeight);
+        camera.update();
+    }
+    
+    /**
+     * Gets the world X coordinate of a tile for the current screen size.
+     *
+     * @param tile the tile ID
+     * @param screenWidth current screen width
+     * @return the X coordinate in world pixels
+     */
+    protected float worldX(int tile, float screenWidth) {
+        return graph.getPosX(tile) * boardWidth * screenWidth;
+    }
+    
+    /**
+     * Gets the world Y coordinate of a tile for the current screen size.
+     *
+     * @param tile the tile ID
+     * @param screenHeight current screen height
+     * @return the Y coordinate in world pixels
+     */
+    protected float worldY(int tile, float screenHeight) {
+        return graph.getPosY(tile) * boardHeight * screenHeight;
+    }
+    
     /**
      * Processes player input based on the current game state.
      */
@@ -309,15 +423,15 @@ public abstract class GameBoard implements Screen {
                 break;
                 
             case CHOOSING_DIRECTION:
+                int optionCount = graph.getNextCount(junctionArrival);
                 if (currentPlayer.justPressedLeft() || currentPlayer.justPressedUp()) {
-                    selectedJunctionIndex = (selectedJunctionIndex - 1 + junctionOptions.size()) % junctionOptions.size();
+                    selectedJunctionIndex = (selectedJunctionIndex - 1 + optionCount) % optionCount;
                 }
                 if (currentPlayer.justPressedRight() || currentPlayer.justPressedDown()) {
-                    selectedJunctionIndex = (selectedJunctionIndex + 1) % junctionOptions.size();
+                    selectedJunctionIndex = (selectedJunctionIndex + 1) % optionCount;
                 }
                 if (currentPlayer.justPressedAction()) {
-                    BoardTile chosenTile = junctionOptions.get(selectedJunctionIndex);
-                    moveToTile(chosenTile);
+                    moveToTile(graph.getNext(junctionArrival, selectedJunctionIndex));
                 }
                 break;
                 
@@ -378,6 +492,7 @@ public abstract class GameBoard implements Screen {
                             break;
                         }
                     }
+                    gameInstance.endBoardSession();
                     gameInstance.setScreen(new VictoryScreen(gameInstance, winner));
                 }
                 break;
@@ -397,22 +512,19 @@ public abstract class GameBoard implements Screen {
         }
         
         Player currentPlayer = gameInstance.getPlayers()[gameInstance.getCurrentPlayerTurn()];
-        BoardTile currentTile = tiles.get(currentPlayer.getBoardTileIndex());
-        int prevIndex = currentPlayer.getPreviousTileIndex();
-        BoardTile cameFrom = (prevIndex >= 0) ? tiles.get(prevIndex) : null;
-        List<BoardTile> nextOptions = currentTile.getNextTiles(cameFrom);
+        int arrival = graph.getArrival(currentPlayer.getBoardTileIndex(), currentPlayer.getPreviousTileIndex());
+        int optionCount = graph.getNextCount(arrival);
         
-        if (nextOptions.isEmpty()) {
+        if (optionCount == 0) {
             applyTileEffect();
             return;
         }
         
-        if (nextOptions.size() == 1) {
-            moveToTile(nextOptions.get(0));
+        if (optionCount == 1) {
+            moveToTile(graph.getNext(arrival, 0));
         } else {
             state = GameState.CHOOSING_DIRECTION;
-            junctionOptions.clear();
-            junctionOptions.addAll(nextOptions);
+            junctionArrival = arrival;
             selectedJunctionIndex = 0;
             statusMessage = "Choose direction!";
         }
@@ -421,12 +533,12 @@ public abstract class GameBoard implements Screen {
     /**
      * Moves the current player to the specified tile.
      *
-     * @param targetTile the tile to move to
+     * @param targetTileId the ID of the tile to move to
      */
-    protected void moveToTile(BoardTile targetTile) {
+    protected void moveToTile(int targetTileId) {
         Player currentPlayer = gameInstance.getPlayers()[gameInstance.getCurrentPlayerTurn()];
         currentPlayer.setPreviousTileIndex(currentPlayer.getBoardTileIndex());
-        currentPlayer.setBoardTileIndex(targetTile.getId());
+        currentPlayer.setBoardTileIndex(targetTileId);
         movesRemaining--;
         moveTimer = MOVE_DELAY;
         state = GameState.MOVING;
@@ -437,14 +549,14 @@ public abstract class GameBoard implements Screen {
      */
     protected void applyTileEffect() {
         Player currentPlayer = gameInstance.getPlayers()[gameInstance.getCurrentPlayerTurn()];
-        BoardTile currentTile = tiles.get(currentPlayer.getBoardTileIndex());
+        int currentTile = currentPlayer.getBoardTileIndex();
         
-        if (isShopTile(currentTile.getId())) {
-            handleShopTile(currentPlayer, currentTile.getId());
+        if (isShopTile(currentTile)) {
+            handleShopTile(currentPlayer, currentTile);
             return;
         }
         
-        switch (currentTile.getType()) {
+        switch (graph.getType(currentTile)) {
             case GREEN:
                 currentPlayer.addCrumbs(CRUMBS_REWARD);
                 statusMessage = currentPlayer.getName() + " got " + CRUMBS_REWARD + " crumbs!";
@@ -506,6 +618,8 @@ public abstract class GameBoard implements Screen {
             int index = random.nextInt(minigames.size());
             MiniGameDescriptor selectedGame = minigames.get(index);
             gameInstance.setAdvanceTurnOnBoardReturn(true);
+            // Save as of the next turn, so a crash during the minigame resumes after it
+            saveSession((gameInstance.getCurrentPlayerTurn() + 1) % gameInstance.getNumPlayers());
             gameInstance.setScreen(new MiniGameInstructionScreen(gameInstance, selectedGame));
         } else {
             endTurn();
@@ -520,15 +634,71 @@ public abstract class GameBoard implements Screen {
         state = GameState.WAITING_FOR_ROLL;
         movesRemaining = 0;
         dieResult = 0;
+        saveSession(gameInstance.getCurrentPlayerTurn());
         updateStatusMessage();
     }
     
+    /**
+     * Captures the board game as it stands at a turn boundary.
+     *
+     * @param nextTurn seat whose turn comes next
+     * @return the snapshot
+     */
+    protected BoardSnapshot createSnapshot(int nextTurn) {
+        Player[] players = gameInstance.getPlayers();
+        int count = players.length;
+        boolean[] bots = new boolean[count];
+        int[] tiles = new int[count];
+        int[] previousTiles = new int[count];
+        int[] fruit = new int[count];
+        int[] crumbs = new int[count];
+        int[] wins = new int[count];
+        for (int i = 0; i < count; i++) {
+            bots[i] = players[i].isBot();
+            tiles[i] = players[i].getBoardTileIndex();
+            previousTiles[i] = players[i].getPreviousTileIndex();
+            fruit[i] = players[i].getFruit();
+            crumbs[i] = players[i].getCrumbs();
+            wins[i] = players[i].getWins();
+        }
+        int[] shopTiles = new int[shops.size()];
+        int n = 0;
+        for (int shop = shops.nextShop(0); shop >= 0; shop = shops.nextShop(shop + 1)) {
+            shopTiles[n++] = shop;
+        }
+        return new BoardSnapshot(gameInstance.getActiveBoard().name(), graph.getTileCount(), nextTurn,
+            bots, tiles, previousTiles, fruit, crumbs, wins, shopTiles);
+    }
+    
+    /**
+     * Records a snapshot in the running session and saves it in the background.
+     *
+     * @param nextTurn seat whose turn comes next
+     */
+    private void saveSession(int nextTurn) {
+        gameInstance.saveBoardSession(createSnapshot(nextTurn));
+    }
+    
+    /**
+     * Replaces the randomly placed shops with those of a saved session.
+     *
+     * @param snapshot the session to take shops from
+     */
+    protected void restoreShops(BoardSnapshot snapshot) {
+        shops.clear();
+        for (int tile : snapshot.shops()) {
+            shops.add(tile);
+        }
+    }
+    
     /**
      * Updates the status message to prompt the current player.
      */
     protected void updateStatusMessage() {
         Player currentPlayer = gameInstance.getPlayers()[gameInstance.getCurrentPlayerTurn()];
-        statusMessage = currentPlayer.getName() + "'s turn! Press Action to roll.";
+        statusMessage = currentPlayer.isBot()
+            ? currentPlayer.getName() + " (CPU) is thinking..."
+            : currentPlayer.getName() + "'s turn! Press Action to roll.";
     }
     
     /**
@@ -543,16 +713,11 @@ public abstract class GameBoard implements Screen {
         float screenWidth = Gdx.graphics.getWidth();
         float screenHeight = Gdx.graphics.getHeight();
         
-        camera.viewportWidth = screenWidth;
-        camera.viewportHeight = screenHeight;
-        camera.position.set(screenWidth / 2, screenHeight / 2, 0);
-        camera.update();
-        
         gameInstance.getBatch().setProjectionMatrix(camera.combined);
         shapeRenderer.setProjectionMatrix(camera.combined);
         
         gameInstance.getBatch().begin();
-        gameInstance.getBatch().draw(backgroundTex, 0, 0, screenWidth, screenHeight);
+        gameInstance.getBatch().draw(backgroundTex, 0, 0, boardWidth * screenWidth, boardHeight * screenHeight);
         gameInstance.getBatch().end();
         
         Gdx.gl.glEnable(GL20.GL_BLEND);
@@ -565,11 +730,14 @@ public abstract class GameBoard implements Screen {
             drawJunctionOptions(screenWidth, screenHeight);
         }
         
+        hudCamera.setToOrtho(false, screenWidth, screenHeight);
+        gameInstance.getBatch().setProjectionMatrix(hudCamera.combined);
+        shapeRenderer.setProjectionMatrix(hudCamera.combined);
         drawUI(screenWidth, screenHeight, theme);
     }
     
     /**
-     * Draws all board tiles and their connections.
+     * Draws the board tiles and connections near the camera's view.
      *
      * @param screenWidth current screen width
      * @param screenHeight current screen height
@@ -579,32 +747,39 @@ public abstract class GameBoard implements Screen {
         float tileRadius = Math.min(screenWidth, screenHeight) * 0.018f;
         float outlineRadius = tileRadius * 1.3f;
         
+        float worldWidth = boardWidth * screenWidth;
+        float worldHeight = boardHeight * screenHeight;
+        float halfViewWidth = camera.viewportWidth * camera.zoom / 2 + outlineRadius;
+        float halfViewHeight = camera.viewportHeight * camera.zoom / 2 + outlineRadius;
+        BoardSpatialIndex index = graph.getSpatialIndex();
+        index.query(
+            (camera.position.x - halfViewWidth) / worldWidth, (camera.position.y - halfViewHeight) / worldHeight,
+            (camera.position.x + halfViewWidth) / worldWidth, (camera.position.y + halfViewHeight) / worldHeight,
+            visibleTiles, visibleEdges);
+        
         shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
         
         shapeRenderer.setColor(theme.pathColor);
-        for (BoardTile tile : tiles) {
-            float x1 = tile.getPosX() * screenWidth;
-            float y1 = tile.getPosY() * screenHeight;
-            for (BoardTile neighbor : tile.getNeighbors()) {
-                if (tile.getId() < neighbor.getId()) {
-                    float x2 = neighbor.getPosX() * screenWidth;
-                    float y2 = neighbor.getPosY() * screenHeight;
-                    shapeRenderer.rectLine(x1, y1, x2, y2, tileRadius * 0.5f);
-                }
-            }
+        for (int i = 0; i < visibleEdges.size; i++) {
+            int edge = visibleEdges.get(i);
+            int a = index.getEdgeA(edge);
+            int b = index.getEdgeB(edge);
+            shapeRenderer.rectLine(worldX(a, screenWidth), worldY(a, screenHeight),
+                worldX(b, screenWidth), worldY(b, screenHeight), tileRadius * 0.5f);
         }
         
-        for (BoardTile tile : tiles) {
-            float x = tile.getPosX() * screenWidth;
-            float y = tile.getPosY() * screenHeight;
+        for (int i = 0; i < visibleTiles.size; i++) {
+            int tile = visibleTiles.get(i);
+            float x = worldX(tile, screenWidth);
+            float y = worldY(tile, screenHeight);
             
             shapeRenderer.setColor(theme.pathOutlineColor);
             shapeRenderer.circle(x, y, outlineRadius);
             
-            if (isShopTile(tile.getId())) {
+            if (isShopTile(tile)) {
                 shapeRenderer.setColor(theme.shopColor);
             } else {
-                switch (tile.getType()) {
+                switch (graph.getType(tile)) {
                     case GREEN:
                         shapeRenderer.setColor(0.2f, 0.85f, 0.3f, 1f);
                         break;
@@ -635,9 +810,9 @@ public abstract class GameBoard implements Screen {
         float spriteSize = Math.min(screenWidth, screenHeight) * 0.06f;
         int currentTurn = gameInstance.getCurrentPlayerTurn();
         
-        BoardTile currentTile = tiles.get(players[currentTurn].getBoardTileIndex());
-        float cx = currentTile.getPosX() * screenWidth - spriteSize / 2;
-        float cy = currentTile.getPosY() * screenHeight - spriteSize / 2;
+        int currentTile = players[currentTurn].getBoardTileIndex();
+        float cx = worldX(currentTile, screenWidth) - spriteSize / 2;
+        float cy = worldY(currentTile, screenHeight) - spriteSize / 2;
         
         int currentSameCount = 0;
         for (int j = 0; j < currentTurn; j++) {
@@ -656,9 +831,9 @@ public abstract class GameBoard implements Screen {
         gameInstance.getBatch().begin();
         
         for (int i = 0; i < players.length; i++) {
-            BoardTile tile = tiles.get(players[i].getBoardTileIndex());
-            float x = tile.getPosX() * screenWidth - spriteSize / 2;
-            float y = tile.getPosY() * screenHeight - spriteSize / 2;
+            int tile = players[i].getBoardTileIndex();
+            float x = worldX(tile, screenWidth) - spriteSize / 2;
+            float y = worldY(tile, screenHeight) - spriteSize / 2;
             
             int sameCount = 0;
             for (int j = 0; j < i; j++) {
@@ -688,10 +863,11 @@ public abstract class GameBoard implements Screen {
         
         float indicatorSize = Math.min(screenWidth, screenHeight) * 0.04f;
         
-        for (int i = 0; i < junctionOptions.size(); i++) {
-            BoardTile option = junctionOptions.get(i);
-            float x = option.getPosX() * screenWidth;
-            float y = option.getPosY() * screenHeight;
+        int optionCount = graph.getNextCount(junctionArrival);
+        for (int i = 0; i < optionCount; i++) {
+            int option = graph.getNext(junctionArrival, i);
+            float x = worldX(option, screenWidth);
+            float y = worldY(option, screenHeight);
             
             if (i == selectedJunctionIndex) {
                 shapeRenderer.setColor(1f, 1f, 0f, 0.9f);
@@ -718,6 +894,11 @@ public abstract class GameBoard implements Screen {
         String fullStatus = statusMessage;
         if (dieResult > 0 && state != GameState.WAITING_FOR_ROLL) {
             fullStatus += "  |  Die: " + dieResult + " (Moves: " + movesRemaining + ")";
+        } else if (state == GameState.WAITING_FOR_ROLL) {
+            int shopDistance = getShopDistance(gameInstance.getPlayers()[gameInstance.getCurrentPlayerTurn()]);
+            if (shopDistance != BoardGraph.UNREACHABLE) {
+                fullStatus += "  |  Nearest shop: " + shopDistance;
+            }
         }
         
         font.getData().setScale(screenHeight / 400f);
@@ -759,7 +940,7 @@ public abstract class GameBoard implements Screen {
         
         for (int i = 0; i < players.length; i++) {
             Player p = players[i];
-            String stats = p.getName() + " " + p.getFruit() + "F " + p.getCrumbs() + "C";
+            String stats = p.getName() + (p.isBot() ? " (CPU) " : " ") + p.getFruit() + "F " + p.getCrumbs() + "C";
             if (i == gameInstance.getCurrentPlayerTurn()) {
                 font.setColor(Color.YELLOW);
             } else {
@@ -779,7 +960,7 @@ public abstract class GameBoard implements Screen {
 
     @Override
     public void resize(int width, int height) {
-        // Handled by draw using screen dimensions
+        // Handled each frame by updateCamera and draw using screen dimensions
     }
 
     @Override
@@ -797,6 +978,9 @@ public abstract class GameBoard implements Screen {
         Player[] players = gameInstance.getPlayers();
         if (players != null) {
             for (Player player : players) {
+                if (player.isBot()) {
+                    player.getBot().detach();
+                }
                 player.setSpriteSize(1f);
                 player.getSprite().setPosition(0, 0);
             }
@@ -0,0 +1,244 @@
+package com.roachstudios.critterparade.gameboards;
+
+import java.util.Arrays;
+
+/**
+ * Steps from every arrival (see {@link BoardGraph#getArrival(int, int)}) to the
+ * nearest shop, following the board's no-backtracking movement rule.
+ *
+ * <p>The field is kept current as shops come and go instead of being rebuilt:
+ * <ul>
+ *   <li>Adding a shop runs a breadth-first search backwards from its tile that
+ *       only continues while it shortens a distance.</li>
+ *   <li>Removing a shop first finds the arrivals whose every shortest path led to
+ *       it, then re-settles just those from their unaffected neighbours with a
+ *       small Dijkstra pass.</li>
+ * </ul>
+ * Both touch only the region whose answer changes, and all scratch space is
+ * allocated up front.</p>
+ */
+final class ShopDistanceField {
+
+    private final BoardGraph graph;
+
+    /** Distance per arrival, or {@link BoardGraph#UNREACHABLE}. */
+    private final int[] distance;
+
+    private final int[] queue;
+
+    /** Arrivals marked with the current {@link #epoch} are being re-settled. */
+    private final int[] affected;
+    private int epoch;
+
+    /** Binary min-heap of (distance, arrival) pairs; may hold stale entries. */
+    private final int[] heapKey;
+    private final int[] heapValue;
+    private int heapSize;
+
+    ShopDistanceField(BoardGraph graph) {
+        this.graph = graph;
+        int arrivalCount = graph.getArrivalCount();
+        this.distance = new int[arrivalCount];
+        this.queue = new int[arrivalCount];
+        this.affected = new int[arrivalCount];
+
+        // Each arrival is pushed once when seeded plus once per improving edge
+        int capacity = arrivalCount;
+        for (int a = 0; a < arrivalCount; a++) {
+            capacity += graph.getNextCount(a);
+        }
+        this.heapKey = new int[capacity];
+        this.heapValue = new int[capacity];
+        clear();
+    }
+
+    /**
+     * Gets the steps from an arrival to the nearest shop.
+     *
+     * @param arrival the arrival index
+     * @return the step count, or {@link BoardGraph#UNREACHABLE} if no shop can be reached
+     */
+    int get(int arrival) {
+        return distance[arrival];
+    }
+
+    /**
+     * Resets the field to "no shops".
+     */
+    void clear() {
+        Arrays.fill(distance, BoardGraph.UNREACHABLE);
+    }
+
+    /**
+     * Updates the field after a shop was placed on a tile.
+     *
+     * @param tile the new shop tile
+     */
+    void shopAdded(int tile) {
+        int head = 0;
+        int tail = 0;
+        for (int i = 0; i < graph.getTileArrivalCount(tile); i++) {
+            int a = graph.getTileArrival(tile, i);
+            if (distance[a] != 0) {
+                distance[a] = 0;
+                queue[tail++] = a;
+            }
+        }
+        // Every source starts at 0, so the first improvement to an arrival is final
+        while (head < tail) {
+            int a = queue[head++];
+            int d = distance[a] + 1;
+            for (int i = 0; i < graph.getPreviousCount(a); i++) {
+                int p = graph.getPreviousArrival(a, i);
+                if (d < distance[p]) {
+                    distance[p] = d;
+                    queue[tail++] = p;
+                }
+            }
+        }
+    }
+
+    /**
+     * Computes the steps from every arrival to one tile, by a breadth-first search
+     * backwards from it. Leaves the field itself unchanged.
+     *
+     * @param tile the destination tile
+     * @param out filled with the step count per arrival, or {@link BoardGraph#UNREACHABLE}
+     */
+    void distancesTo(int tile, int[] out) {
+        Arrays.fill(out, BoardGraph.UNREACHABLE);
+        int head = 0;
+        int tail = 0;
+        for (int i = 0; i < graph.getTileArrivalCount(tile); i++) {
+            int a = graph.getTileArrival(tile, i);
+            out[a] = 0;
+            queue[tail++] = a;
+        }
+        while (head < tail) {
+            int a = queue[head++];
+            int d = out[a] + 1;
+            for (int i = 0; i < graph.getPreviousCount(a); i++) {
+                int p = graph.getPreviousArrival(a, i);
+                if (out[p] == BoardGraph.UNREACHABLE) {
+                    out[p] = d;
+                    queue[tail++] = p;
+                }
+            }
+        }
+    }
+
+    /**
+     * Updates the field after the shop on a tile was removed.
+     *
+     * @param tile the former shop tile
+     */
+    void shopRemoved(int tile) {
+        epoch++;
+        int tail = 0;
+        for (int i = 0; i < graph.getTileArrivalCount(tile); i++) {
+            int a = graph.getTileArrival(tile, i);
+            affected[a] = epoch;
+            queue[tail++] = a;
+        }
+
+        // Walk outward in order of old distance. An arrival loses its answer when
+        // every successor one step closer to a shop has lost its answer too; all of
+        // those successors sit on the previous level, which is already decided.
+        for (int head = 0; head < tail; head++) {
+            int x = queue[head];
+            for (int i = 0; i < graph.getPreviousCount(x); i++) {
+                int p = graph.getPreviousArrival(x, i);
+                if (affected[p] != epoch && distance[p] == distance[x] + 1 && !hasSupport(p)) {
+                    affected[p] = epoch;
+                    queue[tail++] = p;
+                }
+            }
+        }
+
+        // Seed each affected arrival from its unaffected successors, then settle
+        // the affected region in distance order
+        heapSize = 0;
+        for (int k = 0; k < tail; k++) {
+            int a = queue[k];
+            int best = BoardGraph.UNREACHABLE;
+            for (int i = 0; i < graph.getNextCount(a); i++) {
+                int b = graph.getNextArrival(a, i);
+                if (affected[b] != epoch && distance[b] != BoardGraph.UNREACHABLE) {
+                    best = Math.min(best, distance[b] + 1);
+                }
+            }
+            distance[a] = best;
+            if (best != BoardGraph.UNREACHABLE) {
+                push(best, a);
+            }
+        }
+        while (heapSize > 0) {
+            int d = heapKey[0];
+            int a = heapValue[0];
+            pop();
+            if (d != distance[a]) {
+                continue;
+            }
+            for (int i = 0; i < graph.getPreviousCount(a); i++) {
+                int p = graph.getPreviousArrival(a, i);
+                if (affected[p] == epoch && d + 1 < distance[p]) {
+                    distance[p] = d + 1;
+                    push(d + 1, p);
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks if an arrival still has a successor one step closer to a shop that
+     * is not being re-settled.
+     */
+    private boolean hasSupport(int arrival) {
+        int target = distance[arrival] - 1;
+        for (int i = 0; i < graph.getNextCount(arrival); i++) {
+            int b = graph.getNextArrival(arrival, i);
+            if (distance[b] == target && affected[b] != epoch) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void push(int key, int value) {
+        int i = heapSize++;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (heapKey[parent] <= key) {
+                break;
+            }
+            heapKey[i] = heapKey[parent];
+            heapValue[i] = heapValue[parent];
+            i = parent;
+        }
+        heapKey[i] = key;
+        heapValue[i] = value;
+    }
+
+    private void pop() {
+        int key = heapKey[--heapSize];
+        int value = heapValue[heapSize];
+        int i = 0;
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= heapSize) {
+                break;
+            }
+            if (child + 1 < heapSize && heapKey[child + 1] < heapKey[child]) {
+                child++;
+            }
+            if (heapKey[child] >= key) {
+                break;
+            }
+            heapKey[i] = heapKey[child];
+            heapValue[i] = heapValue[child];
+            i = child;
+        }
+        heapKey[i] = key;
+        heapValue[i] = value;
+    }
+}
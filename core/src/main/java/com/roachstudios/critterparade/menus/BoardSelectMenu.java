@@ -10,7 +10,6 @@ import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
 import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener;
 import com.badlogic.gdx.utils.Align;
-import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.roachstudios.critterparade.CritterParade;
 import com.roachstudios.critterparade.NamedSupplier;
 import com.roachstudios.critterparade.gameboards.GameBoard;
@@ -31,9 +30,7 @@ public class BoardSelectMenu implements Screen {
     public BoardSelectMenu(CritterParade gameInstance) {
         this.gameInstance = gameInstance;
 
-        // Fixed virtual size for predictable layout across window sizes.
-        stage = new Stage(new FitViewport(640, 360));
-        Gdx.input.setInputProcessor(stage);
+        stage = gameInstance.getUiStage();
     }
 
     /**
@@ -41,13 +38,11 @@ public class BoardSelectMenu implements Screen {
      */
     @Override
     public void show() {
-        // Update viewport to current screen size to ensure proper scaling
-        stage.getViewport().update(Gdx.graphics.getWidth(), Gdx.graphics.getHeight(), true);
         // Reset font scale (minigames may have changed it for their world-unit viewports)
         gameInstance.getFont().getData().setScale(1.0f);
         
         Table root = new Table();
-        stage.addActor(root);
+        gameInstance.mountUi(root);
         root.setFillParent(true);
 
         Label title = new Label("Select a Board", gameInstance.getSkin());
@@ -63,8 +58,9 @@ public class BoardSelectMenu implements Screen {
                 public void changed(ChangeEvent event, Actor actor) {
                     gameInstance.log("Board selected: %s", namedBoard.name());
                     gameInstance.logBoardStart(namedBoard.name());
+                    gameInstance.setActiveBoard(namedBoard);
                     gameInstance.setScreen(new PlayerSelectMenu(gameInstance, namedBoard.supplier()::get, 
-                        () -> new BoardSelectMenu(gameInstance)));
+                        () -> gameInstance.getMenu(BoardSelectMenu.class, BoardSelectMenu::new)));
                 }
             });
             root.add(changeButton).pad(5);
@@ -76,7 +72,7 @@ public class BoardSelectMenu implements Screen {
         backButton.addListener(new ChangeListener() {
             @Override
             public void changed(ChangeEvent event, Actor actor) {
-                gameInstance.setScreen(new MainMenu(gameInstance));
+                gameInstance.showMenu(MainMenu.class, MainMenu::new);
             }
         });
         root.add(backButton).pad(5);
@@ -122,11 +118,10 @@ public class BoardSelectMenu implements Screen {
 
     @Override
     public void hide() {
-
+        gameInstance.unmountUi();
     }
 
     @Override
     public void dispose() {
-
     }
 }
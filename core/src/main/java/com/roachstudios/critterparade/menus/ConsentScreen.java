@@ -22,6 +22,9 @@ public class ConsentScreen implements Screen {
     private final CritterParade game;
     private final Stage stage;
     
+    /** The consent text is laid out at the window's own size rather than the menu size. */
+    private final ScreenViewport viewport = new ScreenViewport();
+    
     /**
      * Constructs the consent screen for session logging preferences.
      *
@@ -29,20 +32,17 @@ public class ConsentScreen implements Screen {
      */
     public ConsentScreen(CritterParade game) {
         this.game = game;
-        this.stage = new Stage(new ScreenViewport());
-        Gdx.input.setInputProcessor(stage);
+        this.stage = game.getUiStage();
     }
     
     @Override
     public void show() {
-        // Update viewport to current screen size to ensure proper scaling
-        stage.getViewport().update(Gdx.graphics.getWidth(), Gdx.graphics.getHeight(), true);
         // Reset font scale (minigames may have changed it for their world-unit viewports)
         game.getFont().getData().setScale(1.0f);
         
         Table root = new Table();
         root.setFillParent(true);
-        stage.addActor(root);
+        game.mountUi(root, viewport);
         
         // Title
         Label titleLabel = new Label("Session Logging", game.getSkin());
@@ -75,7 +75,7 @@ public class ConsentScreen implements Screen {
             public void changed(ChangeEvent event, Actor actor) {
                 game.setLoggingConsent(true);
                 game.log("User enabled session logging");
-                game.setScreen(new MainMenu(game));
+                game.showMenu(MainMenu.class, MainMenu::new);
             }
         });
         
@@ -85,7 +85,7 @@ public class ConsentScreen implements Screen {
             public void changed(ChangeEvent event, Actor actor) {
                 game.setLoggingConsent(false);
                 game.log("User disabled session logging");
-                game.setScreen(new MainMenu(game));
+                game.showMenu(MainMenu.class, MainMenu::new);
             }
         });
         
@@ -117,11 +117,12 @@ public class ConsentScreen implements Screen {
     public void resume() {}
     
     @Override
-    public void hide() {}
+    public void hide() {
+        game.unmountUi();
+    }
     
     @Override
     public void dispose() {
-        stage.dispose();
     }
 }
 
@@ -15,7 +15,6 @@ import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener;
 import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.badlogic.gdx.utils.Align;
 import com.badlogic.gdx.utils.Scaling;
-import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.roachstudios.critterparade.CritterParade;
 
@@ -41,16 +40,14 @@ public class HowToPlayMenu implements Screen {
     public HowToPlayMenu(CritterParade gameInstance) {
         this.gameInstance = gameInstance;
 
-        // Fixed virtual size for consistent layout.
-        stage = new Stage(new FitViewport(640, 360));
-        Gdx.input.setInputProcessor(stage);
+        stage = gameInstance.getUiStage();
 
-        antTexture = new Texture("HowToPlay/Controls/ant.png");
-        beeTexture = new Texture("HowToPlay/Controls/bee.png");
-        frogTexture = new Texture("HowToPlay/Controls/frog.png");
-        ladybugTexture = new Texture("HowToPlay/Controls/ladybug.png");
-        mouseTexture = new Texture("HowToPlay/Controls/mouse.png");
-        squirrelTexture = new Texture("HowToPlay/Controls/squirrel.png");
+        antTexture = gameInstance.loadTexture("HowToPlay/Controls/ant.png");
+        beeTexture = gameInstance.loadTexture("HowToPlay/Controls/bee.png");
+        frogTexture = gameInstance.loadTexture("HowToPlay/Controls/frog.png");
+        ladybugTexture = gameInstance.loadTexture("HowToPlay/Controls/ladybug.png");
+        mouseTexture = gameInstance.loadTexture("HowToPlay/Controls/mouse.png");
+        squirrelTexture = gameInstance.loadTexture("HowToPlay/Controls/squirrel.png");
     }
 
     /**
@@ -58,14 +55,12 @@ public class HowToPlayMenu implements Screen {
      */
     @Override
     public void show() {
-        // Update viewport to current screen size to ensure proper scaling
-        stage.getViewport().update(Gdx.graphics.getWidth(), Gdx.graphics.getHeight(), true);
         // Reset font scale (minigames may have changed it for their world-unit viewports)
         gameInstance.getFont().getData().setScale(1.0f);
         
         Table root = new Table();
         root.setFillParent(true);
-        stage.addActor(root);
+        gameInstance.mountUi(root);
 
         Label title = new Label("How To Play", gameInstance.getSkin());
         title.setAlignment(Align.center);
@@ -95,7 +90,7 @@ public class HowToPlayMenu implements Screen {
         backButton.addListener(new ChangeListener() {
             @Override
             public void changed(ChangeEvent event, Actor actor) {
-                gameInstance.setScreen(new MainMenu(gameInstance));
+                gameInstance.showMenu(MainMenu.class, MainMenu::new);
             }
         });
         root.add(backButton).fillX().pad(10).align(Align.center);
@@ -140,7 +135,7 @@ public class HowToPlayMenu implements Screen {
 
     @Override
     public void hide() {
-
+        gameInstance.unmountUi();
     }
 
     @Override
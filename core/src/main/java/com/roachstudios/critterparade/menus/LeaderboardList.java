@@ -0,0 +1,280 @@
+package com.roachstudios.critterparade.menus;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.scenes.scene2d.ui.Label;
+import com.badlogic.gdx.scenes.scene2d.ui.ScrollPane;
+import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.badlogic.gdx.scenes.scene2d.ui.WidgetGroup;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntMap;
+import com.roachstudios.critterparade.LeaderboardManager;
+import com.roachstudios.critterparade.MiniGameScore;
+
+import java.util.List;
+
+/**
+ * Every score of one minigame as rows of rank, player and score, meant to sit
+ * in a {@link ScrollPane}.
+ *
+ * <p>The list is as tall as all its rows, but only has labels for the rows that
+ * fit in the scroll pane. Each frame, before drawing, the rows in view are bound
+ * to those labels: rank r always uses slot r modulo the slot count, so scrolling
+ * only rebinds the rows that came into view. Scores are fetched from the
+ * {@link LeaderboardManager} a page at a time as they come into view, and pages
+ * far out of view are dropped.</p>
+ */
+final class LeaderboardList extends WidgetGroup {
+
+    /** Column widths and the gap between columns, matching the header. */
+    static final float RANK_WIDTH = 60;
+    static final float PLAYER_WIDTH = 150;
+    static final float SCORE_WIDTH = 100;
+    static final float COLUMN_GAP = 10;
+
+    private static final float ROW_WIDTH = RANK_WIDTH + PLAYER_WIDTH + SCORE_WIDTH + 2 * COLUMN_GAP;
+
+    /** Scores fetched per page. */
+    private static final int PAGE_SIZE = 32;
+
+    /** Pages kept before those out of view are dropped. */
+    private static final int MAX_PAGES = 4;
+
+    private static final Color GOLD = new Color(1f, 0.84f, 0f, 1f);
+    private static final Color SILVER = new Color(0.75f, 0.75f, 0.75f, 1f);
+    private static final Color BRONZE = new Color(0.8f, 0.5f, 0.2f, 1f);
+
+    /**
+     * Labels for one visible row, and the rank they show.
+     */
+    private static final class Row {
+        final Label rank;
+        final Label player;
+        final Label score;
+        final StringBuilder rankText = new StringBuilder();
+        int boundRank = -1;
+
+        Row(Skin skin) {
+            rank = new Label("", skin);
+            player = new Label("", skin);
+            player.setEllipsis(true);
+            score = new Label("", skin);
+        }
+
+        void setVisible(boolean visible) {
+            rank.setVisible(visible);
+            player.setVisible(visible);
+            score.setVisible(visible);
+        }
+
+        void setColor(Color color) {
+            rank.setColor(color);
+            player.setColor(color);
+            score.setColor(color);
+        }
+    }
+
+    private final LeaderboardManager leaderboard;
+    private final Skin skin;
+    private final float rowHeight;
+
+    /** Row labels; the first {@link #slotCount} are in use, one per row that fits in view. */
+    private final Array<Row> slots = new Array<>();
+    private int slotCount;
+
+    /** Fetched scores, by page number. */
+    private final IntMap<List<MiniGameScore>> pages = new IntMap<>();
+
+    private String minigameName;
+    private int count;
+
+    /**
+     * Creates an empty list.
+     *
+     * @param leaderboard where scores come from
+     * @param skin skin for the row labels
+     */
+    LeaderboardList(LeaderboardManager leaderboard, Skin skin) {
+        this.leaderboard = leaderboard;
+        this.skin = skin;
+        this.rowHeight = new Label("0", skin).getPrefHeight();
+    }
+
+    /**
+     * Shows a minigame's scores.
+     *
+     * @param minigameName the name of the minigame
+     */
+    void setMinigame(String minigameName) {
+        this.minigameName = minigameName;
+        refresh();
+    }
+
+    /**
+     * Drops fetched scores and rereads the score count, e.g. after scores were
+     * submitted while the list wasn't shown.
+     */
+    void refresh() {
+        pages.clear();
+        for (Row row : slots) {
+            row.boundRank = -1;
+            row.setVisible(false);
+        }
+        int newCount = minigameName != null ? leaderboard.getScoreCount(minigameName) : 0;
+        if (newCount != count) {
+            count = newCount;
+            super.invalidateHierarchy();
+        }
+    }
+
+    /**
+     * Gets the number of scores in the list.
+     *
+     * @return the score count
+     */
+    int getCount() {
+        return count;
+    }
+
+    @Override
+    public float getPrefWidth() {
+        return ROW_WIDTH;
+    }
+
+    @Override
+    public float getPrefHeight() {
+        return count * rowHeight;
+    }
+
+    /**
+     * Keeps a row's new text from laying out the whole screen again; the list's
+     * own size only changes with the score count.
+     */
+    @Override
+    public void invalidateHierarchy() {
+        invalidate();
+    }
+
+    @Override
+    public void draw(Batch batch, float parentAlpha) {
+        // The scroll pane has placed the list for this frame by now, so bind the rows in view
+        bindVisibleRows();
+        super.draw(batch, parentAlpha);
+    }
+
+    private void bindVisibleRows() {
+        if (!(getParent() instanceof ScrollPane pane) || count == 0) {
+            return;
+        }
+        ensureSlots((int) Math.ceil(pane.getScrollHeight() / rowHeight) + 1);
+        int first = Math.max(0, (int) (pane.getVisualScrollY() / rowHeight));
+        int last = Math.min(count - 1, (int) ((pane.getVisualScrollY() + pane.getScrollHeight()) / rowHeight));
+        float x = Math.max(0, (getWidth() - ROW_WIDTH) / 2);
+        for (int i = 0; i < slotCount; i++) {
+            Row row = slots.get(i);
+            int rank = first + Math.floorMod(i - first, slotCount);
+            if (rank > last) {
+                row.boundRank = -1;
+                row.setVisible(false);
+                continue;
+            }
+            if (row.boundRank != rank && !bind(row, rank, first, last)) {
+                row.setVisible(false);
+                continue;
+            }
+            float y = getHeight() - (rank + 1) * rowHeight;
+            row.rank.setBounds(x, y, RANK_WIDTH, rowHeight);
+            row.player.setBounds(x + RANK_WIDTH + COLUMN_GAP, y, PLAYER_WIDTH, rowHeight);
+            row.score.setBounds(x + RANK_WIDTH + PLAYER_WIDTH + 2 * COLUMN_GAP, y, SCORE_WIDTH, rowHeight);
+            row.setVisible(true);
+        }
+    }
+
+    /**
+     * Shows a rank's score in a row.
+     *
+     * @return false if the score is gone, e.g. the minigame was cleared
+     */
+    private boolean bind(Row row, int rank, int first, int last) {
+        MiniGameScore score = getScore(rank, first, last);
+        if (score == null) {
+            row.boundRank = -1;
+            return false;
+        }
+        row.rankText.setLength(0);
+        appendRank(row.rankText, rank + 1);
+        row.rank.setText(row.rankText);
+        row.player.setText(score.getPlayerName());
+        row.score.setText(leaderboard.formatScore(minigameName, score.getScoreValue()));
+        row.setColor(rank == 0 ? GOLD : rank == 1 ? SILVER : rank == 2 ? BRONZE : Color.WHITE);
+        row.boundRank = rank;
+        return true;
+    }
+
+    /**
+     * Gets a score, fetching its page if needed and dropping pages out of view
+     * once too many are kept.
+     */
+    private MiniGameScore getScore(int rank, int first, int last) {
+        int page = rank / PAGE_SIZE;
+        List<MiniGameScore> scores = pages.get(page);
+        if (scores == null) {
+            if (pages.size >= MAX_PAGES) {
+                IntMap.Keys kept = pages.keys();
+                while (kept.hasNext) {
+                    int key = kept.next();
+                    if (key < first / PAGE_SIZE || key > last / PAGE_SIZE) {
+                        kept.remove();
+                    }
+                }
+            }
+            scores = leaderboard.getScorePage(minigameName, page * PAGE_SIZE, PAGE_SIZE);
+            pages.put(page, scores);
+        }
+        int offset = rank - page * PAGE_SIZE;
+        return offset < scores.size() ? scores.get(offset) : null;
+    }
+
+    /**
+     * Sets how many slots are in use, when the scroll pane's height changes.
+     * Every row is rebound, since the slot each rank uses changes too.
+     */
+    private void ensureSlots(int needed) {
+        if (needed == slotCount) {
+            return;
+        }
+        while (slots.size < needed) {
+            Row row = new Row(skin);
+            addActor(row.rank);
+            addActor(row.player);
+            addActor(row.score);
+            slots.add(row);
+        }
+        for (Row row : slots) {
+            row.boundRank = -1;
+            row.setVisible(false);
+        }
+        slotCount = needed;
+    }
+
+    /**
+     * Appends a rank with its suffix (1st, 2nd, 3rd, 11th, etc.).
+     *
+     * @param out where to append
+     * @param rank the 1-based rank
+     */
+    private static void appendRank(StringBuilder out, int rank) {
+        out.append(rank);
+        int lastTwo = rank % 100;
+        if (lastTwo >= 11 && lastTwo <= 13) {
+            out.append("th");
+            return;
+        }
+        switch (rank % 10) {
+            case 1: out.append("st"); break;
+            case 2: out.append("nd"); break;
+            case 3: out.append("rd"); break;
+            default: out.append("th"); break;
+        }
+    }
+}
@@ -7,20 +7,23 @@ import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.scenes.scene2d.ui.ScrollPane;
+import com.badlogic.gdx.scenes.scene2d.ui.Stack;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
 import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener;
 import com.badlogic.gdx.utils.Align;
-import com.badlogic.gdx.utils.viewport.FitViewport;
+import com.badlogic.gdx.utils.Array;
 import com.roachstudios.critterparade.CritterParade;
 import com.roachstudios.critterparade.LeaderboardManager;
-import com.roachstudios.critterparade.MiniGameScore;
-
-import java.util.List;
+import com.roachstudios.critterparade.minigames.MiniGameDescriptor;
 
 /**
  * Displays the high score leaderboards for all minigames.
- * Shows the top scores for each minigame in a tabbed or scrollable layout.
+ * Shows every score for one minigame at a time, with a tab per registered minigame.
+ *
+ * <p>The scores scroll in a {@link LeaderboardList}, which only creates labels
+ * for the rows in view; switching tabs restyles the tabs and points the list at
+ * the other minigame instead of rebuilding the screen.</p>
  */
 public class LeaderboardScreen implements Screen {
     
@@ -30,12 +33,16 @@ public class LeaderboardScreen implements Screen {
     /** Index of the currently displayed minigame tab. */
     private int currentTabIndex = 0;
     
-    /** Names of all minigames for tab navigation. */
-    private static final String[] MINIGAME_NAMES = {
-        "Simple Racer",
-        "Dodgeball",
-        "Catching Stars"
-    };
+    /** Names of the tabs' minigames, in registration order. */
+    private final Array<String> minigameNames = new Array<>();
+    
+    /** Tab buttons, by tab index; rebuilt on show. */
+    private final Array<TextButton> tabButtons = new Array<>();
+    
+    private LeaderboardList scoreList;
+    private ScrollPane scrollPane;
+    private Table scoresView;
+    private Label noScores;
     
     /**
      * Constructs the leaderboard screen.
@@ -44,14 +51,11 @@ public class LeaderboardScreen implements Screen {
      */
     public LeaderboardScreen(CritterParade gameInstance) {
         this.gameInstance = gameInstance;
-        stage = new Stage(new FitViewport(640, 360));
-        Gdx.input.setInputProcessor(stage);
+        stage = gameInstance.getUiStage();
     }
     
     @Override
     public void show() {
-        // Update viewport to current screen size to ensure proper scaling
-        stage.getViewport().update(Gdx.graphics.getWidth(), Gdx.graphics.getHeight(), true);
         // Reset font scale (minigames may have changed it for their world-unit viewports)
         gameInstance.getFont().getData().setScale(1.0f);
         
@@ -62,11 +66,9 @@ public class LeaderboardScreen implements Screen {
      * Builds the leaderboard UI with tabs for each minigame.
      */
     private void buildUI() {
-        stage.clear();
-        
         Table root = new Table();
         root.setFillParent(true);
-        stage.addActor(root);
+        gameInstance.mountUi(root);
         
         // Title
         Label title = new Label("LEADERBOARDS", gameInstance.getSkin());
@@ -74,46 +76,35 @@ public class LeaderboardScreen implements Screen {
         root.add(title).colspan(3).padBottom(15);
         root.row();
         
-        // Tab buttons row
+        // Tab buttons row, one per registered minigame
+        minigameNames.clear();
+        tabButtons.clear();
         Table tabRow = new Table();
-        for (int i = 0; i < MINIGAME_NAMES.length; i++) {
-            final int tabIndex = i;
-            String tabName = MINIGAME_NAMES[i];
-            
-            // Add visual markers to selected tab
-            boolean isSelected = (i == currentTabIndex);
-            String displayName = isSelected ? "[ " + tabName + " ]" : tabName;
-            TextButton tabButton = new TextButton(displayName, gameInstance.getSkin());
-            
-            // Style selected vs unselected tabs
-            if (isSelected) {
-                tabButton.setColor(1f, 0.84f, 0f, 1f); // Bright gold for selected
-                tabButton.getLabel().setFontScale(1.1f); // Slightly larger
-            } else {
-                tabButton.setColor(0.6f, 0.6f, 0.6f, 1f); // Dimmed gray for unselected
-                tabButton.getLabel().setFontScale(0.95f);
-            }
-            
+        for (MiniGameDescriptor miniGame : gameInstance.getMiniGames()) {
+            final int tabIndex = minigameNames.size;
+            minigameNames.add(miniGame.name());
+            TextButton tabButton = new TextButton(miniGame.name(), gameInstance.getSkin());
             tabButton.addListener(new ChangeListener() {
                 @Override
                 public void changed(ChangeEvent event, Actor actor) {
-                    currentTabIndex = tabIndex;
-                    buildUI(); // Rebuild UI with new tab
+                    selectTab(tabIndex);
                 }
             });
+            tabButtons.add(tabButton);
             tabRow.add(tabButton).padRight(10).minWidth(120);
         }
         root.add(tabRow).colspan(3).padBottom(10);
         root.row();
         
         // Content area for scores
-        Table scoresTable = new Table();
-        scoresTable.top();
-        buildScoresTable(scoresTable, MINIGAME_NAMES[currentTabIndex]);
-        
-        ScrollPane scrollPane = new ScrollPane(scoresTable, gameInstance.getSkin());
-        scrollPane.setFadeScrollBars(false);
-        root.add(scrollPane).colspan(3).expand().fill().pad(10);
+        LeaderboardManager leaderboard = gameInstance.getLeaderboardManager();
+        if (leaderboard == null) {
+            scoreList = null;
+            Label noData = new Label("Leaderboard unavailable", gameInstance.getSkin());
+            root.add(noData).colspan(3).expand().pad(10);
+        } else {
+            root.add(buildScoresView(leaderboard)).colspan(3).expand().fill().pad(10);
+        }
         root.row();
         
         // Back button
@@ -121,40 +112,50 @@ public class LeaderboardScreen implements Screen {
         backButton.addListener(new ChangeListener() {
             @Override
             public void changed(ChangeEvent event, Actor actor) {
-                gameInstance.setScreen(new MainMenu(gameInstance));
+                gameInstance.showMenu(MainMenu.class, MainMenu::new);
             }
         });
-        root.add(backButton).colspan(3).padTop(10);
+        
+        // Export button
+        TextButton exportButton = new TextButton("Export JSON", gameInstance.getSkin());
+        exportButton.addListener(new ChangeListener() {
+            @Override
+            public void changed(ChangeEvent event, Actor actor) {
+                if (leaderboard != null) {
+                    leaderboard.exportJson();
+                    exportButton.setText("Exported");
+                    exportButton.setDisabled(true);
+                }
+            }
+        });
+        
+        Table buttonRow = new Table();
+        buttonRow.add(backButton).padRight(10);
+        buttonRow.add(exportButton);
+        root.add(buttonRow).colspan(3).padTop(10);
+        
+        if (currentTabIndex >= minigameNames.size) {
+            currentTabIndex = 0;
+        }
+        if (minigameNames.size > 0) {
+            selectTab(currentTabIndex);
+        }
         
         root.setDebug(gameInstance.isDebugMode(), true);
     }
     
     /**
-     * Populates the scores table with leaderboard entries for a minigame.
+     * Builds the column header and scrolling score list, with the message shown
+     * in their place when a minigame has no scores.
      *
-     * @param table the table to populate
-     * @param minigameName the name of the minigame
+     * @param leaderboard where the scores come from
+     * @return the content area
      */
-    private void buildScoresTable(Table table, String minigameName) {
-        table.clear();
+    private Actor buildScoresView(LeaderboardManager leaderboard) {
+        scoresView = new Table();
+        scoresView.top();
         
-        LeaderboardManager leaderboard = gameInstance.getLeaderboardManager();
-        if (leaderboard == null) {
-            Label noData = new Label("Leaderboard unavailable", gameInstance.getSkin());
-            table.add(noData);
-            return;
-        }
-        
-        List<MiniGameScore> scores = leaderboard.getScores(minigameName);
-        
-        if (scores.isEmpty()) {
-            Label noScores = new Label("No scores yet!\nPlay some minigames to set records.", gameInstance.getSkin());
-            noScores.setAlignment(Align.center);
-            table.add(noScores).pad(20);
-            return;
-        }
-        
-        // Header row
+        // Header row, fixed above the scrolling rows
         Label rankHeader = new Label("Rank", gameInstance.getSkin());
         Label playerHeader = new Label("Player", gameInstance.getSkin());
         Label scoreHeader = new Label("Score", gameInstance.getSkin());
@@ -163,71 +164,65 @@ public class LeaderboardScreen implements Screen {
         playerHeader.setFontScale(0.9f);
         scoreHeader.setFontScale(0.9f);
         
-        table.add(rankHeader).width(60).padRight(10);
-        table.add(playerHeader).width(150).padRight(10);
-        table.add(scoreHeader).width(100);
-        table.row();
+        Table header = new Table();
+        header.add(rankHeader).width(LeaderboardList.RANK_WIDTH).padRight(LeaderboardList.COLUMN_GAP);
+        header.add(playerHeader).width(LeaderboardList.PLAYER_WIDTH).padRight(LeaderboardList.COLUMN_GAP);
+        header.add(scoreHeader).width(LeaderboardList.SCORE_WIDTH);
+        header.row();
         
         // Divider
         Label divider = new Label("─────────────────────────────", gameInstance.getSkin());
         divider.setFontScale(0.7f);
-        table.add(divider).colspan(3).padBottom(5);
-        table.row();
+        header.add(divider).colspan(3).padBottom(5);
+        scoresView.add(header);
+        scoresView.row();
         
-        // Score entries
-        int rank = 1;
-        for (MiniGameScore score : scores) {
-            String rankText = getRankText(rank);
-            String playerName = score.getPlayerName();
-            String scoreText = leaderboard.formatScore(minigameName, score.getScoreValue());
-            
-            Label rankLabel = new Label(rankText, gameInstance.getSkin());
-            Label playerLabel = new Label(playerName, gameInstance.getSkin());
-            Label scoreLabel = new Label(scoreText, gameInstance.getSkin());
-            
-            // Gold, silver, bronze colors for top 3
-            if (rank == 1) {
-                rankLabel.setColor(1f, 0.84f, 0f, 1f);   // Gold
-                playerLabel.setColor(1f, 0.84f, 0f, 1f);
-                scoreLabel.setColor(1f, 0.84f, 0f, 1f);
-            } else if (rank == 2) {
-                rankLabel.setColor(0.75f, 0.75f, 0.75f, 1f);   // Silver
-                playerLabel.setColor(0.75f, 0.75f, 0.75f, 1f);
-                scoreLabel.setColor(0.75f, 0.75f, 0.75f, 1f);
-            } else if (rank == 3) {
-                rankLabel.setColor(0.8f, 0.5f, 0.2f, 1f);   // Bronze
-                playerLabel.setColor(0.8f, 0.5f, 0.2f, 1f);
-                scoreLabel.setColor(0.8f, 0.5f, 0.2f, 1f);
-            }
-            
-            table.add(rankLabel).width(60).padRight(10);
-            table.add(playerLabel).width(150).padRight(10);
-            table.add(scoreLabel).width(100);
-            table.row();
-            
-            rank++;
-        }
+        scoreList = new LeaderboardList(leaderboard, gameInstance.getSkin());
+        scrollPane = new ScrollPane(scoreList, gameInstance.getSkin());
+        scrollPane.setFadeScrollBars(false);
+        scoresView.add(scrollPane).expand().fill();
+        
+        noScores = new Label("No scores yet!\nPlay some minigames to set records.", gameInstance.getSkin());
+        noScores.setAlignment(Align.center);
+        
+        Stack content = new Stack();
+        content.add(scoresView);
+        content.add(noScores);
+        return content;
     }
     
     /**
-     * Gets a formatted rank text with suffix (1st, 2nd, 3rd, etc.).
+     * Shows a minigame's scores and highlights its tab.
      *
-     * @param rank the numeric rank
-     * @return formatted rank string
+     * @param tabIndex index of the minigame's tab
      */
-    private String getRankText(int rank) {
-        String suffix;
-        if (rank >= 11 && rank <= 13) {
-            suffix = "th";
-        } else {
-            switch (rank % 10) {
-                case 1: suffix = "st"; break;
-                case 2: suffix = "nd"; break;
-                case 3: suffix = "rd"; break;
-                default: suffix = "th"; break;
+    private void selectTab(int tabIndex) {
+        currentTabIndex = tabIndex;
+        for (int i = 0; i < tabButtons.size; i++) {
+            TextButton tabButton = tabButtons.get(i);
+            String tabName = minigameNames.get(i);
+            
+            // Add visual markers to selected tab
+            if (i == currentTabIndex) {
+                tabButton.setText("[ " + tabName + " ]");
+                tabButton.setColor(1f, 0.84f, 0f, 1f); // Bright gold for selected
+                tabButton.getLabel().setFontScale(1.1f); // Slightly larger
+            } else {
+                tabButton.setText(tabName);
+                tabButton.setColor(0.6f, 0.6f, 0.6f, 1f); // Dimmed gray for unselected
+                tabButton.getLabel().setFontScale(0.95f);
             }
         }
-        return rank + suffix;
+        
+        if (scoreList == null) {
+            return;
+        }
+        scoreList.setMinigame(minigameNames.get(currentTabIndex));
+        scrollPane.setScrollY(0);
+        scrollPane.updateVisualScroll();
+        boolean empty = scoreList.getCount() == 0;
+        scoresView.setVisible(!empty);
+        noScores.setVisible(empty);
     }
     
     @Override
@@ -254,11 +249,11 @@ public class LeaderboardScreen implements Screen {
     
     @Override
     public void hide() {
+        gameInstance.unmountUi();
     }
     
     @Override
     public void dispose() {
-        stage.dispose();
     }
 }
 
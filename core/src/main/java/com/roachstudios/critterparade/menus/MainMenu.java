@@ -11,12 +11,11 @@ import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
 import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener;
 import com.badlogic.gdx.utils.Align;
-import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.roachstudios.critterparade.CritterParade;
 
 /**
  * The main entry menu for the game. Presents navigation to Board mode,
- * Mini games, How To Play, and Exit.
+ * Mini games, How To Play, Options, and Exit, plus Resume Game when a board game was saved.
  */
 public class MainMenu implements Screen {
     private final CritterParade gameInstance;
@@ -30,11 +29,9 @@ public class MainMenu implements Screen {
      */
     public MainMenu(CritterParade gameInstance) {
         this.gameInstance = gameInstance;
-        logoTexture = new Texture("logo.png");
+        logoTexture = gameInstance.loadTexture("logo.png");
 
-        // Fixed virtual size for consistent layout.
-        stage = new Stage(new FitViewport(640, 360));
-        Gdx.input.setInputProcessor(stage);
+        stage = gameInstance.getUiStage();
     }
 
     /**
@@ -42,8 +39,6 @@ public class MainMenu implements Screen {
      */
     @Override
     public void show() {
-        // Update viewport to current screen size to ensure proper scaling
-        stage.getViewport().update(Gdx.graphics.getWidth(), Gdx.graphics.getHeight(), true);
         // Reset font scale (minigames may have changed it for their world-unit viewports)
         gameInstance.getFont().getData().setScale(1.0f);
         
@@ -53,13 +48,30 @@ public class MainMenu implements Screen {
         // the main element of the menu, everything else is a child of this
         Table root = new Table();
         root.setFillParent(true);
-        stage.addActor(root);
+        gameInstance.mountUi(root);
 
         Image logo = new Image(logoTexture);
         root.add(logo).fill();
 
         root.row();
 
+        if (gameInstance.getBoardSaveManager().hasSave()) {
+            TextButton resume = new TextButton("Resume Game", gameInstance.getSkin());
+            resume.addListener(new ChangeListener() {
+                @Override
+                public void changed(ChangeEvent event, Actor actor) {
+                    if (!gameInstance.resumeSavedBoardGame()) {
+                        gameInstance.log("Saved game could not be resumed");
+                        resume.setText("No Saved Game");
+                        resume.setDisabled(true);
+                    }
+                }
+            });
+            root.add(resume).fillX().pad(5).align(Align.center);
+
+            root.row();
+        }
+
         TextButton play = new TextButton("Play", gameInstance.getSkin());
         play.addListener(new ChangeListener() {
             @Override
@@ -67,7 +79,7 @@ public class MainMenu implements Screen {
                 gameInstance.setMode(CritterParade.Mode.BOARD_MODE);
                 gameInstance.log("Mode selected: BOARD_MODE");
                 gameInstance.logModeSelected(CritterParade.Mode.BOARD_MODE);
-                gameInstance.setScreen(new BoardSelectMenu(gameInstance));
+                gameInstance.showMenu(BoardSelectMenu.class, BoardSelectMenu::new);
             }
         });
         root.add(play).fillX().pad(5).align(Align.center);
@@ -81,7 +93,7 @@ public class MainMenu implements Screen {
                 gameInstance.setMode(CritterParade.Mode.PRACTICE_MODE);
                 gameInstance.log("Mode selected: PRACTICE_MODE");
                 gameInstance.logModeSelected(CritterParade.Mode.PRACTICE_MODE);
-                gameInstance.setScreen(new MiniGameSelectMenu(gameInstance));
+                gameInstance.showMenu(MiniGameSelectMenu.class, MiniGameSelectMenu::new);
             }
         });
         root.add(miniGames).fill().pad(5).align(Align.center);
@@ -104,7 +116,7 @@ public class MainMenu implements Screen {
                     gameInstance.setRushController(rushController);
                     // Return the instruction screen for the first minigame
                     return new MiniGameInstructionScreen(gameInstance, rushController.getCurrentMinigame());
-                }, () -> new MainMenu(gameInstance)));
+                }, () -> gameInstance.getMenu(MainMenu.class, MainMenu::new)));
             }
         });
         root.add(rushMode).fill().align(Align.center);
@@ -115,7 +127,7 @@ public class MainMenu implements Screen {
         howToPlay.addListener(new ChangeListener() {
             @Override
             public void changed(ChangeEvent event, Actor actor) {
-                gameInstance.setScreen(new HowToPlayMenu(gameInstance));
+                gameInstance.showMenu(HowToPlayMenu.class, HowToPlayMenu::new);
             }
         });
         root.add(howToPlay).fill().pad(5).align(Align.center);
@@ -126,13 +138,25 @@ public class MainMenu implements Screen {
         leaderboard.addListener(new ChangeListener() {
             @Override
             public void changed(ChangeEvent event, Actor actor) {
-                gameInstance.setScreen(new LeaderboardScreen(gameInstance));
+                gameInstance.showMenu(LeaderboardScreen.class, LeaderboardScreen::new);
             }
         });
         root.add(leaderboard).fill().align(Align.center);
 
         root.row();
 
+        // Options share a row with Exit to keep the menu within the screen
+        Table bottomRow = new Table();
+        
+        TextButton options = new TextButton("Options", gameInstance.getSkin());
+        options.addListener(new ChangeListener() {
+            @Override
+            public void changed(ChangeEvent event, Actor actor) {
+                gameInstance.showMenu(OptionsMenu.class, OptionsMenu::new);
+            }
+        });
+        bottomRow.add(options).expandX().fill().padRight(5);
+
         TextButton exit = new TextButton("Exit", gameInstance.getSkin());
         exit.addListener(new ChangeListener() {
             @Override
@@ -140,7 +164,8 @@ public class MainMenu implements Screen {
                 Gdx.app.exit();
             }
         });
-        root.add(exit).fill().pad(5).align(Align.center);
+        bottomRow.add(exit).expandX().fill();
+        root.add(bottomRow).fill().pad(5).align(Align.center);
 
         root.setDebug(gameInstance.isDebugMode(), true);
     }
@@ -183,6 +208,7 @@ public class MainMenu implements Screen {
 
     @Override
     public void hide() {
+        gameInstance.unmountUi();
         // Music is managed by CritterParade, don't stop it here
     }
 
@@ -8,7 +8,6 @@ import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.utils.Align;
-import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.roachstudios.critterparade.CritterParade;
 import com.roachstudios.critterparade.Player;
 import com.roachstudios.critterparade.minigames.MiniGameDescriptor;
@@ -69,20 +68,16 @@ public class MiniGameInstructionScreen implements Screen {
         playersReady = new boolean[numPlayers];
         playerStatusLabels = new Label[numPlayers];
 
-        // Fixed virtual size for consistent layout.
-        stage = new Stage(new FitViewport(640, 360));
-        Gdx.input.setInputProcessor(stage);
+        stage = gameInstance.getUiStage();
     }
 
     @Override
     public void show() {
-        // Update viewport to current screen size to ensure proper scaling
-        stage.getViewport().update(Gdx.graphics.getWidth(), Gdx.graphics.getHeight(), true);
         // Reset font scale (minigames may have changed it for their world-unit viewports)
         gameInstance.getFont().getData().setScale(1.0f);
         
         Table root = new Table();
-        stage.addActor(root);
+        gameInstance.mountUi(root);
         root.setFillParent(true);
         root.pad(20);
 
@@ -202,8 +197,8 @@ public class MiniGameInstructionScreen implements Screen {
             gameInstance.log("Starting minigame: %s", descriptor.name());
             gameInstance.logMinigameStart(descriptor.name());
             
-            // Create a fresh minigame instance and start it
-            gameInstance.setScreen(descriptor.create());
+            // Prepare a fresh minigame instance over the next frames, then start it
+            gameInstance.transitionTo(descriptor::create, descriptor.textures());
         }
     }
 
@@ -222,11 +217,11 @@ public class MiniGameInstructionScreen implements Screen {
 
     @Override
     public void hide() {
+        gameInstance.unmountUi();
     }
 
     @Override
     public void dispose() {
-        stage.dispose();
     }
 }
 
@@ -11,11 +11,9 @@ import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
 import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener;
 import com.badlogic.gdx.utils.Align;
-import com.badlogic.gdx.utils.viewport.FitViewport;
 
 import com.roachstudios.critterparade.CritterParade;
 import com.roachstudios.critterparade.Player;
-import com.roachstudios.critterparade.gameboards.PicnicPondBoard;
 
 /**
  * Displays the placements resulting from a mini game and provides a
@@ -55,10 +53,7 @@ public class MiniGameResultScreen implements Screen{
          this.gameInstance = gameInstance;
          this.placements = results;
          this.crumbsAwarded = crumbsAwarded;
-        // Use FitViewport for consistent layout across window sizes.
-        stage = new Stage(new FitViewport(640, 360));
-
-        Gdx.input.setInputProcessor(stage);
+        stage = gameInstance.getUiStage();
     }
 
     /**
@@ -67,14 +62,11 @@ public class MiniGameResultScreen implements Screen{
      */
     @Override
     public void show() {
-        // Update viewport to current screen size to ensure proper scaling
-        stage.getViewport().update(Gdx.graphics.getWidth(), Gdx.graphics.getHeight(), true);
-        
         // Reset font scale (minigames may have changed it for their world-unit viewports)
         gameInstance.getFont().getData().setScale(1.0f);
         
         Table root = new Table();
-        stage.addActor(root);
+        gameInstance.mountUi(root);
         root.setFillParent(true);
         
         Label title = new Label("Results:", gameInstance.getSkin());
@@ -116,7 +108,7 @@ public class MiniGameResultScreen implements Screen{
                         // Resume board music
                         gameInstance.startBoardMusic();
                         // Create a fresh board - player state is stored in Player objects
-                        gameInstance.setScreen(new PicnicPondBoard(gameInstance));
+                        gameInstance.setScreen(gameInstance.getActiveBoard().supplier().get());
                     }
                 }
             });
@@ -140,7 +132,7 @@ public class MiniGameResultScreen implements Screen{
                 public void changed(ChangeListener.ChangeEvent event, Actor actor) {
                     if (!hasNavigated) {
                         hasNavigated = true;
-                        gameInstance.setScreen(new MainMenu(gameInstance));
+                        gameInstance.showMenu(MainMenu.class, MainMenu::new);
                     }
                 }
             });
@@ -221,10 +213,10 @@ public class MiniGameResultScreen implements Screen{
                 if (gameInstance.getMode() == CritterParade.Mode.BOARD_MODE) {
                     // Resume board music
                     gameInstance.startBoardMusic();
-                    gameInstance.setScreen(new PicnicPondBoard(gameInstance));
+                    gameInstance.setScreen(gameInstance.getActiveBoard().supplier().get());
                 } else if (gameInstance.getMode() == CritterParade.Mode.PRACTICE_MODE) {
                     // MainMenu.show() will start intro music
-                    gameInstance.setScreen(new MainMenu(gameInstance));
+                    gameInstance.showMenu(MainMenu.class, MainMenu::new);
                 } else if (gameInstance.getMode() == CritterParade.Mode.RUSH_MODE) {
                     MiniGameRushController rushController = gameInstance.getRushController();
                     if (rushController.hasNextMinigame()) {
@@ -265,6 +257,7 @@ public class MiniGameResultScreen implements Screen{
 
     @Override
     public void hide() {
+        gameInstance.unmountUi();
     }
 
     @Override
@@ -10,7 +10,6 @@ import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
 import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener;
 import com.badlogic.gdx.utils.Align;
-import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.roachstudios.critterparade.CritterParade;
 import com.roachstudios.critterparade.minigames.MiniGameDescriptor;
 
@@ -31,9 +30,7 @@ public class MiniGameSelectMenu implements Screen {
     public MiniGameSelectMenu(CritterParade gameInstance) {
         this.gameInstance = gameInstance;
 
-        // Use a fixed virtual size so UI scales consistently across aspect ratios.
-        stage = new Stage(new FitViewport(640, 360));
-        Gdx.input.setInputProcessor(stage);
+        stage = gameInstance.getUiStage();
     }
 
     /**
@@ -44,14 +41,12 @@ public class MiniGameSelectMenu implements Screen {
      */
     @Override
     public void show() {
-        // Update viewport to current screen size to ensure proper scaling
-        stage.getViewport().update(Gdx.graphics.getWidth(), Gdx.graphics.getHeight(), true);
         // Reset font scale (minigames may have changed it for their world-unit viewports)
         gameInstance.getFont().getData().setScale(1.0f);
         
         // Build the UI tree on-demand to keep the constructor lightweight.
         Table root = new Table();
-        stage.addActor(root);
+        gameInstance.mountUi(root);
         root.setFillParent(true);
 
         Label title = new Label("Select a Mini Game", gameInstance.getSkin());
@@ -68,7 +63,7 @@ public class MiniGameSelectMenu implements Screen {
                     // Navigate to player select, then to instruction screen before the minigame
                     gameInstance.setScreen(new PlayerSelectMenu(gameInstance, 
                         () -> new MiniGameInstructionScreen(gameInstance, miniGame),
-                        () -> new MiniGameSelectMenu(gameInstance)));
+                        () -> gameInstance.getMenu(MiniGameSelectMenu.class, MiniGameSelectMenu::new)));
                 }
             });
             root.add(changeButton).pad(5);
@@ -80,7 +75,7 @@ public class MiniGameSelectMenu implements Screen {
         backButton.addListener(new ChangeListener() {
             @Override
             public void changed(ChangeEvent event, Actor actor) {
-                gameInstance.setScreen(new MainMenu(gameInstance));
+                gameInstance.showMenu(MainMenu.class, MainMenu::new);
             }
         });
         root.add(backButton).pad(5);
@@ -127,11 +122,10 @@ public class MiniGameSelectMenu implements Screen {
 
     @Override
     public void hide() {
-
+        gameInstance.unmountUi();
     }
 
     @Override
     public void dispose() {
-
     }
 }
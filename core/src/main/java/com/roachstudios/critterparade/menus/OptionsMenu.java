@@ -0,0 +1,193 @@
+package com.roachstudios.critterparade.menus;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.scenes.scene2d.Stage;
+import com.badlogic.gdx.scenes.scene2d.ui.Label;
+import com.badlogic.gdx.scenes.scene2d.ui.Table;
+import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
+import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener;
+import com.badlogic.gdx.utils.Align;
+import com.roachstudios.critterparade.CritterParade;
+import com.roachstudios.critterparade.SettingsManager;
+
+import java.util.function.Supplier;
+
+/**
+ * Performance options for tuning a cabinet on-site. Each option is a button
+ * showing its value; clicking it steps to the next value, which is saved and
+ * applied immediately. Only anti-aliasing waits for a restart.
+ */
+public class OptionsMenu implements Screen {
+
+    /** Frame rate caps offered, in the order they are stepped through. */
+    private static final int[] FPS_CAPS = {SettingsManager.FPS_CAP_DISPLAY, 30, 60, 120, 144, SettingsManager.FPS_CAP_NONE};
+
+    private static final float[] RENDER_SCALES = {1f, 0.75f, 0.67f, 0.5f};
+
+    private static final int[] BACKGROUND_FPS = {5, 15, 30, 60};
+
+    private final CritterParade gameInstance;
+    private final SettingsManager settings;
+    private final Stage stage;
+
+    /**
+     * Constructs the options screen.
+     *
+     * @param gameInstance shared game instance used for settings, navigation and skin
+     */
+    public OptionsMenu(CritterParade gameInstance) {
+        this.gameInstance = gameInstance;
+        this.settings = gameInstance.getSettings();
+
+        stage = gameInstance.getUiStage();
+    }
+
+    /**
+     * Lays out one row per option, then the back button.
+     */
+    @Override
+    public void show() {
+        // Reset font scale (minigames may have changed it for their world-unit viewports)
+        gameInstance.getFont().getData().setScale(1.0f);
+
+        Table root = new Table();
+        root.setFillParent(true);
+        gameInstance.mountUi(root);
+
+        root.add(new Label("Options", gameInstance.getSkin())).colspan(2).padBottom(15).row();
+
+        addOption(root, "Frame rate cap",
+            () -> describeFps(settings.getFpsCap()),
+            () -> settings.setFpsCap(next(FPS_CAPS, settings.getFpsCap())));
+        addOption(root, "VSync",
+            () -> settings.isVsync() ? "On" : "Off",
+            () -> settings.setVsync(!settings.isVsync()));
+        addOption(root, "Render scale",
+            () -> Math.round(settings.getRenderScale() * 100) + "%",
+            () -> settings.setRenderScale(next(RENDER_SCALES, settings.getRenderScale())));
+        addOption(root, "Anti-aliasing (restart)",
+            () -> settings.isMsaa() ? "4x" : "Off",
+            () -> settings.setMsaa(!settings.isMsaa()));
+        addOption(root, "Texture filtering",
+            () -> settings.getTextureFiltering() == SettingsManager.TextureFiltering.LINEAR ? "Smooth" : "Sharp",
+            () -> settings.setTextureFiltering(settings.getTextureFiltering() == SettingsManager.TextureFiltering.LINEAR
+                ? SettingsManager.TextureFiltering.NEAREST : SettingsManager.TextureFiltering.LINEAR));
+        addOption(root, "Music tracks loaded",
+            () -> String.valueOf(settings.getMusicStreams()),
+            () -> settings.setMusicStreams(settings.getMusicStreams() % SettingsManager.MAX_MUSIC_STREAMS + 1));
+        addOption(root, "Frame latency",
+            () -> settings.getFrameLatency() == SettingsManager.FrameLatency.LOW ? "Low" : "Default",
+            () -> settings.setFrameLatency(settings.getFrameLatency() == SettingsManager.FrameLatency.LOW
+                ? SettingsManager.FrameLatency.DEFAULT : SettingsManager.FrameLatency.LOW));
+        addOption(root, "Background frame rate",
+            () -> describeFps(settings.getBackgroundFps()),
+            () -> settings.setBackgroundFps(next(BACKGROUND_FPS, settings.getBackgroundFps())));
+
+        TextButton back = new TextButton("Back to Menu", gameInstance.getSkin());
+        back.addListener(new ChangeListener() {
+            @Override
+            public void changed(ChangeEvent event, Actor actor) {
+                gameInstance.showMenu(MainMenu.class, MainMenu::new);
+            }
+        });
+        root.add(back).colspan(2).padTop(15).align(Align.center);
+
+        root.setDebug(gameInstance.isDebugMode(), true);
+    }
+
+    /**
+     * Adds a row with the option's name and a button that steps its value.
+     *
+     * @param root the table
+     * @param name the option's name
+     * @param value describes the current value
+     * @param step changes the setting to its next value
+     */
+    private void addOption(Table root, String name, Supplier<String> value, Runnable step) {
+        root.add(new Label(name, gameInstance.getSkin())).align(Align.left).padRight(20);
+        TextButton button = new TextButton(value.get(), gameInstance.getSkin());
+        button.addListener(new ChangeListener() {
+            @Override
+            public void changed(ChangeEvent event, Actor actor) {
+                step.run();
+                settings.save();
+                gameInstance.applyPerformanceSettings();
+                button.setText(value.get());
+            }
+        });
+        root.add(button).width(150).pad(2).row();
+    }
+
+    private static String describeFps(int fps) {
+        if (fps == SettingsManager.FPS_CAP_DISPLAY) {
+            return "Display";
+        }
+        if (fps == SettingsManager.FPS_CAP_NONE) {
+            return "Unlimited";
+        }
+        return fps + " FPS";
+    }
+
+    /**
+     * Gets the value after the current one, wrapping around. A value that isn't
+     * offered, e.g. from a hand-edited settings file, steps to the first.
+     */
+    private static int next(int[] values, int current) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] == current) {
+                return values[(i + 1) % values.length];
+            }
+        }
+        return values[0];
+    }
+
+    private static float next(float[] values, float current) {
+        for (int i = 0; i < values.length; i++) {
+            if (Math.abs(values[i] - current) < 0.005f) {
+                return values[(i + 1) % values.length];
+            }
+        }
+        return values[0];
+    }
+
+    /**
+     * Clears the screen and renders the stage.
+     *
+     * @param delta time since last frame
+     */
+    @Override
+    public void render(float delta) {
+        Gdx.gl.glClearColor(1f, 0.992f, 0.816f, 1f);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+
+        stage.act(delta);
+        stage.draw();
+    }
+
+    @Override
+    public void resize(int width, int height) {
+        stage.getViewport().update(width, height, true);
+    }
+
+    @Override
+    public void pause() {
+
+    }
+
+    @Override
+    public void resume() {
+
+    }
+
+    @Override
+    public void hide() {
+        gameInstance.unmountUi();
+    }
+
+    @Override
+    public void dispose() {
+    }
+}
@@ -10,7 +10,6 @@ import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
 import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener;
 import com.badlogic.gdx.utils.Align;
-import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.roachstudios.critterparade.CritterParade;
 
 import java.util.function.Supplier;
@@ -24,6 +23,9 @@ public class PlayerSelectMenu implements Screen {
     private final Stage stage;
     private final Supplier<Screen> nextScreen;
     private final Supplier<Screen> backScreen;
+    
+    /** How many of the selected seats are filled by CPU players. */
+    private int botCount = 0;
 
     /**
      * Constructs the player selection menu screen.
@@ -47,29 +49,38 @@ public class PlayerSelectMenu implements Screen {
         this.nextScreen = nextScreen;
         this.backScreen = backScreen;
 
-        // Fixed virtual size for consistent layout.
-        stage = new Stage(new FitViewport(640, 360));
-        Gdx.input.setInputProcessor(stage);
+        stage = gameInstance.getUiStage();
     }
 
     /**
-     * Builds simple buttons for choosing a player count between 2 and 6.
+     * Builds simple buttons for choosing a player count between 2 and 6, plus a
+     * toggle for how many of those seats are CPU players.
      */
     @Override
     public void show() {
-        // Update viewport to current screen size to ensure proper scaling
-        stage.getViewport().update(Gdx.graphics.getWidth(), Gdx.graphics.getHeight(), true);
         // Reset font scale (minigames may have changed it for their world-unit viewports)
         gameInstance.getFont().getData().setScale(1.0f);
         
         Table root = new Table();
-        stage.addActor(root);
+        gameInstance.mountUi(root);
         root.setFillParent(true);
 
         Label title = new Label("Select Number of Players", gameInstance.getSkin());
         title.setAlignment(Align.center);
 
         root.add(title).expandX().fillX().padBottom(20);
+        
+        root.row();
+        TextButton botButton = new TextButton(botLabel(), gameInstance.getSkin());
+        botButton.addListener(new ChangeListener() {
+            @Override
+            public void changed(ChangeEvent event, Actor actor) {
+                // At least one seat is always a person
+                botCount = (botCount + 1) % 6;
+                botButton.setText(botLabel());
+            }
+        });
+        root.add(botButton).pad(5).padBottom(15);
 
         for (int i = 2; i <= 6; i++) {
             root.row();
@@ -79,10 +90,11 @@ public class PlayerSelectMenu implements Screen {
                 @Override
                 public void changed(ChangeEvent event, Actor actor) {
                     // Initialize shared players for the selected count
-                    gameInstance.initializePlayers(finalI);
+                    int bots = Math.min(botCount, finalI - 1);
+                    gameInstance.initializePlayers(finalI, bots);
                     
                     // Log player initialization
-                    gameInstance.log("Initialized %d players", finalI);
+                    gameInstance.log("Initialized %d players (%d CPU)", finalI, bots);
                     String[] names = new String[finalI];
                     for (int j = 0; j < finalI; j++) {
                         names[j] = gameInstance.getPlayers()[j].getName();
@@ -113,6 +125,15 @@ public class PlayerSelectMenu implements Screen {
         root.setDebug(gameInstance.isDebugMode(), true);
     }
 
+    /**
+     * Gets the label for the CPU seat toggle.
+     *
+     * @return the button text
+     */
+    private String botLabel() {
+        return botCount == 0 ? "CPU Players: Off" : "CPU Players: %d".formatted(botCount);
+    }
+
     /**
      * Clears the screen and renders the stage.
      *
@@ -151,11 +172,10 @@ public class PlayerSelectMenu implements Screen {
 
     @Override
     public void hide() {
-
+        gameInstance.unmountUi();
     }
 
     @Override
     public void dispose() {
-
     }
 }
@@ -11,7 +11,6 @@ import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
 import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener;
 import com.badlogic.gdx.utils.Align;
-import com.badlogic.gdx.utils.viewport.FitViewport;
 
 import com.roachstudios.critterparade.CritterParade;
 import com.roachstudios.critterparade.Player;
@@ -34,19 +33,16 @@ public class RushVictoryScreen implements Screen {
     public RushVictoryScreen(CritterParade gameInstance, MiniGameRushController rushController) {
         this.gameInstance = gameInstance;
         this.rushController = rushController;
-        stage = new Stage(new FitViewport(640, 360));
-        Gdx.input.setInputProcessor(stage);
+        stage = gameInstance.getUiStage();
     }
 
     @Override
     public void show() {
-        // Update viewport to current screen size to ensure proper scaling
-        stage.getViewport().update(Gdx.graphics.getWidth(), Gdx.graphics.getHeight(), true);
         // Reset font scale (minigames may have changed it for their world-unit viewports)
         gameInstance.getFont().getData().setScale(1.0f);
         
         Table root = new Table();
-        stage.addActor(root);
+        gameInstance.mountUi(root);
         root.setFillParent(true);
         root.pad(20);
 
@@ -127,7 +123,7 @@ public class RushVictoryScreen implements Screen {
             @Override
             public void changed(ChangeEvent event, Actor actor) {
                 gameInstance.clearRushController();
-                gameInstance.setScreen(new MainMenu(gameInstance));
+                gameInstance.showMenu(MainMenu.class, MainMenu::new);
             }
         });
         root.add(menuButton).padTop(20);
@@ -159,11 +155,11 @@ public class RushVictoryScreen implements Screen {
 
     @Override
     public void hide() {
+        gameInstance.unmountUi();
     }
 
     @Override
     public void dispose() {
-        stage.dispose();
     }
 }
 
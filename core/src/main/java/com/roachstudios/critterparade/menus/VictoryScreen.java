@@ -10,7 +10,6 @@ import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
 import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener;
 import com.badlogic.gdx.utils.Align;
-import com.badlogic.gdx.utils.viewport.FitViewport;
 
 import com.roachstudios.critterparade.CritterParade;
 import com.roachstudios.critterparade.Player;
@@ -33,19 +32,16 @@ public class VictoryScreen implements Screen {
     public VictoryScreen(CritterParade gameInstance, Player winner) {
         this.gameInstance = gameInstance;
         this.winner = winner;
-        stage = new Stage(new FitViewport(640, 360));
-        Gdx.input.setInputProcessor(stage);
+        stage = gameInstance.getUiStage();
     }
 
     @Override
     public void show() {
-        // Update viewport to current screen size to ensure proper scaling
-        stage.getViewport().update(Gdx.graphics.getWidth(), Gdx.graphics.getHeight(), true);
         // Reset font scale (minigames may have changed it for their world-unit viewports)
         gameInstance.getFont().getData().setScale(1.0f);
         
         Table root = new Table();
-        stage.addActor(root);
+        gameInstance.mountUi(root);
         root.setFillParent(true);
 
         // Congratulations title
@@ -79,7 +75,7 @@ public class VictoryScreen implements Screen {
         menuButton.addListener(new ChangeListener() {
             @Override
             public void changed(ChangeEvent event, Actor actor) {
-                gameInstance.setScreen(new MainMenu(gameInstance));
+                gameInstance.showMenu(MainMenu.class, MainMenu::new);
             }
         });
         root.add(menuButton).padTop(30);
@@ -111,11 +107,11 @@ public class VictoryScreen implements Screen {
 
     @Override
     public void hide() {
+        gameInstance.unmountUi();
     }
 
     @Override
     public void dispose() {
-        stage.dispose();
     }
 }
 
@@ -7,6 +7,7 @@ import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.utils.ScreenUtils;
 import com.roachstudios.critterparade.CritterParade;
 import com.roachstudios.critterparade.Player;
+import java.util.List;
 
 /**
  * A mini game where all players simultaneously catch falling stars.
@@ -22,6 +23,15 @@ public class CatchObjectsMiniGame extends MiniGame {
         "Catch YOUR colored stars to score!\n\n" +
         "Use your DIRECTIONAL inputs to move.\n" +
         "Only YOUR stars count - watch the colors!";
+    
+    /** Background texture path. */
+    private static final String BACKGROUND_PATH = "MiniGames/CatchObjects/night_sky.png";
+    
+    /** Falling star texture path. */
+    private static final String FALLING_OBJECT_PATH = "MiniGames/CatchObjects/star.png";
+    
+    /** Textures this mini game loads, prepared before it starts. */
+    public static final List<String> TEXTURES = List.of(BACKGROUND_PATH, FALLING_OBJECT_PATH);
 
     @Override
     public String getName() {
@@ -78,8 +88,8 @@ public class CatchObjectsMiniGame extends MiniGame {
     public CatchObjectsMiniGame(CritterParade game) {
         super(game);
         
-        backgroundTex = new Texture("MiniGames/CatchObjects/night_sky.png");
-        fallingObjectTex = new Texture("MiniGames/CatchObjects/star.png");
+        backgroundTex = game.loadTexture(BACKGROUND_PATH);
+        fallingObjectTex = game.loadTexture(FALLING_OBJECT_PATH);
         
         int playerCount = getPlayerCount();
         
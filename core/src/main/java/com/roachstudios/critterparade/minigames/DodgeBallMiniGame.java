@@ -41,6 +41,9 @@ public class DodgeBallMiniGame extends MiniGame {
     /** Elimination marker texture path. */
     private static final String OUT_MARKER_PATH = "MiniGames/DodgeBall/X.png";
     
+    /** Textures this mini game loads, prepared before it starts. */
+    public static final List<String> TEXTURES = List.of(BACKGROUND_PATH, OUT_MARKER_PATH);
+    
     /** Player movement speed in world units per second. */
     private static final float PLAYER_SPEED = 4f;
     
@@ -107,8 +110,8 @@ public class DodgeBallMiniGame extends MiniGame {
         remainingPlayers = playerCount - 1;
         gameCompleted = false;
         
-        backgroundTex = new Texture(BACKGROUND_PATH);
-        playerOutTex = new Texture(OUT_MARKER_PATH);
+        backgroundTex = game.loadTexture(BACKGROUND_PATH);
+        playerOutTex = game.loadTexture(OUT_MARKER_PATH);
         
         initializePlayerPositions();
     }
@@ -597,4 +600,14 @@ public class DodgeBallMiniGame extends MiniGame {
     private void updatePlayerBounds(Player player) {
         player.getBounds().setPosition(player.getSprite().getX(), player.getSprite().getY());
     }
+    
+    @Override
+    public void dispose() {
+        if (backgroundTex != null) {
+            backgroundTex.dispose();
+        }
+        if (playerOutTex != null) {
+            playerOutTex.dispose();
+        }
+    }
 }
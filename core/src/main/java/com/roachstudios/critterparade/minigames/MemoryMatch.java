@@ -6,6 +6,7 @@ import com.badlogic.gdx.utils.ScreenUtils;
 import com.roachstudios.critterparade.CritterParade;
 import com.roachstudios.critterparade.Player;
 import java.util.Arrays;
+import java.util.List;
 
 /**
  * A memory based game: a sequence will show on screen and each player will
@@ -21,6 +22,18 @@ public class MemoryMatch extends MiniGame {
         "Use Movements Keys to Select the correct sequence.\n" +
         "Most accurate player wins!";
     
+    /** Background texture path. */
+    private static final String BACKGROUND_PATH = "MiniGames/MemoryMatch/forest_path.png";
+    
+    /** Arrow texture paths. */
+    private static final String UP_ARROW_PATH = "MiniGames/MemoryMatch/up_arrow.png";
+    private static final String RIGHT_ARROW_PATH = "MiniGames/MemoryMatch/right_arrow.png";
+    private static final String DOWN_ARROW_PATH = "MiniGames/MemoryMatch/down_arrow.png";
+    private static final String LEFT_ARROW_PATH = "MiniGames/MemoryMatch/left_arrow.png";
+    
+    /** Textures this mini game loads, prepared before it starts. */
+    public static final List<String> TEXTURES = List.of(BACKGROUND_PATH, UP_ARROW_PATH, RIGHT_ARROW_PATH, DOWN_ARROW_PATH, LEFT_ARROW_PATH);
+    
     @Override
     public String getName() {
         return NAME;
@@ -105,11 +118,11 @@ public class MemoryMatch extends MiniGame {
         gameCompleted = false;
         acceptInputs = false;
         
-        backgroundTex = new Texture("MiniGames/MemoryMatch/forest_path.png");
-        upArrow = new Texture("MiniGames/MemoryMatch/up_arrow.png");
-        rightArrow = new Texture("MiniGames/MemoryMatch/right_arrow.png");
-        downArrow = new Texture("MiniGames/MemoryMatch/down_arrow.png");
-        leftArrow = new Texture("MiniGames/MemoryMatch/left_arrow.png");
+        backgroundTex = game.loadTexture(BACKGROUND_PATH);
+        upArrow = game.loadTexture(UP_ARROW_PATH);
+        rightArrow = game.loadTexture(RIGHT_ARROW_PATH);
+        downArrow = game.loadTexture(DOWN_ARROW_PATH);
+        leftArrow = game.loadTexture(LEFT_ARROW_PATH);
         
         // Set up initial positions and sizes for all players
         Player[] players = getPlayers();
@@ -333,5 +346,10 @@ public class MemoryMatch extends MiniGame {
         if (backgroundTex != null) {
             backgroundTex.dispose();
         }
+        for (Texture arrow : new Texture[] {upArrow, rightArrow, downArrow, leftArrow}) {
+            if (arrow != null) {
+                arrow.dispose();
+            }
+        }
     }
 }
@@ -204,8 +204,7 @@ public abstract class MiniGame implements Screen {
      * @return true if pressing up, false otherwise
      */
     protected boolean isPlayerPressingUp(int playerId) {
-        Player player = getPlayer(playerId);
-        return player != null && player.isPressingUp();
+        return game.getPlayerInput().isHeld(playerId, Player.InputAction.UP);
     }
     
     /**
@@ -215,8 +214,7 @@ public abstract class MiniGame implements Screen {
      * @return true if just pressed up, false otherwise
      */
     protected boolean playerJustPressedUp(int playerId) {
-        Player player = getPlayer(playerId);
-        return player != null && player.justPressedUp();
+        return game.getPlayerInput().isPressed(playerId, Player.InputAction.UP);
     }
     
     /**
@@ -226,8 +224,7 @@ public abstract class MiniGame implements Screen {
      * @return true if pressing down, false otherwise
      */
     protected boolean isPlayerPressingDown(int playerId) {
-        Player player = getPlayer(playerId);
-        return player != null && player.isPressingDown();
+        return game.getPlayerInput().isHeld(playerId, Player.InputAction.DOWN);
     }
     
     /**
@@ -237,8 +234,7 @@ public abstract class MiniGame implements Screen {
      * @return true if just pressed down, false otherwise
      */
     protected boolean playerJustPressedDown(int playerId) {
-        Player player = getPlayer(playerId);
-        return player != null && player.justPressedDown();
+        return game.getPlayerInput().isPressed(playerId, Player.InputAction.DOWN);
     }
     
     /**
@@ -248,8 +244,7 @@ public abstract class MiniGame implements Screen {
      * @return true if pressing left, false otherwise
      */
     protected boolean isPlayerPressingLeft(int playerId) {
-        Player player = getPlayer(playerId);
-        return player != null && player.isPressingLeft();
+        return game.getPlayerInput().isHeld(playerId, Player.InputAction.LEFT);
     }
     
     /**
@@ -259,8 +254,7 @@ public abstract class MiniGame implements Screen {
      * @return true if just pressed left, false otherwise
      */
     protected boolean playerJustPressedLeft(int playerId) {
-        Player player = getPlayer(playerId);
-        return player != null && player.justPressedLeft();
+        return game.getPlayerInput().isPressed(playerId, Player.InputAction.LEFT);
     }
     
     /**
@@ -270,8 +264,7 @@ public abstract class MiniGame implements Screen {
      * @return true if pressing right, false otherwise
      */
     protected boolean isPlayerPressingRight(int playerId) {
-        Player player = getPlayer(playerId);
-        return player != null && player.isPressingRight();
+        return game.getPlayerInput().isHeld(playerId, Player.InputAction.RIGHT);
     }
     
     /**
@@ -281,8 +274,7 @@ public abstract class MiniGame implements Screen {
      * @return true if just pressed right, false otherwise
      */
     protected boolean playerJustPressedRight(int playerId) {
-        Player player = getPlayer(playerId);
-        return player != null && player.justPressedRight();
+        return game.getPlayerInput().isPressed(playerId, Player.InputAction.RIGHT);
     }
     
     /**
@@ -292,8 +284,7 @@ public abstract class MiniGame implements Screen {
      * @return true if pressing action, false otherwise
      */
     protected boolean isPlayerPressingAction(int playerId) {
-        Player player = getPlayer(playerId);
-        return player != null && player.isPressingAction();
+        return game.getPlayerInput().isHeld(playerId, Player.InputAction.ACTION);
     }
     
     /**
@@ -303,8 +294,7 @@ public abstract class MiniGame implements Screen {
      * @return true if just pressed action, false otherwise
      */
     protected boolean playerJustPressedAction(int playerId) {
-        Player player = getPlayer(playerId);
-        return player != null && player.justPressedAction();
+        return game.getPlayerInput().isPressed(playerId, Player.InputAction.ACTION);
     }
     
     // =========================================================================
@@ -355,7 +345,8 @@ public abstract class MiniGame implements Screen {
         if (leaderboard == null) return;
         
         for (Player player : placements) {
-            if (player != null) {
+            // CPU scores would crowd people off the leaderboard
+            if (player != null && !player.isBot()) {
                 float scoreValue = getScoreValue(player);
                 if (scoreValue >= 0) {
                     leaderboard.submitScore(getName(), player.getName(), scoreValue);
@@ -416,7 +407,7 @@ public abstract class MiniGame implements Screen {
                 
                 // Use the placement of the first tied player
                 int placement = firstTieIndex + 1; // Convert to 1-indexed
-                int crumbs = (5 * (numPlayers - placement)) / (numPlayers - 1);
+                int crumbs = placementCrumbs(placement, numPlayers);
                 placements[i].addCrumbs(crumbs);
                 crumbsAwarded[i] = crumbs;
             }
@@ -425,6 +416,18 @@ public abstract class MiniGame implements Screen {
         return crumbsAwarded;
     }
     
+    /**
+     * Gets the crumbs awarded for a placement, scaling linearly from 5 (1st place)
+     * to 0 (last place), rounded down.
+     *
+     * @param placement the 1-indexed placement
+     * @param numPlayers the number of players in the minigame (at least 2)
+     * @return the crumbs awarded for that placement
+     */
+    public static int placementCrumbs(int placement, int numPlayers) {
+        return (5 * (numPlayers - placement)) / (numPlayers - 1);
+    }
+    
     // =========================================================================
     // Default Screen Lifecycle (can be overridden)
     // =========================================================================
@@ -1,5 +1,6 @@
 package com.roachstudios.critterparade.minigames;
 
+import java.util.List;
 import java.util.function.Supplier;
 
 /**
@@ -18,11 +19,14 @@ import java.util.function.Supplier;
  *
  * @param name the display name for the minigame
  * @param instructions multi-line instructions explaining how to play
+ * @param textures internal paths of the textures the minigame loads, prepared
+ *     before it starts
  * @param supplier a factory that creates new minigame instances on demand
  */
 public record MiniGameDescriptor(
     String name,
     String instructions,
+    List<String> textures,
     Supplier<MiniGame> supplier
 ) {
     /**
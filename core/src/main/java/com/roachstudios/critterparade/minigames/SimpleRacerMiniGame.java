@@ -4,12 +4,21 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.utils.ScreenUtils;
+import com.badlogic.gdx.utils.TimeUtils;
 import com.roachstudios.critterparade.CritterParade;
 import com.roachstudios.critterparade.Player;
+import com.roachstudios.critterparade.PlayerInput;
+import java.util.List;
 
 /**
  * A simple reaction-based horizontal racer: each player advances by pressing
  * their move input. First to cross the finish line wins.
+ *
+ * <p>Every tap counts and moves a player the same distance, whatever the frame
+ * rate: taps are read from the {@link PlayerInput} event queue rather than once
+ * per frame. A finish time is the time of the tap that crossed the line, so
+ * players finishing in the same frame are still placed in the order they
+ * crossed.</p>
  */
 public class SimpleRacerMiniGame extends MiniGame {
     
@@ -21,6 +30,15 @@ public class SimpleRacerMiniGame extends MiniGame {
         "Repeatedly tap your RIGHT input to move forward.\n" +
         "First player to cross the finish line wins!";
     
+    /** Background texture path. */
+    private static final String BACKGROUND_PATH = "MiniGames/SimpleRacer/background.png";
+    
+    /** Finish line texture path. */
+    private static final String FINISH_LINE_PATH = "MiniGames/SimpleRacer/FinishLine.png";
+    
+    /** Textures this mini game loads, prepared before it starts. */
+    public static final List<String> TEXTURES = List.of(BACKGROUND_PATH, FINISH_LINE_PATH);
+    
     @Override
     public String getName() {
         return NAME;
@@ -48,6 +66,17 @@ public class SimpleRacerMiniGame extends MiniGame {
     
     private final float playerSize = 1.0f;
     
+    /** Distance a tap moves a player: what it used to be at 60 FPS. */
+    private static final float TAP_DISTANCE = 16f / 60f;
+    
+    /** X position of the finish line in world units. */
+    private static final float FINISH_X = 14f;
+    
+    /**
+     * Number of taps each player has made (index = player array index).
+     */
+    private int[] taps;
+    
     /**
      * Tracks whether each player has crossed the finish line.
      * Index corresponds to player array index (0-based).
@@ -72,9 +101,10 @@ public class SimpleRacerMiniGame extends MiniGame {
     private float[] finishTimes;
     
     /**
-     * Game clock for tracking elapsed time.
+     * When the race started, on the {@link TimeUtils#nanoTime()} clock; earlier
+     * taps don't count.
      */
-    private float gameTimer;
+    private long startNanos;
     
     /**
      * Constructs a new Simple Racer mini game.
@@ -88,12 +118,13 @@ public class SimpleRacerMiniGame extends MiniGame {
         placement = new Player[playerCount];
         playerFinished = new boolean[playerCount];
         finishTimes = new float[playerCount];
+        taps = new int[playerCount];
         finishedCount = 0;
         gameCompleted = false;
-        gameTimer = 0f;
+        startNanos = TimeUtils.nanoTime();
         
-        backgroundTex = new Texture("MiniGames/SimpleRacer/background.png");
-        finishLineTex = new Texture("MiniGames/SimpleRacer/FinishLine.png");
+        backgroundTex = game.loadTexture(BACKGROUND_PATH);
+        finishLineTex = game.loadTexture(FINISH_LINE_PATH);
         
         // Set up initial positions and sizes for all players
         Player[] players = getPlayers();
@@ -117,11 +148,12 @@ public class SimpleRacerMiniGame extends MiniGame {
         // Reset game state in case we're replaying
         finishedCount = 0;
         gameCompleted = false;
-        gameTimer = 0f;
+        startNanos = TimeUtils.nanoTime();
         for (int i = 0; i < playerFinished.length; i++) {
             playerFinished[i] = false;
             placement[i] = null;
             finishTimes[i] = -1f;
+            taps[i] = 0;
         }
         
         // Reset positions and sizes when the minigame is shown
@@ -140,34 +172,54 @@ public class SimpleRacerMiniGame extends MiniGame {
     }
 
     /**
-     * Reads player inputs and translates them into movement when allowed.
+     * Counts every tap of each player's right input since the last frame, and
+     * records finishes at the time of the tap that crossed the line.
      */
     private void input() {
-        float speed = 16f;
-        float delta = Gdx.graphics.getDeltaTime();
+        PlayerInput input = game.getPlayerInput();
+        int firstNewFinisher = finishedCount;
         
         Player[] players = getPlayers();
         for (int i = 0; i < players.length; i++) {
-            if (!playerFinished[i]) {
-                Player player = players[i];
-                // Players advance by pressing their right input
-                if (player.justPressedRight()) {
-                    player.getSprite().translateX(speed * delta);
+            Player player = players[i];
+            for (long event = input.pollEvent(player.getID()); event != -1; event = input.pollEvent(player.getID())) {
+                if (playerFinished[i] || !PlayerInput.isPress(event)
+                        || PlayerInput.eventAction(event) != Player.InputAction.RIGHT) {
+                    continue;
                 }
+                long time = PlayerInput.eventTime(event);
+                if (time < startNanos) {
+                    continue;
+                }
+                taps[i]++;
+                if (taps[i] * TAP_DISTANCE >= FINISH_X) {
+                    playerFinished[i] = true;
+                    finishTimes[i] = (time - startNanos) / 1_000_000_000f;
+                    placement[finishedCount] = player;
+                    finishedCount++;
+                }
+            }
+            player.getSprite().setX(taps[i] * TAP_DISTANCE);
+        }
+        
+        // Players who finished in the same frame are placed by their crossing times
+        for (int i = firstNewFinisher + 1; i < finishedCount; i++) {
+            Player finisher = placement[i];
+            float time = getScoreValue(finisher);
+            int j = i;
+            while (j > firstNewFinisher && getScoreValue(placement[j - 1]) > time) {
+                placement[j] = placement[j - 1];
+                j--;
             }
+            placement[j] = finisher;
         }
     }
     
     /**
-     * Clamps sprites to the world bounds and records finish order once a
-     * player crosses the line at x=14 in world units.
+     * Clamps sprites to the world bounds and keeps each player in their lane.
      */
     private void logic() {
         float worldWidth = game.getViewport().getWorldWidth();
-        float delta = Gdx.graphics.getDeltaTime();
-        
-        // Update game timer
-        gameTimer += delta;
         
         Player[] players = getPlayers();
         float playerWidth = players[0].getSprite().getWidth();
@@ -185,14 +237,6 @@ public class SimpleRacerMiniGame extends MiniGame {
             
             // Set Y position based on player lane (with gap at bottom)
             player.getSprite().setY(playerHeight * (i + 1));
-            
-            // Check if player crossed finish line
-            if (player.getSprite().getX() >= 14 && !playerFinished[i]) {
-                playerFinished[i] = true;
-                finishTimes[i] = gameTimer; // Record finish time
-                placement[finishedCount] = player;
-                finishedCount++;
-            }
         }
         
         checkGameComplete();
@@ -212,7 +256,7 @@ public class SimpleRacerMiniGame extends MiniGame {
         
         game.getBatch().draw(backgroundTex, 0, 0, worldWidth, worldHeight);
         // Finish line at x=14 to leave 2 world units of run-up in a 16x9 world.
-        game.getBatch().draw(finishLineTex, 14f, 0, 1, worldHeight);
+        game.getBatch().draw(finishLineTex, FINISH_X, 0, 1, worldHeight);
         
         // Draw all player sprites
         Player[] players = getPlayers();
@@ -2,7 +2,15 @@ package com.roachstudios.critterparade.lwjgl3;
 
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Application;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3ApplicationConfiguration;
+import com.badlogic.gdx.backends.lwjgl3.Lwjgl3WindowAdapter;
 import com.roachstudios.critterparade.CritterParade;
+import com.roachstudios.critterparade.LeaderboardManager;
+import com.roachstudios.critterparade.SettingsManager;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Launches the desktop (LWJGL3) application.
@@ -19,9 +27,17 @@ public final class Lwjgl3Launcher {
     /**
      * Application entry point for the desktop launcher.
      *
+     * <p>{@code --merge-leaderboards --output merged.json [--top n] a.json b.json ...}
+     * merges leaderboard exports from several cabinets and exits without opening
+     * a window; see {@link LeaderboardManager#mergeExports(List, Path, int)}.</p>
+     *
      * @param args command-line arguments (supports --debug or -d for debug mode)
      */
     public static void main(String[] args) {
+        if (args.length > 0 && "--merge-leaderboards".equals(args[0])) {
+            System.exit(mergeLeaderboards(args) ? 0 : 1);
+        }
+        
         if (StartupHelper.startNewJvmIfRequired()) return; // This handles macOS support and helps on Windows.
         
         boolean debugMode = false;
@@ -35,23 +51,93 @@ public final class Lwjgl3Launcher {
         createApplication(debugMode);
     }
 
+    /**
+     * Runs a leaderboard merge from the command line.
+     *
+     * @return true if the merged file was written
+     */
+    private static boolean mergeLeaderboards(String[] args) {
+        Path output = null;
+        int top = 0;
+        List<Path> inputs = new ArrayList<>();
+        for (int i = 1; i < args.length; i++) {
+            String arg = args[i];
+            if ("--output".equals(arg) || "-o".equals(arg) || "--top".equals(arg)) {
+                if (i + 1 >= args.length) {
+                    System.err.println("[Lwjgl3Launcher] Missing value for " + arg);
+                    return false;
+                }
+                String value = args[++i];
+                if ("--top".equals(arg)) {
+                    try {
+                        top = Integer.parseInt(value);
+                    } catch (NumberFormatException e) {
+                        System.err.println("[Lwjgl3Launcher] Invalid --top: " + value);
+                        return false;
+                    }
+                } else {
+                    output = Path.of(value);
+                }
+            } else {
+                inputs.add(Path.of(arg));
+            }
+        }
+        if (output == null || inputs.isEmpty()) {
+            System.err.println("Usage: --merge-leaderboards --output merged.json [--top n] export.json...");
+            return false;
+        }
+
+        try {
+            LeaderboardManager.MergeResult result = LeaderboardManager.mergeExports(inputs, output, top);
+            System.out.println("[Lwjgl3Launcher] Merged " + result.inputs() + " files: " + result.read()
+                + " scores read, " + result.duplicates() + " duplicates skipped, " + result.written()
+                + " scores in " + result.minigames() + " minigames written to " + output);
+            return true;
+        } catch (IOException e) {
+            System.err.println("[Lwjgl3Launcher] Failed to merge leaderboards: " + e.getMessage());
+            return false;
+        }
+    }
+
     private static Lwjgl3Application createApplication(boolean debugMode) {
-        return new Lwjgl3Application(new CritterParade(debugMode), getDefaultConfiguration());
+        // Settings are read here as well, since vsync, frame rate and MSAA configure the window
+        SettingsManager settings = new SettingsManager();
+        CritterParade game = new CritterParade(debugMode, settings);
+        return new Lwjgl3Application(game, getDefaultConfiguration(game, settings));
     }
 
-    private static Lwjgl3ApplicationConfiguration getDefaultConfiguration() {
+    private static Lwjgl3ApplicationConfiguration getDefaultConfiguration(CritterParade game, SettingsManager settings) {
         Lwjgl3ApplicationConfiguration configuration = new Lwjgl3ApplicationConfiguration();
         configuration.setTitle("Critter Parade");
         //// Vsync limits the frames per second to what your hardware can display, and helps eliminate
-        //// screen tearing. This setting doesn't always work on Linux, so the line after is a safeguard.
-        configuration.useVsync(true);
-        //// Limits FPS to the refresh rate of the currently active monitor, plus 1 to try to match fractional
-        //// refresh rates. The Vsync setting above should limit the actual FPS to match the monitor.
-        configuration.setForegroundFPS(Lwjgl3ApplicationConfiguration.getDisplayMode().refreshRate + 1);
-        //// If you remove the above line and set Vsync to false, you can get unlimited FPS, which can be
-        //// useful for testing performance, but can also be very stressful to some hardware.
+        //// screen tearing. This setting doesn't always work on Linux, so the frame rate cap is a safeguard.
+        //// Both can be changed in the options menu; the game applies them again once running.
+        configuration.useVsync(settings.isVsync());
+        //// By default, limits FPS to the refresh rate of the currently active monitor, plus 1 to try to match
+        //// fractional refresh rates. The Vsync setting above should limit the actual FPS to match the monitor.
+        int fpsCap = settings.getFpsCap();
+        configuration.setForegroundFPS(fpsCap == SettingsManager.FPS_CAP_DISPLAY
+            ? Lwjgl3ApplicationConfiguration.getDisplayMode().refreshRate + 1 : fpsCap);
+        //// An uncapped frame rate with Vsync off can be useful for testing performance, but can also be
+        //// very stressful to some hardware.
         //// You may also need to configure GPU drivers to fully disable Vsync; this can cause screen tearing.
 
+        //// MSAA can only be chosen when the window is created, so changing it takes a restart.
+        configuration.setBackBufferConfig(8, 8, 8, 8, 16, 0, settings.isMsaa() ? 4 : 0);
+
+        //// Drops to the background frame rate while another window has focus.
+        configuration.setWindowListener(new Lwjgl3WindowAdapter() {
+            @Override
+            public void focusLost() {
+                game.setWindowFocused(false);
+            }
+
+            @Override
+            public void focusGained() {
+                game.setWindowFocused(true);
+            }
+        });
+
         configuration.setWindowedMode(640,360);
         //// You can change these files; they are in lwjgl3/src/main/resources/ .
         //// They can also be loaded from the root of assets/ .
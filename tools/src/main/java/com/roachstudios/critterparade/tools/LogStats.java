@@ -0,0 +1,259 @@
+package com.roachstudios.critterparade.tools;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Totals gathered from session logs by one worker. Workers fill their own
+ * instance and {@link #merge(LogStats)} them at the end, so no counter is shared
+ * between threads.
+ *
+ * <p>Counters are {@code long[1]} cells keyed by name, so counting an event that
+ * has been seen before allocates nothing.</p>
+ */
+final class LogStats {
+
+    /** Highest placement tracked; later places are counted as this one. */
+    static final int MAX_PLACES = 6;
+
+    private long sessions;
+    private long files;
+    private long events;
+    private long truncatedFiles;
+    private long unreadableFiles;
+    private long droppedEvents;
+
+    private final Map<String, Durations> minigameDurations = new HashMap<>();
+    private final Map<String, long[]> minigamePlays = new HashMap<>();
+    private final Map<String, long[]> placements = new HashMap<>();
+    private final Map<String, long[]> eventTypes = new HashMap<>();
+    private final Map<String, long[]> modes = new HashMap<>();
+    private final Map<String, long[]> music = new HashMap<>();
+    private final Map<String, long[]> operatingSystems = new HashMap<>();
+    private final Map<String, long[]> cpuCores = new HashMap<>();
+    private final Map<String, long[]> maxMemory = new HashMap<>();
+    private final Map<String, long[]> javaVersions = new HashMap<>();
+
+    /**
+     * Growable list of minigame durations in milliseconds.
+     */
+    static final class Durations {
+        private long[] values = new long[16];
+        private int size;
+        private boolean sorted;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+            sorted = false;
+        }
+
+        void addAll(Durations other) {
+            for (int i = 0; i < other.size; i++) {
+                add(other.values[i]);
+            }
+        }
+
+        int size() {
+            return size;
+        }
+
+        /**
+         * Gets a percentile by the nearest-rank method.
+         *
+         * @param fraction percentile as a fraction, 0-1
+         * @return the duration in milliseconds, or 0 if there are none
+         */
+        long percentile(double fraction) {
+            if (size == 0) {
+                return 0;
+            }
+            if (!sorted) {
+                Arrays.sort(values, 0, size);
+                sorted = true;
+            }
+            int rank = (int) Math.ceil(fraction * size);
+            return values[Math.max(0, Math.min(size - 1, rank - 1))];
+        }
+
+        double mean() {
+            long total = 0;
+            for (int i = 0; i < size; i++) {
+                total += values[i];
+            }
+            return size == 0 ? 0 : (double) total / size;
+        }
+    }
+
+    void addSession() {
+        sessions++;
+    }
+
+    void addFile() {
+        files++;
+    }
+
+    void addTruncatedFile() {
+        truncatedFiles++;
+    }
+
+    void addUnreadableFile() {
+        unreadableFiles++;
+    }
+
+    void addEvent(String type) {
+        events++;
+        count(eventTypes, type);
+    }
+
+    void addDroppedEvents(long count) {
+        droppedEvents += count;
+    }
+
+    void addMinigamePlay(String minigame) {
+        count(minigamePlays, minigame);
+    }
+
+    void addMinigameDuration(String minigame, long millis) {
+        minigameDurations.computeIfAbsent(minigame, key -> new Durations()).add(millis);
+    }
+
+    /**
+     * Counts a critter finishing a minigame in a place.
+     *
+     * @param critter the critter's name
+     * @param place 0-based place
+     */
+    void addPlacement(String critter, int place) {
+        placements.computeIfAbsent(critter, key -> new long[MAX_PLACES])[Math.min(place, MAX_PLACES - 1)]++;
+    }
+
+    void addMode(String mode) {
+        count(modes, mode);
+    }
+
+    void addMusic(String theme, String action) {
+        count(music, theme + " " + action);
+    }
+
+    void addSystem(String os, String cores, String memoryMb, String javaVersion) {
+        count(operatingSystems, os);
+        count(cpuCores, cores);
+        count(maxMemory, memoryMb);
+        count(javaVersions, javaVersion);
+    }
+
+    private static void count(Map<String, long[]> counters, String key) {
+        String name = key != null ? key : "?";
+        long[] cell = counters.get(name);
+        if (cell == null) {
+            cell = new long[1];
+            counters.put(name, cell);
+        }
+        cell[0]++;
+    }
+
+    /**
+     * Adds another worker's totals to these.
+     *
+     * @param other the totals to add
+     */
+    void merge(LogStats other) {
+        sessions += other.sessions;
+        files += other.files;
+        events += other.events;
+        truncatedFiles += other.truncatedFiles;
+        unreadableFiles += other.unreadableFiles;
+        droppedEvents += other.droppedEvents;
+        for (Map.Entry<String, Durations> entry : other.minigameDurations.entrySet()) {
+            minigameDurations.computeIfAbsent(entry.getKey(), key -> new Durations()).addAll(entry.getValue());
+        }
+        for (Map.Entry<String, long[]> entry : other.placements.entrySet()) {
+            long[] places = placements.computeIfAbsent(entry.getKey(), key -> new long[MAX_PLACES]);
+            for (int i = 0; i < MAX_PLACES; i++) {
+                places[i] += entry.getValue()[i];
+            }
+        }
+        mergeCounts(minigamePlays, other.minigamePlays);
+        mergeCounts(eventTypes, other.eventTypes);
+        mergeCounts(modes, other.modes);
+        mergeCounts(music, other.music);
+        mergeCounts(operatingSystems, other.operatingSystems);
+        mergeCounts(cpuCores, other.cpuCores);
+        mergeCounts(maxMemory, other.maxMemory);
+        mergeCounts(javaVersions, other.javaVersions);
+    }
+
+    private static void mergeCounts(Map<String, long[]> into, Map<String, long[]> from) {
+        for (Map.Entry<String, long[]> entry : from.entrySet()) {
+            into.computeIfAbsent(entry.getKey(), key -> new long[1])[0] += entry.getValue()[0];
+        }
+    }
+
+    long getSessions() {
+        return sessions;
+    }
+
+    long getFiles() {
+        return files;
+    }
+
+    long getEvents() {
+        return events;
+    }
+
+    long getTruncatedFiles() {
+        return truncatedFiles;
+    }
+
+    long getUnreadableFiles() {
+        return unreadableFiles;
+    }
+
+    long getDroppedEvents() {
+        return droppedEvents;
+    }
+
+    Map<String, Durations> getMinigameDurations() {
+        return minigameDurations;
+    }
+
+    Map<String, long[]> getMinigamePlays() {
+        return minigamePlays;
+    }
+
+    Map<String, long[]> getPlacements() {
+        return placements;
+    }
+
+    Map<String, long[]> getEventTypes() {
+        return eventTypes;
+    }
+
+    Map<String, long[]> getModes() {
+        return modes;
+    }
+
+    Map<String, long[]> getMusic() {
+        return music;
+    }
+
+    Map<String, long[]> getOperatingSystems() {
+        return operatingSystems;
+    }
+
+    Map<String, long[]> getCpuCores() {
+        return cpuCores;
+    }
+
+    Map<String, long[]> getMaxMemory() {
+        return maxMemory;
+    }
+
+    Map<String, long[]> getJavaVersions() {
+        return javaVersions;
+    }
+}
@@ -0,0 +1,379 @@
+package com.roachstudios.critterparade.tools;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Command-line summary of the session logs written by the game's SessionLogger.
+ *
+ * <p>Reports per-minigame duration percentiles, placement counts per critter,
+ * mode popularity, music events and the hardware cabinets report. Log
+ * directories are searched recursively, so logs collected from many cabinets can
+ * be read at once; a directory with a manifest.json is read from the manifest
+ * rather than listed. Files are grouped into sessions (segments of one session
+ * are read in order, so minigames spanning a segment boundary still count) and
+ * sessions are split across a {@link ForkJoinPool}; each leaf task streams its
+ * sessions into its own {@link LogStats}, which are merged on join.</p>
+ *
+ * <p>Run with {@code ./gradlew tools:run --args="--logs dir"}. See
+ * {@link #main(String[])} for the available options.</p>
+ */
+public final class SessionLogAnalytics {
+
+    /** Sessions read by a single leaf task before it stops splitting. */
+    private static final int LEAF_SESSIONS = 64;
+
+    /** Manifest file written by the game next to its segments. */
+    private static final String MANIFEST_FILE = "manifest.json";
+
+    private SessionLogAnalytics() {
+    }
+
+    /**
+     * One session's files, in the order they were written.
+     */
+    private static final class Session {
+        private final List<Path> files = new ArrayList<>();
+        private final List<Integer> indices = new ArrayList<>();
+
+        void add(Path file, int index) {
+            files.add(file);
+            indices.add(index);
+        }
+
+        List<Path> sortedFiles() {
+            if (files.size() > 1) {
+                List<Integer> order = new ArrayList<>();
+                for (int i = 0; i < files.size(); i++) {
+                    order.add(i);
+                }
+                order.sort(Comparator.comparingInt(indices::get));
+                List<Path> sorted = new ArrayList<>(files.size());
+                for (int i : order) {
+                    sorted.add(files.get(i));
+                }
+                return sorted;
+            }
+            return files;
+        }
+    }
+
+    /**
+     * Reads a contiguous range of sessions, splitting it while it is large.
+     */
+    @SuppressWarnings("serial")
+    private static final class ReadTask extends RecursiveTask<LogStats> {
+        private final JsonFactory factory;
+        private final List<List<Path>> sessions;
+        private final int from;
+        private final int to;
+
+        ReadTask(JsonFactory factory, List<List<Path>> sessions, int from, int to) {
+            this.factory = factory;
+            this.sessions = sessions;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected LogStats compute() {
+            if (to - from <= LEAF_SESSIONS) {
+                LogStats stats = new LogStats();
+                SessionLogReader reader = new SessionLogReader(factory, stats);
+                for (int i = from; i < to; i++) {
+                    reader.readSession(sessions.get(i));
+                }
+                return stats;
+            }
+            int mid = (from + to) >>> 1;
+            ReadTask left = new ReadTask(factory, sessions, from, mid);
+            left.fork();
+            LogStats stats = new ReadTask(factory, sessions, mid, to).compute();
+            stats.merge(left.join());
+            return stats;
+        }
+    }
+
+    /**
+     * Entry point.
+     *
+     * <p>Options: {@code --logs dir} (repeatable; defaults to
+     * ~/.critterparade/logs), {@code --threads n} (defaults to the number of
+     * processors).</p>
+     *
+     * @param args command-line options
+     */
+    public static void main(String[] args) {
+        List<Path> directories = new ArrayList<>();
+        int threads = Runtime.getRuntime().availableProcessors();
+
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if (i + 1 >= args.length) {
+                usage("Missing value for " + arg);
+                return;
+            }
+            String value = args[++i];
+            try {
+                switch (arg) {
+                    case "--logs": directories.add(Path.of(value)); break;
+                    case "--threads": threads = Integer.parseInt(value); break;
+                    default:
+                        usage("Unknown option " + arg);
+                        return;
+                }
+            } catch (NumberFormatException e) {
+                usage("Invalid value for " + arg + ": " + value);
+                return;
+            }
+        }
+        if (threads < 1) {
+            usage("--threads must be at least 1");
+            return;
+        }
+        if (directories.isEmpty()) {
+            directories.add(new File(new File(System.getProperty("user.home"), ".critterparade"), "logs").toPath());
+        }
+
+        long start = System.nanoTime();
+        Map<String, Session> sessionsByKey = new HashMap<>();
+        for (Path directory : directories) {
+            if (!Files.isDirectory(directory)) {
+                usage("Not a directory: " + directory.toAbsolutePath());
+                return;
+            }
+            try {
+                collect(directory, sessionsByKey);
+            } catch (IOException e) {
+                System.err.println("[SessionLogAnalytics] Failed to list " + directory + ": " + e.getMessage());
+                return;
+            }
+        }
+        List<List<Path>> sessions = new ArrayList<>(sessionsByKey.size());
+        for (Session session : sessionsByKey.values()) {
+            sessions.add(session.sortedFiles());
+        }
+
+        JsonFactory factory = new JsonFactory();
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        LogStats stats;
+        try {
+            stats = pool.invoke(new ReadTask(factory, sessions, 0, sessions.size()));
+        } finally {
+            pool.shutdown();
+        }
+        double elapsed = (System.nanoTime() - start) / 1e9;
+        printReport(stats, elapsed, threads);
+    }
+
+    /**
+     * Finds log files below a directory and groups them by session.
+     */
+    private static void collect(Path root, Map<String, Session> sessions) throws IOException {
+        Files.walkFileTree(root, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path directory, BasicFileAttributes attributes) {
+                Path manifest = directory.resolve(MANIFEST_FILE);
+                if (Files.isRegularFile(manifest) && readManifest(manifest, sessions)) {
+                    // Logs directories have no subdirectories, so the listing can be skipped
+                    return FileVisitResult.SKIP_SUBTREE;
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+                String name = file.getFileName().toString();
+                String unpacked = name.endsWith(".gz") ? name.substring(0, name.length() - ".gz".length()) : name;
+                String base;
+                if (unpacked.endsWith(".ndjson")) {
+                    base = unpacked.substring(0, unpacked.length() - ".ndjson".length());
+                } else if (unpacked.endsWith(SessionLogReader.BINARY_EXTENSION)) {
+                    base = unpacked.substring(0, unpacked.length() - SessionLogReader.BINARY_EXTENSION.length());
+                } else if (name.endsWith(".json") && !name.equals(MANIFEST_FILE)) {
+                    // Whole-session file from older versions
+                    addFile(sessions, file.getParent(), name.substring(0, name.length() - ".json".length()), 0, file);
+                    return FileVisitResult.CONTINUE;
+                } else {
+                    return FileVisitResult.CONTINUE;
+                }
+                int dash = base.lastIndexOf('-');
+                int index = 0;
+                String session = base;
+                if (dash > 0) {
+                    try {
+                        index = Integer.parseInt(base.substring(dash + 1));
+                        session = base.substring(0, dash);
+                    } catch (NumberFormatException e) {
+                        // Not a numbered segment; the whole name is the session
+                    }
+                }
+                addFile(sessions, file.getParent(), session, index, file);
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFileFailed(Path file, IOException e) {
+                System.err.println("[SessionLogAnalytics] Skipping " + file + ": " + e.getMessage());
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    /**
+     * Adds the segments a manifest lists.
+     *
+     * @return false if the manifest could not be read, so the directory should be listed instead
+     */
+    private static boolean readManifest(Path manifest, Map<String, Session> sessions) {
+        Path directory = manifest.getParent();
+        List<String[]> entries = new ArrayList<>();
+        try (JsonParser parser = new JsonFactory().createParser(manifest.toFile())) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                return false;
+            }
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                String file = null;
+                String session = null;
+                String index = "0";
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String name = parser.currentName();
+                    parser.nextToken();
+                    switch (name) {
+                        case "file": file = parser.getText(); break;
+                        case "session": session = parser.getText(); break;
+                        case "index": index = parser.getText(); break;
+                        default: parser.skipChildren(); break;
+                    }
+                }
+                if (file != null && session != null) {
+                    entries.add(new String[] {file, session, index});
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("[SessionLogAnalytics] Unreadable manifest " + manifest + ", listing files instead");
+            return false;
+        }
+        for (String[] entry : entries) {
+            int index;
+            try {
+                index = Integer.parseInt(entry[2]);
+            } catch (NumberFormatException e) {
+                index = 0;
+            }
+            addFile(sessions, directory, entry[1], index, directory.resolve(entry[0]));
+        }
+        return true;
+    }
+
+    private static void addFile(Map<String, Session> sessions, Path directory, String session, int index, Path file) {
+        // Sessions from different cabinets may share a start time
+        sessions.computeIfAbsent(directory + File.separator + session, key -> new Session()).add(file, index);
+    }
+
+    private static void usage(String message) {
+        System.err.println("[SessionLogAnalytics] " + message);
+        System.err.println("Usage: SessionLogAnalytics [--logs dir]... [--threads n]");
+    }
+
+    private static void printReport(LogStats stats, double elapsed, int threads) {
+        System.out.printf(Locale.ROOT, "Read %,d sessions (%,d files, %,d events) in %.2fs on %d threads (%,.0f sessions/s)%n",
+            stats.getSessions(), stats.getFiles(), stats.getEvents(), elapsed, threads,
+            stats.getSessions() / Math.max(elapsed, 1e-9));
+        if (stats.getTruncatedFiles() > 0 || stats.getUnreadableFiles() > 0 || stats.getDroppedEvents() > 0) {
+            System.out.printf(Locale.ROOT, "Truncated files: %,d  unreadable files: %,d  events dropped by the game: %,d%n",
+                stats.getTruncatedFiles(), stats.getUnreadableFiles(), stats.getDroppedEvents());
+        }
+
+        System.out.println();
+        System.out.println("== Minigame durations (seconds) ==");
+        for (String minigame : sortedByCount(stats.getMinigamePlays())) {
+            LogStats.Durations durations = stats.getMinigameDurations().get(minigame);
+            long plays = stats.getMinigamePlays().get(minigame)[0];
+            if (durations == null || durations.size() == 0) {
+                System.out.printf(Locale.ROOT, "  %-20s plays %,8d%n", minigame, plays);
+                continue;
+            }
+            System.out.printf(Locale.ROOT, "  %-20s plays %,8d  mean %6.1f  p50 %6.1f  p90 %6.1f  p99 %6.1f  max %6.1f%n",
+                minigame, plays, durations.mean() / 1000.0,
+                durations.percentile(0.50) / 1000.0, durations.percentile(0.90) / 1000.0,
+                durations.percentile(0.99) / 1000.0, durations.percentile(1.0) / 1000.0);
+        }
+
+        System.out.println();
+        System.out.println("== Placements by critter ==");
+        StringBuilder header = new StringBuilder(String.format(Locale.ROOT, "  %-20s %9s", "", "win rate"));
+        for (int place = 0; place < LogStats.MAX_PLACES; place++) {
+            header.append(String.format(Locale.ROOT, " %8s", ordinal(place + 1)
+                + (place == LogStats.MAX_PLACES - 1 ? "+" : "")));
+        }
+        System.out.println(header);
+        List<Map.Entry<String, long[]>> critters = new ArrayList<>(stats.getPlacements().entrySet());
+        critters.sort((a, b) -> Long.compare(b.getValue()[0], a.getValue()[0]));
+        for (Map.Entry<String, long[]> critter : critters) {
+            long total = 0;
+            for (long count : critter.getValue()) {
+                total += count;
+            }
+            StringBuilder row = new StringBuilder(String.format(Locale.ROOT, "  %-20s %8.2f%%",
+                critter.getKey(), total == 0 ? 0 : 100.0 * critter.getValue()[0] / total));
+            for (long count : critter.getValue()) {
+                row.append(String.format(Locale.ROOT, " %,8d", count));
+            }
+            System.out.println(row);
+        }
+
+        printCounts("Modes", stats.getModes());
+        printCounts("Music events", stats.getMusic());
+        printCounts("Operating systems", stats.getOperatingSystems());
+        printCounts("CPU cores", stats.getCpuCores());
+        printCounts("Max JVM memory (MB)", stats.getMaxMemory());
+        printCounts("Java versions", stats.getJavaVersions());
+        printCounts("Event types", stats.getEventTypes());
+    }
+
+    private static void printCounts(String title, Map<String, long[]> counts) {
+        long total = 0;
+        for (long[] cell : counts.values()) {
+            total += cell[0];
+        }
+        System.out.println();
+        System.out.printf(Locale.ROOT, "== %s ==%n", title);
+        for (String key : sortedByCount(counts)) {
+            long count = counts.get(key)[0];
+            System.out.printf(Locale.ROOT, "  %-30s %,10d  %6.2f%%%n", key, count, 100.0 * count / total);
+        }
+    }
+
+    private static List<String> sortedByCount(Map<String, long[]> counts) {
+        List<String> keys = new ArrayList<>(counts.keySet());
+        keys.sort((a, b) -> Long.compare(counts.get(b)[0], counts.get(a)[0]));
+        return keys;
+    }
+
+    private static String ordinal(int place) {
+        switch (place) {
+            case 1: return "1st";
+            case 2: return "2nd";
+            case 3: return "3rd";
+            default: return place + "th";
+        }
+    }
+}
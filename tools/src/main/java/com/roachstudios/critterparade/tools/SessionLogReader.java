@@ -0,0 +1,461 @@
+package com.roachstudios.critterparade.tools;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Streams session log files into a {@link LogStats}, token by token, without
+ * building a document tree.
+ *
+ * <p>Understands every format the game has written: whole-session JSON documents
+ * with an {@code events} array, NDJSON segments with one event per line, binary
+ * {@code .events} segments, and gzip-compressed segments. Each event's
+ * {@code data} is read into a small reusable map of flattened fields
+ * ({@code hardware.cpu_cores}), plus the {@code placements} array, which is all
+ * the statistics need. A segment cut off by a crash is read up to its last
+ * complete event.</p>
+ *
+ * <p>Binary segments describe their event types, field kinds and string limit
+ * in a header, so the reader only has to know the layout of values, documented
+ * with the game's BinaryLogEncoder; a change there bumps the segment version,
+ * which is checked here. Version 1 segments predate the kinds and limit in the
+ * header and are read with the values the game used then.</p>
+ *
+ * <p>Not thread-safe; each worker uses its own reader.</p>
+ */
+final class SessionLogReader {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /** Suffix of binary segments, before any {@code .gz}. */
+    static final String BINARY_EXTENSION = ".events";
+
+    /** "CPEV" in ASCII, at the start of a binary segment. */
+    private static final int BINARY_MAGIC = 0x43504556;
+    private static final int BINARY_VERSION = 2;
+
+    /** Largest length or count accepted in a binary segment; segments are far smaller. */
+    private static final int MAX_COUNT = 64 * 1024 * 1024;
+
+    /** Most strings a version 1 segment numbers; later segments say in their header. */
+    private static final int V1_MAX_STRINGS = 4096;
+
+    /** Field kinds this reader understands, by the name of the game's LogEventType.Kind. */
+    private static final int KIND_UNKNOWN = -1;
+    private static final int KIND_TYPE = 0;
+    private static final int KIND_TEXT = 1;
+    private static final int KIND_NUMBER = 2;
+    private static final int KIND_NAMES = 3;
+    private static final int KIND_NUMBERS = 4;
+    private static final int KIND_DATA = 5;
+    private static final String[] KNOWN_KINDS = {"TYPE", "TEXT", "NUMBER", "NAMES", "NUMBERS", "DATA"};
+
+    private final JsonFactory factory;
+    private final LogStats stats;
+
+    /** Minigame started and not yet ended in the current session, or null. */
+    private String openMinigame;
+    private long openMinigameStart;
+
+    /** Fields of the event being read. */
+    private String type;
+    private long time;
+    private final Map<String, String> fields = new HashMap<>();
+    private final List<String> placements = new ArrayList<>();
+
+    /** Numbered strings of the binary segment being read, and how many it numbers. */
+    private final List<String> strings = new ArrayList<>();
+    private int maxStrings;
+
+    /**
+     * Creates a reader.
+     *
+     * @param factory shared parser factory
+     * @param stats totals to add to
+     */
+    SessionLogReader(JsonFactory factory, LogStats stats) {
+        this.factory = factory;
+        this.stats = stats;
+    }
+
+    /**
+     * Reads one session's files, in order.
+     *
+     * @param files the session's segments, or its single legacy file
+     */
+    void readSession(List<Path> files) {
+        openMinigame = null;
+        stats.addSession();
+        for (Path file : files) {
+            readFile(file);
+        }
+    }
+
+    private void readFile(Path file) {
+        stats.addFile();
+        String name = file.getFileName().toString();
+        if (name.endsWith(BINARY_EXTENSION) || name.endsWith(BINARY_EXTENSION + ".gz")) {
+            try (DataInputStream in = new DataInputStream(open(file))) {
+                readBinary(in);
+            } catch (EOFException e) {
+                // Partial last event from a crash; keep what was read
+                stats.addTruncatedFile();
+            } catch (IOException e) {
+                stats.addUnreadableFile();
+            }
+            return;
+        }
+        try (InputStream in = open(file); JsonParser parser = factory.createParser(in)) {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                if (token == JsonToken.START_OBJECT) {
+                    readEvent(parser);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        } catch (JsonProcessingException e) {
+            // Partial last line from a crash, or a damaged file; keep what was read
+            stats.addTruncatedFile();
+        } catch (IOException e) {
+            stats.addUnreadableFile();
+        }
+    }
+
+    private static InputStream open(Path file) throws IOException {
+        InputStream in = Files.newInputStream(file);
+        if (file.getFileName().toString().endsWith(".gz")) {
+            return new GZIPInputStream(in, BUFFER_SIZE);
+        }
+        return new BufferedInputStream(in, BUFFER_SIZE);
+    }
+
+    /**
+     * Reads an object whose start token has been consumed: an event, or a legacy
+     * session document holding events.
+     */
+    private void readEvent(JsonParser parser) throws IOException {
+        type = null;
+        time = -1;
+        fields.clear();
+        placements.clear();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (name.equals("events") && value == JsonToken.START_ARRAY) {
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    readEvent(parser);
+                }
+            } else if (name.equals("type") && value == JsonToken.VALUE_STRING) {
+                type = parser.getText();
+            } else if (name.equals("timestamp") && value == JsonToken.VALUE_STRING) {
+                time = parseTimestamp(parser.getText());
+            } else if (name.equals("data") && value == JsonToken.START_OBJECT) {
+                readData(parser, "");
+            } else {
+                parser.skipChildren();
+            }
+        }
+        if (type != null) {
+            handleEvent();
+            type = null;
+        }
+    }
+
+    /**
+     * Flattens an object's scalar fields into {@link #fields}.
+     */
+    private void readData(JsonParser parser, String prefix) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (value == JsonToken.START_OBJECT) {
+                readData(parser, prefix + name + ".");
+            } else if (value == JsonToken.START_ARRAY) {
+                if (name.equals("placements")) {
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        placements.add(parser.getText());
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            } else {
+                fields.put(prefix + name, parser.getText());
+            }
+        }
+    }
+
+    /**
+     * Reads a binary segment: its header of event types, then events until the
+     * end of the file.
+     */
+    private void readBinary(DataInputStream in) throws IOException {
+        if (in.readInt() != BINARY_MAGIC) {
+            throw new IOException("Not a session log segment");
+        }
+        int version = in.readShort();
+        if (version < 1 || version > BINARY_VERSION) {
+            throw new IOException("Unsupported session log segment version " + version);
+        }
+        long epochMillis = in.readLong();
+        long epochNanos = in.readLong();
+        // Map the segment's kind ordinals to this reader's kinds by name
+        int[] kindIds;
+        if (version == 1) {
+            maxStrings = V1_MAX_STRINGS;
+            kindIds = new int[] {KIND_TYPE, KIND_TEXT, KIND_NUMBER, KIND_NAMES, KIND_NUMBERS, KIND_DATA};
+        } else {
+            maxStrings = readCount(in);
+            kindIds = new int[readCount(in)];
+            for (int k = 0; k < kindIds.length; k++) {
+                kindIds[k] = kindId(readUtf8(in));
+            }
+        }
+        int typeCount = readCount(in);
+        String[] typeIds = new String[typeCount];
+        int[][] kinds = new int[typeCount][];
+        String[][] keys = new String[typeCount][];
+        for (int i = 0; i < typeCount; i++) {
+            typeIds[i] = readUtf8(in);
+            int fieldCount = readCount(in);
+            kinds[i] = new int[fieldCount];
+            keys[i] = new String[fieldCount];
+            for (int j = 0; j < fieldCount; j++) {
+                int kind = in.readUnsignedByte();
+                kinds[i][j] = kind < kindIds.length ? kindIds[kind] : KIND_UNKNOWN;
+                keys[i][j] = readUtf8(in);
+            }
+        }
+
+        strings.clear();
+        long nanos = epochNanos;
+        int ordinal;
+        while ((ordinal = in.read()) >= 0) {
+            if (ordinal >= typeCount) {
+                throw new IOException("Unknown event type " + ordinal);
+            }
+            nanos += readZigZag(in);
+            type = typeIds[ordinal];
+            time = epochMillis + Math.floorDiv(nanos - epochNanos, 1_000_000L);
+            fields.clear();
+            placements.clear();
+            for (int j = 0; j < kinds[ordinal].length; j++) {
+                String key = keys[ordinal][j];
+                switch (kinds[ordinal][j]) {
+                    case KIND_TYPE:
+                        type = readString(in);
+                        break;
+                    case KIND_TEXT:
+                        String text = readString(in);
+                        if (text != null) {
+                            fields.put(key, text);
+                        }
+                        break;
+                    case KIND_NUMBER:
+                        fields.put(key, Long.toString(readZigZag(in)));
+                        break;
+                    case KIND_NAMES:
+                        for (long n = readVarLong(in) - 1; n > 0; n--) {
+                            String value = readString(in);
+                            if (key.equals("placements")) {
+                                placements.add(value);
+                            }
+                        }
+                        break;
+                    case KIND_NUMBERS:
+                        for (long n = readVarLong(in) - 1; n > 0; n--) {
+                            readVarLong(in);
+                        }
+                        break;
+                    case KIND_DATA:
+                        int length = readCount(in) - 1;
+                        if (length > 0) {
+                            byte[] json = new byte[length];
+                            in.readFully(json);
+                            try (JsonParser parser = factory.createParser(json)) {
+                                if (parser.nextToken() == JsonToken.START_OBJECT) {
+                                    readData(parser, "");
+                                }
+                            }
+                        }
+                        break;
+                    default:
+                        // A kind added to the game since this reader; its values can't be skipped
+                        throw new IOException("Unknown field kind in event type " + typeIds[ordinal]);
+                }
+            }
+            if (type != null && !type.isEmpty()) {
+                handleEvent();
+            }
+            type = null;
+        }
+    }
+
+    private static int kindId(String name) {
+        for (int id = 0; id < KNOWN_KINDS.length; id++) {
+            if (KNOWN_KINDS[id].equals(name)) {
+                return id;
+            }
+        }
+        return KIND_UNKNOWN;
+    }
+
+    /**
+     * Reads a string reference: null, a new string, or one read earlier in the
+     * segment.
+     */
+    private String readString(DataInputStream in) throws IOException {
+        long reference = readVarLong(in);
+        if (reference == 0) {
+            return null;
+        }
+        if (reference == 1) {
+            String value = readUtf8(in);
+            if (strings.size() < maxStrings) {
+                strings.add(value);
+            }
+            return value;
+        }
+        if (reference - 2 >= strings.size()) {
+            throw new IOException("Bad string reference " + reference);
+        }
+        return strings.get((int) (reference - 2));
+    }
+
+    private static String readUtf8(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[readCount(in)];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads a varint used as a length, rejecting values no real segment has so
+     * damaged files can't exhaust memory.
+     */
+    private static int readCount(DataInputStream in) throws IOException {
+        long count = readVarLong(in);
+        if (count > MAX_COUNT) {
+            throw new IOException("Bad length " + count);
+        }
+        return (int) count;
+    }
+
+    private static long readZigZag(DataInputStream in) throws IOException {
+        long value = readVarLong(in);
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.read();
+            if (b < 0) {
+                throw new EOFException();
+            }
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Varint too long");
+    }
+
+    private void handleEvent() {
+        stats.addEvent(type);
+        switch (type) {
+            case "minigame_start":
+                openMinigame = fields.get("name");
+                openMinigameStart = time;
+                break;
+            case "minigame_end":
+                String name = fields.get("name");
+                stats.addMinigamePlay(name);
+                long end = time;
+                if (name != null && name.equals(openMinigame) && openMinigameStart >= 0 && end >= openMinigameStart) {
+                    stats.addMinigameDuration(name, end - openMinigameStart);
+                }
+                openMinigame = null;
+                for (int place = 0; place < placements.size(); place++) {
+                    stats.addPlacement(placements.get(place), place);
+                }
+                break;
+            case "mode_selected":
+                stats.addMode(fields.get("mode"));
+                break;
+            case "music_change":
+                stats.addMusic(fields.get("theme"), fields.get("action"));
+                break;
+            case "session_start":
+                stats.addSystem(fields.get("os.name"), fields.get("hardware.cpu_cores"),
+                    fields.get("hardware.max_memory_mb"), fields.get("java.version"));
+                break;
+            case "events_dropped":
+                try {
+                    stats.addDroppedEvents(Long.parseLong(fields.getOrDefault("count", "0")));
+                } catch (NumberFormatException e) {
+                    // Ignore a damaged count
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Parses a {@code yyyy-MM-dd'T'HH:mm:ss.SSS} timestamp by hand, which is far
+     * cheaper than a formatter. Local time is fine for durations within a session.
+     *
+     * @return milliseconds since 1970-01-01T00:00 in the same zone, or -1 if malformed
+     */
+    static long parseTimestamp(String text) {
+        if (text == null || text.length() < 23) {
+            return -1;
+        }
+        int year = digits(text, 0, 4);
+        int month = digits(text, 5, 2);
+        int day = digits(text, 8, 2);
+        int hour = digits(text, 11, 2);
+        int minute = digits(text, 14, 2);
+        int second = digits(text, 17, 2);
+        int millis = digits(text, 20, 3);
+        if (year < 0 || month < 1 || month > 12 || day < 1 || hour < 0 || minute < 0 || second < 0 || millis < 0) {
+            return -1;
+        }
+        // Days from civil date (proleptic Gregorian), after Howard Hinnant
+        int y = month <= 2 ? year - 1 : year;
+        int era = Math.floorDiv(y, 400);
+        int yearOfEra = y - era * 400;
+        int dayOfYear = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        long epochDay = era * 146097L + dayOfEra - 719468;
+        return ((epochDay * 24 + hour) * 60 + minute) * 60_000L + second * 1000L + millis;
+    }
+
+    private static int digits(String text, int start, int count) {
+        int value = 0;
+        for (int i = start; i < start + count; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+}